@@ -8,6 +8,9 @@ import xyz.lebster.core.ANSI;
 import xyz.lebster.core.exception.SyntaxError;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.node.Program;
+import xyz.lebster.core.parser.CodeCache;
+import xyz.lebster.core.parser.ParseCache;
 import xyz.lebster.core.parser.Parser;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.primitive.string.StringValue;
@@ -39,10 +42,11 @@ public final class Main {
 			arguments = null;
 		}
 
+		AbruptCompletion.captureStackTraces = !arguments.options().hideStackTrace();
 		try {
 			switch (arguments.mode()) {
 				case File -> file(arguments);
-				case GIF -> gif();
+				case GIF -> gif(arguments);
 				case REPL -> new REPL(arguments.options()).run();
 				case Tests -> new Testing(arguments).test();
 			}
@@ -53,12 +57,12 @@ public final class Main {
 
 	private static void file(CLArguments arguments) throws AbruptCompletion, SyntaxError {
 		final String sourceText = Main.readFile(arguments.filePathOrNull());
-		Parser.parse(sourceText).execute(new Interpreter());
+		Main.parse(arguments.options(), sourceText).execute(Main.createInterpreter(arguments.options(), System.out));
 	}
 
-	private static void gif() throws AbruptCompletion, SyntaxError {
+	private static void gif(CLArguments arguments) throws AbruptCompletion, SyntaxError {
 		final Scanner scanner = new Scanner(System.in);
-		final Interpreter interpreter = new Interpreter();
+		final Interpreter interpreter = Main.createInterpreter(arguments.options(), System.out);
 		while (scanner.hasNextLine()) {
 			final String sourceText = scanner.nextLine();
 			final Value<?> lastValue = Parser.parse(sourceText).execute(interpreter);
@@ -68,6 +72,15 @@ public final class Main {
 		}
 	}
 
+	public static Interpreter createInterpreter(CLArguments.ExecutionOptions options, PrintStream out) {
+		return new Interpreter(options.bytecode(), out, new ParseCache(options.parseCacheSize()));
+	}
+
+	public static Program parse(CLArguments.ExecutionOptions options, String sourceText) throws SyntaxError {
+		if (options.codeCache() == null) return Parser.parse(sourceText);
+		return new CodeCache(options.codeCache()).parse(sourceText);
+	}
+
 	public static String readFile(Path path) {
 		for (final Charset charset : supportedCharsets) {
 			try {
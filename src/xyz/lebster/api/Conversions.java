@@ -0,0 +1,117 @@
+package xyz.lebster.api;
+
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.array.ArrayObject;
+import xyz.lebster.core.value.function.Executable;
+import xyz.lebster.core.value.globals.Null;
+import xyz.lebster.core.value.globals.Undefined;
+import xyz.lebster.core.value.object.ObjectValue;
+import xyz.lebster.core.value.primitive.bigint.BigIntValue;
+import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
+import xyz.lebster.core.value.primitive.number.NumberValue;
+import xyz.lebster.core.value.primitive.string.StringValue;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static xyz.lebster.core.value.array.ArrayPrototype.lengthOfArrayLike;
+
+/**
+ * Converts values between Java and JavaScript. Java null, Booleans, Numbers, BigIntegers, CharSequences,
+ * arrays and Iterables, and Maps become the corresponding JavaScript values; {@link Value}s are passed through.
+ * In the other direction, undefined and null become null, and Arrays and other objects become Lists and Maps.
+ * Functions, Symbols, and objects which contain themselves are left as {@link Value}s.
+ */
+public final class Conversions {
+	private Conversions() {
+	}
+
+	public static Value<?> toValue(Interpreter interpreter, Object object) {
+		return switch (object) {
+			case null -> Null.instance;
+			case final Value<?> value -> value;
+			case final Boolean b -> BooleanValue.of(b);
+			case final BigInteger bigInteger -> new BigIntValue(bigInteger);
+			case final Number number -> new NumberValue(number.doubleValue());
+			case final CharSequence string -> new StringValue(string.toString());
+			case final Object[] array -> toArray(interpreter, Arrays.asList(array));
+			case final Iterable<?> iterable -> toArray(interpreter, iterable);
+			case final Map<?, ?> map -> {
+				final ObjectValue result = new ObjectValue(interpreter.intrinsics);
+				for (final var entry : map.entrySet()) {
+					result.put(new StringValue(String.valueOf(entry.getKey())), toValue(interpreter, entry.getValue()));
+				}
+
+				yield result;
+			}
+
+			default -> throw new IllegalArgumentException("Cannot convert %s to a JavaScript value".formatted(object.getClass().getName()));
+		};
+	}
+
+	private static ArrayObject toArray(Interpreter interpreter, Iterable<?> iterable) {
+		final ArrayList<Value<?>> values = new ArrayList<>();
+		for (final Object element : iterable) values.add(toValue(interpreter, element));
+		return new ArrayObject(interpreter, values);
+	}
+
+	public static <T> T toJava(Interpreter interpreter, Value<?> value, Class<T> type) throws AbruptCompletion {
+		if (type.isInstance(value) && type != Object.class) return type.cast(value);
+		if (type == Object.class) return type.cast(toJava(interpreter, value, new IdentityHashMap<>()));
+		if (type == String.class) return type.cast(value.toStringValue(interpreter).value());
+		if (type == Boolean.class) return type.cast(value.isTruthy(interpreter));
+		if (type == Double.class) return type.cast(value.toNumberValue(interpreter).value);
+		if (type == Integer.class) return type.cast((int) value.toNumberValue(interpreter).value.doubleValue());
+		if (type == Long.class) return type.cast((long) value.toNumberValue(interpreter).value.doubleValue());
+		if (type == List.class || type == Map.class) {
+			final Object result = toJava(interpreter, value, new IdentityHashMap<>());
+			if (type.isInstance(result)) return type.cast(result);
+		}
+
+		throw new IllegalArgumentException("Cannot convert %s to %s".formatted(value.typeOf(), type.getName()));
+	}
+
+	private static Object toJava(Interpreter interpreter, Value<?> value, IdentityHashMap<ObjectValue, Object> converting) throws AbruptCompletion {
+		return switch (value) {
+			case Undefined ignored -> null;
+			case Null ignored -> null;
+			case final BooleanValue b -> b.value;
+			case final NumberValue number -> number.value;
+			case final BigIntValue bigInt -> bigInt.value;
+			case final StringValue string -> string.value();
+			case final Executable function -> function;
+			case final ObjectValue object -> {
+				// Objects which contain themselves are left as they are
+				if (converting.containsKey(object)) yield object;
+				converting.put(object, object);
+				final Object result = object instanceof ArrayObject ? toList(interpreter, object, converting) : toMap(interpreter, object, converting);
+				converting.remove(object);
+				yield result;
+			}
+
+			default -> value;
+		};
+	}
+
+	private static List<Object> toList(Interpreter interpreter, ObjectValue array, IdentityHashMap<ObjectValue, Object> converting) throws AbruptCompletion {
+		final int length = lengthOfArrayLike(interpreter, array);
+		final ArrayList<Object> result = new ArrayList<>(length);
+		for (int i = 0; i < length; i++) {
+			result.add(toJava(interpreter, array.get(interpreter, new StringValue(i)), converting));
+		}
+
+		return result;
+	}
+
+	private static Map<String, Object> toMap(Interpreter interpreter, ObjectValue object, IdentityHashMap<ObjectValue, Object> converting) throws AbruptCompletion {
+		final LinkedHashMap<String, Object> result = new LinkedHashMap<>();
+		for (final Value<?> key : object.enumerableOwnProperties(interpreter, true, false)) {
+			final StringValue name = (StringValue) key;
+			result.put(name.value(), toJava(interpreter, object.get(interpreter, name), converting));
+		}
+
+		return result;
+	}
+}
\ No newline at end of file
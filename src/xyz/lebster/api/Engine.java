@@ -0,0 +1,150 @@
+package xyz.lebster.api;
+
+import xyz.lebster.core.exception.SyntaxError;
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.node.Program;
+import xyz.lebster.core.parser.ParseCache;
+import xyz.lebster.core.parser.Parser;
+import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.primitive.string.StringValue;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static xyz.lebster.core.node.declaration.Kind.Let;
+
+/**
+ * The entry point for running scripts from Java. Scripts are compiled once with {@link #compile(String)},
+ * and can then be executed any number of times, from any number of threads.
+ * <p>
+ * Each execution runs in a fresh realm, so scripts never see globals or modified intrinsics left behind by earlier
+ * executions. Realms are taken from a pool. Each time an execution finishes, a replacement for its interpreter is
+ * built on a background thread and added to the pool, so building a realm is kept off the path of the execution.
+ * The replacement shares the compiled code and parse cache of the interpreter it replaces, so these stay warm
+ * between executions.
+ * <p>
+ * An Engine must be closed once it is no longer needed, which stops the thread that refills the pool.
+ */
+public final class Engine implements AutoCloseable {
+	private final Options options;
+	// Interpreters which have not run any code yet
+	private final ArrayBlockingQueue<Interpreter> pool;
+	// Builds the replacements for used interpreters, one at a time
+	private final ExecutorService refill = Executors.newSingleThreadExecutor(runnable -> {
+		final Thread thread = new Thread(runnable, "Engine pool refill");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * @param bytecode       Whether to run scripts on the bytecode VM instead of the tree-walking interpreter
+	 * @param poolSize       The number of idle interpreters to keep
+	 * @param parseCacheSize The number of programs parsed by `eval()` and ShadowRealms each interpreter keeps
+	 * @param warmUp         Whether to fill the pool when the Engine is created, so that the first executions do not
+	 *                       have to build a realm either
+	 * @param out            Where console.log() and friends write to
+	 */
+	public record Options(boolean bytecode, int poolSize, int parseCacheSize, boolean warmUp, PrintStream out) {
+		public static final Options DEFAULT = new Options(false, Runtime.getRuntime().availableProcessors(), ParseCache.DEFAULT_SIZE, false, System.out);
+
+		public Options {
+			if (poolSize < 1) throw new IllegalArgumentException("Pool size must be positive: " + poolSize);
+			if (parseCacheSize < 0) throw new IllegalArgumentException("Parse cache size must not be negative: " + parseCacheSize);
+		}
+	}
+
+	public Engine() {
+		this(Options.DEFAULT);
+	}
+
+	/**
+	 * Creates an Engine. If {@link Options#warmUp} is set, this blocks until the pool has been filled.
+	 */
+	public Engine(Options options) {
+		this.options = options;
+		this.pool = new ArrayBlockingQueue<>(options.poolSize);
+		if (options.warmUp) {
+			for (int i = 0; i < options.poolSize; i++) pool.add(createInterpreter());
+		}
+	}
+
+	/**
+	 * Stops the thread which refills the pool, and empties the pool. Executions which are already running are allowed
+	 * to finish, but no new ones can be started.
+	 */
+	@Override
+	public void close() {
+		refill.shutdown();
+		pool.clear();
+	}
+
+	public Script compile(String sourceText) throws ScriptException {
+		final long start = System.nanoTime();
+		try {
+			final Program program = Parser.parse(sourceText);
+			return new Script(sourceText, program, System.nanoTime() - start);
+		} catch (SyntaxError e) {
+			throw ScriptException.from(e);
+		}
+	}
+
+	public Result<Object> execute(Script script) throws ScriptException {
+		return execute(script, Map.of(), Object.class);
+	}
+
+	public Result<Object> execute(Script script, Map<String, ?> bindings) throws ScriptException {
+		return execute(script, bindings, Object.class);
+	}
+
+	/**
+	 * Runs a script in a fresh realm.
+	 *
+	 * @param bindings   Values to declare as global `let` bindings before the script runs
+	 * @param resultType The type to convert the result to. One of Object, String, Boolean, Double, Integer, Long,
+	 *                   List, Map, or a subclass of {@link Value}.
+	 */
+	public <T> Result<T> execute(Script script, Map<String, ?> bindings, Class<T> resultType) throws ScriptException {
+		if (refill.isShutdown()) throw new IllegalStateException("Engine has been closed");
+		final long start = System.nanoTime();
+		Interpreter interpreter = pool.poll();
+		final boolean pooled = interpreter != null;
+		if (!pooled) interpreter = createInterpreter();
+
+		final ParseCache parseCache = interpreter.parseCache;
+		final long parseCacheHits = parseCache.hits();
+		final long parseCacheMisses = parseCache.misses();
+		final long executionStart = System.nanoTime();
+		try {
+			for (final var binding : bindings.entrySet()) {
+				interpreter.declareVariable(Let, new StringValue(binding.getKey()), Conversions.toValue(interpreter, binding.getValue()));
+			}
+
+			final Value<?> value = script.program().execute(interpreter);
+			final T result = Conversions.toJava(interpreter, value, resultType);
+			return new Result<>(result, executionStart - start, System.nanoTime() - executionStart, pooled, parseCache.hits() - parseCacheHits, parseCache.misses() - parseCacheMisses);
+		} catch (AbruptCompletion e) {
+			throw ScriptException.from(e);
+		} finally {
+			release(interpreter);
+		}
+	}
+
+	private Interpreter createInterpreter() {
+		return new Interpreter(options.bytecode, options.out, new ParseCache(options.parseCacheSize));
+	}
+
+	private void release(Interpreter used) {
+		if (pool.remainingCapacity() == 0) return;
+		try {
+			// The used realm may have been modified in any way, so only its caches are kept
+			refill.execute(() -> pool.offer(new Interpreter(used)));
+		} catch (RejectedExecutionException e) {
+			// The Engine was closed while the script was running
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package xyz.lebster.api;
+
+/**
+ * The value of the last statement of an executed {@link Script}, converted to a Java type, with execution metrics.
+ *
+ * @param waitNanos         How long it took to get an interpreter to run the script on
+ * @param executionNanos    How long the script took to run, including converting its bindings and result
+ * @param pooledInterpreter Whether the script ran on an interpreter from the pool, rather than a newly created one
+ * @param parseCacheHits    How many of the programs parsed by `eval()` and ShadowRealms while the script ran were found
+ *                          in the interpreter's {@link xyz.lebster.core.parser.ParseCache}
+ * @param parseCacheMisses  How many of them had to be parsed
+ */
+public record Result<T>(T value, long waitNanos, long executionNanos, boolean pooledInterpreter, long parseCacheHits, long parseCacheMisses) {
+}
\ No newline at end of file
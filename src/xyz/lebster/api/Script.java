@@ -0,0 +1,12 @@
+package xyz.lebster.api;
+
+import xyz.lebster.core.node.Program;
+
+/**
+ * A script which has been parsed once by {@link Engine#compile(String)}, and can be executed any number of times,
+ * from any thread, by the {@link Engine} which compiled it.
+ *
+ * @param compileNanos How long it took to parse the script
+ */
+public record Script(String sourceText, Program program, long compileNanos) {
+}
\ No newline at end of file
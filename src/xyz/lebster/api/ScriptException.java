@@ -0,0 +1,34 @@
+package xyz.lebster.api;
+
+import xyz.lebster.core.ANSI;
+import xyz.lebster.core.exception.SyntaxError;
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.value.error.ErrorObject;
+
+/**
+ * A script which could not be compiled, or which threw a value.
+ */
+public final class ScriptException extends Exception {
+	// The name of the error, e.g. `TypeError`, or null if the thrown value was not an Error object
+	public final String errorName;
+	// The stack trace of the Error object, or an empty string
+	public final String stack;
+
+	private ScriptException(String errorName, String message, String stack) {
+		super(errorName == null ? message : errorName + ": " + message, null, false, false);
+		this.errorName = errorName;
+		this.stack = stack;
+	}
+
+	static ScriptException from(SyntaxError error) {
+		return new ScriptException("SyntaxError", error.getMessage(), "");
+	}
+
+	static ScriptException from(AbruptCompletion completion) {
+		if (completion.value instanceof final ErrorObject error) {
+			return new ScriptException(error.getName(), error.message, error.stackTrace.toString());
+		}
+
+		return new ScriptException(null, ANSI.stripFormatting("Uncaught " + completion.getValue()), "");
+	}
+}
\ No newline at end of file
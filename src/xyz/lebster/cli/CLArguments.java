@@ -1,6 +1,7 @@
 package xyz.lebster.cli;
 
 import xyz.lebster.core.ANSI;
+import xyz.lebster.core.parser.ParseCache;
 
 import java.nio.file.Path;
 import java.util.Arrays;
@@ -27,6 +28,10 @@ public record CLArguments(Path filePathOrNull, ExecutionMode mode, ExecutionOpti
 				System.out.printf("%s--disable-prompt%s      Disable the %s'> '%s prompt in the REPL%n", ANSI.CYAN, ANSI.RESET, ANSI.BRIGHT_GREEN, ANSI.RESET);
 				System.out.printf("%s--harness %s[value]%s     Test harness. Valid options: %sladybird%s%n", ANSI.CYAN, ANSI.MAGENTA, ANSI.RESET, ANSI.MAGENTA, ANSI.RESET);
 				System.out.printf("%s-t%s, %s--test%s            Run tests%n", ANSI.CYAN, ANSI.RESET, ANSI.CYAN, ANSI.RESET);
+				System.out.printf("%s--jobs %s[count]%s        Number of test files to run at once. Defaults to the number of processors%n", ANSI.CYAN, ANSI.MAGENTA, ANSI.RESET);
+				System.out.printf("%s--bytecode%s            Run code on the bytecode VM instead of the tree-walking interpreter%n", ANSI.CYAN, ANSI.RESET);
+				System.out.printf("%s--code-cache %s[dir]%s    Cache parsed scripts in %s[dir]%s, to skip parsing them on later runs%n", ANSI.CYAN, ANSI.MAGENTA, ANSI.RESET, ANSI.MAGENTA, ANSI.RESET);
+				System.out.printf("%s--parse-cache %s[size]%s  Number of programs parsed by eval() and ShadowRealms to keep. Defaults to %d, 0 disables%n", ANSI.CYAN, ANSI.MAGENTA, ANSI.RESET, ParseCache.DEFAULT_SIZE);
 				System.out.printf("%s--gif%s                 Enable GIF rendering mode (No error handling, no prompt, print delimiter after execution)%n", ANSI.CYAN, ANSI.RESET);
 				System.exit(0);
 			}
@@ -52,7 +57,11 @@ public record CLArguments(Path filePathOrNull, ExecutionMode mode, ExecutionOpti
 		boolean hidePassing,
 		boolean disableTestOutputBuffers,
 		String harness,
-		boolean showPrompt
+		boolean showPrompt,
+		boolean bytecode,
+		Path codeCache,
+		int parseCacheSize,
+		int jobs
 	) {
 	}
 
@@ -67,6 +76,10 @@ public record CLArguments(Path filePathOrNull, ExecutionMode mode, ExecutionOpti
 		private boolean disableTestOutputBuffers = false;
 		private String harness;
 		private boolean showPrompt = true;
+		private boolean bytecode = false;
+		private Path codeCache;
+		private int parseCacheSize = ParseCache.DEFAULT_SIZE;
+		private int jobs = Runtime.getRuntime().availableProcessors();
 
 		public TemporaryResult(Iterator<String> arguments) {
 			this.arguments = arguments;
@@ -80,7 +93,11 @@ public record CLArguments(Path filePathOrNull, ExecutionMode mode, ExecutionOpti
 				this.hidePassing,
 				this.disableTestOutputBuffers,
 				this.harness,
-				this.showPrompt
+				this.showPrompt,
+				this.bytecode,
+				this.codeCache,
+				this.parseCacheSize,
+				this.jobs
 			);
 		}
 
@@ -92,7 +109,11 @@ public record CLArguments(Path filePathOrNull, ExecutionMode mode, ExecutionOpti
 				case "hide-passing" -> hidePassing = true;
 				case "disable-prompt" -> showPrompt = false;
 				case "no-buffer" -> disableTestOutputBuffers = true;
+				case "bytecode" -> bytecode = true;
 				case "harness" -> harness = getFlagValue("Missing harness filepath");
+				case "code-cache" -> codeCache = Path.of(getFlagValue("Missing code cache directory"));
+				case "parse-cache" -> parseCacheSize = getNonNegativeIntegerFlagValue("Missing parse cache size");
+				case "jobs" -> jobs = getPositiveIntegerFlagValue("Missing number of jobs");
 				case "t", "test" -> setMode(ExecutionMode.Tests);
 				case "gif" -> setMode(ExecutionMode.GIF);
 
@@ -105,6 +126,28 @@ public record CLArguments(Path filePathOrNull, ExecutionMode mode, ExecutionOpti
 			return arguments.next();
 		}
 
+		private int getPositiveIntegerFlagValue(String missingMessage) throws CLArgumentException {
+			final String value = getFlagValue(missingMessage);
+			try {
+				final int result = Integer.parseInt(value);
+				if (result > 0) return result;
+			} catch (NumberFormatException ignored) {
+			}
+
+			throw new CLArgumentException("Expected a positive integer, got '%s'".formatted(value));
+		}
+
+		private int getNonNegativeIntegerFlagValue(String missingMessage) throws CLArgumentException {
+			final String value = getFlagValue(missingMessage);
+			try {
+				final int result = Integer.parseInt(value);
+				if (result >= 0) return result;
+			} catch (NumberFormatException ignored) {
+			}
+
+			throw new CLArgumentException("Expected a non-negative integer, got '%s'".formatted(value));
+		}
+
 		private void setMode(ExecutionMode newMode) throws CLArgumentException {
 			if (this.mode == null) {
 				this.mode = newMode;
@@ -1,25 +1,32 @@
 package xyz.lebster.cli;
 
 import xyz.lebster.Main;
+import xyz.lebster.api.Engine;
 import xyz.lebster.core.exception.NotImplemented;
 import xyz.lebster.core.exception.ParserNotImplemented;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
-import xyz.lebster.core.parser.Parser;
 
 import java.io.File;
+import java.io.PrintStream;
 
 import static xyz.lebster.cli.TestStatus.*;
 
-record DefaultTestHarness() implements TestHarness {
+final class DefaultTestHarness implements TestHarness {
+	// Used by the tests of the embedding API. A pool of one is enough, as the tests in a file execute scripts one at a time.
+	private final Engine engine = new Engine(new Engine.Options(false, 1, 0, false, System.out));
+
 	@Override
-	public TestResult run(File file, CLArguments arguments) {
+	public TestResult run(File file, CLArguments arguments, PrintStream out) {
 		if (file.getName().endsWith(".js.skip"))
 			return new TestResult(SKIPPED, null);
 
 		try {
 			final String sourceText = Main.readFile(file.toPath());
-			Parser.parse(sourceText).execute(new Interpreter());
+			final Interpreter interpreter = Main.createInterpreter(arguments.options(), out);
+			if (file.getParentFile() != null && file.getParentFile().getName().equals("api"))
+				interpreter.globalObject.put(EmbeddingTestObject.NAME, new EmbeddingTestObject(interpreter.intrinsics, engine));
+			Main.parse(arguments.options(), sourceText).execute(interpreter);
 		} catch (AbruptCompletion exception) {
 			if (!arguments.options().parseOnly())
 				return new TestResult(FAILED, exception);
@@ -32,4 +39,9 @@ record DefaultTestHarness() implements TestHarness {
 
 		return new TestResult(PASSED, null);
 	}
-}
+
+	@Override
+	public void close() {
+		engine.close();
+	}
+}
\ No newline at end of file
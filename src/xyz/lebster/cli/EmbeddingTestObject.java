@@ -0,0 +1,111 @@
+package xyz.lebster.cli;
+
+import xyz.lebster.api.Conversions;
+import xyz.lebster.api.Engine;
+import xyz.lebster.api.Result;
+import xyz.lebster.api.Script;
+import xyz.lebster.api.ScriptException;
+import xyz.lebster.core.NonStandard;
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.interpreter.Intrinsics;
+import xyz.lebster.core.node.expression.MemberExpression;
+import xyz.lebster.core.node.statement.ExpressionStatement;
+import xyz.lebster.core.node.statement.Statement;
+import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.array.ArrayObject;
+import xyz.lebster.core.value.error.ErrorObject;
+import xyz.lebster.core.value.globals.Null;
+import xyz.lebster.core.value.globals.Undefined;
+import xyz.lebster.core.value.object.ObjectValue;
+import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
+import xyz.lebster.core.value.primitive.number.NumberValue;
+import xyz.lebster.core.value.primitive.string.StringValue;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static xyz.lebster.core.interpreter.AbruptCompletion.error;
+import static xyz.lebster.core.value.function.NativeFunction.argument;
+
+/**
+ * The `Embedding` global of test files in an `api` directory, which runs scripts through the embedding API so that it
+ * can be tested from JavaScript. It is added by {@link DefaultTestHarness} rather than being part of every realm,
+ * as the core does not depend on the API.
+ */
+@NonStandard
+final class EmbeddingTestObject extends ObjectValue {
+	static final StringValue NAME = new StringValue("Embedding");
+
+	private final Engine engine;
+
+	EmbeddingTestObject(Intrinsics intrinsics, Engine engine) {
+		super(Null.instance);
+		this.engine = engine;
+
+		putMethod(intrinsics, new StringValue("execute"), 2, this::execute);
+		putMethod(intrinsics, new StringValue("inlineCacheHits"), 2, this::inlineCacheHits);
+		putMethod(intrinsics, new StringValue("parseCacheCounts"), 2, EmbeddingTestObject::parseCacheCounts);
+	}
+
+	private Value<?> execute(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
+		// Embedding.execute(sourceText: string, bindings?: object): unknown
+		// Runs sourceText on the Engine, with the bindings and result converted to Java objects and back
+		final String sourceText = argument(0, arguments).toStringValue(interpreter).value();
+		final Value<?> bindings = argument(1, arguments);
+		final Map<?, ?> javaBindings = bindings == Undefined.instance ? Map.of() : Conversions.toJava(interpreter, bindings, Map.class);
+
+		try {
+			@SuppressWarnings("unchecked")
+			final Object result = engine.execute(engine.compile(sourceText), (Map<String, ?>) javaBindings).value();
+			return Conversions.toValue(interpreter, result);
+		} catch (ScriptException e) {
+			throw error(new ErrorObject(interpreter, interpreter.intrinsics.errorPrototype, e.getMessage()));
+		}
+	}
+
+	private ArrayObject inlineCacheHits(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
+		// Embedding.inlineCacheHits(sourceText: string, runs: number): boolean[]
+		// Compiles sourceText once and executes it `runs` times. The script must contain a statement of the form `o.x`,
+		// and evaluate to `o`. After each run, reports whether the inline cache of the first such statement would hit.
+		final String sourceText = argument(0, arguments).toStringValue(interpreter).value();
+		final int runs = argument(1, arguments).toNumberValue(interpreter).value.intValue();
+
+		try {
+			final Script script = engine.compile(sourceText);
+			MemberExpression member = null;
+			for (final Statement statement : script.program().children()) {
+				if (statement instanceof ExpressionStatement(final MemberExpression candidate) && candidate.cache() != null) {
+					member = candidate;
+					break;
+				}
+			}
+
+			if (member == null) throw error(new ErrorObject(interpreter, interpreter.intrinsics.errorPrototype, "No statement of the form `o.x`"));
+			final ArrayList<BooleanValue> hits = new ArrayList<>(runs);
+			for (int i = 0; i < runs; i++) {
+				final Value<?> receiver = engine.execute(script, Map.of(), Value.class).value();
+				hits.add(BooleanValue.of(receiver instanceof final ObjectValue object && member.cache().getOwnProperty(object) != null));
+			}
+
+			return new ArrayObject(interpreter, hits);
+		} catch (ScriptException e) {
+			throw error(new ErrorObject(interpreter, interpreter.intrinsics.errorPrototype, e.getMessage()));
+		}
+	}
+
+	private static ArrayObject parseCacheCounts(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
+		// Embedding.parseCacheCounts(sourceText: string, parseCacheSize: number): [hits: number, misses: number]
+		// Executes sourceText on a new Engine whose interpreters keep parseCacheSize programs, and reports the
+		// parse cache hits and misses of the programs parsed by eval() and ShadowRealms while it ran
+		final String sourceText = argument(0, arguments).toStringValue(interpreter).value();
+		final int parseCacheSize = argument(1, arguments).toNumberValue(interpreter).value.intValue();
+
+		try (final Engine engine = new Engine(new Engine.Options(false, 1, parseCacheSize, false, interpreter.out))) {
+			final Result<Object> result = engine.execute(engine.compile(sourceText));
+			return new ArrayObject(interpreter, NumberValue.of(result.parseCacheHits()), NumberValue.of(result.parseCacheMisses()));
+		} catch (ScriptException e) {
+			throw error(new ErrorObject(interpreter, interpreter.intrinsics.errorPrototype, e.getMessage()));
+		}
+	}
+}
\ No newline at end of file
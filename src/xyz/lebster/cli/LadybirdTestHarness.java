@@ -8,7 +8,6 @@ import xyz.lebster.core.exception.SyntaxError;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.node.Program;
-import xyz.lebster.core.parser.Parser;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.object.DataDescriptor;
@@ -16,26 +15,39 @@ import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
 import java.io.File;
+import java.io.PrintStream;
 import java.nio.file.Path;
 
 import static xyz.lebster.cli.TestStatus.*;
 
 final class LadybirdTestHarness implements TestHarness {
-	private final Program testCommon;
 	private final Path commonPath;
+	private final String testCommonSource;
+	// Programs cache state in their nodes (e.g. inline caches), so each thread running tests parses its own copy
+	private final ThreadLocal<Program> testCommon;
 
 	LadybirdTestHarness(CLArguments arguments) throws SyntaxError, CLArgumentException {
 		final Path path = arguments.filePathOrNull();
 		if (path == null) throw new CLArgumentException("Test path is required for Ladybird test harness");
 		this.commonPath = path.resolve("test-common.js");
+		this.testCommonSource = Main.readFile(commonPath);
+		this.testCommon = ThreadLocal.withInitial(() -> parseTestCommon(arguments));
 		try {
-			this.testCommon = Parser.parse(Main.readFile(commonPath));
+			this.testCommon.set(Main.parse(arguments.options(), testCommonSource));
 		} catch (Throwable e) {
 			System.out.println("Failed while parsing test-common.js");
 			throw e;
 		}
 	}
 
+	private Program parseTestCommon(CLArguments arguments) {
+		try {
+			return Main.parse(arguments.options(), testCommonSource);
+		} catch (SyntaxError e) {
+			throw new ShouldNotHappen("test-common.js failed to parse after parsing successfully: " + e.getMessage());
+		}
+	}
+
 	private ObjectValue getTestResults(Interpreter interpreter) throws AbruptCompletion {
 		final Value<?> testResultsValue = interpreter.getBinding(Names.__TestResults__).getValue(interpreter);
 		if (!(testResultsValue instanceof final ObjectValue testResults)) {
@@ -46,41 +58,41 @@ final class LadybirdTestHarness implements TestHarness {
 	}
 
 	@Override
-	public TestResult run(File file, CLArguments arguments) {
+	public TestResult run(File file, CLArguments arguments, PrintStream out) {
 		if (file.toPath().equals(commonPath) || file.getName().endsWith(".js.skip"))
 			return new TestResult(SKIPPED, null);
 
 		try {
-			final Interpreter interpreter = new Interpreter();
+			final Interpreter interpreter = Main.createInterpreter(arguments.options(), out);
 			try {
-				testCommon.execute(interpreter);
+				testCommon.get().execute(interpreter);
 			} catch (AbruptCompletion e) {
 				throw new RuntimeException(e);
 			}
 
-			final Program program = Parser.parse(Main.readFile(file.toPath()));
+			final Program program = Main.parse(arguments.options(), Main.readFile(file.toPath()));
 			program.execute(interpreter);
 
-			for (final var entry : getTestResults(interpreter).value.entrySet()) {
+			for (final var entry : getTestResults(interpreter).properties().entrySet()) {
 				if (!(entry.getKey() instanceof StringValue)) throw new ShouldNotHappen("Key of __TestResults__ was not string");
 				if (!(entry.getValue() instanceof final DataDescriptor suiteValueProperty)) throw new ShouldNotHappen("Property of __TestResults__ was not data descriptor");
 				if (!(suiteValueProperty.value() instanceof final ObjectValue suiteValue)) throw new ShouldNotHappen("Suite value was not object");
-				for (final var suiteEntry : suiteValue.value.entrySet()) {
+				for (final var suiteEntry : suiteValue.properties().entrySet()) {
 					if (!(suiteEntry.getKey() instanceof StringValue)) throw new ShouldNotHappen("Test name was not string");
 					if (!(suiteEntry.getValue() instanceof final DataDescriptor testValueProperty)) throw new ShouldNotHappen("Property of test suite was not data descriptor");
 					if (!(testValueProperty.value() instanceof final ObjectValue testValue)) throw new ShouldNotHappen("Test value was not object");
-					if (!testValue.value.containsKey(Names.result)) throw new ShouldNotHappen("Test value did not contain 'result' property");
-					if (!(testValue.value.get(Names.result) instanceof final DataDescriptor testResultProperty)) throw new ShouldNotHappen("Test result was not data descriptor");
+					if (!testValue.properties().containsKey(Names.result)) throw new ShouldNotHappen("Test value did not contain 'result' property");
+					if (!(testValue.properties().get(Names.result) instanceof final DataDescriptor testResultProperty)) throw new ShouldNotHappen("Test result was not data descriptor");
 					if (!(testResultProperty.value() instanceof final StringValue testResult)) throw new ShouldNotHappen("Test result was not a string");
 
 					// TODO: Count suites failed / passed
-					final String resultString = testResult.value;
+					final String resultString = testResult.value();
 					if (resultString.equals("pass")) {
 						// yay
 					} else if (resultString.equals("fail")) {
-						if (!(testValue.value.get(Names.details) instanceof final DataDescriptor testDetailsProperty)) throw new ShouldNotHappen("Test details property was not data descriptor");
+						if (!(testValue.properties().get(Names.details) instanceof final DataDescriptor testDetailsProperty)) throw new ShouldNotHappen("Test details property was not data descriptor");
 						if (!(testDetailsProperty.value() instanceof final StringValue testDetails)) throw new ShouldNotHappen("Test details property was not a string");
-						if (!arguments.options().parseOnly()) return new TestResult(FAILED, new ShouldNotHappen(testDetails.value));
+						if (!arguments.options().parseOnly()) return new TestResult(FAILED, new ShouldNotHappen(testDetails.value()));
 					} else {
 						// skip
 					}
@@ -14,7 +14,7 @@ import java.util.Scanner;
 
 public record REPL(CLArguments.ExecutionOptions options, Scanner scanner, Interpreter interpreter) {
 	public REPL(CLArguments.ExecutionOptions options) {
-		this(options, new Scanner(System.in, StandardCharsets.UTF_8), new Interpreter());
+		this(options, new Scanner(System.in, StandardCharsets.UTF_8), Main.createInterpreter(options, System.out));
 	}
 
 	public void run() {
@@ -1,7 +1,19 @@
 package xyz.lebster.cli;
 
 import java.io.File;
+import java.io.PrintStream;
 
-interface TestHarness {
-	TestResult run(File file, CLArguments arguments);
+interface TestHarness extends AutoCloseable {
+	/**
+	 * Runs a test file on a new Interpreter, which writes its output to `out`.
+	 * May be called from several threads at once.
+	 */
+	TestResult run(File file, CLArguments arguments, PrintStream out);
+
+	/**
+	 * Releases anything the harness holds on to, once every test has run
+	 */
+	@Override
+	default void close() {
+	}
 }
@@ -8,6 +8,12 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public final class Testing {
 	private int total = 0;
@@ -51,6 +57,12 @@ public final class Testing {
 		}
 	}
 
+	private record TestFile(File file, String name) {
+	}
+
+	private record CompletedTest(String name, TestResult result, ByteArrayOutputStream output) {
+	}
+
 	private static void printTestResult(PrintStream stream, String color, String status, String name) {
 		stream.printf("%s%s %s %s%s %s%s%n", ANSI.BACKGROUND_BLACK, color, status, ANSI.RESET, ANSI.BRIGHT_BLUE, name, ANSI.RESET);
 	}
@@ -60,57 +72,82 @@ public final class Testing {
 			printStream.println(baos);
 	}
 
-	private void runTestFile(File file, String prefix) {
-		if (!file.getName().endsWith(".js") && !file.getName().endsWith(".js.skip")) return;
+	private static void collectTestFiles(File directory, String prefix, List<TestFile> testFiles) {
+		final File[] files = directory.listFiles();
+		if (files == null) throw new Error("Test directory not found!");
 
-		final String fileName = prefix + file.getName();
-		total++;
+		for (final File file : files) {
+			if (file.isFile()) {
+				if (file.getName().endsWith(".js") || file.getName().endsWith(".js.skip"))
+					testFiles.add(new TestFile(file, prefix + file.getName()));
+			} else {
+				collectTestFiles(file, prefix + file.getName() + "/", testFiles);
+			}
+		}
+	}
 
-		final ByteArrayOutputStream tempOutput = new ByteArrayOutputStream();
-		final PrintStream tempStream = new PrintStream(tempOutput);
-		final PrintStream stdout = System.out;
-		System.setOut(tempStream);
+	private CompletedTest runTestFile(TestFile testFile) {
+		// Each test writes to its own buffer, so that tests can run on several threads at once
+		final ByteArrayOutputStream output = new ByteArrayOutputStream();
+		final PrintStream outputStream = new PrintStream(output);
+		final TestResult result = harness.run(testFile.file, arguments, outputStream);
+		outputStream.flush();
+		return new CompletedTest(testFile.name, result, output);
+	}
 
-		final TestResult result = harness.run(file, arguments);
-		switch (result.status()) {
+	private void report(CompletedTest test) {
+		total++;
+		switch (test.result.status()) {
 			case SKIPPED -> {
 				skipped++;
-				printTestResult(skippedStream, ANSI.YELLOW, "SKIPPED", fileName);
+				printTestResult(skippedStream, ANSI.YELLOW, "SKIPPED", test.name);
 			}
 
 			case PASSED -> {
 				passed++;
-				printTestResult(passedStream, ANSI.BRIGHT_GREEN, "PASSED", fileName);
-				printTestOutput(passedStream, tempOutput);
+				printTestResult(passedStream, ANSI.BRIGHT_GREEN, "PASSED", test.name);
+				printTestOutput(passedStream, test.output);
 			}
 
 			case FAILED -> {
 				failed++;
-				printTestResult(failedStream, ANSI.BRIGHT_RED, "FAILED", fileName);
-				printTestOutput(failedStream, tempOutput);
-				Main.handleError(result.cause(), failedStream, arguments.options().hideStackTrace());
+				printTestResult(failedStream, ANSI.BRIGHT_RED, "FAILED", test.name);
+				printTestOutput(failedStream, test.output);
+				Main.handleError(test.result.cause(), failedStream, arguments.options().hideStackTrace());
 			}
 		}
-
-		System.setOut(stdout);
 	}
 
-	private void runTestDirectory(File directory, String prefix) {
-		final File[] files = directory.listFiles();
-		if (files == null) throw new Error("Test directory not found!");
+	private void runTests(List<TestFile> testFiles) {
+		final int jobs = Math.min(arguments.options().jobs(), testFiles.size());
+		if (jobs <= 1) {
+			for (final TestFile testFile : testFiles) report(runTestFile(testFile));
+			return;
+		}
 
-		for (final File file : files) {
-			if (file.isFile()) {
-				runTestFile(file, prefix);
-			} else {
-				runTestDirectory(file, prefix + file.getName() + "/");
-			}
+		final ExecutorService executor = Executors.newFixedThreadPool(jobs);
+
+		try {
+			final ArrayList<Future<CompletedTest>> results = new ArrayList<>(testFiles.size());
+			for (final TestFile testFile : testFiles) results.add(executor.submit(() -> runTestFile(testFile)));
+			// Results are reported in file order, regardless of the order in which tests finish
+			for (final Future<CompletedTest> result : results) report(result.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new Error(e);
+		} catch (ExecutionException e) {
+			throw new Error(e.getCause());
+		} finally {
+			executor.shutdownNow();
 		}
 	}
 
 	public void test() {
 		final File testingDirectory = arguments.filePathOrNull() == null ? new File("tests/") : arguments.filePathOrNull().toFile();
-		runTestDirectory(testingDirectory, "");
+		final ArrayList<TestFile> testFiles = new ArrayList<>();
+		collectTestFiles(testingDirectory, "", testFiles);
+		runTests(testFiles);
+		harness.close();
 
 		if (!arguments.options().disableTestOutputBuffers()) {
 			passedStream.close();
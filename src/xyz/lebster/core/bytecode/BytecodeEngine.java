@@ -0,0 +1,42 @@
+package xyz.lebster.core.bytecode;
+
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.node.FunctionParameters;
+import xyz.lebster.core.node.Program;
+import xyz.lebster.core.node.expression.ArrowFunctionExpression;
+import xyz.lebster.core.node.statement.BlockStatement;
+import xyz.lebster.core.value.Value;
+
+/**
+ * Runs scripts and functions as bytecode, compiling each one the first time it is executed.
+ * Enabled with the `--bytecode` flag; the tree-walking interpreter remains the reference implementation.
+ */
+public final class BytecodeEngine {
+	private static final Value<?>[] NO_ARGUMENTS = new Value<?>[0];
+
+	private final ChunkTable scripts = new ChunkTable();
+	// Keyed by the body of each function, or by the expression of each arrow function
+	private final ChunkTable functions = new ChunkTable();
+
+	public Value<?> execute(Interpreter interpreter, Program program) throws AbruptCompletion {
+		Chunk chunk = scripts.get(program);
+		if (chunk == null) scripts.put(program, chunk = Compiler.compileScript(program.children()));
+		return chunk.execute(interpreter, NO_ARGUMENTS);
+	}
+
+	/**
+	 * Declares the parameters of a function and runs its body, in the environment of the call
+	 */
+	public Value<?> executeFunction(Interpreter interpreter, FunctionParameters parameters, BlockStatement body, Value<?>[] arguments) throws AbruptCompletion {
+		Chunk chunk = functions.get(body);
+		if (chunk == null) functions.put(body, chunk = Compiler.compileFunction(parameters, body));
+		return chunk.execute(interpreter, arguments);
+	}
+
+	public Value<?> executeArrowFunction(Interpreter interpreter, ArrowFunctionExpression expression, Value<?>[] arguments) throws AbruptCompletion {
+		Chunk chunk = functions.get(expression);
+		if (chunk == null) functions.put(expression, chunk = Compiler.compileArrowFunction(expression));
+		return chunk.execute(interpreter, arguments);
+	}
+}
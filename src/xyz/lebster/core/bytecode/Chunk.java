@@ -0,0 +1,47 @@
+package xyz.lebster.core.bytecode;
+
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.value.Value;
+
+/**
+ * The compiled form of a script or function body.
+ *
+ * @param registerCount The number of registers needed to run the code
+ * @param slotCount     The number of slots needed to run the code
+ * @param maxScopeDepth The largest number of environments the code enters at once
+ * @param handlers      The `catch` and `finally` handlers of the try statements in this chunk, innermost first
+ */
+record Chunk(int[] code, Object[] constants, int registerCount, int slotCount, int maxScopeDepth, Handler[] handlers) {
+	Value<?> execute(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
+		return VM.run(interpreter, this, arguments);
+	}
+
+	/**
+	 * @param isThrow Whether the exception is a `throw` completion, which `catch` handlers handle.
+	 *                Anything else is only handled by `finally` handlers.
+	 * @return The innermost handler of an exception thrown by the instruction at `pc`, or null
+	 */
+	Handler findHandler(int pc, boolean isThrow) {
+		for (final Handler handler : handlers) {
+			if (pc >= handler.start && pc < handler.end && (isThrow || handler.slot != -1)) return handler;
+		}
+
+		return null;
+	}
+
+	/**
+	 * A range of instructions protected by a `catch` or `finally` block. One block may protect several ranges, as
+	 * copies of `finally` blocks made for `break`, `continue` and `return` statements are not protected by it.
+	 *
+	 * @param start      The first instruction of the range
+	 * @param end        The instruction after the last instruction of the range
+	 * @param target     Where the handler continues execution
+	 * @param scopeDepth The number of environments entered at the start of the try statement
+	 * @param slot       For a `finally` handler, the slot it stores the exception in before running the block, so it
+	 *                   can be rethrown with {@link Opcode#RETHROW}. -1 for a `catch` handler, which is given the
+	 *                   thrown value in acc.
+	 */
+	record Handler(int start, int end, int target, int scopeDepth, int slot) {
+	}
+}
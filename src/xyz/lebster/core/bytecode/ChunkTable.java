@@ -0,0 +1,85 @@
+package xyz.lebster.core.bytecode;
+
+import xyz.lebster.core.node.ASTNode;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * The compiled {@link Chunk} of each script or function, keyed by the identity of its AST node.
+ * AST nodes are only weakly held, so the chunk of an eval or ShadowRealm script disappears once nothing runs it.
+ * A chunk only refers to nodes within its own key, so it never keeps its key alive.
+ */
+final class ChunkTable {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final ReferenceQueue<ASTNode> collected = new ReferenceQueue<>();
+	private Entry[] table = new Entry[INITIAL_CAPACITY];
+	private int size;
+
+	Chunk get(ASTNode node) {
+		final Entry[] table = this.table;
+		for (Entry entry = table[indexFor(System.identityHashCode(node), table.length)]; entry != null; entry = entry.next) {
+			if (entry.get() == node) return entry.chunk;
+		}
+
+		return null;
+	}
+
+	void put(ASTNode node, Chunk chunk) {
+		removeCollected();
+		if (size >= table.length - (table.length >> 2)) resize();
+
+		final int hash = System.identityHashCode(node);
+		final int index = indexFor(hash, table.length);
+		table[index] = new Entry(node, hash, chunk, table[index], collected);
+		size++;
+	}
+
+	private void removeCollected() {
+		Entry removed;
+		while ((removed = (Entry) collected.poll()) != null) {
+			final int index = indexFor(removed.hash, table.length);
+			Entry previous = null;
+			for (Entry entry = table[index]; entry != null; previous = entry, entry = entry.next) {
+				if (entry != removed) continue;
+				if (previous == null) table[index] = entry.next;
+				else previous.next = entry.next;
+				size--;
+				break;
+			}
+		}
+	}
+
+	private void resize() {
+		final Entry[] resized = new Entry[table.length * 2];
+		for (Entry entry : table) {
+			while (entry != null) {
+				final Entry next = entry.next;
+				final int index = indexFor(entry.hash, resized.length);
+				entry.next = resized[index];
+				resized[index] = entry;
+				entry = next;
+			}
+		}
+
+		table = resized;
+	}
+
+	private static int indexFor(int hash, int length) {
+		return (hash ^ (hash >>> 16)) & (length - 1);
+	}
+
+	private static final class Entry extends WeakReference<ASTNode> {
+		private final int hash;
+		private final Chunk chunk;
+		private Entry next;
+
+		private Entry(ASTNode node, int hash, Chunk chunk, Entry next, ReferenceQueue<ASTNode> queue) {
+			super(node, queue);
+			this.hash = hash;
+			this.chunk = chunk;
+			this.next = next;
+		}
+	}
+}
\ No newline at end of file
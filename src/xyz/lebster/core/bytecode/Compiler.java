@@ -0,0 +1,956 @@
+package xyz.lebster.core.bytecode;
+
+import xyz.lebster.core.exception.ShouldNotHappen;
+import xyz.lebster.core.node.ASTNode;
+import xyz.lebster.core.node.Assignable;
+import xyz.lebster.core.node.FunctionParameters;
+import xyz.lebster.core.node.declaration.*;
+import xyz.lebster.core.node.expression.*;
+import xyz.lebster.core.node.expression.ExpressionList.ExpressionNode;
+import xyz.lebster.core.node.expression.ObjectExpression.EntryNode;
+import xyz.lebster.core.node.expression.ObjectExpression.ObjectEntryNode;
+import xyz.lebster.core.node.expression.ObjectExpression.ShorthandNode;
+import xyz.lebster.core.node.expression.ObjectExpression.SpreadNode;
+import xyz.lebster.core.node.expression.literal.PrimitiveLiteral;
+import xyz.lebster.core.node.statement.*;
+import xyz.lebster.core.value.function.Executable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Compiles a list of statements into a {@link Chunk}. Each statement and expression is compiled to leave its
+ * value in the accumulator, matching what its `execute()` method returns.
+ * <p>
+ * `break`, `continue` and `return` statements are compiled to jumps. The `finally` blocks they leave are copied in
+ * before the jump, and each copy is left out of the ranges protected by the try statements it leaves.
+ * <p>
+ * The few nodes without a bytecode equivalent (e.g. unary operators, template literals, `super()` calls and
+ * assignments to members) are compiled to an {@link Opcode#EXECUTE} instruction, which runs them on the
+ * tree-walking interpreter.
+ */
+final class Compiler {
+	private final boolean isFunctionBody;
+
+	private int[] code = new int[64];
+	private int length = 0;
+	private final ArrayList<Object> constants = new ArrayList<>();
+	private final IdentityHashMap<Object, Integer> constantIndices = new IdentityHashMap<>();
+
+	private int registerCount = 0;
+	private int nextRegister = 0;
+	private int slotCount = 0;
+	private int nextSlot = 0;
+	private int scopeDepth = 0;
+	private int maxScopeDepth = 0;
+
+	// The loops, switch statements and try statements enclosing the code being compiled, innermost last
+	private final ArrayList<Frame> frames = new ArrayList<>();
+	private final ArrayList<Chunk.Handler> handlers = new ArrayList<>();
+
+	private Compiler(boolean isFunctionBody) {
+		this.isFunctionBody = isFunctionBody;
+	}
+
+	static Chunk compileScript(List<? extends ASTNode> children) {
+		final Compiler compiler = new Compiler(false);
+		compiler.statementList(children);
+		return compiler.finish();
+	}
+
+	static Chunk compileFunction(FunctionParameters parameters, BlockStatement body) {
+		final Compiler compiler = new Compiler(true);
+		compiler.parameters(parameters);
+		for (final Statement child : body.children()) {
+			compiler.statement(child);
+		}
+
+		// Falling off the end of a function body returns undefined
+		compiler.emit(Opcode.LOAD_UNDEFINED);
+		return compiler.finish();
+	}
+
+	static Chunk compileArrowFunction(ArrowFunctionExpression expression) {
+		if (expression.hasFullBody()) return compileFunction(expression.parameters(), expression.body());
+
+		final Compiler compiler = new Compiler(true);
+		compiler.parameters(expression.parameters());
+		compiler.expression(expression.implicitReturn());
+		return compiler.finish();
+	}
+
+	private Chunk finish() {
+		// Ending every chunk in a RETURN saves the VM from checking for the end of the code on each instruction
+		emit(Opcode.RETURN);
+		return new Chunk(Arrays.copyOf(code, length), constants.toArray(), registerCount, slotCount, maxScopeDepth, handlers.toArray(new Chunk.Handler[0]));
+	}
+
+	private void statementList(List<? extends ASTNode> children) {
+		emit(Opcode.LOAD_UNDEFINED);
+		for (final ASTNode child : children) {
+			if (child instanceof final Statement statement) {
+				statement(statement);
+			} else {
+				emit(Opcode.EXECUTE, constant(child));
+			}
+		}
+	}
+
+	private void statement(Statement node) {
+		switch (node) {
+			case final ExpressionStatement expressionStatement -> expression(expressionStatement.expression());
+			case final EmptyStatement ignored -> emit(Opcode.LOAD_UNDEFINED);
+			case final VariableDeclaration variableDeclaration -> {
+				for (final VariableDeclarator declarator : variableDeclaration.declarations()) declarator(declarator);
+				emit(Opcode.LOAD_UNDEFINED);
+			}
+
+			case final FunctionDeclaration functionDeclaration -> {
+				emit(Opcode.NEW_FUNCTION, constant(functionDeclaration));
+				emit(Opcode.DECLARE, constant(functionDeclaration.name()));
+				emit(Opcode.LOAD_UNDEFINED);
+			}
+
+			case final BlockStatement blockStatement -> {
+				pushScope();
+				statementList(blockStatement.children());
+				popScope();
+			}
+
+			case final IfStatement ifStatement -> {
+				expression(ifStatement.condition());
+				final int jumpToElse = emitJump(Opcode.JUMP_IF_FALSE);
+				statement(ifStatement.consequence());
+				final int jumpToEnd = emitJump(Opcode.JUMP);
+				patch(jumpToElse);
+				if (ifStatement.elseStatement() == null) {
+					emit(Opcode.LOAD_UNDEFINED);
+				} else {
+					statement(ifStatement.elseStatement());
+				}
+
+				patch(jumpToEnd);
+			}
+
+			case final WhileStatement whileStatement -> {
+				final int start = length;
+				final Breakable loop = enterBreakable(true);
+				expression(whileStatement.condition());
+				loop.breakJumps.add(emitJump(Opcode.JUMP_IF_FALSE));
+				statement(whileStatement.body());
+				emit(Opcode.JUMP, start);
+				exitBreakable(loop, start);
+				emit(Opcode.LOAD_UNDEFINED);
+			}
+
+			case final DoWhileStatement doWhileStatement -> {
+				final int start = length;
+				final Breakable loop = enterBreakable(true);
+				statement(doWhileStatement.body());
+				final int condition = length;
+				expression(doWhileStatement.condition());
+				emit(Opcode.JUMP_IF_TRUE, start);
+				exitBreakable(loop, condition);
+				emit(Opcode.LOAD_UNDEFINED);
+			}
+
+			case final ForStatement forStatement -> {
+				pushScope();
+				if (forStatement.init() != null) statement(forStatement.init());
+				final int start = length;
+				final Breakable loop = enterBreakable(true);
+				if (forStatement.test() != null) {
+					expression(forStatement.test());
+					loop.breakJumps.add(emitJump(Opcode.JUMP_IF_FALSE));
+				}
+
+				statement(forStatement.body());
+				final int update = length;
+				if (forStatement.update() != null) expression(forStatement.update());
+				emit(Opcode.JUMP, start);
+				exitBreakable(loop, update);
+				popScope();
+				emit(Opcode.LOAD_UNDEFINED);
+			}
+
+			case final ForOfStatement forOfStatement -> forEach(forOfStatement.left(), forOfStatement.right(), forOfStatement.body(), true);
+			case final ForInStatement forInStatement -> forEach(forInStatement.left(), forInStatement.right(), forInStatement.body(), false);
+			case final SwitchStatement switchStatement -> switchStatement(switchStatement);
+			case final TryStatement tryStatement -> tryStatement(tryStatement);
+			case final ThrowStatement throwStatement -> {
+				expression(throwStatement.value());
+				emit(Opcode.THROW);
+			}
+
+			case final BreakStatement breakStatement -> jump(breakStatement, false);
+			case final ContinueStatement continueStatement -> jump(continueStatement, true);
+			case final ReturnStatement returnStatement when isFunctionBody -> {
+				if (returnStatement.value() == null) {
+					emit(Opcode.LOAD_UNDEFINED);
+				} else {
+					expression(returnStatement.value());
+				}
+
+				if (!insideFinally()) {
+					emit(Opcode.RETURN);
+					return;
+				}
+
+				// The value is kept in a register while the `finally` blocks run
+				final int register = allocateRegisters(1);
+				emit(Opcode.STORE, register);
+				final List<Protected> left = leaveFrames(null);
+				emit(Opcode.LOAD, register);
+				emit(Opcode.RETURN);
+				reopen(left);
+				nextRegister--;
+			}
+
+			default -> emit(Opcode.EXECUTE, constant(node));
+		}
+	}
+
+	/**
+	 * Compiles a for-of loop, or a for-in loop if `isForOf` is false. Each iteration binds `left` in a new environment.
+	 */
+	private void forEach(Assignable left, Expression right, Statement body, boolean isForOf) {
+		final int slot = allocateSlot();
+		final int lastValue = allocateRegisters(1);
+		expression(right);
+		if (isForOf) {
+			emit(Opcode.GET_ITERATOR, slot, constant(right));
+		} else {
+			emit(Opcode.ENUMERATE, slot);
+		}
+
+		emit(Opcode.LOAD_UNDEFINED);
+		emit(Opcode.STORE, lastValue);
+		final int start = length;
+		final Breakable loop = enterBreakable(true);
+		emit(isForOf ? Opcode.ITERATOR_STEP : Opcode.ENUMERATE_STEP, slot, -1);
+		loop.breakJumps.add(length - 1);
+		pushScope();
+		if (left instanceof final ForBinding forBinding) {
+			pattern(forBinding.assignmentTarget(), true);
+		} else {
+			pattern((AssignmentTarget) left, false);
+		}
+
+		statement(body);
+		emit(Opcode.STORE, lastValue);
+		popScope();
+		emit(Opcode.JUMP, start);
+		exitBreakable(loop, start);
+		emit(Opcode.LOAD, lastValue);
+		nextRegister--;
+		nextSlot--;
+	}
+
+	/**
+	 * Compiles the tests of the cases, which jump to the bodies of the cases. The bodies follow, so they fall through.
+	 */
+	private void switchStatement(SwitchStatement node) {
+		final int discriminant = allocateRegisters(2);
+		final int lastValue = discriminant + 1;
+		expression(node.discriminant());
+		emit(Opcode.STORE, discriminant);
+		emit(Opcode.LOAD_UNDEFINED);
+		emit(Opcode.STORE, lastValue);
+
+		final SwitchCase[] cases = node.cases();
+		final int[] caseJumps = new int[cases.length];
+		for (int i = 0; i < cases.length; i++) {
+			if (cases[i].test() == null) continue;
+			expression(cases[i].test());
+			emit(Opcode.EQUALITY, constant(EqualityExpression.EqualityOp.StrictEquals), discriminant);
+			caseJumps[i] = emitJump(Opcode.JUMP_IF_TRUE);
+		}
+
+		// Without a matching case, jump to the default case, or past the end
+		final int defaultJump = emitJump(Opcode.JUMP);
+		boolean hasDefault = false;
+		final Breakable breakable = enterBreakable(false);
+		for (int i = 0; i < cases.length; i++) {
+			if (cases[i].test() == null) {
+				patch(defaultJump);
+				hasDefault = true;
+			} else {
+				patch(caseJumps[i]);
+			}
+
+			emit(Opcode.LOAD_UNDEFINED);
+			for (final Statement statement : cases[i].statements()) statement(statement);
+			emit(Opcode.STORE, lastValue);
+		}
+
+		if (!hasDefault) breakable.breakJumps.add(defaultJump);
+		exitBreakable(breakable, -1);
+		emit(Opcode.LOAD, lastValue);
+		nextRegister -= 2;
+	}
+
+	/**
+	 * The `try` block is protected by a `catch` handler, which jumps to the `catch` block. The `try` and `catch` blocks
+	 * are both protected by a `finally` handler, which stores the exception, runs a copy of the `finally` block
+	 * and rethrows it. Leaving normally runs another copy of the `finally` block.
+	 */
+	private void tryStatement(TryStatement node) {
+		final Protected finallyRegion = node.finallyBody() == null ? null : enterProtected(node.finallyBody());
+		final Protected catchRegion = node.catchBody() == null ? null : enterProtected(null);
+		statement(node.body());
+
+		if (catchRegion != null) {
+			exitProtected(catchRegion);
+			final int jumpOverCatch = emitJump(Opcode.JUMP);
+			addHandlers(catchRegion, -1);
+			// The thrown value is in acc. The parameter is declared in the same environment as the block's declarations.
+			pushScope();
+			if (node.catchParameter() != null) emit(Opcode.DECLARE, constant(node.catchParameter()));
+			statementList(node.catchBody().children());
+			popScope();
+			patch(jumpOverCatch);
+		}
+
+		if (finallyRegion != null) {
+			exitProtected(finallyRegion);
+			// The value of the try statement is the value of the `try` or `catch` block, not the `finally` block
+			final int result = allocateRegisters(1);
+			emit(Opcode.STORE, result);
+			statement(node.finallyBody());
+			emit(Opcode.LOAD, result);
+			nextRegister--;
+			final int jumpToEnd = emitJump(Opcode.JUMP);
+
+			final int slot = allocateSlot();
+			addHandlers(finallyRegion, slot);
+			statement(node.finallyBody());
+			emit(Opcode.RETHROW, slot);
+			nextSlot--;
+			patch(jumpToEnd);
+		}
+	}
+
+	/**
+	 * Compiles a `break` statement, or a `continue` statement if `isContinue` is true
+	 */
+	private void jump(Statement node, boolean isContinue) {
+		final Breakable target = findBreakable(isContinue);
+		if (target == null) {
+			// Outside any loop, the completion propagates as it does on the tree-walker
+			emit(Opcode.EXECUTE, constant(node));
+			return;
+		}
+
+		final List<Protected> left = leaveFrames(target);
+		(isContinue ? target.continueJumps : target.breakJumps).add(emitJump(Opcode.JUMP));
+		reopen(left);
+	}
+
+	/**
+	 * Emits the code which leaves the frames inside `target`, or every frame if `target` is null, before a jump or a
+	 * return. The environments entered inside `target` are left, and copies of the `finally` blocks are run.
+	 * The caller must emit the jump, then {@link #reopen(List)} the returned regions.
+	 *
+	 * @return The protected regions left, which are closed so that they do not protect the copied `finally` blocks
+	 */
+	private List<Protected> leaveFrames(Frame target) {
+		final ArrayList<Protected> left = new ArrayList<>();
+		int depth = scopeDepth;
+		for (int i = frames.size() - 1; i >= 0 && frames.get(i) != target; i--) {
+			if (!(frames.get(i) instanceof final Protected region)) continue;
+			depth = popScopes(depth, region.scopeDepth);
+			region.close(length);
+			left.add(region);
+			if (region.finallyBody != null) copyFinally(i, region);
+		}
+
+		// RETURN leaves every environment itself
+		if (target != null) popScopes(depth, target.scopeDepth);
+		return left;
+	}
+
+	/**
+	 * Compiles a copy of the `finally` block of frames[index], which runs outside the frames it encloses
+	 */
+	private void copyFinally(int index, Protected region) {
+		final List<Frame> enclosed = frames.subList(index, frames.size());
+		final ArrayList<Frame> saved = new ArrayList<>(enclosed);
+		enclosed.clear();
+		final int savedScopeDepth = scopeDepth;
+		scopeDepth = region.scopeDepth;
+		statement(region.finallyBody);
+		scopeDepth = savedScopeDepth;
+		frames.addAll(saved);
+	}
+
+	private void reopen(List<Protected> regions) {
+		for (final Protected region : regions) region.open(length);
+	}
+
+	private boolean insideFinally() {
+		for (final Frame frame : frames) {
+			if (frame instanceof final Protected region && region.finallyBody != null) return true;
+		}
+
+		return false;
+	}
+
+	private void parameters(FunctionParameters parameters) {
+		if (parameters.rest() != null) {
+			// Lists with a rest parameter are declared by the tree-walker
+			emit(Opcode.DECLARE_ARGUMENTS, constant(parameters));
+			return;
+		}
+
+		for (int i = 0; i < parameters.formalParameters().size(); i++) {
+			final AssignmentPattern parameter = parameters.formalParameters().get(i);
+			if (parameter.defaultExpression() == null && parameter.assignmentTarget() instanceof IdentifierExpression) {
+				emit(Opcode.DECLARE_ARGUMENT, constant(parameter.assignmentTarget()), i);
+			} else {
+				emit(Opcode.LOAD_ARGUMENT, i);
+				patternElement(parameter, true);
+			}
+		}
+	}
+
+	private void declarator(VariableDeclarator declarator) {
+		if (declarator.init() == null) {
+			emit(Opcode.LOAD_UNDEFINED);
+		} else {
+			namedEvaluation(declarator.init(), declarator.target());
+		}
+
+		pattern(declarator.target(), true);
+	}
+
+	/**
+	 * Binds the value in acc to `target`, declaring it if `declare` is true and assigning to it otherwise
+	 */
+	private void pattern(AssignmentTarget target, boolean declare) {
+		switch (target) {
+			case final ArrayDestructuring arrayDestructuring -> arrayPattern(arrayDestructuring, declare);
+			case final ObjectDestructuring objectDestructuring -> objectPattern(objectDestructuring, declare);
+			default -> emit(declare ? Opcode.DECLARE : Opcode.ASSIGN, constant(target));
+		}
+	}
+
+	/**
+	 * As {@link #pattern(AssignmentTarget, boolean)}, using the default if the value is undefined
+	 */
+	private void patternElement(AssignmentPattern element, boolean declare) {
+		final AssignmentTarget target = element.assignmentTarget();
+		if (element.defaultExpression() == null) {
+			pattern(target, declare);
+		} else if (target instanceof MemberExpression) {
+			// The reference is evaluated before the default
+			emit(Opcode.ASSIGN_PATTERN, constant(element));
+		} else {
+			final int jumpOverDefault = emitJump(Opcode.JUMP_IF_NOT_UNDEFINED);
+			namedEvaluation(element.defaultExpression(), target);
+			patch(jumpOverDefault);
+			pattern(target, declare);
+		}
+	}
+
+	private void arrayPattern(ArrayDestructuring destructuring, boolean declare) {
+		final int slot = allocateSlot();
+		emit(Opcode.GET_ITERATOR, slot, constant(null));
+		for (final AssignmentPattern child : destructuring.children()) {
+			// Holes still step the iterator
+			emit(Opcode.ITERATOR_NEXT, slot);
+			if (child != null) patternElement(child, declare);
+		}
+
+		if (destructuring.restTarget() != null) {
+			emit(Opcode.ITERATOR_REST, slot);
+			pattern(destructuring.restTarget(), declare);
+		}
+
+		nextSlot--;
+	}
+
+	/**
+	 * The object is kept in a register. With a rest property, the keys are kept in the registers after it.
+	 */
+	private void objectPattern(ObjectDestructuring destructuring, boolean declare) {
+		final boolean hasRest = destructuring.restName() != null;
+		final int object = allocateRegisters(1 + (hasRest ? destructuring.pairs().size() : 0));
+		emit(Opcode.TO_OBJECT);
+		emit(Opcode.STORE, object);
+
+		int key = object + 1;
+		for (final var entry : destructuring.pairs().entrySet()) {
+			expression(entry.getKey());
+			if (hasRest) {
+				emit(Opcode.TO_PROPERTY_KEY);
+				emit(Opcode.STORE, key++);
+			}
+
+			emit(Opcode.GET_PROPERTY, object);
+			patternElement(entry.getValue(), declare);
+		}
+
+		if (hasRest) {
+			emit(Opcode.COPY_REST, object, destructuring.pairs().size());
+			pattern(destructuring.restName(), declare);
+		}
+
+		nextRegister = object;
+	}
+
+	/**
+	 * Evaluates `expression`, naming it after `target` if it is an anonymous function definition (NamedEvaluation)
+	 */
+	private void namedEvaluation(Expression expression, AssignmentTarget target) {
+		if (!(target instanceof final IdentifierExpression identifier) || !Executable.isAnonymousFunctionDefinition(expression)) {
+			expression(expression);
+			return;
+		}
+
+		final int name = allocateRegisters(1);
+		emit(Opcode.STORE_CONSTANT, name, constant(identifier.name()));
+		expression(expression);
+		emit(Opcode.SET_FUNCTION_NAME, name);
+		nextRegister--;
+	}
+
+	private void expression(Expression node) {
+		switch (node) {
+			case final PrimitiveLiteral<?> literal -> emit(Opcode.LOAD_CONSTANT, constant(literal.value()));
+			case final IdentifierExpression identifier -> emit(Opcode.LOAD_BINDING, constant(identifier));
+			case final ThisKeyword ignored -> emit(Opcode.LOAD_THIS);
+			case final UpdateExpression update -> emit(Opcode.UPDATE, constant(update));
+			case final ParenthesizedExpression parenthesized -> expression(parenthesized.expression());
+			case final SequenceExpression sequence -> {
+				expression(sequence.left());
+				expression(sequence.right());
+			}
+
+			case final BinaryExpression binary -> operation(Opcode.BINARY, Opcode.BINARY_CONSTANT, binary.op(), binary.left(), binary.right());
+			case final RelationalExpression relational -> operation(Opcode.RELATIONAL, Opcode.RELATIONAL_CONSTANT, relational.op(), relational.left(), relational.right());
+			case final EqualityExpression equality -> operation(Opcode.EQUALITY, Opcode.EQUALITY_CONSTANT, equality.op(), equality.left(), equality.right());
+
+			case final LogicalExpression logical -> {
+				expression(logical.left());
+				final int jumpToEnd = emitJump(switch (logical.op()) {
+					case And -> Opcode.JUMP_IF_FALSE;
+					case Or -> Opcode.JUMP_IF_TRUE;
+					case Coalesce -> Opcode.JUMP_IF_NOT_NULLISH;
+				});
+
+				expression(logical.right());
+				patch(jumpToEnd);
+			}
+
+			case final ConditionalExpression conditional -> {
+				expression(conditional.test());
+				final int jumpToElse = emitJump(Opcode.JUMP_IF_FALSE);
+				expression(conditional.left());
+				final int jumpToEnd = emitJump(Opcode.JUMP);
+				patch(jumpToElse);
+				expression(conditional.right());
+				patch(jumpToEnd);
+			}
+
+			case final MemberExpression member -> operation(Opcode.GET_MEMBER, Opcode.GET_MEMBER_CONSTANT, member, member.base(), member.property());
+
+			case final AssignmentExpression assignment when isCompilableAssignment(assignment) -> assignment(assignment);
+			case final CallExpression call -> call(call);
+			case final NewExpression newExpression -> newExpression(newExpression);
+
+			case final FunctionExpression functionExpression -> emit(Opcode.NEW_FUNCTION, constant(functionExpression));
+			case final ArrowFunctionExpression arrowFunction -> emit(Opcode.NEW_FUNCTION, constant(arrowFunction));
+			case final ClassExpression classExpression -> {
+				if (classExpression.heritage() != null) expression(classExpression.heritage());
+				emit(Opcode.NEW_CLASS, constant(classExpression));
+			}
+
+			case final ObjectExpression objectExpression -> objectLiteral(objectExpression);
+			case final ArrayExpression arrayExpression -> {
+				final int slot = allocateSlot();
+				emit(Opcode.NEW_LIST, slot);
+				list(arrayExpression.expressionList(), slot);
+				emit(Opcode.NEW_ARRAY, slot);
+				nextSlot--;
+			}
+
+			default -> emit(Opcode.EXECUTE, constant(node));
+		}
+	}
+
+	private static boolean isCompilableAssignment(AssignmentExpression assignment) {
+		return switch (assignment.op()) {
+			// Short-circuiting assignments may not evaluate their right-hand side
+			case LogicalAndAssign, LogicalOrAssign, NullishCoalesceAssign -> false;
+			// Members evaluate their reference before the right-hand side
+			default -> !(assignment.left() instanceof MemberExpression);
+		};
+	}
+
+	private void assignment(AssignmentExpression assignment) {
+		if (!(assignment.left() instanceof final IdentifierExpression identifier)) {
+			// Destructuring assignments evaluate to the right-hand side
+			final int register = allocateRegisters(1);
+			expression(assignment.right());
+			emit(Opcode.STORE, register);
+			pattern(assignment.left(), false);
+			emit(Opcode.LOAD, register);
+			nextRegister--;
+			return;
+		}
+
+		final BinaryExpression.BinaryOp op = switch (assignment.op()) {
+			case Assign -> null;
+			case MultiplyAssign -> BinaryExpression.BinaryOp.Multiply;
+			case DivideAssign -> BinaryExpression.BinaryOp.Divide;
+			case RemainderAssign -> BinaryExpression.BinaryOp.Remainder;
+			case PlusAssign -> BinaryExpression.BinaryOp.Add;
+			case MinusAssign -> BinaryExpression.BinaryOp.Subtract;
+			case LeftShiftAssign -> BinaryExpression.BinaryOp.LeftShift;
+			case RightShiftAssign -> BinaryExpression.BinaryOp.SignedRightShift;
+			case UnsignedRightShiftAssign -> BinaryExpression.BinaryOp.UnsignedRightShift;
+			case BitwiseAndAssign -> BinaryExpression.BinaryOp.BitwiseAND;
+			case BitwiseExclusiveOrAssign -> BinaryExpression.BinaryOp.BitwiseXOR;
+			case BitwiseOrAssign -> BinaryExpression.BinaryOp.BitwiseOR;
+			case ExponentAssign -> BinaryExpression.BinaryOp.Exponentiate;
+			case LogicalAndAssign, LogicalOrAssign, NullishCoalesceAssign ->
+				throw new ShouldNotHappen("Short-circuiting assignments are not compiled");
+		};
+
+		if (op == null) {
+			namedEvaluation(assignment.right(), identifier);
+		} else {
+			operation(Opcode.BINARY, Opcode.BINARY_CONSTANT, op, identifier, assignment.right());
+		}
+
+		emit(Opcode.ASSIGN, constant(identifier));
+	}
+
+	/**
+	 * Evaluates the `this` value, callee and arguments into consecutive registers, then calls the callee.
+	 * With spread arguments, the arguments are collected into a list instead.
+	 */
+	private void call(CallExpression call) {
+		final boolean hasSpread = call.arguments().hasSpread();
+		final List<Expression> arguments = call.arguments().expressions();
+		final int first = allocateRegisters(hasSpread ? 2 : 2 + arguments.size());
+
+		final boolean isMethod = call.callee() instanceof MemberExpression;
+		if (call.callee() instanceof final MemberExpression member) {
+			expressionTo(member.base(), first);
+			expression(member.property());
+			emit(Opcode.GET_METHOD, constant(member), first);
+			emit(Opcode.STORE, first + 1);
+		} else {
+			expressionTo(call.callee(), first + 1);
+		}
+
+		if (hasSpread) {
+			final int slot = allocateSlot();
+			emit(Opcode.NEW_LIST, slot);
+			list(call.arguments(), slot);
+			emit(isMethod ? Opcode.CALL_METHOD_SPREAD : Opcode.CALL_SPREAD, constant(call), first, slot);
+			nextSlot--;
+		} else {
+			for (int i = 0; i < arguments.size(); i++) {
+				expressionTo(arguments.get(i), first + 2 + i);
+			}
+
+			emit(isMethod ? Opcode.CALL_METHOD : Opcode.CALL, constant(call), first, arguments.size());
+		}
+
+		nextRegister = first;
+	}
+
+	/**
+	 * As {@link #call(CallExpression)}, with the constructor in the first register
+	 */
+	private void newExpression(NewExpression node) {
+		final ExpressionList arguments = node.arguments();
+		final boolean hasSpread = arguments != null && arguments.hasSpread();
+		final List<Expression> expressions = arguments == null ? List.of() : arguments.expressions();
+		final int first = allocateRegisters(hasSpread ? 1 : 1 + expressions.size());
+		expressionTo(node.constructExpr(), first);
+
+		if (hasSpread) {
+			final int slot = allocateSlot();
+			emit(Opcode.NEW_LIST, slot);
+			list(arguments, slot);
+			emit(Opcode.NEW_SPREAD, constant(node), first, slot);
+			nextSlot--;
+		} else {
+			for (int i = 0; i < expressions.size(); i++) {
+				expressionTo(expressions.get(i), first + 1 + i);
+			}
+
+			emit(Opcode.NEW, constant(node), first, expressions.size());
+		}
+
+		nextRegister = first;
+	}
+
+	/**
+	 * Appends the values of `list` to the list in `slot`
+	 */
+	private void list(ExpressionList list, int slot) {
+		for (final ExpressionNode node : list.backingList()) {
+			switch (node.type()) {
+				case SINGLE -> {
+					expression(node.expression());
+					emit(Opcode.APPEND, slot);
+				}
+
+				case EMPTY -> emit(Opcode.APPEND_HOLE, slot);
+				case SPREAD -> {
+					expression(node.expression());
+					emit(Opcode.SPREAD, slot, constant(node.expression()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * The object is kept in a register, and the key of each property in the register after it
+	 */
+	private void objectLiteral(ObjectExpression node) {
+		final int object = allocateRegisters(2);
+		final int key = object + 1;
+		emit(Opcode.NEW_OBJECT);
+		emit(Opcode.STORE, object);
+
+		for (final ObjectEntryNode entry : node.entries) {
+			switch (entry) {
+				case final EntryNode entryNode -> {
+					expression(entryNode.key());
+					emit(Opcode.TO_PROPERTY_KEY);
+					emit(Opcode.STORE, key);
+					expression(entryNode.value());
+					// NamedEvaluation gives the function its name
+					if (Executable.isAnonymousFunctionDefinition(entryNode.value())) emit(Opcode.SET_FUNCTION_NAME, key);
+					emit(Opcode.DEFINE_PROPERTY, object, key);
+				}
+
+				case final ShorthandNode shorthandNode -> {
+					emit(Opcode.STORE_CONSTANT, key, constant(shorthandNode.identifier().name()));
+					expression(shorthandNode.identifier());
+					emit(Opcode.DEFINE_PROPERTY, object, key);
+				}
+
+				case final SpreadNode spreadNode -> {
+					expression(spreadNode.name());
+					emit(Opcode.COPY_DATA_PROPERTIES, object);
+				}
+
+				default -> emit(Opcode.DEFINE_METHOD, constant(entry), object);
+			}
+		}
+
+		emit(Opcode.LOAD, object);
+		nextRegister -= 2;
+	}
+
+	/**
+	 * Emits an instruction taking `operator` as a constant and two operands. When `right` is a literal it is
+	 * also passed as a constant to `constantOpcode`, with `left` in the accumulator, which saves loading and
+	 * storing it. Otherwise `opcode` is emitted, with `left` in a register and `right` in the accumulator.
+	 */
+	private void operation(int opcode, int constantOpcode, Object operator, Expression left, Expression right) {
+		if (right instanceof final PrimitiveLiteral<?> literal) {
+			expression(left);
+			emit(constantOpcode, constant(operator), constant(literal.value()));
+		} else {
+			final int register = operands(left, right);
+			emit(opcode, constant(operator), register);
+		}
+	}
+
+	/**
+	 * Evaluates `left` into a temporary register, then `right` into the accumulator
+	 *
+	 * @return The register holding the value of `left`. It is free to reuse once the caller has emitted its instruction.
+	 */
+	private int operands(Expression left, Expression right) {
+		final int register = allocateRegisters(1);
+		expressionTo(left, register);
+		expression(right);
+		nextRegister--;
+		return register;
+	}
+
+	/**
+	 * Evaluates `node` into `register`. Literals and identifiers are loaded into the register directly.
+	 */
+	private void expressionTo(Expression node, int register) {
+		switch (node) {
+			case final PrimitiveLiteral<?> literal -> emit(Opcode.STORE_CONSTANT, register, constant(literal.value()));
+			case final IdentifierExpression identifier -> emit(Opcode.STORE_BINDING, register, constant(identifier));
+			default -> {
+				expression(node);
+				emit(Opcode.STORE, register);
+			}
+		}
+	}
+
+	/**
+	 * @return The first of `count` consecutive registers, which the caller frees by decrementing `nextRegister`
+	 */
+	private int allocateRegisters(int count) {
+		final int first = nextRegister;
+		nextRegister += count;
+		registerCount = Math.max(registerCount, nextRegister);
+		return first;
+	}
+
+	/**
+	 * @return A slot, which the caller frees by decrementing `nextSlot`
+	 */
+	private int allocateSlot() {
+		final int slot = nextSlot++;
+		slotCount = Math.max(slotCount, nextSlot);
+		return slot;
+	}
+
+	private void pushScope() {
+		emit(Opcode.PUSH_SCOPE);
+		scopeDepth++;
+		maxScopeDepth = Math.max(maxScopeDepth, scopeDepth);
+	}
+
+	private void popScope() {
+		emit(Opcode.POP_SCOPE);
+		scopeDepth--;
+	}
+
+	/**
+	 * Emits the instructions which leave the environments entered between depths `to` and `from`
+	 *
+	 * @return `to`
+	 */
+	private int popScopes(int from, int to) {
+		for (int i = from; i > to; i--) emit(Opcode.POP_SCOPE);
+		return to;
+	}
+
+	private Breakable enterBreakable(boolean isLoop) {
+		final Breakable breakable = new Breakable(scopeDepth, isLoop);
+		frames.add(breakable);
+		return breakable;
+	}
+
+	private void exitBreakable(Breakable breakable, int continueTarget) {
+		if (frames.removeLast() != breakable) throw new ShouldNotHappen("Loops and switch statements exited out of order");
+		final int end = length;
+		for (final int jump : breakable.breakJumps) code[jump] = end;
+		for (final int jump : breakable.continueJumps) code[jump] = continueTarget;
+	}
+
+	/**
+	 * @return The innermost loop, or the innermost loop or switch statement if `isContinue` is false, or null
+	 */
+	private Breakable findBreakable(boolean isContinue) {
+		for (int i = frames.size() - 1; i >= 0; i--) {
+			if (frames.get(i) instanceof final Breakable breakable && (breakable.isLoop || !isContinue)) return breakable;
+		}
+
+		return null;
+	}
+
+	private Protected enterProtected(BlockStatement finallyBody) {
+		final Protected region = new Protected(scopeDepth, finallyBody);
+		region.open(length);
+		frames.add(region);
+		return region;
+	}
+
+	private void exitProtected(Protected region) {
+		if (frames.removeLast() != region) throw new ShouldNotHappen("Try statements exited out of order");
+		region.close(length);
+	}
+
+	/**
+	 * Adds handlers for the ranges of `region`, which continue execution at the current position
+	 *
+	 * @param slot The slot a `finally` handler stores the exception in, or -1 for a `catch` handler
+	 */
+	private void addHandlers(Protected region, int slot) {
+		for (final int[] range : region.ranges) {
+			handlers.add(new Chunk.Handler(range[0], range[1], length, region.scopeDepth, slot));
+		}
+	}
+
+	private int constant(Object value) {
+		final Integer existing = constantIndices.get(value);
+		if (existing != null) return existing;
+		final int index = constants.size();
+		constants.add(value);
+		constantIndices.put(value, index);
+		return index;
+	}
+
+	/**
+	 * @return The position of the jump target operand, to be filled in by {@link #patch(int)}
+	 */
+	private int emitJump(int opcode) {
+		emit(opcode, -1);
+		return length - 1;
+	}
+
+	private void patch(int jump) {
+		code[jump] = length;
+	}
+
+	private void emit(int opcode, int... operands) {
+		if (length + 1 + operands.length > code.length) code = Arrays.copyOf(code, code.length * 2);
+		code[length++] = opcode;
+		for (final int operand : operands) code[length++] = operand;
+	}
+
+	/**
+	 * A statement enclosing the code being compiled, which `break`, `continue` and `return` statements may leave
+	 */
+	private abstract static class Frame {
+		// The number of environments entered where the statement begins
+		protected final int scopeDepth;
+
+		private Frame(int scopeDepth) {
+			this.scopeDepth = scopeDepth;
+		}
+	}
+
+	private static final class Breakable extends Frame {
+		private final boolean isLoop;
+		private final ArrayList<Integer> breakJumps = new ArrayList<>();
+		private final ArrayList<Integer> continueJumps = new ArrayList<>();
+
+		private Breakable(int scopeDepth, boolean isLoop) {
+			super(scopeDepth);
+			this.isLoop = isLoop;
+		}
+	}
+
+	/**
+	 * The code protected by a `catch` or `finally` block, which may be split into several ranges
+	 */
+	private static final class Protected extends Frame {
+		// The `finally` block, or null if this is protected by a `catch` block
+		private final BlockStatement finallyBody;
+		private final ArrayList<int[]> ranges = new ArrayList<>();
+		private int rangeStart = -1;
+
+		private Protected(int scopeDepth, BlockStatement finallyBody) {
+			super(scopeDepth);
+			this.finallyBody = finallyBody;
+		}
+
+		private void open(int position) {
+			rangeStart = position;
+		}
+
+		private void close(int position) {
+			if (rangeStart != -1 && rangeStart < position) ranges.add(new int[] { rangeStart, position });
+			rangeStart = -1;
+		}
+	}
+}
@@ -0,0 +1,262 @@
+package xyz.lebster.core.bytecode;
+
+/**
+ * The instructions of the bytecode VM. Each instruction is encoded as its opcode, followed by its operands.
+ * Instructions operate on the accumulator (`acc`), a set of registers, and the constant pool of the {@link Chunk}.
+ * Iterators, lists being built and pending exceptions, which are not values, are kept in a separate set of slots.
+ * Opcodes are plain ints rather than an enum, so that the dispatch loop compiles to a single table switch.
+ */
+final class Opcode {
+	/**
+	 * acc = constants[index]
+	 */
+	static final int LOAD_CONSTANT = 0;
+	/**
+	 * acc = undefined
+	 */
+	static final int LOAD_UNDEFINED = 1;
+	/**
+	 * registers[register] = acc
+	 */
+	static final int STORE = 2;
+	/**
+	 * acc = (IdentifierExpression) constants[index], evaluated
+	 */
+	static final int LOAD_BINDING = 3;
+	/**
+	 * (LeftHandSideExpression) constants[index] = acc
+	 */
+	static final int ASSIGN = 4;
+	/**
+	 * Declares (IdentifierExpression) constants[index], initialised to acc
+	 */
+	static final int DECLARE = 5;
+	/**
+	 * acc = ((MemberExpression) constants[index]).evaluate(registers[register], acc)
+	 */
+	static final int GET_MEMBER = 6;
+	/**
+	 * acc = registers[register] (BinaryOp) constants[index] acc
+	 */
+	static final int BINARY = 7;
+	/**
+	 * acc = registers[register] (RelationalOp) constants[index] acc
+	 */
+	static final int RELATIONAL = 8;
+	/**
+	 * acc = registers[register] (EqualityOp) constants[index] acc
+	 */
+	static final int EQUALITY = 9;
+	static final int JUMP = 10;
+	static final int JUMP_IF_FALSE = 11;
+	static final int JUMP_IF_TRUE = 12;
+	static final int JUMP_IF_NOT_NULLISH = 13;
+	/**
+	 * Enters a new declarative environment
+	 */
+	static final int PUSH_SCOPE = 14;
+	/**
+	 * Leaves the environment entered by the matching {@link #PUSH_SCOPE}
+	 */
+	static final int POP_SCOPE = 15;
+	/**
+	 * Returns acc from the function body or script
+	 */
+	static final int RETURN = 16;
+	/**
+	 * acc = (ASTNode) constants[index], executed by the tree-walking interpreter.
+	 * This is how nodes without a bytecode equivalent are executed.
+	 */
+	static final int EXECUTE = 17;
+	/**
+	 * Declares (IdentifierExpression) constants[index], initialised to arguments[argument], or undefined if fewer arguments
+	 * were passed
+	 */
+	static final int DECLARE_ARGUMENT = 18;
+	/**
+	 * Declares (FunctionParameters) constants[index], initialised to the arguments.
+	 * This is how parameter lists with defaults, patterns or a rest parameter are declared.
+	 */
+	static final int DECLARE_ARGUMENTS = 19;
+	/**
+	 * Evaluates the callee of a method call, given the base in registers[register] and the property in acc:
+	 * registers[register] = the base converted to an object (the `this` value), acc = the function
+	 */
+	static final int GET_METHOD = 20;
+	/**
+	 * acc = registers[register + 1](...registers[register + 2, register + 2 + count]), with the global object
+	 * as `this`. The call site is (CallExpression) constants[index].
+	 */
+	static final int CALL = 21;
+	/**
+	 * As {@link #CALL}, but with registers[register] as `this`
+	 */
+	static final int CALL_METHOD = 22;
+	/**
+	 * acc = acc (BinaryOp) constants[index] (Value) constants[value]
+	 */
+	static final int BINARY_CONSTANT = 23;
+	/**
+	 * acc = acc (RelationalOp) constants[index] (Value) constants[value]
+	 */
+	static final int RELATIONAL_CONSTANT = 24;
+	/**
+	 * acc = acc (EqualityOp) constants[index] (Value) constants[value]
+	 */
+	static final int EQUALITY_CONSTANT = 25;
+	/**
+	 * acc = ((MemberExpression) constants[index]).evaluate(acc, (Value) constants[value])
+	 */
+	static final int GET_MEMBER_CONSTANT = 26;
+	/**
+	 * registers[register] = constants[index]
+	 */
+	static final int STORE_CONSTANT = 27;
+	/**
+	 * registers[register] = (IdentifierExpression) constants[index], evaluated
+	 */
+	static final int STORE_BINDING = 28;
+	/**
+	 * acc = the `this` value
+	 */
+	static final int LOAD_THIS = 29;
+	/**
+	 * acc = (UpdateExpression) constants[index], evaluated
+	 */
+	static final int UPDATE = 30;
+
+	/**
+	 * acc = registers[register]
+	 */
+	static final int LOAD = 31;
+	/**
+	 * Throws acc
+	 */
+	static final int THROW = 32;
+	/**
+	 * Rethrows the exception stored in slots[slot] by a `finally` handler
+	 */
+	static final int RETHROW = 33;
+	/**
+	 * slots[slot] = GetIterator(acc). Error messages refer to (Expression) constants[index], which may be null.
+	 */
+	static final int GET_ITERATOR = 34;
+	/**
+	 * acc = the next value of the iterator in slots[slot], or jumps to target if it is done
+	 */
+	static final int ITERATOR_STEP = 35;
+	/**
+	 * acc = the next value of the iterator in slots[slot], or undefined if it is done.
+	 * Once the iterator is done, slots[slot] is cleared so that it is not stepped again.
+	 */
+	static final int ITERATOR_NEXT = 36;
+	/**
+	 * acc = an array of the remaining values of the iterator in slots[slot]
+	 */
+	static final int ITERATOR_REST = 37;
+	/**
+	 * slots[slot] = the enumerable property keys of acc, for a for-in loop
+	 */
+	static final int ENUMERATE = 38;
+	/**
+	 * acc = the next key enumerated in slots[slot] which is still an enumerable own property, or jumps to target
+	 * if there are none left
+	 */
+	static final int ENUMERATE_STEP = 39;
+	static final int JUMP_IF_NOT_UNDEFINED = 40;
+	/**
+	 * acc = ToObject(acc)
+	 */
+	static final int TO_OBJECT = 41;
+	/**
+	 * acc = ToPropertyKey(acc)
+	 */
+	static final int TO_PROPERTY_KEY = 42;
+	/**
+	 * acc = ((ObjectValue) registers[register]).[[Get]](ToPropertyKey(acc))
+	 */
+	static final int GET_PROPERTY = 43;
+	/**
+	 * acc = a copy of the enumerable own properties of (ObjectValue) registers[register], except for the keys
+	 * in registers[register + 1, register + 1 + count]
+	 */
+	static final int COPY_REST = 44;
+	/**
+	 * Names the function in acc after the key in registers[register], if acc is a function (NamedEvaluation)
+	 */
+	static final int SET_FUNCTION_NAME = 45;
+	/**
+	 * acc = a new closure of the FunctionExpression, FunctionDeclaration or ArrowFunctionExpression in constants[index]
+	 */
+	static final int NEW_FUNCTION = 46;
+	/**
+	 * acc = the class defined by (ClassExpression) constants[index], with acc as the value of its `extends` clause
+	 */
+	static final int NEW_CLASS = 47;
+	/**
+	 * acc = a new ordinary object
+	 */
+	static final int NEW_OBJECT = 48;
+	/**
+	 * ((ObjectValue) registers[register]).[[key]] = acc, where the key is in registers[key]
+	 */
+	static final int DEFINE_PROPERTY = 49;
+	/**
+	 * Defines the method, getter or setter (ObjectEntryNode) constants[index] on (ObjectValue) registers[register]
+	 */
+	static final int DEFINE_METHOD = 50;
+	/**
+	 * Copies the enumerable own properties of acc to (ObjectValue) registers[register]
+	 */
+	static final int COPY_DATA_PROPERTIES = 51;
+	/**
+	 * slots[slot] = a new list of values, for building an array or a list of arguments
+	 */
+	static final int NEW_LIST = 52;
+	/**
+	 * Appends acc to the list in slots[slot]
+	 */
+	static final int APPEND = 53;
+	/**
+	 * Appends a hole to the list in slots[slot]
+	 */
+	static final int APPEND_HOLE = 54;
+	/**
+	 * Appends the values of the iterable acc to the list in slots[slot]. Error messages refer to
+	 * (Expression) constants[index].
+	 */
+	static final int SPREAD = 55;
+	/**
+	 * acc = a new array of the values in the list in slots[slot]
+	 */
+	static final int NEW_ARRAY = 56;
+	/**
+	 * As {@link #CALL}, but with the arguments in the list in slots[slot]
+	 */
+	static final int CALL_SPREAD = 57;
+	/**
+	 * As {@link #CALL_METHOD}, but with the arguments in the list in slots[slot]
+	 */
+	static final int CALL_METHOD_SPREAD = 58;
+	/**
+	 * acc = new registers[register](...registers[register + 1, register + 1 + count]).
+	 * The expression is (NewExpression) constants[index].
+	 */
+	static final int NEW = 59;
+	/**
+	 * As {@link #NEW}, but with the arguments in the list in slots[slot]
+	 */
+	static final int NEW_SPREAD = 60;
+	/**
+	 * Assigns acc to (AssignmentPattern) constants[index], on the tree-walking interpreter.
+	 * This is how member expressions with defaults are assigned, as their reference is evaluated before the default.
+	 */
+	static final int ASSIGN_PATTERN = 61;
+	/**
+	 * acc = arguments[argument], or undefined if fewer arguments were passed
+	 */
+	static final int LOAD_ARGUMENT = 62;
+
+	private Opcode() {
+	}
+}
@@ -0,0 +1,364 @@
+package xyz.lebster.core.bytecode;
+
+import xyz.lebster.core.exception.ShouldNotHappen;
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.interpreter.environment.ExecutionContext;
+import xyz.lebster.core.interpreter.PropertyReference;
+import xyz.lebster.core.node.ASTNode;
+import xyz.lebster.core.node.Declarable;
+import xyz.lebster.core.node.FunctionParameters;
+import xyz.lebster.core.node.declaration.AssignmentPattern;
+import xyz.lebster.core.node.declaration.FunctionDeclaration;
+import xyz.lebster.core.node.declaration.IdentifierExpression;
+import xyz.lebster.core.node.declaration.Kind;
+import xyz.lebster.core.node.declaration.ObjectDestructuring;
+import xyz.lebster.core.node.expression.ArrowFunctionExpression;
+import xyz.lebster.core.node.expression.BinaryExpression;
+import xyz.lebster.core.node.expression.BinaryExpression.BinaryOp;
+import xyz.lebster.core.node.expression.CallExpression;
+import xyz.lebster.core.node.expression.ClassExpression;
+import xyz.lebster.core.node.expression.EqualityExpression;
+import xyz.lebster.core.node.expression.EqualityExpression.EqualityOp;
+import xyz.lebster.core.node.expression.Expression;
+import xyz.lebster.core.node.expression.FunctionExpression;
+import xyz.lebster.core.node.expression.LeftHandSideExpression;
+import xyz.lebster.core.node.expression.MemberExpression;
+import xyz.lebster.core.node.expression.NewExpression;
+import xyz.lebster.core.node.expression.ObjectExpression.ObjectEntryNode;
+import xyz.lebster.core.node.expression.ObjectExpression.SpreadNode;
+import xyz.lebster.core.node.expression.RelationalExpression;
+import xyz.lebster.core.node.expression.RelationalExpression.RelationalOp;
+import xyz.lebster.core.node.expression.UpdateExpression;
+import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.array.ArrayObject;
+import xyz.lebster.core.value.function.Executable;
+import xyz.lebster.core.value.globals.Undefined;
+import xyz.lebster.core.value.iterator.IteratorRecord;
+import xyz.lebster.core.value.object.Key;
+import xyz.lebster.core.value.object.ObjectValue;
+import xyz.lebster.core.value.primitive.string.StringValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static xyz.lebster.core.interpreter.AbruptCompletion.error;
+import static xyz.lebster.core.value.iterator.IteratorPrototype.getIterator;
+
+/**
+ * The dispatch loop which runs a {@link Chunk}.
+ */
+final class VM {
+	private static final ExecutionContext[] NO_SCOPES = new ExecutionContext[0];
+	private static final Object[] NO_SLOTS = new Object[0];
+
+	private VM() {
+	}
+
+	/**
+	 * @param arguments The arguments passed to the function being run, or an empty array for scripts
+	 */
+	static Value<?> run(Interpreter interpreter, Chunk chunk, Value<?>[] arguments) throws AbruptCompletion {
+		final int[] code = chunk.code();
+		final Object[] constants = chunk.constants();
+		final Value<?>[] registers = new Value<?>[chunk.registerCount()];
+		final Object[] slots = chunk.slotCount() == 0 ? NO_SLOTS : new Object[chunk.slotCount()];
+		final ExecutionContext[] scopes = chunk.maxScopeDepth() == 0 ? NO_SCOPES : new ExecutionContext[chunk.maxScopeDepth()];
+		int scopeDepth = 0;
+
+		Value<?> acc = Undefined.instance;
+		int pc = 0;
+		// The start of the instruction being executed, for finding the handler of an exception it throws
+		int current = 0;
+
+		while (true) {
+			try {
+				while (true) {
+					current = pc;
+					switch (code[pc++]) {
+						case Opcode.LOAD_CONSTANT -> acc = (Value<?>) constants[code[pc++]];
+						case Opcode.LOAD_UNDEFINED -> acc = Undefined.instance;
+						case Opcode.STORE -> registers[code[pc++]] = acc;
+						case Opcode.STORE_CONSTANT -> {
+							final int register = code[pc++];
+							registers[register] = (Value<?>) constants[code[pc++]];
+						}
+
+						case Opcode.STORE_BINDING -> {
+							final int register = code[pc++];
+							registers[register] = ((IdentifierExpression) constants[code[pc++]]).execute(interpreter);
+						}
+
+						case Opcode.LOAD_BINDING -> acc = ((IdentifierExpression) constants[code[pc++]]).execute(interpreter);
+						case Opcode.ASSIGN -> ((LeftHandSideExpression) constants[code[pc++]]).assign(interpreter, acc);
+						case Opcode.DECLARE -> ((Declarable) constants[code[pc++]]).declare(interpreter, Kind.Let, acc);
+						case Opcode.GET_MEMBER -> {
+							final MemberExpression member = (MemberExpression) constants[code[pc++]];
+							acc = member.evaluate(interpreter, registers[code[pc++]], acc);
+						}
+
+						case Opcode.BINARY -> {
+							final BinaryOp op = (BinaryOp) constants[code[pc++]];
+							acc = BinaryExpression.applyOperator(interpreter, registers[code[pc++]], op, acc);
+						}
+
+						case Opcode.RELATIONAL -> {
+							final RelationalOp op = (RelationalOp) constants[code[pc++]];
+							acc = RelationalExpression.applyOperator(interpreter, registers[code[pc++]], op, acc);
+						}
+
+						case Opcode.EQUALITY -> {
+							final EqualityOp op = (EqualityOp) constants[code[pc++]];
+							acc = EqualityExpression.applyOperator(registers[code[pc++]], op, acc);
+						}
+
+						case Opcode.BINARY_CONSTANT -> {
+							final BinaryOp op = (BinaryOp) constants[code[pc++]];
+							acc = BinaryExpression.applyOperator(interpreter, acc, op, (Value<?>) constants[code[pc++]]);
+						}
+
+						case Opcode.RELATIONAL_CONSTANT -> {
+							final RelationalOp op = (RelationalOp) constants[code[pc++]];
+							acc = RelationalExpression.applyOperator(interpreter, acc, op, (Value<?>) constants[code[pc++]]);
+						}
+
+						case Opcode.EQUALITY_CONSTANT -> {
+							final EqualityOp op = (EqualityOp) constants[code[pc++]];
+							acc = EqualityExpression.applyOperator(acc, op, (Value<?>) constants[code[pc++]]);
+						}
+
+						case Opcode.GET_MEMBER_CONSTANT -> {
+							final MemberExpression member = (MemberExpression) constants[code[pc++]];
+							acc = member.evaluate(interpreter, acc, (Value<?>) constants[code[pc++]]);
+						}
+
+						case Opcode.JUMP -> pc = code[pc];
+						case Opcode.JUMP_IF_FALSE -> pc = acc.isTruthy(interpreter) ? pc + 1 : code[pc];
+						case Opcode.JUMP_IF_TRUE -> pc = acc.isTruthy(interpreter) ? code[pc] : pc + 1;
+						case Opcode.JUMP_IF_NOT_NULLISH -> pc = acc.isNullish() ? pc + 1 : code[pc];
+						case Opcode.PUSH_SCOPE -> scopes[scopeDepth++] = interpreter.pushContextWithNewEnvironment();
+						case Opcode.POP_SCOPE -> interpreter.exitExecutionContext(scopes[--scopeDepth]);
+						case Opcode.RETURN -> {
+							while (scopeDepth > 0) interpreter.exitExecutionContext(scopes[--scopeDepth]);
+							return acc;
+						}
+
+						case Opcode.LOAD_THIS -> acc = interpreter.thisValue();
+						case Opcode.UPDATE -> acc = ((UpdateExpression) constants[code[pc++]]).execute(interpreter);
+						case Opcode.EXECUTE -> acc = ((ASTNode) constants[code[pc++]]).execute(interpreter);
+						case Opcode.DECLARE_ARGUMENT -> {
+							final IdentifierExpression parameter = (IdentifierExpression) constants[code[pc++]];
+							final int index = code[pc++];
+							parameter.initializeBinding(interpreter, interpreter.environment(), index < arguments.length ? arguments[index] : Undefined.instance);
+						}
+
+						case Opcode.DECLARE_ARGUMENTS -> ((FunctionParameters) constants[code[pc++]]).declareArguments(interpreter, arguments);
+						case Opcode.LOAD_ARGUMENT -> {
+							final int index = code[pc++];
+							acc = index < arguments.length ? arguments[index] : Undefined.instance;
+						}
+
+						case Opcode.GET_METHOD -> {
+							final MemberExpression member = (MemberExpression) constants[code[pc++]];
+							final int register = code[pc++];
+							final PropertyReference reference = member.toReference(interpreter, registers[register], acc);
+							registers[register] = reference.base();
+							acc = member.getValue(interpreter, reference);
+						}
+
+						case Opcode.CALL, Opcode.CALL_METHOD -> {
+							final CallExpression call = (CallExpression) constants[code[pc++]];
+							final int register = code[pc++];
+							final int count = code[pc++];
+							final Value<?> thisValue = code[current] == Opcode.CALL_METHOD ? registers[register] : interpreter.globalObject;
+							final Executable function = call.getExecutable(interpreter, registers[register + 1]);
+							acc = function.call(interpreter, thisValue, Arrays.copyOfRange(registers, register + 2, register + 2 + count));
+						}
+
+						case Opcode.CALL_SPREAD, Opcode.CALL_METHOD_SPREAD -> {
+							final CallExpression call = (CallExpression) constants[code[pc++]];
+							final int register = code[pc++];
+							final List<?> list = (List<?>) slots[code[pc++]];
+							final Value<?> thisValue = code[current] == Opcode.CALL_METHOD_SPREAD ? registers[register] : interpreter.globalObject;
+							final Executable function = call.getExecutable(interpreter, registers[register + 1]);
+							acc = function.call(interpreter, thisValue, list.toArray(new Value<?>[0]));
+						}
+
+						case Opcode.NEW -> {
+							final NewExpression expression = (NewExpression) constants[code[pc++]];
+							final int register = code[pc++];
+							final int count = code[pc++];
+							acc = expression.construct(interpreter, registers[register], Arrays.copyOfRange(registers, register + 1, register + 1 + count));
+						}
+
+						case Opcode.NEW_SPREAD -> {
+							final NewExpression expression = (NewExpression) constants[code[pc++]];
+							final int register = code[pc++];
+							final List<?> list = (List<?>) slots[code[pc++]];
+							acc = expression.construct(interpreter, registers[register], list.toArray(new Value<?>[0]));
+						}
+
+						case Opcode.LOAD -> acc = registers[code[pc++]];
+						case Opcode.THROW -> throw error(acc);
+						case Opcode.RETHROW -> {
+							final Object exception = slots[code[pc++]];
+							if (exception instanceof final AbruptCompletion completion) throw completion;
+							if (exception instanceof final RuntimeException runtimeException) throw runtimeException;
+							throw (Error) exception;
+						}
+
+						case Opcode.GET_ITERATOR -> {
+							final int slot = code[pc++];
+							slots[slot] = getIterator(interpreter, acc, (Expression) constants[code[pc++]]);
+						}
+
+						case Opcode.ITERATOR_STEP -> {
+							final Value<?> next = ((IteratorRecord) slots[code[pc++]]).stepValue(interpreter);
+							if (next == null) {
+								pc = code[pc];
+							} else {
+								acc = next;
+								pc++;
+							}
+						}
+
+						case Opcode.ITERATOR_NEXT -> {
+							final int slot = code[pc++];
+							final Value<?> next = slots[slot] == null ? null : ((IteratorRecord) slots[slot]).stepValue(interpreter);
+							if (next == null) slots[slot] = null;
+							acc = next == null ? Undefined.instance : next;
+						}
+
+						case Opcode.ITERATOR_REST -> {
+							final IteratorRecord iterator = (IteratorRecord) slots[code[pc++]];
+							final ArrayList<Value<?>> values = new ArrayList<>();
+							if (iterator != null) iterator.collect(interpreter, values);
+							acc = new ArrayObject(interpreter, values);
+						}
+
+						case Opcode.ENUMERATE -> slots[code[pc++]] = new Enumeration(interpreter, acc);
+						case Opcode.ENUMERATE_STEP -> {
+							final StringValue next = ((Enumeration) slots[code[pc++]]).next();
+							if (next == null) {
+								pc = code[pc];
+							} else {
+								acc = next;
+								pc++;
+							}
+						}
+
+						case Opcode.JUMP_IF_NOT_UNDEFINED -> pc = acc == Undefined.instance ? pc + 1 : code[pc];
+						case Opcode.TO_OBJECT -> acc = acc.toObjectValue(interpreter);
+						case Opcode.TO_PROPERTY_KEY -> acc = acc.toPropertyKey(interpreter);
+						case Opcode.GET_PROPERTY -> acc = ((ObjectValue) registers[code[pc++]]).get(interpreter, acc.toPropertyKey(interpreter));
+						case Opcode.COPY_REST -> {
+							final int register = code[pc++];
+							final int count = code[pc++];
+							final HashSet<Key<?>> visitedKeys = new HashSet<>();
+							for (int i = 1; i <= count; i++) visitedKeys.add((Key<?>) registers[register + i]);
+							acc = ObjectDestructuring.restObject(interpreter, (ObjectValue) registers[register], visitedKeys);
+						}
+
+						case Opcode.SET_FUNCTION_NAME -> {
+							final Key<?> key = (Key<?>) registers[code[pc++]];
+							if (acc instanceof final Executable function) function.setName(key.toFunctionName());
+						}
+
+						case Opcode.NEW_FUNCTION -> acc = switch (constants[code[pc++]]) {
+							case final FunctionExpression expression -> expression.execute(interpreter);
+							case final ArrowFunctionExpression expression -> expression.execute(interpreter);
+							case final FunctionDeclaration declaration -> declaration.instantiate(interpreter);
+							case final Object other -> throw new ShouldNotHappen("Cannot create a function from " + other);
+						};
+
+						case Opcode.NEW_CLASS -> {
+							final ClassExpression expression = (ClassExpression) constants[code[pc++]];
+							acc = expression.evaluate(interpreter, expression.heritage() == null ? null : acc);
+						}
+
+						case Opcode.NEW_OBJECT -> acc = new ObjectValue(interpreter.intrinsics);
+						case Opcode.DEFINE_PROPERTY -> {
+							final ObjectValue object = (ObjectValue) registers[code[pc++]];
+							object.put((Key<?>) registers[code[pc++]], acc, true, true, true);
+						}
+
+						case Opcode.DEFINE_METHOD -> {
+							final ObjectEntryNode method = (ObjectEntryNode) constants[code[pc++]];
+							method.insertInto((ObjectValue) registers[code[pc++]], interpreter);
+						}
+
+						case Opcode.COPY_DATA_PROPERTIES -> SpreadNode.copyDataProperties(interpreter, (ObjectValue) registers[code[pc++]], acc);
+						case Opcode.NEW_LIST -> slots[code[pc++]] = new ArrayList<Value<?>>();
+						case Opcode.APPEND -> list(slots[code[pc++]]).add(acc);
+						case Opcode.APPEND_HOLE -> list(slots[code[pc++]]).add(null);
+						case Opcode.SPREAD -> {
+							final List<Value<?>> list = list(slots[code[pc++]]);
+							getIterator(interpreter, acc, (Expression) constants[code[pc++]]).collect(interpreter, list);
+						}
+
+						case Opcode.NEW_ARRAY -> acc = new ArrayObject(interpreter, list(slots[code[pc++]]));
+						case Opcode.ASSIGN_PATTERN -> ((AssignmentPattern) constants[code[pc++]]).assign(interpreter, acc);
+
+						default -> throw new ShouldNotHappen("Unknown opcode " + code[current]);
+					}
+				}
+			} catch (AbruptCompletion completion) {
+				final Chunk.Handler handler = chunk.findHandler(current, completion.type == AbruptCompletion.Type.Throw);
+				if (handler == null) {
+					while (scopeDepth > 0) interpreter.exitExecutionContext(scopes[--scopeDepth]);
+					throw completion;
+				}
+
+				while (scopeDepth > handler.scopeDepth()) interpreter.exitExecutionContext(scopes[--scopeDepth]);
+				if (handler.slot() == -1) {
+					acc = completion.value;
+				} else {
+					slots[handler.slot()] = completion;
+				}
+
+				pc = handler.target();
+			} catch (RuntimeException | Error e) {
+				// Like the tree-walker's `finally` blocks, which are Java `finally` blocks, these run for any exception
+				final Chunk.Handler handler = chunk.findHandler(current, false);
+				if (handler == null) {
+					while (scopeDepth > 0) interpreter.exitExecutionContext(scopes[--scopeDepth]);
+					throw e;
+				}
+
+				while (scopeDepth > handler.scopeDepth()) interpreter.exitExecutionContext(scopes[--scopeDepth]);
+				slots[handler.slot()] = e;
+				pc = handler.target();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Value<?>> list(Object slot) {
+		return (List<Value<?>>) slot;
+	}
+
+	/**
+	 * The keys a for-in loop has left to visit. Keys which are deleted during the loop are skipped.
+	 */
+	private static final class Enumeration {
+		private final ObjectValue object;
+		private final ArrayList<StringValue> keys;
+		private int index = 0;
+
+		private Enumeration(Interpreter interpreter, Value<?> value) throws AbruptCompletion {
+			this.object = value.isNullish() ? null : value.toObjectValue(interpreter);
+			this.keys = object == null ? new ArrayList<>() : object.enumerateObjectProperties();
+		}
+
+		private StringValue next() {
+			while (index < keys.size()) {
+				final StringValue key = keys.get(index++);
+				if (object.hasOwnEnumerableProperty(key)) return key;
+			}
+
+			return null;
+		}
+	}
+}
@@ -2,11 +2,29 @@ package xyz.lebster.core.interpreter;
 
 import xyz.lebster.core.value.Value;
 
+/**
+ * Completion Records of any type other than `normal` are propagated as Java exceptions.
+ * Only `throw` completions may record a Java stack trace (see {@link #captureStackTraces}),
+ * the rest are plain control flow and must stay as cheap as possible to throw.
+ */
 public final class AbruptCompletion extends Throwable {
+	/**
+	 * `break` and `continue` carry no value (labels are not supported), so a single instance of each is shared.
+	 */
+	public static final AbruptCompletion BREAK = new AbruptCompletion(null, Type.Break);
+	public static final AbruptCompletion CONTINUE = new AbruptCompletion(null, Type.Continue);
+
+	/**
+	 * Whether `throw` completions should record the Java stack trace of where they were created.
+	 * Enabled by the `--verbose` flag; filling in the stack trace of the (deeply recursive) interpreter is expensive.
+	 */
+	public static boolean captureStackTraces = false;
+
 	public final Type type;
 	public final Value<?> value;
 
 	public AbruptCompletion(Value<?> value, Type type) {
+		super(null, null, false, captureStackTraces && type == Type.Throw);
 		this.type = type;
 		this.value = value;
 	}
@@ -15,6 +33,10 @@ public final class AbruptCompletion extends Throwable {
 		return new AbruptCompletion(err, Type.Throw);
 	}
 
+	public static AbruptCompletion returnValue(Value<?> value) {
+		return new AbruptCompletion(value, Type.Return);
+	}
+
 	public String getValue() {
 		if (value == null) return "";
 		final StringBuilder builder = new StringBuilder();
@@ -0,0 +1,24 @@
+package xyz.lebster.core.interpreter;
+
+import xyz.lebster.core.interpreter.environment.DeclarativeEnvironment;
+import xyz.lebster.core.value.Value;
+
+/**
+ * A Reference to a statically resolved binding, which lives in a slot of a {@link DeclarativeEnvironment}.
+ */
+public record BindingReference(DeclarativeEnvironment environment, int slot) implements Reference {
+	@Override
+	public Value<?> getValue(Interpreter interpreter) {
+		return environment.getSlot(slot);
+	}
+
+	@Override
+	public void putValue(Interpreter interpreter, Value<?> newValue) {
+		environment.setSlot(slot, newValue);
+	}
+
+	@Override
+	public boolean isResolvable() {
+		return true;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package xyz.lebster.core.interpreter;
+
+import java.util.function.Supplier;
+
+/**
+ * Measures how long it takes to create an {@link Interpreter}, by copying the prebuilt realm, and how long it takes to
+ * build a realm from scratch, by running the constructors of every intrinsic, which is how interpreters used to be created.
+ * <p>
+ * Run with {@code java -cp <classes> xyz.lebster.core.interpreter.CreationBenchmark [count]}. Each measurement creates
+ * {@code count} realms (20,000 by default) after creating as many to warm up the JIT.
+ */
+public final class CreationBenchmark {
+	private static final int DEFAULT_COUNT = 20_000;
+	// Keeps each realm reachable until the next one is made, so that creating it cannot be optimised away
+	private static Object sink;
+
+	private CreationBenchmark() {
+	}
+
+	public static void main(String[] args) {
+		final int count = args.length == 0 ? DEFAULT_COUNT : Integer.parseInt(args[0]);
+
+		// The first interpreter also loads every class, and builds the prebuilt realm
+		final long start = System.nanoTime();
+		sink = new Interpreter();
+		System.out.printf("First interpreter: %.1f ms%n", (System.nanoTime() - start) / 1e6);
+
+		report("Copied (new Interpreter())", count, Interpreter::new);
+		report("Built from scratch", count, () -> new GlobalObject(new Intrinsics()));
+	}
+
+	private static void report(String name, int count, Supplier<Object> create) {
+		measure(count, create);
+		final double nanoseconds = measure(count, create);
+		System.out.printf("%s: %.1f us per realm%n", name, nanoseconds / count / 1e3);
+	}
+
+	private static double measure(int count, Supplier<Object> create) {
+		final long start = System.nanoTime();
+		for (int i = 0; i < count; i++) sink = create.get();
+		return System.nanoTime() - start;
+	}
+}
\ No newline at end of file
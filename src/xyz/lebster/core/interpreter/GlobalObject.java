@@ -70,7 +70,7 @@ public final class GlobalObject extends ObjectValue {
 		final Value<?> radix = argument(1, arguments);
 
 		// 1. Let inputString be ? ToString(string).
-		final String inputString = string.toStringValue(interpreter).value;
+		final String inputString = string.toStringValue(interpreter).value();
 		// 2. Let S be ! TrimString(inputString, start).
 		String S = inputString.stripLeading();
 		// 3. Let sign be 1.
@@ -149,7 +149,7 @@ public final class GlobalObject extends ObjectValue {
 		// 1. Let inputString be ? ToString(string).
 		final StringValue inputString = string.toStringValue(interpreter);
 		// 2. Let trimmedString be ! TrimString(inputString, start).
-		final String trimmedString = inputString.value.stripLeading();
+		final String trimmedString = inputString.value().stripLeading();
 		// FIXME: Follow spec
 		return new NumberValue(Double.parseDouble(trimmedString));
 	}
@@ -161,7 +161,7 @@ public final class GlobalObject extends ObjectValue {
 		final Value<?> x = argument(0, arguments);
 		if (arguments.length == 0) return Undefined.instance;
 
-		final String sourceText = x.toStringValue(interpreter).value;
+		final String sourceText = x.toStringValue(interpreter).value();
 		final ExecutionContext context = interpreter.pushContextWithNewEnvironment();
 		try {
 			return interpreter.runtimeParse(sourceText).execute(interpreter);
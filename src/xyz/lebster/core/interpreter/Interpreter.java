@@ -2,12 +2,13 @@ package xyz.lebster.core.interpreter;
 
 import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.StringEscapeUtils;
+import xyz.lebster.core.bytecode.BytecodeEngine;
 import xyz.lebster.core.exception.ShouldNotHappen;
 import xyz.lebster.core.exception.SyntaxError;
 import xyz.lebster.core.interpreter.environment.*;
 import xyz.lebster.core.node.Program;
 import xyz.lebster.core.node.declaration.Kind;
-import xyz.lebster.core.parser.Parser;
+import xyz.lebster.core.parser.ParseCache;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.error.range.RangeError;
 import xyz.lebster.core.value.error.reference.ReferenceError;
@@ -17,8 +18,10 @@ import xyz.lebster.core.value.function.Executable;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
+import java.io.PrintStream;
 import java.util.ArrayDeque;
-import java.util.StringJoiner;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 import static xyz.lebster.core.value.primitive.string.StringValue.isValidIdentifier;
@@ -27,18 +30,63 @@ public final class Interpreter {
 	private static final int MAX_CALLSTACK_SIZE = 256;
 	public final Intrinsics intrinsics;
 	public final GlobalObject globalObject;
+	// Null when code is run by the tree-walking interpreter
+	public final BytecodeEngine bytecode;
+	// Where console.log() and friends write to
+	public final PrintStream out;
+	// Programs parsed by eval() and ShadowRealms
+	public final ParseCache parseCache;
 	private final ArrayDeque<ExecutionContext> executionContextStack;
 
 	public Interpreter() {
-		this.intrinsics = new Intrinsics();
-		this.globalObject = new GlobalObject(intrinsics);
+		this(false);
+	}
+
+	public Interpreter(boolean useBytecode) {
+		this(useBytecode, System.out);
+	}
+
+	public Interpreter(boolean useBytecode, PrintStream out) {
+		this(useBytecode, out, new ParseCache(ParseCache.DEFAULT_SIZE));
+	}
+
+	public Interpreter(boolean useBytecode, PrintStream out, ParseCache parseCache) {
+		this(useBytecode ? new BytecodeEngine() : null, out, parseCache);
+	}
+
+	/**
+	 * Creates a realm which shares the compiled code, parsed programs, and output stream of {@code parent},
+	 * such as for a ShadowRealm. Only the objects which scripts can mutate are created for it.
+	 */
+	public Interpreter(Interpreter parent) {
+		this(parent.bytecode, parent.out, parent.parseCache);
+	}
+
+	private Interpreter(BytecodeEngine bytecode, PrintStream out, ParseCache parseCache) {
+		this.bytecode = bytecode;
+		this.out = out;
+		this.parseCache = parseCache;
+		// Copying a prebuilt realm is cheaper than running the constructors of every intrinsic again
+		final IdentityHashMap<ObjectValue, ObjectValue> copies = new IdentityHashMap<>(RealmTemplate.SIZE);
+		this.intrinsics = new Intrinsics(RealmTemplate.intrinsics, copies);
+		this.globalObject = ObjectValue.copy(RealmTemplate.globalObject, copies);
 		this.executionContextStack = new ArrayDeque<>();
 		this.executionContextStack.addFirst(new ExecutionContext(new GlobalEnvironment(globalObject)));
 	}
 
+	/**
+	 * A realm which is built once, and then only ever copied. Scripts never run in it.
+	 */
+	private static final class RealmTemplate {
+		private static final Intrinsics intrinsics = new Intrinsics();
+		private static final GlobalObject globalObject = new GlobalObject(intrinsics);
+		// Comfortably more than the number of objects in a fresh realm, to size the table of copies
+		private static final int SIZE = 512;
+	}
+
 	public Program runtimeParse(String sourceText) throws AbruptCompletion {
 		try {
-			return Parser.parse(sourceText);
+			return parseCache.parse(sourceText);
 		} catch (SyntaxError e) {
 			throw error(new SyntaxErrorObject(this, e.getMessage() + "\n\tRuntime Parsing: " + StringEscapeUtils.quote(sourceText, true)));
 		}
@@ -64,7 +112,7 @@ public final class Interpreter {
 		final Environment environment = environment();
 		if (environment.hasBinding(name)) {
 			// FIXME: This should be a Syntax Error at parse-time
-			throw error(new ReferenceError(this, "Identifier '" + name.value + "' has already been declared"));
+			throw error(new ReferenceError(this, "Identifier '" + name.value() + "' has already been declared"));
 		} else {
 			environment.createBinding(this, name, value);
 		}
@@ -72,6 +120,10 @@ public final class Interpreter {
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-resolvethisbinding")
 	public Value<?> thisValue() {
+		// Built-in functions keep their `this` value in their frame
+		final ExecutionContext context = executionContext();
+		if (context.function() != null) return context.thisValue();
+
 		// 1. Let envRec be GetThisEnvironment().
 		final ThisEnvironment envRec = getThisEnvironment();
 		// 2. Return ? envRec.GetThisBinding().
@@ -136,12 +188,25 @@ public final class Interpreter {
 		return context;
 	}
 
+	/**
+	 * Pushes the frame of a call to a built-in function, which runs in the caller's environment.
+	 */
+	public ExecutionContext pushBuiltinFrame(Executable function, Value<?> thisValue) throws AbruptCompletion {
+		final ExecutionContext context = new ExecutionContext(environment(), function, thisValue);
+		this.enterExecutionContext(context);
+		return context;
+	}
+
 	public ExecutionContext pushContextWithNewEnvironment() throws AbruptCompletion {
 		return this.pushContextWithEnvironment(new DeclarativeEnvironment(environment()));
 	}
 
 	public Reference getBinding(StringValue name) {
-		Environment env = this.environment();
+		return getBinding(name, this.environment());
+	}
+
+	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-getidentifierreference")
+	public Reference getBinding(StringValue name, Environment env) {
 		while (env != null) {
 			// 2. Let exists be ? env.HasBinding(name).
 			// 3. If exists is true, then
@@ -158,24 +223,24 @@ public final class Interpreter {
 
 		// 1. If env is the value null, then
 		// a. Return the Reference Record { base: unresolvable, referencedName: name }.
-		return new Reference(null, name);
+		return new PropertyReference(null, name);
 	}
 
 	public TypeError incompatibleReceiver(String prefix, String requirement) {
-		FunctionEnvironment environment = null;
+		Executable function = executionContext().function();
 		Environment env = environment();
-		while (env != null) {
+		while (function == null && env != null) {
 			if (env instanceof final FunctionEnvironment functionEnvironment) {
-				environment = functionEnvironment;
+				function = functionEnvironment.functionObject;
 				break;
 			}
 			env = env.parent();
 		}
 
-		if (environment == null) throw new ShouldNotHappen("Not in a method");
+		if (function == null) throw new ShouldNotHappen("Not in a method");
 		String methodName;
 
-		final String functionName = environment.functionObject.name.value;
+		final String functionName = function.name.value();
 		// FIXME: Awful. Super hacky!
 		if (functionName.startsWith("[Symbol.") && functionName.endsWith("]")) {
 			final String wellKnownName = functionName.substring("[Symbol.".length(), functionName.length() - 1);
@@ -189,15 +254,16 @@ public final class Interpreter {
 		return new TypeError(this, "%s requires that 'this' be %s.".formatted(methodName, requirement));
 	}
 
-	public String stackTrace() {
-		final StringJoiner joiner = new StringJoiner("\n");
+	public StackTrace stackTrace() {
+		final Executable[] frames = new Executable[executionContextStack.size()];
+		int count = 0;
 		for (final var e : executionContextStack) {
-			if (e.environment() instanceof final FunctionEnvironment f) {
-				final String name = f.functionObject.name.value;
-				joiner.add("\tat %s".formatted(name.isBlank() ? "<anonymous>" : name));
-			}
+			// The frame of a built-in function runs in its caller's environment, which must not be listed again
+			final Executable function = e.function() != null ? e.function() :
+				e.environment() instanceof final FunctionEnvironment f ? f.functionObject : null;
+			if (function != null) frames[count++] = function;
 		}
 
-		return joiner.toString();
+		return new StackTrace(count == frames.length ? frames : Arrays.copyOf(frames, count));
 	}
 }
\ No newline at end of file
@@ -41,6 +41,8 @@ import xyz.lebster.core.value.set.SetPrototype;
 import xyz.lebster.core.value.shadowrealm.ShadowRealmConstructor;
 import xyz.lebster.core.value.shadowrealm.ShadowRealmPrototype;
 
+import java.util.IdentityHashMap;
+
 public final class Intrinsics {
 	public final ArrayConstructor arrayConstructor;
 	public final ArrayPrototype arrayPrototype;
@@ -117,6 +119,53 @@ public final class Intrinsics {
 		jsonObject = new JSONObject(this);
 	}
 
+	/**
+	 * Copies every intrinsic of `template`, see {@link ObjectValue#copy}
+	 */
+	Intrinsics(Intrinsics template, IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		arrayConstructor = ObjectValue.copy(template.arrayConstructor, copies);
+		arrayPrototype = ObjectValue.copy(template.arrayPrototype, copies);
+		bigIntConstructor = ObjectValue.copy(template.bigIntConstructor, copies);
+		bigIntPrototype = ObjectValue.copy(template.bigIntPrototype, copies);
+		booleanConstructor = ObjectValue.copy(template.booleanConstructor, copies);
+		booleanPrototype = ObjectValue.copy(template.booleanPrototype, copies);
+		functionConstructor = ObjectValue.copy(template.functionConstructor, copies);
+		functionPrototype = ObjectValue.copy(template.functionPrototype, copies);
+		iteratorConstructor = ObjectValue.copy(template.iteratorConstructor, copies);
+		iteratorPrototype = ObjectValue.copy(template.iteratorPrototype, copies);
+		mapConstructor = ObjectValue.copy(template.mapConstructor, copies);
+		mapPrototype = ObjectValue.copy(template.mapPrototype, copies);
+		numberConstructor = ObjectValue.copy(template.numberConstructor, copies);
+		numberPrototype = ObjectValue.copy(template.numberPrototype, copies);
+		objectConstructor = ObjectValue.copy(template.objectConstructor, copies);
+		objectPrototype = ObjectValue.copy(template.objectPrototype, copies);
+		regExpConstructor = ObjectValue.copy(template.regExpConstructor, copies);
+		regExpPrototype = ObjectValue.copy(template.regExpPrototype, copies);
+		setConstructor = ObjectValue.copy(template.setConstructor, copies);
+		setPrototype = ObjectValue.copy(template.setPrototype, copies);
+		shadowRealmConstructor = ObjectValue.copy(template.shadowRealmConstructor, copies);
+		shadowRealmPrototype = ObjectValue.copy(template.shadowRealmPrototype, copies);
+		stringConstructor = ObjectValue.copy(template.stringConstructor, copies);
+		stringPrototype = ObjectValue.copy(template.stringPrototype, copies);
+		symbolConstructor = ObjectValue.copy(template.symbolConstructor, copies);
+		symbolPrototype = ObjectValue.copy(template.symbolPrototype, copies);
+		errorConstructor = ObjectValue.copy(template.errorConstructor, copies);
+		errorPrototype = ObjectValue.copy(template.errorPrototype, copies);
+		rangeErrorConstructor = ObjectValue.copy(template.rangeErrorConstructor, copies);
+		rangeErrorPrototype = ObjectValue.copy(template.rangeErrorPrototype, copies);
+		referenceErrorConstructor = ObjectValue.copy(template.referenceErrorConstructor, copies);
+		referenceErrorPrototype = ObjectValue.copy(template.referenceErrorPrototype, copies);
+		typeErrorConstructor = ObjectValue.copy(template.typeErrorConstructor, copies);
+		typeErrorPrototype = ObjectValue.copy(template.typeErrorPrototype, copies);
+		syntaxErrorConstructor = ObjectValue.copy(template.syntaxErrorConstructor, copies);
+		syntaxErrorPrototype = ObjectValue.copy(template.syntaxErrorPrototype, copies);
+		testObject = ObjectValue.copy(template.testObject, copies);
+		fileSystemObject = ObjectValue.copy(template.fileSystemObject, copies);
+		consoleObject = ObjectValue.copy(template.consoleObject, copies);
+		mathObject = ObjectValue.copy(template.mathObject, copies);
+		jsonObject = ObjectValue.copy(template.jsonObject, copies);
+	}
+
 	private static void linkPrototypeAndConstructor(Executable constructor, ObjectValue prototype) {
 		constructor.put(Names.prototype, prototype, false, false, false);
 		prototype.put(Names.constructor, constructor);
@@ -0,0 +1,36 @@
+package xyz.lebster.core.interpreter;
+
+import xyz.lebster.core.SpecificationURL;
+import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.error.reference.ReferenceError;
+import xyz.lebster.core.value.object.Key;
+import xyz.lebster.core.value.object.ObjectValue;
+
+import static xyz.lebster.core.interpreter.AbruptCompletion.error;
+
+public record PropertyReference(ObjectValue base, Key<?> referencedName) implements Reference {
+	@Override
+	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-getvalue")
+	public Value<?> getValue(Interpreter interpreter) throws AbruptCompletion {
+		if (isResolvable()) {
+			return base.get(interpreter, referencedName);
+		} else {
+			throw error(new ReferenceError(interpreter, referencedName.value + " is not defined"));
+		}
+	}
+
+	@Override
+	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-putvalue")
+	public void putValue(Interpreter interpreter, Value<?> newValue) throws AbruptCompletion {
+		if (isResolvable()) {
+			base.set(interpreter, referencedName, newValue);
+		} else {
+			throw error(new ReferenceError(interpreter, referencedName.value + " is not defined"));
+		}
+	}
+
+	@Override
+	public boolean isResolvable() {
+		return this.base != null;
+	}
+}
\ No newline at end of file
@@ -2,33 +2,14 @@ package xyz.lebster.core.interpreter;
 
 import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.value.Value;
-import xyz.lebster.core.value.error.reference.ReferenceError;
-import xyz.lebster.core.value.object.Key;
-import xyz.lebster.core.value.object.ObjectValue;
-
-import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 
 @SpecificationURL("https://tc39.es/ecma262/multipage#sec-reference-record-specification-type")
-public record Reference(ObjectValue base, Key<?> referencedName) {
+public interface Reference {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-getvalue")
-	public Value<?> getValue(Interpreter interpreter) throws AbruptCompletion {
-		if (isResolvable()) {
-			return base.get(interpreter, referencedName);
-		} else {
-			throw error(new ReferenceError(interpreter, referencedName.value + " is not defined"));
-		}
-	}
+	Value<?> getValue(Interpreter interpreter) throws AbruptCompletion;
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-putvalue")
-	public void putValue(Interpreter interpreter, Value<?> newValue) throws AbruptCompletion {
-		if (isResolvable()) {
-			base.set(interpreter, referencedName, newValue);
-		} else {
-			throw error(new ReferenceError(interpreter, referencedName.value + " is not defined"));
-		}
-	}
+	void putValue(Interpreter interpreter, Value<?> newValue) throws AbruptCompletion;
 
-	public boolean isResolvable() {
-		return this.base != null;
-	}
+	boolean isResolvable();
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package xyz.lebster.core.interpreter;
+
+import xyz.lebster.core.value.function.Executable;
+
+import java.util.StringJoiner;
+
+/**
+ * The functions on the call stack at the point an error was created, innermost first.
+ * Capturing only copies the function references; the text is formatted the first time it is needed.
+ */
+public final class StackTrace {
+	private final Executable[] frames;
+	private String formatted;
+
+	StackTrace(Executable[] frames) {
+		this.frames = frames;
+	}
+
+	@Override
+	public String toString() {
+		if (formatted == null) {
+			final StringJoiner joiner = new StringJoiner("\n");
+			for (final Executable function : frames) {
+				final String name = function.name.value();
+				joiner.add("\tat %s".formatted(name.isBlank() ? "<anonymous>" : name));
+			}
+
+			formatted = joiner.toString();
+		}
+
+		return formatted;
+	}
+}
\ No newline at end of file
@@ -1,6 +1,8 @@
 package xyz.lebster.core.interpreter.environment;
 
+import xyz.lebster.core.interpreter.BindingReference;
 import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.interpreter.PropertyReference;
 import xyz.lebster.core.interpreter.Reference;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.globals.Null;
@@ -8,26 +10,80 @@ import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
 public class DeclarativeEnvironment implements Environment {
-	private final ObjectValue variables;
 	private final Environment parent;
+	// Statically resolved bindings, laid out by the Scope this environment was instantiated from.
+	// A null slot is a binding which has not been declared yet.
+	private Scope scope;
+	private Value<?>[] slots;
+	// Bindings which the Resolver could not see, e.g. those declared by runtime-parsed code
+	private ObjectValue variables;
 
 	public DeclarativeEnvironment(Environment parent) {
-		this.variables = new ObjectValue(Null.instance);
 		this.parent = parent;
 	}
 
+	/**
+	 * Lays out this environment according to `scope`, if it has not been laid out already.
+	 * Environments are instantiated lazily, by the first statically resolved declaration made in them.
+	 *
+	 * @return Whether this environment was instantiated from `scope`
+	 */
+	public boolean instantiate(Scope scope) {
+		if (this.scope == null) {
+			this.scope = scope;
+			this.slots = new Value<?>[scope.size()];
+		}
+
+		return this.scope == scope;
+	}
+
+	public boolean isInstanceOf(Scope scope) {
+		return this.scope == scope;
+	}
+
+	public Value<?> getSlot(int slot) {
+		return slots[slot];
+	}
+
+	public void setSlot(int slot, Value<?> value) {
+		slots[slot] = value;
+	}
+
+	public boolean hasUnresolvedBinding(StringValue name) {
+		return variables != null && variables.hasOwnProperty(name);
+	}
+
 	@Override
 	public boolean hasBinding(StringValue name) {
-		return variables.hasOwnProperty(name);
+		if (scope != null) {
+			final int slot = scope.indexOf(name);
+			if (slot != -1 && slots[slot] != null) return true;
+		}
+
+		return hasUnresolvedBinding(name);
 	}
 
 	@Override
 	public Reference getBinding(Interpreter interpreter, StringValue name) {
-		return new Reference(variables, name);
+		if (scope != null) {
+			final int slot = scope.indexOf(name);
+			if (slot != -1 && slots[slot] != null) return new BindingReference(this, slot);
+		}
+
+		return new PropertyReference(variables, name);
 	}
 
 	@Override
 	public void createBinding(Interpreter interpreter, StringValue name, Value<?> value) {
+		if (scope != null) {
+			final int slot = scope.indexOf(name);
+			if (slot != -1) {
+				slots[slot] = value;
+				return;
+			}
+		}
+
+		if (variables == null) variables = new ObjectValue(Null.instance);
 		variables.put(name, value);
 	}
 
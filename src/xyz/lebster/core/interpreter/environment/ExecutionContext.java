@@ -1,4 +1,16 @@
 package xyz.lebster.core.interpreter.environment;
 
-public record ExecutionContext(Environment environment) {
+import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.function.Executable;
+
+/**
+ * @param function  For the frame of a built-in function, the function being called; otherwise null.
+ *                  Built-in functions have no bindings of their own, so rather than a {@link FunctionEnvironment},
+ *                  their frame runs in the caller's environment and records the function and its `this` value.
+ * @param thisValue The `this` value of a built-in function's frame
+ */
+public record ExecutionContext(Environment environment, Executable function, Value<?> thisValue) {
+	public ExecutionContext(Environment environment) {
+		this(environment, null, null);
+	}
 }
\ No newline at end of file
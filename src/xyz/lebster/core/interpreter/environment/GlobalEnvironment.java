@@ -2,6 +2,7 @@ package xyz.lebster.core.interpreter.environment;
 
 import xyz.lebster.core.interpreter.GlobalObject;
 import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.interpreter.PropertyReference;
 import xyz.lebster.core.interpreter.Reference;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.globals.Null;
@@ -24,7 +25,7 @@ public record GlobalEnvironment(ObjectValue variables, GlobalObject globalObject
 
 	@Override
 	public Reference getBinding(Interpreter interpreter, StringValue name) {
-		return new Reference(variables.hasOwnProperty(name) ? variables : globalObject, name);
+		return new PropertyReference(variables.hasOwnProperty(name) ? variables : globalObject, name);
 	}
 
 	@Override
@@ -0,0 +1,46 @@
+package xyz.lebster.core.interpreter.environment;
+
+import xyz.lebster.core.value.primitive.string.StringValue;
+
+import java.util.HashMap;
+
+/**
+ * The static shape of a {@link DeclarativeEnvironment}, as computed by the {@link xyz.lebster.core.parser.Resolver}.
+ * Every name declared directly in the scope is given a slot: its index in the frame of each environment
+ * instantiated from this scope.
+ */
+public final class Scope {
+	public final Scope parent;
+	private final HashMap<StringValue, Integer> slots = new HashMap<>();
+
+	public Scope(Scope parent) {
+		this.parent = parent;
+	}
+
+	public int declare(StringValue name) {
+		final Integer existing = slots.get(name);
+		if (existing != null) return existing;
+
+		final int slot = slots.size();
+		slots.put(name, slot);
+		return slot;
+	}
+
+	public int indexOf(StringValue name) {
+		final Integer slot = slots.get(name);
+		return slot == null ? -1 : slot;
+	}
+
+	public int size() {
+		return slots.size();
+	}
+
+	/**
+	 * @return The names declared directly in this scope, indexed by slot
+	 */
+	public StringValue[] names() {
+		final StringValue[] names = new StringValue[slots.size()];
+		slots.forEach((name, slot) -> names[slot] = name);
+		return names;
+	}
+}
\ No newline at end of file
@@ -5,7 +5,6 @@ import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.node.expression.Expression;
 import xyz.lebster.core.node.statement.BlockStatement;
 import xyz.lebster.core.value.Value;
-import xyz.lebster.core.value.globals.Undefined;
 
 public interface FunctionNode extends ASTNode {
 	Expression name();
@@ -16,9 +15,9 @@ public interface FunctionNode extends ASTNode {
 
 	default Value<?> executeBody(Interpreter interpreter, Value<?>[] passedArguments) throws AbruptCompletion {
 		try {
+			if (interpreter.bytecode != null) return interpreter.bytecode.executeFunction(interpreter, parameters(), body(), passedArguments);
 			parameters().declareArguments(interpreter, passedArguments);
-			body().executeWithoutNewContext(interpreter);
-			return Undefined.instance;
+			return body().executeFunctionBody(interpreter);
 		} catch (AbruptCompletion e) {
 			if (e.type != AbruptCompletion.Type.Return) throw e;
 			return e.value;
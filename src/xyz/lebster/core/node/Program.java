@@ -11,6 +11,8 @@ import java.util.List;
 public record Program(SourceRange range, List<Statement> children) implements ASTNode {
 	@Override
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
+		if (interpreter.bytecode != null) return interpreter.bytecode.execute(interpreter, this);
+
 		Value<?> lastValue = Undefined.instance;
 		for (final ASTNode child : children) {
 			lastValue = child.execute(interpreter);
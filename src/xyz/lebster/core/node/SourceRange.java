@@ -1,20 +1,20 @@
 package xyz.lebster.core.node;
 
 public final class SourceRange {
-	private final String sourceText;
+	private final SourceText sourceText;
 	public final int startIndex;
 	public final int endIndex;
 	private SourcePosition start;
 	private SourcePosition end;
 
-	public SourceRange(String sourceText, int startIndex, int endIndex) {
+	public SourceRange(SourceText sourceText, int startIndex, int endIndex) {
 		this.sourceText = sourceText;
 		this.startIndex = startIndex;
 		this.endIndex = endIndex;
 	}
 
 	public String getText() {
-		return sourceText.substring(sourceText.offsetByCodePoints(0, startIndex), sourceText.offsetByCodePoints(0, endIndex));
+		return sourceText.substring(startIndex, endIndex);
 	}
 
 	@Override
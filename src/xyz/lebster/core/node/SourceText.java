@@ -0,0 +1,56 @@
+package xyz.lebster.core.node;
+
+import java.util.Arrays;
+
+/**
+ * The source text of a script, shared by every {@link SourceRange} and {@link SourcePosition} in it.
+ * Positions in the source are indices of UTF-16 chars. The first time one is converted to a line and column,
+ * an index of line starts is built, so finding the line of any position afterwards takes O(log n) time.
+ * Columns count code points, so they only cost a scan of the line up to the position, when an error is formatted.
+ */
+public final class SourceText {
+	public final String text;
+	// The char index at which each line starts
+	private volatile int[] lineStarts;
+
+	public SourceText(String text) {
+		this.text = text;
+	}
+
+	public String substring(int startIndex, int endIndex) {
+		return text.substring(startIndex, endIndex);
+	}
+
+	/**
+	 * @return The 1-based line number of the char at {@code index}
+	 */
+	public int line(int index) {
+		final int found = Arrays.binarySearch(lineStarts(), index);
+		return found >= 0 ? found + 1 : -found - 1;
+	}
+
+	/**
+	 * @return The 1-based column number of the char at {@code index}, counted in code points
+	 */
+	public int column(int index) {
+		return text.codePointCount(lineStarts()[line(index) - 1], index) + 1;
+	}
+
+	private int[] lineStarts() {
+		// Racing threads may each build the index, but they will build identical ones
+		int[] result = lineStarts;
+		if (result == null) lineStarts = result = buildLineStarts(text);
+		return result;
+	}
+
+	private static int[] buildLineStarts(String text) {
+		int[] result = new int[16];
+		int lineCount = 1;
+		for (int i = text.indexOf('\n'); i != -1; i = text.indexOf('\n', i + 1)) {
+			if (lineCount == result.length) result = Arrays.copyOf(result, lineCount * 2);
+			result[lineCount++] = i + 1;
+		}
+
+		return Arrays.copyOf(result, lineCount);
+	}
+}
\ No newline at end of file
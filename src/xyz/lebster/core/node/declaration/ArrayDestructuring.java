@@ -4,34 +4,28 @@ import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.array.ArrayObject;
-import xyz.lebster.core.value.object.ObjectValue;
+import xyz.lebster.core.value.globals.Undefined;
+import xyz.lebster.core.value.iterator.IteratorRecord;
 
 import java.util.ArrayList;
 
-import static xyz.lebster.core.value.iterator.IteratorPrototype.*;
+import static xyz.lebster.core.value.iterator.IteratorPrototype.getIterator;
 
 public record ArrayDestructuring(AssignmentTarget restTarget, AssignmentPattern... children) implements AssignmentTarget {
 	@Override
 	public Value<?> assign(Interpreter interpreter, Value<?> value) throws AbruptCompletion {
-		final var iterator = getIterator(interpreter, value);
+		final IteratorRecord iterator = getIterator(interpreter, value);
 
-		ObjectValue iterResult = iterator.next(interpreter, null);
+		boolean done = false;
 		for (final var child : children) {
-			if (child != null) {
-				final Value<?> v = iteratorValue(interpreter, iterResult);
-				child.assign(interpreter, v);
-			}
-
-			iterResult = iterator.next(interpreter, null);
+			final Value<?> next = done ? null : iterator.stepValue(interpreter);
+			if (next == null) done = true;
+			if (child != null) child.assign(interpreter, next == null ? Undefined.instance : next);
 		}
 
 		if (restTarget != null) {
 			final ArrayList<Value<?>> restValues = new ArrayList<>();
-			while (!iteratorComplete(interpreter, iterResult)) {
-				restValues.add(iteratorValue(interpreter, iterResult));
-				iterResult = iterator.next(interpreter, null);
-			}
-
+			if (!done) iterator.collect(interpreter, restValues);
 			restTarget.assign(interpreter, new ArrayObject(interpreter, restValues));
 		}
 
@@ -40,27 +34,20 @@ public record ArrayDestructuring(AssignmentTarget restTarget, AssignmentPattern.
 
 	@Override
 	public void declare(Interpreter interpreter, Kind kind, Value<?> value) throws AbruptCompletion {
-		final var iterator = getIterator(interpreter, value);
+		final IteratorRecord iterator = getIterator(interpreter, value);
 
-		ObjectValue iterResult = iterator.next(interpreter, null);
+		boolean done = false;
 		for (final var child : children) {
-			if (child != null) {
-				final Value<?> v = iteratorValue(interpreter, iterResult);
-				child.declare(interpreter, kind, v);
-			}
-
-			iterResult = iterator.next(interpreter, null);
+			final Value<?> next = done ? null : iterator.stepValue(interpreter);
+			if (next == null) done = true;
+			if (child != null) child.declare(interpreter, kind, next == null ? Undefined.instance : next);
 		}
 
 		if (restTarget != null) {
 			final ArrayList<Value<?>> restValues = new ArrayList<>();
-			while (!iteratorComplete(interpreter, iterResult)) {
-				restValues.add(iteratorValue(interpreter, iterResult));
-				iterResult = iterator.next(interpreter, null);
-			}
-
+			if (!done) iterator.collect(interpreter, restValues);
 			final ArrayObject restArray = new ArrayObject(interpreter, restValues);
 			restTarget.declare(interpreter, kind, restArray);
 		}
 	}
-}
+}
\ No newline at end of file
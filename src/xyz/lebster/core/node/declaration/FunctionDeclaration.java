@@ -5,7 +5,6 @@ import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.node.FunctionNode;
 import xyz.lebster.core.node.FunctionParameters;
 import xyz.lebster.core.node.SourceRange;
-import xyz.lebster.core.node.expression.literal.PrimitiveLiteral;
 import xyz.lebster.core.node.statement.BlockStatement;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
@@ -15,12 +14,18 @@ import xyz.lebster.core.value.primitive.string.StringValue;
 
 import static xyz.lebster.core.node.declaration.Kind.Let;
 
-public record FunctionDeclaration(SourceRange range, BlockStatement body, PrimitiveLiteral<StringValue> name, FunctionParameters parameters) implements FunctionNode, Declaration {
+public record FunctionDeclaration(SourceRange range, BlockStatement body, IdentifierExpression name, FunctionParameters parameters) implements FunctionNode, Declaration {
 	@Override
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
-		final StringValue name = this.name == null ? Names.EMPTY : this.name.execute(interpreter);
-		final ConstructorFunction function = new ConstructorFunction(interpreter.intrinsics, name, interpreter.environment(), this);
-		interpreter.declareVariable(Let, name, function);
+		this.name.declare(interpreter, Let, instantiate(interpreter));
 		return Undefined.instance;
 	}
+
+	/**
+	 * Creates the function, closing over the current environment, without declaring it
+	 */
+	public ConstructorFunction instantiate(Interpreter interpreter) {
+		final StringValue name = this.name == null ? Names.EMPTY : this.name.name();
+		return new ConstructorFunction(interpreter.intrinsics, name, interpreter.environment(), this);
+	}
 }
\ No newline at end of file
@@ -2,31 +2,134 @@ package xyz.lebster.core.node.declaration;
 
 import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.interpreter.BindingReference;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.Reference;
+import xyz.lebster.core.interpreter.environment.DeclarativeEnvironment;
+import xyz.lebster.core.interpreter.environment.Environment;
+import xyz.lebster.core.interpreter.environment.Scope;
 import xyz.lebster.core.node.SourceRange;
 import xyz.lebster.core.node.expression.LeftHandSideExpression;
 import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.error.reference.ReferenceError;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
-public record IdentifierExpression(SourceRange range, StringValue name) implements LeftHandSideExpression {
+import static xyz.lebster.core.interpreter.AbruptCompletion.error;
+
+/**
+ * Identifiers are bound to a (hops, slot) coordinate by the {@link xyz.lebster.core.parser.Resolver}.
+ * Identifiers which were never resolved (e.g. those in expressions parsed on their own) are looked up by name.
+ * A resolved binding which is not in its slot yet (i.e. is used before its declaration has executed) is also looked
+ * up by name, so that it still sees bindings in outer environments.
+ */
+public final class IdentifierExpression implements LeftHandSideExpression {
+	private final SourceRange range;
+	private final StringValue name;
+
+	// The number of environments between the current environment and the one this identifier refers to.
+	// For free names, the number of environments which are statically known not to hold the name.
+	private int hops = -1;
+	private Scope scope;
+	private int slot = -1;
+
+	public IdentifierExpression(SourceRange range, StringValue name) {
+		this.range = range;
+		this.name = name;
+	}
+
 	public IdentifierExpression(SourceRange range, String name) {
-		this(range, new StringValue(name));
+		this(range, StringValue.atom(name));
+	}
+
+	public void resolve(int hops, Scope scope, int slot) {
+		this.hops = hops;
+		this.scope = scope;
+		this.slot = slot;
+	}
+
+	public void resolveFree(int hops) {
+		this.resolve(hops, null, -1);
+	}
+
+	@Override
+	public SourceRange range() {
+		return range;
+	}
+
+	public StringValue name() {
+		return name;
+	}
+
+	public int hops() {
+		return hops;
+	}
+
+	public Scope scope() {
+		return scope;
+	}
+
+	public int slot() {
+		return slot;
 	}
 
 	@Override
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
-		return this.toReference(interpreter).getValue(interpreter);
+		if (slot != -1) {
+			final DeclarativeEnvironment env = resolvedEnvironment(interpreter);
+			if (env != null) {
+				final Value<?> value = env.getSlot(slot);
+				if (value != null) return value;
+			}
+		}
+
+		return this.lookup(interpreter).getValue(interpreter);
 	}
 
 	@Override
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-getidentifierreference")
 	public Reference toReference(Interpreter interpreter) {
-		return interpreter.getBinding(name);
+		if (slot != -1) {
+			final DeclarativeEnvironment env = resolvedEnvironment(interpreter);
+			if (env != null && env.getSlot(slot) != null) return new BindingReference(env, slot);
+		}
+
+		return this.lookup(interpreter);
 	}
 
 	@Override
 	public void declare(Interpreter interpreter, Kind kind, Value<?> value) throws AbruptCompletion {
-		interpreter.declareVariable(kind, name, value);
+		this.initializeBinding(interpreter, interpreter.environment(), value);
+	}
+
+	public void initializeBinding(Interpreter interpreter, Environment environment, Value<?> value) throws AbruptCompletion {
+		if (slot != -1 && environment instanceof final DeclarativeEnvironment env && env.instantiate(scope)) {
+			if (env.getSlot(slot) != null || env.hasUnresolvedBinding(name)) throw alreadyDeclared(interpreter);
+			env.setSlot(slot, value);
+		} else if (environment.hasBinding(name)) {
+			throw alreadyDeclared(interpreter);
+		} else {
+			environment.createBinding(interpreter, name, value);
+		}
+	}
+
+	private AbruptCompletion alreadyDeclared(Interpreter interpreter) {
+		// FIXME: This should be a Syntax Error at parse-time
+		return error(new ReferenceError(interpreter, "Identifier '" + name.value() + "' has already been declared"));
+	}
+
+	private DeclarativeEnvironment resolvedEnvironment(Interpreter interpreter) {
+		Environment env = interpreter.environment();
+		for (int i = 0; i < hops && env != null; i++) env = env.parent();
+		return env instanceof final DeclarativeEnvironment declarativeEnvironment && declarativeEnvironment.isInstanceOf(scope) ? declarativeEnvironment : null;
+	}
+
+	private Reference lookup(Interpreter interpreter) {
+		Environment env = interpreter.environment();
+		if (slot == -1) {
+			// Free names skip the environments which cannot hold them
+			for (int i = 0; i < hops && env.parent() != null; i++) env = env.parent();
+		}
+
+		return interpreter.getBinding(name, env);
 	}
 }
\ No newline at end of file
@@ -7,13 +7,12 @@ import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.object.Key;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.object.PropertyDescriptor;
-import xyz.lebster.core.value.primitive.string.StringValue;
 
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
-public record ObjectDestructuring(Map<Expression, AssignmentPattern> pairs, StringValue restName) implements AssignmentTarget {
+public record ObjectDestructuring(Map<Expression, AssignmentPattern> pairs, IdentifierExpression restName) implements AssignmentTarget {
 	@Override
 	public Value<?> assign(Interpreter interpreter, Value<?> input) throws AbruptCompletion {
 		final ObjectValue objectValue = input.toObjectValue(interpreter);
@@ -27,15 +26,7 @@ public record ObjectDestructuring(Map<Expression, AssignmentPattern> pairs, Stri
 		}
 
 		if (restName != null) {
-			final ObjectValue restObject = new ObjectValue(interpreter.intrinsics);
-			for (final Key<?> key : objectValue.ownPropertyKeys()) {
-				final PropertyDescriptor value = objectValue.getOwnProperty(key);
-				if (!visitedKeys.contains(key) && value.isEnumerable()) {
-					restObject.put(key, objectValue.get(interpreter, key));
-				}
-			}
-
-			interpreter.getBinding(restName).putValue(interpreter, restObject);
+			restName.assign(interpreter, restObject(interpreter, objectValue, visitedKeys));
 		}
 
 		return input;
@@ -54,15 +45,22 @@ public record ObjectDestructuring(Map<Expression, AssignmentPattern> pairs, Stri
 		}
 
 		if (restName != null) {
-			final ObjectValue restObject = new ObjectValue(interpreter.intrinsics);
-			for (final Key<?> key : objectValue.ownPropertyKeys()) {
-				final PropertyDescriptor value = objectValue.getOwnProperty(key);
-				if (!visitedKeys.contains(key) && value.isEnumerable()) {
-					restObject.put(key, objectValue.get(interpreter, key));
-				}
-			}
+			restName.declare(interpreter, kind, restObject(interpreter, objectValue, visitedKeys));
+		}
+	}
 
-			interpreter.declareVariable(kind, restName, restObject);
+	/**
+	 * @return A new object holding the enumerable own properties of `objectValue` whose keys were not visited
+	 */
+	public static ObjectValue restObject(Interpreter interpreter, ObjectValue objectValue, Set<Key<?>> visitedKeys) throws AbruptCompletion {
+		final ObjectValue restObject = new ObjectValue(interpreter.intrinsics);
+		for (final Key<?> key : objectValue.ownPropertyKeys()) {
+			final PropertyDescriptor value = objectValue.getOwnProperty(key);
+			if (!visitedKeys.contains(key) && value.isEnumerable()) {
+				restObject.put(key, objectValue.get(interpreter, key));
+			}
 		}
+
+		return restObject;
 	}
 }
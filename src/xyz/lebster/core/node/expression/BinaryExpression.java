@@ -19,6 +19,12 @@ import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 public record BinaryExpression(SourceRange range, Expression left, Expression right, BinaryOp op) implements Expression {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-applystringornumericbinaryoperator")
 	public static Value<?> applyOperator(Interpreter interpreter, Value<?> left_value, BinaryOp op, Value<?> right_value) throws AbruptCompletion {
+		// Fast paths: ToPrimitive and ToNumeric are no-ops when both operands are already Numbers, or Strings for +
+		if (left_value instanceof final NumberValue x && right_value instanceof final NumberValue y)
+			return applyNumberOperator(x, op, y);
+		if (op == BinaryOp.Add && left_value instanceof final StringValue x && right_value instanceof final StringValue y)
+			return StringValue.concat(x, y);
+
 		// 1. If opText is +, then
 		if (op == BinaryOp.Add) {
 			// a. Let left_primitive be ? ToPrimitive(left_value).
@@ -32,7 +38,7 @@ public record BinaryExpression(SourceRange range, Expression left, Expression ri
 				// ii. Let right_string be ? ToString(right_primitive).
 				final StringValue right_string = right_primitive.toStringValue(interpreter);
 				// iii. Return the string-concatenation of left_string and right_string.
-				return new StringValue(left_string.value + right_string.value);
+				return StringValue.concat(left_string, right_string);
 			} else {
 				// d. Set left_value to left_primitive.
 				left_value = left_primitive;
@@ -78,25 +84,30 @@ public record BinaryExpression(SourceRange range, Expression left, Expression ri
 			}
 		});
 
-		if (left_num instanceof NumberValue x && right_num instanceof final NumberValue y) return new NumberValue(switch (op) {
-			case Add -> x.value + y.value;
-			case Divide -> x.value / y.value;
-			case Exponentiate -> Math.pow(x.value, y.value);
-			case Multiply -> x.value * y.value;
-			case Remainder -> x.value % y.value;
-			case Subtract -> x.value - y.value;
-
-			case BitwiseAND -> (double) (x.toInt32() & y.toInt32());
-			case BitwiseOR -> (double) (x.toInt32() | y.toInt32());
-			case BitwiseXOR -> (double) (x.toInt32() ^ y.toInt32());
-			case LeftShift -> (double) (x.toInt32() << (y.toUint32() % 32));
-			case SignedRightShift -> (double) (x.toInt32() >> (y.toUint32() % 32));
-			case UnsignedRightShift -> (double) (x.toUint32() >>> (y.toUint32() % 32));
-		});
+		if (left_num instanceof final NumberValue x && right_num instanceof final NumberValue y)
+			return applyNumberOperator(x, op, y);
 
 		throw new ShouldNotHappen("Attempting to mix BigInts and Numbers");
 	}
 
+	private static NumberValue applyNumberOperator(NumberValue x, BinaryOp op, NumberValue y) {
+		return switch (op) {
+			case Add -> NumberValue.of(x.value + y.value);
+			case Divide -> NumberValue.of(x.value / y.value);
+			case Exponentiate -> NumberValue.of(Math.pow(x.value, y.value));
+			case Multiply -> NumberValue.of(x.value * y.value);
+			case Remainder -> NumberValue.of(x.value % y.value);
+			case Subtract -> NumberValue.of(x.value - y.value);
+
+			case BitwiseAND -> NumberValue.of(x.toInt32() & y.toInt32());
+			case BitwiseOR -> NumberValue.of(x.toInt32() | y.toInt32());
+			case BitwiseXOR -> NumberValue.of(x.toInt32() ^ y.toInt32());
+			case LeftShift -> NumberValue.of(x.toInt32() << (y.toUint32() % 32));
+			case SignedRightShift -> NumberValue.of(x.toInt32() >> (y.toUint32() % 32));
+			case UnsignedRightShift -> NumberValue.of((double) (x.toUint32() >>> (y.toUint32() % 32)));
+		};
+	}
+
 	@Override
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-evaluatestringornumericbinaryexpression")
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
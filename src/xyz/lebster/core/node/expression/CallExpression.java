@@ -4,7 +4,7 @@ import xyz.lebster.core.NonStandard;
 import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
-import xyz.lebster.core.interpreter.Reference;
+import xyz.lebster.core.interpreter.PropertyReference;
 import xyz.lebster.core.node.SourceRange;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.error.type.TypeError;
@@ -22,8 +22,8 @@ public record CallExpression(SourceRange range, Expression callee, ExpressionLis
 		final ObjectValue thisValue;
 		if (callee instanceof final MemberExpression memberExpression) {
 			// toReference is being used to handle executing the base, property, and lookup in one
-			final Reference reference = memberExpression.toReference(interpreter);
-			func = reference.getValue(interpreter);
+			final PropertyReference reference = memberExpression.toReference(interpreter);
+			func = memberExpression.getValue(interpreter, reference);
 			thisValue = reference.base();
 		} else {
 			func = callee.execute(interpreter);
@@ -35,7 +35,7 @@ public record CallExpression(SourceRange range, Expression callee, ExpressionLis
 		return getExecutable(interpreter, func).call(interpreter, thisValue, executedArguments);
 	}
 
-	private Executable getExecutable(Interpreter interpreter, Value<?> value) throws AbruptCompletion {
+	public Executable getExecutable(Interpreter interpreter, Value<?> value) throws AbruptCompletion {
 		if (value instanceof final Executable executable)
 			return executable;
 
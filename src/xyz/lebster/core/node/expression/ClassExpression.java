@@ -42,13 +42,21 @@ public record ClassExpression(
 	@Override
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-runtime-semantics-classdefinitionevaluation")
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
+		return evaluate(interpreter, heritage == null ? null : heritage.execute(interpreter));
+	}
+
+	/**
+	 * Equivalent to {@link #execute(Interpreter)}, given the result of executing the heritage
+	 *
+	 * @param executedParentClass The value of the `extends` clause, or null if there is none
+	 */
+	public Value<?> evaluate(Interpreter interpreter, Value<?> executedParentClass) throws AbruptCompletion {
 		if (constructor == null) throw new NotImplemented("Creating classes without constructors");
 
 		ObjectValue protoParent = interpreter.intrinsics.objectPrototype;
 		ObjectValue constructorParent = interpreter.intrinsics.functionPrototype;
 
-		if (heritage != null) {
-			final Value<?> executedParentClass = heritage.execute(interpreter);
+		if (executedParentClass != null) {
 			if (executedParentClass == Null.instance) {
 				protoParent = null;
 			} else {
@@ -145,9 +153,9 @@ public record ClassExpression(
 
 		@Override
 		public Value<?> internalCall(Interpreter interpreter, Value<?>... arguments) throws AbruptCompletion {
-			final String message = this.name.value.isEmpty() ?
+			final String message = this.name.value().isEmpty() ?
 				"Class constructors cannot be invoked without 'new'" :
-				"Class constructor %s cannot be invoked without 'new'".formatted(this.name.value);
+				"Class constructor %s cannot be invoked without 'new'".formatted(this.name.value());
 			throw error(new TypeError(interpreter, message));
 		}
 	}
@@ -6,6 +6,8 @@ import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.node.SourceRange;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
+import xyz.lebster.core.value.primitive.number.NumberValue;
+import xyz.lebster.core.value.primitive.string.StringValue;
 
 public record EqualityExpression(SourceRange range, Expression left, Expression right, EqualityOp op) implements Expression {
 	@Override
@@ -13,10 +15,23 @@ public record EqualityExpression(SourceRange range, Expression left, Expression
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
 		final Value<?> x = left.execute(interpreter);
 		final Value<?> y = right.execute(interpreter);
+		return applyOperator(x, op, y);
+	}
+
+	public static BooleanValue applyOperator(Value<?> x, EqualityOp op, Value<?> y) {
+		final boolean equal;
+		// Fast paths: Number::equal is Java's double equality (NaN is unequal, and +0 equals -0)
+		if (x instanceof final NumberValue nx && y instanceof final NumberValue ny) {
+			equal = nx.value.doubleValue() == ny.value.doubleValue();
+		} else if (x instanceof final StringValue sx && y instanceof final StringValue sy) {
+			equal = sx.value().equals(sy.value());
+		} else {
+			equal = x.isStrictlyEqual(y);
+		}
 
 		return BooleanValue.of(switch (op) {
-			case StrictEquals, LooseEquals -> x.isStrictlyEqual(y);
-			case StrictNotEquals, LooseNotEquals -> !x.isStrictlyEqual(y);
+			case StrictEquals, LooseEquals -> equal;
+			case StrictNotEquals, LooseNotEquals -> !equal;
 		});
 	}
 
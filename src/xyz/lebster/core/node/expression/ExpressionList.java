@@ -6,6 +6,7 @@ import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.value.Value;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static xyz.lebster.core.value.iterator.IteratorPrototype.getIterator;
 
@@ -43,12 +44,29 @@ public record ExpressionList(boolean canHaveEmpty, ArrayList<ExpressionNode> bac
 		return result.toArray(new Value[0]);
 	}
 
+	public List<Expression> expressions() {
+		final ArrayList<Expression> result = new ArrayList<>(backingList.size());
+		for (final ExpressionNode node : backingList) {
+			if (node.expression != null) result.add(node.expression);
+		}
+
+		return result;
+	}
+
+	public boolean hasSpread() {
+		for (final ExpressionNode node : backingList) {
+			if (node.type == ExpressionNode.Type.SPREAD) return true;
+		}
+
+		return false;
+	}
+
 	public boolean isEmpty() {
 		return backingList.isEmpty();
 	}
 
-	private record ExpressionNode(Expression expression, Type type) {
-		private enum Type { SINGLE, EMPTY, SPREAD }
+	public record ExpressionNode(Expression expression, Type type) {
+		public enum Type { SINGLE, EMPTY, SPREAD }
 	}
 }
 
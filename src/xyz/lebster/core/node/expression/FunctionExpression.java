@@ -1,21 +1,22 @@
 package xyz.lebster.core.node.expression;
 
 import xyz.lebster.core.SpecificationURL;
+import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.environment.DeclarativeEnvironment;
 import xyz.lebster.core.interpreter.environment.Environment;
 import xyz.lebster.core.node.FunctionNode;
 import xyz.lebster.core.node.FunctionParameters;
 import xyz.lebster.core.node.SourceRange;
-import xyz.lebster.core.node.expression.literal.PrimitiveLiteral;
+import xyz.lebster.core.node.declaration.IdentifierExpression;
 import xyz.lebster.core.node.statement.BlockStatement;
 import xyz.lebster.core.value.function.ConstructorFunction;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
-public record FunctionExpression(SourceRange range, BlockStatement body, PrimitiveLiteral<StringValue> name, FunctionParameters parameters) implements FunctionNode, Expression {
+public record FunctionExpression(SourceRange range, BlockStatement body, IdentifierExpression name, FunctionParameters parameters) implements FunctionNode, Expression {
 	@Override
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-runtime-semantics-instantiateordinaryfunctionexpression")
-	public ConstructorFunction execute(Interpreter interpreter) {
+	public ConstructorFunction execute(Interpreter interpreter) throws AbruptCompletion {
 		if (name == null) {
 			// 1. If name is not present, set name to "".
 			final StringValue name = StringValue.EMPTY;
@@ -31,7 +32,7 @@ public record FunctionExpression(SourceRange range, BlockStatement body, Primiti
 		} else {
 			// 1. Assert: name is not present.
 			// 2. Set name to the StringValue of BindingIdentifier.
-			final StringValue name = this.name.value();
+			final StringValue name = this.name.name();
 			// 3. Let outerEnv be the running execution context's LexicalEnvironment.
 			final Environment outerEnv = interpreter.environment();
 			// 4. Let funcEnv be NewDeclarativeEnvironment(outerEnv).
@@ -44,7 +45,7 @@ public record FunctionExpression(SourceRange range, BlockStatement body, Primiti
 			// 10. Perform MakeConstructor(closure).
 			final ConstructorFunction closure = new ConstructorFunction(interpreter.intrinsics, name, funcEnv, this);
 			// 11. Perform ! funcEnv.InitializeBinding(name, closure).
-			funcEnv.createBinding(interpreter, name, closure);
+			this.name.initializeBinding(interpreter, funcEnv, closure);
 			// 12. Return closure.
 			return closure;
 		}
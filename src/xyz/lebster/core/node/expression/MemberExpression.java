@@ -3,32 +3,164 @@ package xyz.lebster.core.node.expression;
 import xyz.lebster.core.exception.ShouldNotHappen;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
-import xyz.lebster.core.interpreter.Reference;
+import xyz.lebster.core.interpreter.PropertyReference;
 import xyz.lebster.core.node.SourceRange;
 import xyz.lebster.core.node.declaration.Kind;
 import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.array.ArrayObject;
 import xyz.lebster.core.value.error.type.TypeError;
+import xyz.lebster.core.value.globals.Undefined;
+import xyz.lebster.core.value.object.InlineCache;
 import xyz.lebster.core.value.object.Key;
+import xyz.lebster.core.value.object.ObjectValue;
+import xyz.lebster.core.value.object.PropertyDescriptor;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 
-public record MemberExpression(SourceRange range, Expression base, Expression property, boolean computed) implements LeftHandSideExpression {
+public final class MemberExpression implements LeftHandSideExpression {
+	private final SourceRange range;
+	private final Expression base;
+	private final Expression property;
+	private final boolean computed;
+	// Non-computed keys are IdentifierNames, so never array indices, and are never handled by exotic objects
+	private final InlineCache cache;
+
+	public MemberExpression(SourceRange range, Expression base, Expression property, boolean computed) {
+		this.range = range;
+		this.base = base;
+		this.property = property;
+		this.computed = computed;
+		this.cache = computed ? null : new InlineCache();
+	}
+
+	@Override
+	public SourceRange range() {
+		return range;
+	}
+
+	public Expression base() {
+		return base;
+	}
+
+	public Expression property() {
+		return property;
+	}
+
+	public boolean computed() {
+		return computed;
+	}
+
+	/**
+	 * @return The inline cache of this access, or null if the key is computed
+	 */
+	public InlineCache cache() {
+		return cache;
+	}
+
 	@Override
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
-		return toReference(interpreter).getValue(interpreter);
+		final Value<?> executedBase = base.execute(interpreter);
+		return evaluate(interpreter, executedBase, property.execute(interpreter));
+	}
+
+	/**
+	 * Equivalent to {@link #execute(Interpreter)}, given the results of executing the base and property
+	 */
+	public Value<?> evaluate(Interpreter interpreter, Value<?> executedBase, Value<?> executedProperty) throws AbruptCompletion {
+		// Fast path: Number-keyed access to an array element skips converting the index to a property key
+		if (computed && executedBase instanceof final ArrayObject array) {
+			final int index = ArrayObject.toElementIndex(executedProperty);
+			if (index != -1) {
+				final Value<?> element = array.getElement(index);
+				if (element != null) return element;
+			}
+		}
+
+		return getValue(interpreter, toReference(interpreter, executedBase, executedProperty));
 	}
 
 	@Override
-	public Reference toReference(Interpreter interpreter) throws AbruptCompletion {
+	public PropertyReference toReference(Interpreter interpreter) throws AbruptCompletion {
 		final Value<?> executedBase = base.execute(interpreter);
-		final Key<?> executedProp = property.execute(interpreter).toPropertyKey(interpreter);
+		return toReference(interpreter, executedBase, property.execute(interpreter));
+	}
+
+	/**
+	 * Equivalent to {@link #toReference(Interpreter)}, given the results of executing the base and property
+	 */
+	public PropertyReference toReference(Interpreter interpreter, Value<?> executedBase, Value<?> executedProperty) throws AbruptCompletion {
+		final Key<?> executedProp = executedProperty.toPropertyKey(interpreter);
 
 		if (executedBase.isNullish()) {
 			final String msg = "Cannot read property '" + executedProp.value + "' of " + executedBase;
 			throw error(new TypeError(interpreter, msg));
 		}
 
-		return new Reference(executedBase.toObjectValue(interpreter), executedProp);
+		return new PropertyReference(executedBase.toObjectValue(interpreter), executedProp);
+	}
+
+	/**
+	 * Equivalent to `reference.getValue(interpreter)`, where `reference` was created by this expression
+	 */
+	public Value<?> getValue(Interpreter interpreter, PropertyReference reference) throws AbruptCompletion {
+		if (cache == null) return reference.getValue(interpreter);
+		final ObjectValue object = reference.base();
+		final PropertyDescriptor descriptor = cache.getProperty(object, reference.referencedName());
+		return descriptor == null ? Undefined.instance : descriptor.get(interpreter, object);
+	}
+
+	/**
+	 * Equivalent to `reference.putValue(interpreter, value)`, where `reference` was created by this expression
+	 */
+	public void putValue(Interpreter interpreter, PropertyReference reference, Value<?> value) throws AbruptCompletion {
+		if (cache != null) {
+			final PropertyDescriptor descriptor = cache.getOwnProperty(reference.base());
+			if (descriptor != null && descriptor.isWritable()) {
+				descriptor.set(interpreter, reference.base(), value);
+				return;
+			}
+		}
+
+		reference.putValue(interpreter, value);
+	}
+
+	@Override
+	public Value<?> assign(Interpreter interpreter, Value<?> value) throws AbruptCompletion {
+		final Value<?> executedBase = base.execute(interpreter);
+		final Value<?> executedProperty = property.execute(interpreter);
+		if (computed && setElement(executedBase, executedProperty, value)) return value;
+		putValue(interpreter, toReference(interpreter, executedBase, executedProperty), value);
+		return value;
+	}
+
+	@Override
+	public Value<?> assign(Interpreter interpreter, Expression expression) throws AbruptCompletion {
+		// Ensure the LeftHandSideExpression is evaluated first
+		final Value<?> executedBase = base.execute(interpreter);
+		final Value<?> executedProperty = property.execute(interpreter);
+		if (computed && executedBase instanceof ArrayObject && ArrayObject.toElementIndex(executedProperty) != -1) {
+			// Converting a Number to a property key has no side effects, so can be skipped until it is needed
+			final Value<?> value = this.namedEvaluation(interpreter, expression);
+			if (!setElement(executedBase, executedProperty, value))
+				putValue(interpreter, toReference(interpreter, executedBase, executedProperty), value);
+			return value;
+		}
+
+		final PropertyReference reference = toReference(interpreter, executedBase, executedProperty);
+		final Value<?> value = this.namedEvaluation(interpreter, expression);
+		putValue(interpreter, reference, value);
+		return value;
+	}
+
+	/**
+	 * Fast path for Number-keyed writes to array elements, which skips converting the index to a property key
+	 *
+	 * @return false if the generic path must be used instead
+	 */
+	private static boolean setElement(Value<?> executedBase, Value<?> executedProperty, Value<?> value) {
+		if (!(executedBase instanceof final ArrayObject array)) return false;
+		final int index = ArrayObject.toElementIndex(executedProperty);
+		return index != -1 && array.setElement(index, value);
 	}
 
 	@Override
@@ -16,6 +16,13 @@ public record NewExpression(SourceRange range, Expression constructExpr, Express
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
 		final Value<?> value = constructExpr.execute(interpreter);
 		final Value<?>[] executedArguments = arguments == null ? new Value[0] : arguments.executeAll(interpreter);
+		return construct(interpreter, value, executedArguments);
+	}
+
+	/**
+	 * Equivalent to {@link #execute(Interpreter)}, given the results of executing the constructor and arguments
+	 */
+	public Value<?> construct(Interpreter interpreter, Value<?> value, Value<?>[] executedArguments) throws AbruptCompletion {
 		if (value instanceof final Constructor constructor) {
 			return constructor.construct(interpreter, executedArguments, constructor);
 		} else {
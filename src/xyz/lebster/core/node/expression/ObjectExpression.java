@@ -8,6 +8,7 @@ import xyz.lebster.core.interpreter.environment.Environment;
 import xyz.lebster.core.node.FunctionNode;
 import xyz.lebster.core.node.FunctionParameters;
 import xyz.lebster.core.node.SourceRange;
+import xyz.lebster.core.node.declaration.IdentifierExpression;
 import xyz.lebster.core.node.statement.BlockStatement;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.function.Executable;
@@ -99,29 +100,36 @@ public final class ObjectExpression implements Expression {
 		public void insertInto(ObjectValue result, Interpreter interpreter) throws AbruptCompletion {
 			final OrdinaryFunction function = this.value.execute(interpreter);
 			final Key<?> key = this.value.name.execute(interpreter).toPropertyKey(interpreter);
-			final String newName = "%s %s".formatted(getter ? "get" : "set", key.toFunctionName().value);
+			final String newName = "%s %s".formatted(getter ? "get" : "set", key.toFunctionName().value());
 			function.setName(new StringValue(newName));
 			result.put(key, function, true, true, true);
-			final var existing = result.value.get(key) instanceof AccessorDescriptor A ? A : null;
+			final var existing = result.properties().get(key) instanceof AccessorDescriptor A ? A : null;
 			final var descriptor = existing == null ? new AccessorDescriptor(null, null, true, true) : existing;
 			if (getter) descriptor.setGetter(function);
 			else descriptor.setSetter(function);
-			if (existing == null) result.value.put(key, descriptor);
+			if (existing == null) result.properties().put(key, descriptor);
 		}
 	}
 
-	public record ShorthandNode(StringValue key) implements ObjectEntryNode {
+	public record ShorthandNode(IdentifierExpression identifier) implements ObjectEntryNode {
 		@Override
 		public void insertInto(ObjectValue result, Interpreter interpreter) throws AbruptCompletion {
-			result.put(key, interpreter.getBinding(key).getValue(interpreter), true, true, true);
+			result.put(identifier.name(), identifier.execute(interpreter), true, true, true);
 		}
 	}
 
 	public record SpreadNode(Expression name) implements ObjectEntryNode {
 		@Override
 		public void insertInto(ObjectValue result, Interpreter interpreter) throws AbruptCompletion {
-			final ObjectValue value = name.execute(interpreter).toObjectValue(interpreter);
-			for (final var entry : value.value.entrySet()) {
+			copyDataProperties(interpreter, result, name.execute(interpreter));
+		}
+
+		/**
+		 * Copies the enumerable own properties of `source` into `result`, as spreading it into an object literal does
+		 */
+		public static void copyDataProperties(Interpreter interpreter, ObjectValue result, Value<?> source) throws AbruptCompletion {
+			final ObjectValue value = source.toObjectValue(interpreter);
+			for (final var entry : value.properties().entrySet()) {
 				if (entry.getValue().isEnumerable()) {
 					result.put(entry.getKey(), value.get(interpreter, entry.getKey()));
 				}
@@ -1,6 +1,7 @@
 package xyz.lebster.core.node.expression;
 
 import xyz.lebster.core.SpecificationURL;
+import xyz.lebster.core.exception.ShouldNotHappen;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.node.SourceRange;
@@ -9,6 +10,8 @@ import xyz.lebster.core.value.error.type.TypeError;
 import xyz.lebster.core.value.function.Executable;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
+import xyz.lebster.core.value.primitive.number.NumberValue;
+import xyz.lebster.core.value.primitive.string.StringValue;
 import xyz.lebster.core.value.primitive.symbol.SymbolValue;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
@@ -20,6 +23,37 @@ public record RelationalExpression(SourceRange range, Expression left, Expressio
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
 		final Value<?> x = left.execute(interpreter);
 		final Value<?> y = right.execute(interpreter);
+		return applyOperator(interpreter, x, op, y);
+	}
+
+	public static BooleanValue applyOperator(Interpreter interpreter, Value<?> x, RelationalOp op, Value<?> y) throws AbruptCompletion {
+		// Fast paths: IsLessThan reduces to a plain comparison when both operands are Numbers or both are Strings
+		if (op != RelationalOp.In && op != RelationalOp.InstanceOf) {
+			if (x instanceof final NumberValue nx && y instanceof final NumberValue ny) {
+				// Java's double comparisons are false for NaN, matching an undefined result from IsLessThan
+				final double a = nx.value;
+				final double b = ny.value;
+				return BooleanValue.of(switch (op) {
+					case LessThan -> a < b;
+					case GreaterThan -> a > b;
+					case LessThanEquals -> a <= b;
+					case GreaterThanEquals -> a >= b;
+					default -> throw new ShouldNotHappen("Invalid relational operator");
+				});
+			}
+
+			if (x instanceof final StringValue sx && y instanceof final StringValue sy) {
+				// String#compareTo compares UTF-16 code units, as IsLessThan does
+				final int comparison = sx.value().compareTo(sy.value());
+				return BooleanValue.of(switch (op) {
+					case LessThan -> comparison < 0;
+					case GreaterThan -> comparison > 0;
+					case LessThanEquals -> comparison <= 0;
+					case GreaterThanEquals -> comparison >= 0;
+					default -> throw new ShouldNotHappen("Invalid relational operator");
+				});
+			}
+		}
 
 		return switch (op) {
 			case LessThan -> {
@@ -72,7 +106,7 @@ public record RelationalExpression(SourceRange range, Expression left, Expressio
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-instanceofoperator")
-	private BooleanValue instanceofOperator(Interpreter interpreter, Value<?> V, Value<?> target_) throws AbruptCompletion {
+	private static BooleanValue instanceofOperator(Interpreter interpreter, Value<?> V, Value<?> target_) throws AbruptCompletion {
 		// 1. If Type(target) is not Object, throw a TypeError exception.
 		if (!(target_ instanceof final ObjectValue target))
 			throw error(new TypeError(interpreter, "Right-hand side of `instanceof` is not an object"));
@@ -46,7 +46,7 @@ public record UnaryExpression(SourceRange range, Expression expression, UnaryOp
 		// 3. If oldValue is a Number, then
 		if (oldValue instanceof final NumberValue N) {
 			// a. Return Number::unaryMinus(oldValue).
-			return new NumberValue(-N.value);
+			return NumberValue.of(-N.value);
 		}
 		// 4. Else,
 		else {
@@ -66,7 +66,7 @@ public record UnaryExpression(SourceRange range, Expression expression, UnaryOp
 		// 3. If oldValue is a Number, then
 		if (oldValue instanceof final NumberValue N) {
 			// a. Return Number::bitwiseNOT(oldValue).
-			return new NumberValue(~N.toInt32());
+			return NumberValue.of(~N.toInt32());
 		}
 		// 4. Else,
 		else {
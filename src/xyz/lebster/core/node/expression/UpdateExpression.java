@@ -32,7 +32,7 @@ public record UpdateExpression(SourceRange range, LeftHandSideExpression express
 	}
 
 	private NumericValue<?> applyOperator(NumericValue<?> oldValue) {
-		if (oldValue instanceof final NumberValue N) return new NumberValue(switch (op) {
+		if (oldValue instanceof final NumberValue N) return NumberValue.of(switch (op) {
 			case PostIncrement, PreIncrement -> N.value + 1;
 			case PostDecrement, PreDecrement -> N.value - 1;
 		});
@@ -9,31 +9,38 @@ import xyz.lebster.core.value.primitive.string.StringValue;
 import java.util.List;
 
 public record TemplateLiteral(SourceRange range, List<TemplateLiteralNode> backingList) implements Expression {
+	// Substitutions at least this long are concatenated rather than copied, so that a string which is
+	// built up by repeatedly substituting it into a template is not copied every time
+	private static final int MIN_CONCATENATED_LENGTH = 1024;
+
 	@Override
 	public StringValue execute(Interpreter interpreter) throws AbruptCompletion {
+		StringValue result = StringValue.EMPTY;
 		final StringBuilder builder = new StringBuilder();
 		for (final TemplateLiteralNode node : this.backingList) {
-			node.append(interpreter, builder);
+			switch (node) {
+				case TemplateLiteralSpanNode span -> builder.append(span.string());
+				case TemplateLiteralExpressionNode substitution -> {
+					final StringValue string = substitution.expression().execute(interpreter).toStringValue(interpreter);
+					if (string.length() < MIN_CONCATENATED_LENGTH) {
+						builder.append(string.value());
+					} else {
+						result = StringValue.concat(StringValue.concat(result, new StringValue(builder.toString())), string);
+						builder.setLength(0);
+					}
+				}
+			}
 		}
 
-		return new StringValue(builder.toString());
+		return StringValue.concat(result, new StringValue(builder.toString()));
 	}
 
 	public sealed interface TemplateLiteralNode {
-		void append(Interpreter interpreter, StringBuilder builder) throws AbruptCompletion;
 	}
 
 	public record TemplateLiteralSpanNode(String string) implements TemplateLiteralNode {
-		@Override
-		public void append(Interpreter interpreter, StringBuilder builder) {
-			builder.append(string);
-		}
 	}
 
 	public record TemplateLiteralExpressionNode(Expression expression) implements TemplateLiteralNode {
-		@Override
-		public void append(Interpreter interpreter, StringBuilder builder) throws AbruptCompletion {
-			builder.append(expression.execute(interpreter).toStringValue(interpreter).value);
-		}
 	}
 }
@@ -29,4 +29,21 @@ public record BlockStatement(SourceRange range, List<Statement> children) implem
 
 		return lastValue;
 	}
+
+	/**
+	 * Executes the block as the body of a function. Top-level `return` statements are evaluated
+	 * directly rather than being thrown as an {@link AbruptCompletion}, so only returns nested
+	 * inside other statements have to unwind.
+	 */
+	public Value<?> executeFunctionBody(Interpreter interpreter) throws AbruptCompletion {
+		for (final Statement child : children) {
+			if (child instanceof final ReturnStatement returnStatement) {
+				return returnStatement.evaluateValue(interpreter);
+			}
+
+			child.execute(interpreter);
+		}
+
+		return Undefined.instance;
+	}
 }
\ No newline at end of file
@@ -13,6 +13,6 @@ public record BreakStatement(SourceRange range) implements Statement {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-break-statement-runtime-semantics-evaluation")
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
 		// FIXME: Follow spec (labels)
-		throw new AbruptCompletion(null, AbruptCompletion.Type.Break);
+		throw AbruptCompletion.BREAK;
 	}
 }
\ No newline at end of file
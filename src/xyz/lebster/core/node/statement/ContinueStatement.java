@@ -13,6 +13,6 @@ public record ContinueStatement(SourceRange range) implements Statement {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-continue-statement-runtime-semantics-evaluation")
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
 		// FIXME: Follow spec (labels)
-		throw new AbruptCompletion(null, AbruptCompletion.Type.Continue);
+		throw AbruptCompletion.CONTINUE;
 	}
 }
\ No newline at end of file
@@ -11,7 +11,7 @@ import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.globals.Undefined;
 import xyz.lebster.core.value.iterator.IteratorRecord;
 
-import static xyz.lebster.core.value.iterator.IteratorPrototype.*;
+import static xyz.lebster.core.value.iterator.IteratorPrototype.getIterator;
 
 public record ForOfStatement(SourceRange range, Assignable left, Expression right, Statement body) implements Statement {
 	@Override
@@ -20,17 +20,17 @@ public record ForOfStatement(SourceRange range, Assignable left, Expression righ
 		final IteratorRecord iterator = getIterator(interpreter, right);
 
 		Value<?> lastValue = Undefined.instance;
-		var iterResult = iterator.next(interpreter, null);
-		while (!iteratorComplete(interpreter, iterResult)) {
+		Value<?> nextValue = iterator.stepValue(interpreter);
+		while (nextValue != null) {
 			final ExecutionContext context = interpreter.pushContextWithNewEnvironment();
 
 			try {
-				left.assign(interpreter, iteratorValue(interpreter, iterResult));
+				left.assign(interpreter, nextValue);
 				try {
 					lastValue = body.execute(interpreter);
 				} catch (AbruptCompletion completion) {
 					if (completion.type == AbruptCompletion.Type.Continue) {
-						iterResult = iterator.next(interpreter, null);
+						nextValue = iterator.stepValue(interpreter);
 						continue;
 					}
 					if (completion.type == AbruptCompletion.Type.Break) break;
@@ -39,7 +39,7 @@ public record ForOfStatement(SourceRange range, Assignable left, Expression righ
 			} finally {
 				interpreter.exitExecutionContext(context);
 			}
-			iterResult = iterator.next(interpreter, null);
+			nextValue = iterator.stepValue(interpreter);
 		}
 
 		return lastValue;
@@ -10,7 +10,10 @@ import xyz.lebster.core.value.globals.Undefined;
 public record ReturnStatement(SourceRange range, Expression value) implements Statement {
 	@Override
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
-		final Value<?> valueToReturn = value == null ? Undefined.instance : value.execute(interpreter);
-		throw new AbruptCompletion(valueToReturn, AbruptCompletion.Type.Return);
+		throw AbruptCompletion.returnValue(evaluateValue(interpreter));
+	}
+
+	public Value<?> evaluateValue(Interpreter interpreter) throws AbruptCompletion {
+		return value == null ? Undefined.instance : value.execute(interpreter);
 	}
 }
\ No newline at end of file
@@ -5,11 +5,11 @@ import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.environment.ExecutionContext;
 import xyz.lebster.core.node.SourceRange;
 import xyz.lebster.core.value.Value;
-import xyz.lebster.core.value.primitive.string.StringValue;
+import xyz.lebster.core.node.declaration.IdentifierExpression;
 
 import static xyz.lebster.core.node.declaration.Kind.Let;
 
-public record TryStatement(SourceRange range, BlockStatement body, StringValue catchParameter, BlockStatement catchBody, BlockStatement finallyBody) implements Statement {
+public record TryStatement(SourceRange range, BlockStatement body, IdentifierExpression catchParameter, BlockStatement catchBody, BlockStatement finallyBody) implements Statement {
 	@Override
 	public Value<?> execute(Interpreter interpreter) throws AbruptCompletion {
 		try {
@@ -18,7 +18,7 @@ public record TryStatement(SourceRange range, BlockStatement body, StringValue c
 			if (completion.type != AbruptCompletion.Type.Throw) throw completion;
 			final ExecutionContext context = interpreter.pushContextWithNewEnvironment();
 			if (catchParameter != null) {
-				interpreter.declareVariable(Let, catchParameter, completion.value);
+				catchParameter.declare(interpreter, Let, completion.value);
 			}
 
 			try {
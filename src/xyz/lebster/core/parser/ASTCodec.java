@@ -0,0 +1,395 @@
+package xyz.lebster.core.parser;
+
+import xyz.lebster.core.exception.ShouldNotHappen;
+import xyz.lebster.core.interpreter.environment.Scope;
+import xyz.lebster.core.node.SourceRange;
+import xyz.lebster.core.node.SourceText;
+import xyz.lebster.core.node.declaration.IdentifierExpression;
+import xyz.lebster.core.node.expression.Expression;
+import xyz.lebster.core.node.expression.MemberExpression;
+import xyz.lebster.core.node.expression.ObjectExpression;
+import xyz.lebster.core.node.statement.EmptyStatement;
+import xyz.lebster.core.value.globals.Null;
+import xyz.lebster.core.value.globals.Undefined;
+import xyz.lebster.core.value.primitive.bigint.BigIntValue;
+import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
+import xyz.lebster.core.value.primitive.number.NumberValue;
+import xyz.lebster.core.value.primitive.string.StringValue;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * A compact binary encoding of ASTs, used by the {@link CodeCache}.
+ * <p>
+ * Most nodes are records, which are encoded generically as their components and rebuilt through their canonical
+ * constructor. The few nodes which are not records are encoded by hand. Node classes are referred to by an index
+ * into a table which is built up as the tree is written, so each class name is only written once.
+ * Source ranges refer to the source text the tree was parsed from, which must be supplied when reading.
+ */
+final class ASTCodec {
+	private static final byte NULL = 0;
+	private static final byte RECORD = 1;
+	private static final byte ENUM = 2;
+	private static final byte LIST = 3;
+	private static final byte MAP = 4;
+	private static final byte ARRAY = 5;
+	private static final byte STRING = 6;
+	private static final byte TRUE = 7;
+	private static final byte FALSE = 8;
+	private static final byte SOURCE_RANGE = 9;
+	private static final byte STRING_VALUE = 10;
+	private static final byte NUMBER_VALUE = 11;
+	private static final byte BIGINT_VALUE = 12;
+	private static final byte TRUE_VALUE = 13;
+	private static final byte FALSE_VALUE = 14;
+	private static final byte UNDEFINED = 15;
+	private static final byte NULL_VALUE = 16;
+	private static final byte IDENTIFIER = 17;
+	private static final byte MEMBER = 18;
+	private static final byte OBJECT_EXPRESSION = 19;
+	private static final byte EMPTY_STATEMENT = 20;
+	private static final byte ATOM_VALUE = 21;
+
+	private static final int NEW_SCOPE = -2;
+
+	// Class metadata is shared between every reader and writer
+	private static final ClassValue<RecordComponent[]> COMPONENTS = new ClassValue<>() {
+		@Override
+		protected RecordComponent[] computeValue(Class<?> type) {
+			final RecordComponent[] components = type.getRecordComponents();
+			for (final RecordComponent component : components) component.getAccessor().setAccessible(true);
+			return components;
+		}
+	};
+
+	private static final ClassValue<Constructor<?>> CONSTRUCTORS = new ClassValue<>() {
+		@Override
+		protected Constructor<?> computeValue(Class<?> type) {
+			final RecordComponent[] components = COMPONENTS.get(type);
+			final Class<?>[] parameterTypes = new Class<?>[components.length];
+			for (int i = 0; i < components.length; i++) parameterTypes[i] = components[i].getType();
+			try {
+				final Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+				constructor.setAccessible(true);
+				return constructor;
+			} catch (NoSuchMethodException e) {
+				throw new ShouldNotHappen("Record " + type.getName() + " has no canonical constructor");
+			}
+		}
+	};
+
+	private ASTCodec() {
+	}
+
+	static final class Writer {
+		private final DataOutput output;
+		private final IdentityHashMap<Class<?>, Integer> classes = new IdentityHashMap<>();
+		private final IdentityHashMap<Scope, Integer> scopes = new IdentityHashMap<>();
+		private final HashMap<String, Integer> strings = new HashMap<>();
+
+		Writer(DataOutput output) {
+			this.output = output;
+		}
+
+		void write(Object object) throws IOException {
+			switch (object) {
+				case null -> output.writeByte(NULL);
+				case final SourceRange range -> {
+					output.writeByte(SOURCE_RANGE);
+					output.writeInt(range.startIndex);
+					output.writeInt(range.endIndex);
+				}
+
+				case final IdentifierExpression identifier -> {
+					output.writeByte(IDENTIFIER);
+					write(identifier.range());
+					writeString(identifier.name().value());
+					output.writeInt(identifier.hops());
+					writeScope(identifier.scope());
+					output.writeInt(identifier.slot());
+				}
+
+				case final MemberExpression member -> {
+					output.writeByte(MEMBER);
+					write(member.range());
+					write(member.base());
+					write(member.property());
+					output.writeBoolean(member.computed());
+				}
+
+				case final ObjectExpression objectExpression -> {
+					output.writeByte(OBJECT_EXPRESSION);
+					write(objectExpression.range);
+					write(objectExpression.entries);
+				}
+
+				case final EmptyStatement ignored -> output.writeByte(EMPTY_STATEMENT);
+				case final Record record -> {
+					output.writeByte(RECORD);
+					writeClass(record.getClass());
+					for (final RecordComponent component : COMPONENTS.get(record.getClass())) {
+						write(get(component, record));
+					}
+				}
+
+				case final Enum<?> constant -> {
+					output.writeByte(ENUM);
+					writeClass(constant.getDeclaringClass());
+					output.writeShort(constant.ordinal());
+				}
+
+				case final List<?> list -> {
+					output.writeByte(LIST);
+					output.writeInt(list.size());
+					for (final Object element : list) write(element);
+				}
+
+				case final Map<?, ?> map -> {
+					output.writeByte(MAP);
+					output.writeInt(map.size());
+					for (final var entry : map.entrySet()) {
+						write(entry.getKey());
+						write(entry.getValue());
+					}
+				}
+
+				case final Object[] array -> {
+					output.writeByte(ARRAY);
+					writeClass(array.getClass().getComponentType());
+					output.writeInt(array.length);
+					for (final Object element : array) write(element);
+				}
+
+				case final String string -> {
+					output.writeByte(STRING);
+					writeString(string);
+				}
+
+				case final Boolean bool -> output.writeByte(bool ? TRUE : FALSE);
+				case final StringValue string -> {
+					output.writeByte(string.isAtom() ? ATOM_VALUE : STRING_VALUE);
+					writeString(string.value());
+				}
+
+				case final NumberValue number -> {
+					output.writeByte(NUMBER_VALUE);
+					output.writeDouble(number.value);
+				}
+
+				case final BigIntValue bigint -> {
+					output.writeByte(BIGINT_VALUE);
+					writeString(bigint.value.toString());
+				}
+
+				case final BooleanValue bool -> output.writeByte(bool == BooleanValue.TRUE ? TRUE_VALUE : FALSE_VALUE);
+				case final Undefined ignored -> output.writeByte(UNDEFINED);
+				case final Null ignored -> output.writeByte(NULL_VALUE);
+				default -> throw new IOException("Cannot encode " + object.getClass().getName());
+			}
+		}
+
+		private void writeScope(Scope scope) throws IOException {
+			if (scope == null) {
+				output.writeInt(-1);
+				return;
+			}
+
+			final Integer existing = scopes.get(scope);
+			if (existing != null) {
+				output.writeInt(existing);
+				return;
+			}
+
+			// A new scope takes the next index, once its parent has been written
+			output.writeInt(NEW_SCOPE);
+			writeScope(scope.parent);
+			scopes.put(scope, scopes.size());
+			final StringValue[] names = scope.names();
+			output.writeInt(names.length);
+			for (final StringValue name : names) writeString(name.value());
+		}
+
+		private void writeClass(Class<?> type) throws IOException {
+			final Integer existing = classes.get(type);
+			if (existing != null) {
+				output.writeShort(existing);
+			} else {
+				output.writeShort(classes.size());
+				classes.put(type, classes.size());
+				writeString(type.getName());
+			}
+		}
+
+		// Names are repeated throughout a program, so each distinct string is only written once
+		private void writeString(String string) throws IOException {
+			final Integer existing = strings.get(string);
+			if (existing != null) {
+				output.writeInt(existing);
+				return;
+			}
+
+			output.writeInt(strings.size());
+			strings.put(string, strings.size());
+			// Written as UTF-16 code units, as strings may contain lone surrogates which no charset can encode
+			output.writeInt(string.length());
+			output.writeChars(string);
+		}
+
+		private static Object get(RecordComponent component, Record record) throws IOException {
+			try {
+				return component.getAccessor().invoke(record);
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new IOException(e);
+			}
+		}
+	}
+
+	static final class Reader {
+		private final ByteBuffer input;
+		private final SourceText sourceText;
+		private final ArrayList<Class<?>> classes = new ArrayList<>();
+		private final ArrayList<Scope> scopes = new ArrayList<>();
+		private final ArrayList<String> strings = new ArrayList<>();
+
+		Reader(ByteBuffer input, String sourceText) {
+			this.input = input;
+			this.sourceText = new SourceText(sourceText);
+		}
+
+		Object read() throws IOException {
+			final byte tag = input.get();
+			return switch (tag) {
+				case NULL -> null;
+				case SOURCE_RANGE -> new SourceRange(sourceText, input.getInt(), input.getInt());
+				case IDENTIFIER -> {
+					final IdentifierExpression identifier = new IdentifierExpression((SourceRange) read(), readString());
+					final int hops = input.getInt();
+					final Scope scope = readScope();
+					identifier.resolve(hops, scope, input.getInt());
+					yield identifier;
+				}
+
+				case MEMBER -> new MemberExpression((SourceRange) read(), read(Expression.class), read(Expression.class), (input.get() != 0));
+				case OBJECT_EXPRESSION -> {
+					final ObjectExpression objectExpression = new ObjectExpression();
+					objectExpression.range = (SourceRange) read();
+					for (final Object entry : (List<?>) read()) {
+						objectExpression.entries.add((ObjectExpression.ObjectEntryNode) entry);
+					}
+
+					yield objectExpression;
+				}
+
+				case EMPTY_STATEMENT -> new EmptyStatement();
+				case RECORD -> {
+					final Class<?> type = readClass();
+					final RecordComponent[] components = COMPONENTS.get(type);
+					final Object[] arguments = new Object[components.length];
+					for (int i = 0; i < arguments.length; i++) arguments[i] = read();
+					try {
+						yield CONSTRUCTORS.get(type).newInstance(arguments);
+					} catch (ReflectiveOperationException | IllegalArgumentException e) {
+						throw new IOException("Cannot decode " + type.getName(), e);
+					}
+				}
+
+				case ENUM -> readClass().getEnumConstants()[input.getShort()];
+				case LIST -> {
+					final int size = input.getInt();
+					final ArrayList<Object> list = new ArrayList<>(size);
+					for (int i = 0; i < size; i++) list.add(read());
+					yield list;
+				}
+
+				case MAP -> {
+					final int size = input.getInt();
+					final HashMap<Object, Object> map = new HashMap<>();
+					for (int i = 0; i < size; i++) map.put(read(), read());
+					yield map;
+				}
+
+				case ARRAY -> {
+					final Class<?> componentType = readClass();
+					final Object[] array = (Object[]) Array.newInstance(componentType, input.getInt());
+					for (int i = 0; i < array.length; i++) array[i] = read();
+					yield array;
+				}
+
+				case STRING -> readString();
+				case TRUE -> Boolean.TRUE;
+				case FALSE -> Boolean.FALSE;
+				case STRING_VALUE -> new StringValue(readString());
+				case ATOM_VALUE -> StringValue.atom(readString());
+				case NUMBER_VALUE -> new NumberValue(input.getDouble());
+				case BIGINT_VALUE -> new BigIntValue(new BigInteger(readString()));
+				case TRUE_VALUE -> BooleanValue.TRUE;
+				case FALSE_VALUE -> BooleanValue.FALSE;
+				case UNDEFINED -> Undefined.instance;
+				case NULL_VALUE -> Null.instance;
+				default -> throw new IOException("Unknown tag " + tag);
+			};
+		}
+
+		private <T> T read(Class<T> type) throws IOException {
+			try {
+				return type.cast(read());
+			} catch (ClassCastException e) {
+				throw new IOException(e);
+			}
+		}
+
+		private Scope readScope() throws IOException {
+			final int index = input.getInt();
+			if (index == -1) return null;
+			if (index != NEW_SCOPE) {
+				if (index < 0 || index >= scopes.size()) throw new IOException("Invalid scope index");
+				return scopes.get(index);
+			}
+
+			final Scope parent = readScope();
+			final Scope scope = new Scope(parent);
+			final int size = input.getInt();
+			for (int i = 0; i < size; i++) scope.declare(StringValue.atom(readString()));
+			scopes.add(scope);
+			return scope;
+		}
+
+		private Class<?> readClass() throws IOException {
+			final int index = input.getShort();
+			if (index < classes.size()) return classes.get(index);
+			if (index != classes.size()) throw new IOException("Invalid class index");
+
+			final String name = readString();
+			// Only engine classes may be instantiated from a cache file
+			if (!name.startsWith("xyz.lebster.core.")) throw new IOException("Unexpected class " + name);
+			try {
+				final Class<?> type = Class.forName(name, false, ASTCodec.class.getClassLoader());
+				classes.add(type);
+				return type;
+			} catch (ClassNotFoundException e) {
+				throw new IOException(e);
+			}
+		}
+
+		private String readString() throws IOException {
+			final int index = input.getInt();
+			if (index < strings.size()) return strings.get(index);
+			if (index != strings.size()) throw new IOException("Invalid string index");
+
+			final char[] chars = new char[input.getInt()];
+			input.asCharBuffer().get(chars);
+			input.position(input.position() + chars.length * Character.BYTES);
+			final String string = new String(chars);
+			strings.add(string);
+			return string;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package xyz.lebster.core.parser;
+
+import xyz.lebster.core.exception.SyntaxError;
+import xyz.lebster.core.node.Program;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32C;
+
+/**
+ * An on-disk cache of parsed {@link Program}s, so that running the same source text again skips the
+ * {@link Lexer} and {@link Parser}. Entries are named by a checksum of the source text and of the engine version,
+ * so editing a script or rebuilding the engine invalidates them. Each entry also stores the source text and engine
+ * version it was created from, which are compared on every read. Unreadable, outdated, or colliding entries are
+ * treated as missing and overwritten.
+ */
+public final class CodeCache {
+	// Bump when the encoding in ASTCodec changes
+	private static final int FORMAT_VERSION = 4;
+	private static final String ENGINE_VERSION = FORMAT_VERSION + ":" + buildTime(Lexer.class) + ":" + buildTime(Parser.class) + ":" + buildTime(Resolver.class);
+
+	private final Path directory;
+
+	public CodeCache(Path directory) {
+		this.directory = directory;
+	}
+
+	private static long buildTime(Class<?> clazz) {
+		final URL resource = clazz.getResource(clazz.getSimpleName() + ".class");
+		if (resource == null) return 0;
+		try {
+			return resource.openConnection().getLastModified();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	// Entries are verified when read, so a cheap checksum is enough to name them
+	private static String fileName(byte[] source) {
+		final CRC32C checksum = new CRC32C();
+		checksum.update(ENGINE_VERSION.getBytes(StandardCharsets.UTF_8));
+		checksum.update(source);
+		return "%08x%08x.ast".formatted(checksum.getValue(), source.length);
+	}
+
+	public Program parse(String sourceText) throws SyntaxError {
+		final byte[] source = codeUnits(sourceText);
+		final Path path = directory.resolve(fileName(source));
+		final Program cached = read(path, source, sourceText);
+		if (cached != null) return cached;
+
+		final Program program = Parser.parse(sourceText);
+		write(path, source, program);
+		return program;
+	}
+
+	// The source text is stored as UTF-16 code units, as a charset would replace lone surrogates
+	private static byte[] codeUnits(String string) {
+		final ByteBuffer buffer = ByteBuffer.allocate(string.length() * Character.BYTES);
+		buffer.asCharBuffer().put(string);
+		return buffer.array();
+	}
+
+	private static Program read(Path path, byte[] source, String sourceText) {
+		if (!Files.isRegularFile(path)) return null;
+		try {
+			final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+			if (!readBytes(buffer).equals(ByteBuffer.wrap(ENGINE_VERSION.getBytes(StandardCharsets.UTF_8)))) return null;
+			if (!readBytes(buffer).equals(ByteBuffer.wrap(source))) return null;
+			return new ASTCodec.Reader(buffer, sourceText).read() instanceof final Program program ? program : null;
+		} catch (IOException | RuntimeException | StackOverflowError e) {
+			return null;
+		}
+	}
+
+	private static ByteBuffer readBytes(ByteBuffer buffer) {
+		final int length = buffer.getInt();
+		final ByteBuffer result = buffer.slice(buffer.position(), length);
+		buffer.position(buffer.position() + length);
+		return result;
+	}
+
+	private void write(Path path, byte[] source, Program program) {
+		try {
+			Files.createDirectories(directory);
+			// Write to a temporary file first, so that concurrent readers never see a partial entry
+			final Path temporary = Files.createTempFile(directory, "ast", ".tmp");
+			try (final DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+				final byte[] engineVersion = ENGINE_VERSION.getBytes(StandardCharsets.UTF_8);
+				stream.writeInt(engineVersion.length);
+				stream.write(engineVersion);
+				stream.writeInt(source.length);
+				stream.write(source);
+				new ASTCodec.Writer(stream).write(program);
+			} catch (IOException | RuntimeException | StackOverflowError e) {
+				Files.deleteIfExists(temporary);
+				return;
+			}
+
+			Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException ignored) {
+			// The cache is only an optimisation
+		}
+	}
+}
\ No newline at end of file
@@ -5,9 +5,10 @@ import xyz.lebster.core.exception.ShouldNotHappen;
 import xyz.lebster.core.exception.SyntaxError;
 import xyz.lebster.core.node.SourcePosition;
 import xyz.lebster.core.node.SourceRange;
+import xyz.lebster.core.node.SourceText;
 
 import java.math.BigInteger;
-import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Objects;
@@ -138,47 +139,39 @@ public final class Lexer {
 		return null;
 	}
 
-	private final String sourceText;
-	private final int[] codePoints;
-	private final ArrayDeque<TemplateLiteralState> templateLiteralStates;
-	private final int codePointCount;
+	final SourceText sourceText;
+	// Scanned as UTF-16, decoding surrogate pairs where a code point is needed. Positions are char indices.
+	private final String text;
+	private final int length;
+	// Every token lexed so far, so that the parser can return to an earlier token without lexing it again
+	private final ArrayList<Token> tokens = new ArrayList<>();
+	// The template literal state after lexing each token in `tokens`, for lexing again from a token which the parser reinterprets
+	private final ArrayList<TemplateLiteralState> templateLiteralStates = new ArrayList<>();
+	// The innermost template literal being lexed, or null when outside of template literals
+	private TemplateLiteralState templateLiteralState;
 	private int index = 0;
-	Token latestToken;
+	private Token latestToken;
 
 	public Lexer(String sourceText) throws SyntaxError {
-		final int[] unpaddedCodePoints = sourceText.codePoints().toArray();
-		this.templateLiteralStates = new ArrayDeque<>();
-		this.codePointCount = unpaddedCodePoints.length;
-		this.codePoints = Arrays.copyOf(unpaddedCodePoints, codePointCount + 3); // Padding for branchless lookahead
-		this.sourceText = sourceText;
+		this.text = sourceText;
+		this.length = sourceText.length();
+		this.sourceText = new SourceText(sourceText);
 		if (accept('#', '!')) {
 			consumeSingleLineComment();
 		}
 	}
 
-	private Lexer(String sourceText, int[] codePoints, ArrayDeque<TemplateLiteralState> templateLiteralStates, int codePointCount, int index, Token latestToken) {
-		this.sourceText = sourceText;
-		this.codePoints = codePoints;
-		this.templateLiteralStates = templateLiteralStates;
-		this.codePointCount = codePointCount;
-		this.index = index;
-		this.latestToken = latestToken;
-	}
-
-	public Lexer copy() {
-		final ArrayDeque<TemplateLiteralState> templateLiteralStatesClone = new ArrayDeque<>();
-		for (TemplateLiteralState templateLiteralState : templateLiteralStates) {
-			templateLiteralStatesClone.add(templateLiteralState.copy());
+	/**
+	 * @return The token at {@code position} in the source text, lexing up to it if it has not been lexed yet
+	 */
+	public Token token(int position) throws SyntaxError {
+		while (position >= tokens.size()) {
+			latestToken = nextToken();
+			tokens.add(latestToken);
+			templateLiteralStates.add(templateLiteralState);
 		}
 
-		return new Lexer(
-			sourceText,
-			codePoints,
-			templateLiteralStatesClone,
-			codePointCount,
-			index,
-			latestToken
-		);
+		return tokens.get(position);
 	}
 
 	private Token eof() {
@@ -238,53 +231,62 @@ public final class Lexer {
 		}
 	}
 
+	// The code point at the current position, or 0 at the end of the source text
+	private int current() {
+		return index < length ? text.codePointAt(index) : 0;
+	}
+
 	private boolean isIdentifierPart() {
-		return inBounds() && isIdentifierPart(codePoints[index]);
+		return inBounds() && isIdentifierPart(current());
 	}
 
-	private boolean is(int c) {
-		return index < codePointCount && codePoints[index] == c;
+	// Note: The methods which compare against given characters are only passed BMP characters, so they compare chars
+	private boolean is(char c) {
+		return index < length && text.charAt(index) == c;
 	}
 
-	private boolean is(int first, int second) {
-		return index + 1 < codePointCount && codePoints[index] == first && codePoints[index + 1] == second;
+	private boolean is(char first, char second) {
+		return index + 1 < length && text.charAt(index) == first && text.charAt(index + 1) == second;
 	}
 
 	private boolean isLineTerminator() {
 		if (!inBounds()) return false;
-		final int c = codePoints[index];
+		final char c = text.charAt(index);
 		return c == '\n' || c == '\r' || c == '\u2028' || c == '\u2029';
 	}
 
 	private boolean isLineTerminatorSequence() {
 		if (!inBounds()) return false;
-		final int c = codePoints[index];
+		final char c = text.charAt(index);
 		return c == '\r' || c == '\n' || c == '\u2028' || c == '\u2029';
 	}
 
 	private int consume() throws SyntaxError {
 		if (!inBounds()) throw new SyntaxError("Unexpected end of input", position());
-		return codePoints[index++];
+		final int codePoint = text.codePointAt(index);
+		index += Character.charCount(codePoint);
+		return codePoint;
 	}
 
 	private void acceptWhitespace() {
 		while (inBounds() && (
-			codePoints[index] == '\t'      // Tab
-			|| codePoints[index] == '\013' // Vertical tab
-			|| codePoints[index] == '\014' // Form feed
-			|| codePoints[index] == ' '    // Space
+			text.charAt(index) == '\t'      // Tab
+			|| text.charAt(index) == '\013' // Vertical tab
+			|| text.charAt(index) == '\014' // Form feed
+			|| text.charAt(index) == ' '    // Space
 		)) {
 			index++;
 		}
 	}
 
 	private int peekNext() throws SyntaxError {
-		if (index + 1 >= codePointCount) throw new SyntaxError("Unexpected end of input", position());
-		return codePoints[index + 1];
+		final int next = index + Character.charCount(current());
+		if (next >= length) throw new SyntaxError("Unexpected end of input", position());
+		return text.codePointAt(next);
 	}
 
-	private boolean accept(int first) {
-		if (index < codePointCount && codePoints[index] == first) {
+	private boolean accept(char first) {
+		if (index < length && text.charAt(index) == first) {
 			index += 1;
 			return true;
 		} else {
@@ -292,8 +294,8 @@ public final class Lexer {
 		}
 	}
 
-	private boolean accept(int first, int second) {
-		if (index + 1 < codePointCount && codePoints[index] == first && codePoints[index + 1] == second) {
+	private boolean accept(char first, char second) {
+		if (index + 1 < length && text.charAt(index) == first && text.charAt(index + 1) == second) {
 			index += 2;
 			return true;
 		} else {
@@ -329,26 +331,20 @@ public final class Lexer {
 
 	private static final int[] REGEXP_FLAGS = new int[] { 'd', 'g', 'i', 'm', 's', 'u', 'v', 'y' };
 
-	public Token next() throws SyntaxError {
-		final Token result = nextToken();
-		latestToken = result;
-		return result;
-	}
-
 	private Token nextToken() throws SyntaxError {
 		if (latestToken != null && latestToken.type() == RegexpPattern) {
 			final StringBuilder flags = new StringBuilder();
 			final int startIndex = index;
 			while (isIdentifierPart()) {
-				if (flags.indexOf(Character.toString(codePoints[index])) != -1)
-					throw new SyntaxError("Duplicate flag %s in regular expression literal".formatted(quoteCodePoint(codePoints[index])), position());
-				if (Arrays.binarySearch(REGEXP_FLAGS, codePoints[index]) < 0)
-					throw new SyntaxError("Invalid regular expression flag %s".formatted(quoteCodePoint(codePoints[index])), position());
+				if (flags.indexOf(Character.toString(current())) != -1)
+					throw new SyntaxError("Duplicate flag %s in regular expression literal".formatted(quoteCodePoint(current())), position());
+				if (Arrays.binarySearch(REGEXP_FLAGS, current()) < 0)
+					throw new SyntaxError("Invalid regular expression flag %s".formatted(quoteCodePoint(current())), position());
 				collect(flags);
 			}
 
 			return new Token(range(startIndex), RegexpFlags, flags.toString());
-		} else if (latestToken != null && latestToken.type() == NumericLiteral && isIdentifierStart(codePoints[index])) {
+		} else if (latestToken != null && latestToken.type() == NumericLiteral && isIdentifierStart(current())) {
 			throw new SyntaxError("Identifier starts immediately after numeric literal", position());
 		}
 
@@ -361,10 +357,10 @@ public final class Lexer {
 		final int startIndex = index;
 		if (accept('`')) {
 			if (notInTemplateSpan()) {
-				templateLiteralStates.push(new TemplateLiteralState());
+				templateLiteralState = new TemplateLiteralState(false, 0, templateLiteralState);
 				return new Token(range(startIndex), TemplateStart, "`");
 			} else {
-				templateLiteralStates.pop();
+				templateLiteralState = templateLiteralState.enclosing();
 				return new Token(range(startIndex), TemplateEnd, "`");
 			}
 		}
@@ -373,13 +369,13 @@ public final class Lexer {
 			return tokenizeTemplateLiteralEnd(startIndex);
 		}
 
-		if (inTemplateLiteral() && !templateLiteralStates.getFirst().inExpression) {
+		if (inTemplateLiteral() && !templateLiteralState.inExpression()) {
 			if (!inBounds()) {
 				throw new SyntaxError("Unterminated template literal", position());
 			}
 
 			if (accept('$', '{')) {
-				templateLiteralStates.getFirst().inExpression = true;
+				templateLiteralState = templateLiteralState.withInExpression(true);
 				return new Token(range(startIndex), TemplateExpressionStart, "${");
 			} else {
 				return tokenizeTemplateLiteralSpan(startIndex);
@@ -391,9 +387,9 @@ public final class Lexer {
 		} else if (isLineTerminator()) {
 			consumeLineTerminators();
 			return new Token(range(startIndex), LineTerminator, null);
-		} else if (isIdentifierStart(codePoints[index])) {
+		} else if (isIdentifierStart(current())) {
 			return tokenizeKeywordOrIdentifier(startIndex, false);
-		} else if (isDecimalDigit(codePoints[index]) || (is('.') && isDecimalDigit(peekNext()))) {
+		} else if (isDecimalDigit(current()) || (is('.') && isDecimalDigit(peekNext()))) {
 			return tokenizeNumericLiteral(startIndex);
 		} else if (is('"') || is('\'')) {
 			return tokenizeStringLiteral(startIndex);
@@ -405,11 +401,11 @@ public final class Lexer {
 	}
 
 	private boolean notInTemplateSpan() {
-		return !inTemplateLiteral() || templateLiteralStates.getFirst().inExpression;
+		return !inTemplateLiteral() || templateLiteralState.inExpression();
 	}
 
 	private boolean inTemplateLiteral() {
-		return !templateLiteralStates.isEmpty();
+		return templateLiteralState != null;
 	}
 
 	private void consumeLineTerminators() throws SyntaxError {
@@ -418,14 +414,29 @@ public final class Lexer {
 		}
 	}
 
-	public void treatAsRegexpLiteral() throws SyntaxError {
-		index = latestToken.range().startIndex;
+	public void treatAsRegexpLiteral(int position) throws SyntaxError {
+		if (token(position).type() == RegexpPattern) return;
+		rewind(position);
 		latestToken = tokenizeRegexpLiteral(index);
+		tokens.add(latestToken);
+		templateLiteralStates.add(templateLiteralState);
 	}
 
-	public void treatAsIdentifier() throws SyntaxError {
-		index = latestToken.range().startIndex;
+	public void treatAsIdentifier(int position) throws SyntaxError {
+		if (token(position).type() == Identifier) return;
+		rewind(position);
 		latestToken = tokenizeKeywordOrIdentifier(index, true);
+		tokens.add(latestToken);
+		templateLiteralStates.add(templateLiteralState);
+	}
+
+	// Discards the token at `position` and every token after it, as they may be lexed differently once it is reinterpreted
+	private void rewind(int position) {
+		index = tokens.get(position).range().startIndex;
+		latestToken = position == 0 ? null : tokens.get(position - 1);
+		templateLiteralState = position == 0 ? null : templateLiteralStates.get(position - 1);
+		tokens.subList(position, tokens.size()).clear();
+		templateLiteralStates.subList(position, templateLiteralStates.size()).clear();
 	}
 
 	private Token tokenizeRegexpLiteral(int startIndex) throws SyntaxError {
@@ -458,7 +469,7 @@ public final class Lexer {
 				continue;
 			}
 
-			if (codePoints[index] == '\\') {
+			if (current() == '\\') {
 				escaped = true;
 				collect(builder);
 				continue;
@@ -487,7 +498,7 @@ public final class Lexer {
 	}
 
 	private boolean inBounds() {
-		return index < codePointCount;
+		return index < length;
 	}
 
 	private void consumeComment() throws SyntaxError {
@@ -521,7 +532,7 @@ public final class Lexer {
 				} else {
 					builder.appendCodePoint(readEscapedCharacter());
 				}
-			} else if (codePoints[index] == '\\') {
+			} else if (current() == '\\') {
 				escaped = true;
 				consume();
 			} else if (is('`')) {
@@ -539,17 +550,17 @@ public final class Lexer {
 	}
 
 	private boolean currentTemplateLiteralIsEnding() {
-		return templateLiteralStates.getFirst().inExpression && templateLiteralStates.getFirst().bracketCount == 0 && accept('}');
+		return templateLiteralState.inExpression() && templateLiteralState.bracketCount() == 0 && accept('}');
 	}
 
 	private Token tokenizeTemplateLiteralEnd(int startIndex) {
-		templateLiteralStates.getFirst().inExpression = false;
+		templateLiteralState = templateLiteralState.withInExpression(false);
 		return new Token(range(startIndex), TemplateExpressionEnd, "}");
 	}
 
 	private Token tokenizeStringLiteral(int startIndex) throws SyntaxError {
 		final StringBuilder builder = new StringBuilder();
-		final int stringType = codePoints[index];
+		final int stringType = current();
 		consume();
 
 		boolean escaped = false;
@@ -570,10 +581,10 @@ public final class Lexer {
 
 			// All code points may appear literally in a string literal except for
 			// the closing quote code points
-			if (codePoints[index] == stringType) break;
+			if (current() == stringType) break;
 
 			// U+005C (REVERSE SOLIDUS)
-			if (codePoints[index] == '\\') {
+			if (current() == '\\') {
 				escaped = true;
 				consume();
 				continue;
@@ -581,7 +592,7 @@ public final class Lexer {
 
 			// U+000D (CARRIAGE RETURN)
 			// and U+000A (LINE FEED)
-			if (codePoints[index] == '\r' || codePoints[index] == '\n') {
+			if (current() == '\r' || current() == '\n') {
 				throw new SyntaxError("Unterminated string literal", position());
 			}
 
@@ -596,7 +607,7 @@ public final class Lexer {
 		if (accept('\n') || accept('\u2028') || accept('\u2029') || accept('\r', '\n'))
 			return;
 
-		if (codePoints[index] == '\r') {
+		if (current() == '\r') {
 			consume();
 		} else {
 			throw new SyntaxError("Expecting to see LineTerminatorSequence after escape", position());
@@ -631,7 +642,7 @@ public final class Lexer {
 
 		int result = 0;
 		final StringBuilder sequence = new StringBuilder();
-		for (int i = 0; i < 6 && codePoints[index] != '}'; i++) {
+		for (int i = 0; i < 6 && current() != '}'; i++) {
 			result *= 16;
 			final char digit = consumeHexDigit();
 			sequence.append(digit);
@@ -748,7 +759,7 @@ public final class Lexer {
 	}
 
 	private boolean isDigit(int radix) {
-		return inBounds() && isDigit(codePoints[index], radix);
+		return inBounds() && isDigit(current(), radix);
 	}
 
 	private String quoteCodePoint(int codePoint) {
@@ -767,7 +778,8 @@ public final class Lexer {
 		TokenType type = null;
 		String key = null;
 		for (int i = 4; i >= 1; i--) {
-			key = new String(codePoints, index, i);
+			if (index + i > length) continue;
+			key = text.substring(index, index + i);
 			type = symbols.get(key);
 			if (type != null) {
 				index += i;
@@ -776,14 +788,14 @@ public final class Lexer {
 		}
 
 		if (type == null) {
-			throw new SyntaxError("Cannot tokenize character %s".formatted(quoteCodePoint(codePoints[index])), position());
+			throw new SyntaxError("Cannot tokenize character %s".formatted(quoteCodePoint(current())), position());
 		}
 
-		if (!templateLiteralStates.isEmpty() && templateLiteralStates.getFirst().inExpression) {
+		if (inTemplateLiteral() && templateLiteralState.inExpression()) {
 			if (type == LBrace) {
-				templateLiteralStates.getFirst().bracketCount++;
+				templateLiteralState = templateLiteralState.withBracketCount(templateLiteralState.bracketCount() + 1);
 			} else if (type == RBrace) {
-				templateLiteralStates.getFirst().bracketCount--;
+				templateLiteralState = templateLiteralState.withBracketCount(templateLiteralState.bracketCount() - 1);
 			}
 		}
 
@@ -802,20 +814,14 @@ public final class Lexer {
 		return new SourceRange(sourceText, startIndex, index);
 	}
 
-	private static final class TemplateLiteralState {
-		public boolean inExpression = false;
-		public int bracketCount = 0;
-
-		public TemplateLiteralState() {
-		}
-
-		private TemplateLiteralState(boolean inExpression, int bracketCount) {
-			this.inExpression = inExpression;
-			this.bracketCount = bracketCount;
+	// Immutable, so that the state after each token can be kept without copying it
+	private record TemplateLiteralState(boolean inExpression, int bracketCount, TemplateLiteralState enclosing) {
+		private TemplateLiteralState withInExpression(boolean inExpression) {
+			return new TemplateLiteralState(inExpression, bracketCount, enclosing);
 		}
 
-		public TemplateLiteralState copy() {
-			return new TemplateLiteralState(inExpression, bracketCount);
+		private TemplateLiteralState withBracketCount(int bracketCount) {
+			return new TemplateLiteralState(inExpression, bracketCount, enclosing);
 		}
 	}
 }
\ No newline at end of file
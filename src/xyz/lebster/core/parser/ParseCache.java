@@ -0,0 +1,72 @@
+package xyz.lebster.core.parser;
+
+import xyz.lebster.core.exception.SyntaxError;
+import xyz.lebster.core.node.Program;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of the {@link Program}s parsed at runtime, such as by `eval()` and `ShadowRealm.prototype.evaluate()`,
+ * keyed by their source text. When full, the least recently used entry is evicted. Source texts which fail to parse
+ * are not cached, so they throw a new {@link SyntaxError} every time.
+ * <p>
+ * A ParseCache is not synchronised, so it must only be shared between interpreters running on the same thread,
+ * such as an interpreter and the realms of its ShadowRealms.
+ */
+public final class ParseCache {
+	public static final int DEFAULT_SIZE = 256;
+
+	public final int maxSize;
+	private final LinkedHashMap<String, Program> programs;
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * @param maxSize The number of programs to keep. Zero disables the cache.
+	 */
+	public ParseCache(int maxSize) {
+		if (maxSize < 0) throw new IllegalArgumentException("Negative ParseCache size: " + maxSize);
+		this.maxSize = maxSize;
+		this.programs = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Program> eldest) {
+				return size() > ParseCache.this.maxSize;
+			}
+		};
+	}
+
+	public Program parse(String sourceText) throws SyntaxError {
+		final Program cached = programs.get(sourceText);
+		if (cached != null) {
+			hits++;
+			return cached;
+		}
+
+		misses++;
+		final Program program = Parser.parse(sourceText);
+		if (maxSize != 0) programs.put(sourceText, program);
+		return program;
+	}
+
+	public long hits() {
+		return hits;
+	}
+
+	public long misses() {
+		return misses;
+	}
+
+	public int size() {
+		return programs.size();
+	}
+
+	public void clear() {
+		programs.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "ParseCache(%d/%d programs, %d hits, %d misses)".formatted(programs.size(), maxSize, hits, misses);
+	}
+}
\ No newline at end of file
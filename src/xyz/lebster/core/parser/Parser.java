@@ -17,6 +17,7 @@ import xyz.lebster.core.node.expression.literal.TemplateLiteral.TemplateLiteralE
 import xyz.lebster.core.node.expression.literal.TemplateLiteral.TemplateLiteralNode;
 import xyz.lebster.core.node.expression.literal.TemplateLiteral.TemplateLiteralSpanNode;
 import xyz.lebster.core.node.statement.*;
+import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.globals.Null;
 import xyz.lebster.core.value.primitive.bigint.BigIntValue;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
@@ -31,34 +32,19 @@ import static xyz.lebster.core.parser.Associativity.Right;
 import static xyz.lebster.core.parser.TokenType.*;
 
 public final class Parser {
-	private final String sourceText;
-	private final ArrayDeque<ParserState> savedStack = new ArrayDeque<>();
-	private ParserState state;
+	private final SourceText sourceText;
+	private final ParserState state;
 	private boolean hasConsumedSeparator = false;
 
 	public Parser(String sourceText) throws SyntaxError {
-		this.sourceText = sourceText;
 		this.state = new ParserState(new Lexer(sourceText));
+		this.sourceText = state.lexer.sourceText;
 	}
 
 	public static Program parse(String sourceText) throws SyntaxError {
 		return new Parser(sourceText).parse();
 	}
 
-	private void save() {
-		this.savedStack.add(state.copy());
-	}
-
-	private void load() {
-		if (this.savedStack.isEmpty()) throw new IllegalStateException("Attempting to load invalid ParseState");
-		this.state = savedStack.removeLast();
-	}
-
-	private void pop() {
-		if (this.savedStack.isEmpty()) throw new IllegalStateException("Attempting to pop invalid ParseState");
-		savedStack.removeLast();
-	}
-
 	private int startIndex() {
 		return state.startIndex();
 	}
@@ -74,7 +60,9 @@ public final class Parser {
 	private Program parse() throws SyntaxError {
 		final int startIndex = startIndex();
 		final List<Statement> children = parseStatementList(EOF);
-		return new Program(range(startIndex), children);
+		final Program program = new Program(range(startIndex), children);
+		Resolver.resolve(program);
+		return program;
 	}
 
 	private List<Statement> parseStatementList(TokenType end) throws SyntaxError {
@@ -182,7 +170,7 @@ public final class Parser {
 			case Debugger -> parseDebuggerStatement();
 
 			case Slash, DivideEquals -> {
-				state.lexer.treatAsRegexpLiteral();
+				state.treatAsRegexpLiteral();
 				yield parseExpressionStatement();
 			}
 
@@ -419,13 +407,12 @@ public final class Parser {
 		final BlockStatement body = parseBlockStatement();
 		consumeAllLineTerminators();
 
-		StringValue catchParameter = null;
+		IdentifierExpression catchParameter = null;
 		BlockStatement catchBody = null;
 		final boolean hasCatch = state.optional(Catch);
 		if (hasCatch) {
 			if (state.optional(LParen)) {
-				if (!state.token().matchIdentifier()) throw state.unexpected();
-				catchParameter = new StringValue(state.consume().value());
+				catchParameter = parseIdentifierExpression();
 				state.require(RParen);
 			}
 
@@ -544,7 +531,7 @@ public final class Parser {
 
 	private IdentifierExpression parseIdentifierExpression() throws SyntaxError {
 		if (!state.token().matchIdentifier()) throw state.unexpected();
-		state.lexer.treatAsIdentifier();
+		state.treatAsIdentifier();
 		return new IdentifierExpression(state.token().range(), state.consume().value());
 	}
 
@@ -578,12 +565,12 @@ public final class Parser {
 		consumeAllLineTerminators();
 
 		final Map<Expression, AssignmentPattern> pairs = new HashMap<>();
-		StringValue restName = null;
+		IdentifierExpression restName = null;
 		while (!state.is(RBrace)) {
 			if (state.optional(DotDotDot)) {
 				consumeAllLineTerminators();
 				if (state.token().matchIdentifier()) {
-					restName = new StringValue(state.consume().value());
+					restName = parseIdentifierExpression();
 					consumeAllLineTerminators();
 					if (!state.optional(Comma)) break;
 					consumeAllLineTerminators();
@@ -677,7 +664,7 @@ public final class Parser {
 			throw state.unexpected();
 		}
 
-		final PrimitiveLiteral<StringValue> name = state.consume().asStringLiteral();
+		final IdentifierExpression name = parseIdentifierExpression();
 		consumeAllLineTerminators();
 		final FunctionParameters parameters = parseFunctionParameters(true);
 		consumeAllLineTerminators();
@@ -691,7 +678,7 @@ public final class Parser {
 		if (state.is(Star)) throw new ParserNotImplemented(position(), "Generator function expressions");
 		if (!state.token().matchIdentifier() && state.token().matchIdentifierName())
 			throw new SyntaxError("Function name cannot be a reserved word", position());
-		final var name = state.token().matchIdentifier() ? state.consume().asStringLiteral() : null;
+		final var name = state.token().matchIdentifier() ? parseIdentifierExpression() : null;
 		final FunctionParameters parameters = parseFunctionParameters(true);
 		final BlockStatement body = parseFunctionBody();
 		return new FunctionExpression(range(startIndex), body, name, parameters);
@@ -791,6 +778,14 @@ public final class Parser {
 	}
 
 	private Expression parseExpression(int minPrecedence, Associativity assoc, Set<TokenType> forbidden) throws SyntaxError {
+		return parseExpression(minPrecedence, assoc, forbidden, false);
+	}
+
+	/**
+	 * @param allowCoverInitializedName Whether the result may be an object literal with a shorthand property initializer
+	 *                                  (e.g. `{ a = 1 }`), which is only valid if the caller reinterprets it as a pattern.
+	 */
+	private Expression parseExpression(int minPrecedence, Associativity assoc, Set<TokenType> forbidden, boolean allowCoverInitializedName) throws SyntaxError {
 		final int startIndex = startIndex();
 		Expression latestExpr = parsePrimaryExpression();
 		consumeAllLineTerminators();
@@ -805,12 +800,14 @@ public final class Parser {
 			if (newPrecedence < minPrecedence) break;
 			if (newPrecedence == minPrecedence && assoc == Left) break;
 
+			// Only an assignment can turn an object literal with a shorthand property initializer into a pattern
+			if (!state.is(Equals)) checkForInvalidProperty(latestExpr);
 			latestExpr = parseSecondaryExpression(startIndex, latestExpr, newPrecedence, newAssoc);
 			checkForInvalidProperty(latestExpr);
 			consumeAllLineTerminators();
 		}
 
-		checkForInvalidProperty(latestExpr);
+		if (!allowCoverInitializedName) checkForInvalidProperty(latestExpr);
 		return latestExpr;
 	}
 
@@ -895,7 +892,7 @@ public final class Parser {
 
 	private MemberExpression parseNonComputedMemberExpression(int startIndex, Expression left) throws SyntaxError {
 		if (!state.token().matchIdentifierName()) throw state.expected("IdentifierName");
-		state.lexer.treatAsIdentifier();
+		state.treatAsIdentifier();
 		final PrimitiveLiteral<StringValue> property = state.consume().asStringLiteral();
 		return new MemberExpression(range(startIndex), left, property, false);
 	}
@@ -915,13 +912,110 @@ public final class Parser {
 				return assignmentTarget;
 			}
 		} else if (op == AssignmentOp.Assign && (left_expr instanceof ArrayExpression || left_expr instanceof ObjectExpression)) {
-			// left_expr is a destructuring pattern we misparsed as an array / object literal
-			return new Parser(left_expr.range().getText()).parseAssignmentTarget(true);
+			// left_expr is a destructuring pattern which was parsed as an array / object literal
+			final AssignmentTarget pattern = toAssignmentTarget(left_expr, true);
+			if (pattern != null) return pattern;
 		}
 
 		throw new SyntaxError(AssignmentExpression.invalidLHS, position());
 	}
 
+	/**
+	 * Reinterprets an expression which covers an AssignmentElement (e.g. `a = 1` in `[a = 1] = array`), or a
+	 * parameter when {@code allowMemberExpressions} is false.
+	 *
+	 * @return The pattern, or null if the expression does not cover one
+	 */
+	private AssignmentPattern toAssignmentPattern(Expression expression, boolean allowMemberExpressions) {
+		if (expression instanceof final AssignmentExpression assignment && assignment.op() == AssignmentOp.Assign) {
+			// The left-hand side was already reinterpreted when the assignment was parsed
+			if (!allowMemberExpressions && !isBindingPattern(assignment.left())) return null;
+			return new AssignmentPattern(assignment.left(), assignment.right());
+		}
+
+		final AssignmentTarget target = toAssignmentTarget(expression, allowMemberExpressions);
+		return target == null ? null : new AssignmentPattern(target, null);
+	}
+
+	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-destructuring-assignment")
+	private AssignmentTarget toAssignmentTarget(Expression expression, boolean allowMemberExpressions) {
+		if (expression instanceof final IdentifierExpression identifier) {
+			return isValueKeyword(identifier) ? null : identifier;
+		} else if (expression instanceof final MemberExpression memberExpression) {
+			return allowMemberExpressions ? memberExpression : null;
+		} else if (expression instanceof final ArrayExpression arrayExpression) {
+			final ArrayList<AssignmentPattern> children = new ArrayList<>();
+			AssignmentTarget restTarget = null;
+			for (final ExpressionList.ExpressionNode node : arrayExpression.expressionList().backingList()) {
+				// Rest element must be last element
+				if (restTarget != null) return null;
+				switch (node.type()) {
+					case EMPTY -> children.add(null);
+					case SINGLE -> {
+						final AssignmentPattern child = toAssignmentPattern(node.expression(), allowMemberExpressions);
+						if (child == null) return null;
+						children.add(child);
+					}
+					case SPREAD -> {
+						restTarget = toAssignmentTarget(node.expression(), allowMemberExpressions);
+						if (restTarget == null) return null;
+					}
+				}
+			}
+
+			return new ArrayDestructuring(restTarget, children.toArray(new AssignmentPattern[0]));
+		} else if (expression instanceof final ObjectExpression objectExpression) {
+			final Map<Expression, AssignmentPattern> pairs = new HashMap<>();
+			IdentifierExpression restName = null;
+			for (final ObjectEntryNode entry : objectExpression.entries) {
+				// Rest element must be last element
+				if (restName != null) return null;
+				if (entry instanceof final EntryNode entryNode) {
+					final AssignmentPattern value = toAssignmentPattern(entryNode.value(), allowMemberExpressions);
+					if (value == null) return null;
+					pairs.put(entryNode.key(), value);
+				} else if (entry instanceof final ShorthandNode shorthandNode) {
+					final IdentifierExpression identifier = shorthandNode.identifier();
+					if (isValueKeyword(identifier)) return null;
+					pairs.put(new PrimitiveLiteral<>(identifier.range(), identifier.name()), new AssignmentPattern(identifier, null));
+				} else if (entry instanceof final SpreadNode spreadNode && spreadNode.name() instanceof final IdentifierExpression identifier) {
+					restName = identifier;
+				} else {
+					return null;
+				}
+			}
+
+			return new ObjectDestructuring(pairs, restName);
+		}
+
+		return null;
+	}
+
+	// TODO: See tests/parsing/variable-names.js:42
+	private static boolean isValueKeyword(IdentifierExpression identifier) {
+		final StringValue name = identifier.name();
+		return name.equals(Names.NaN) || name.equals(Names.undefined) || name.equals(Names.Infinity);
+	}
+
+	private static boolean isBindingPattern(AssignmentTarget target) {
+		if (target instanceof final ArrayDestructuring arrayDestructuring) {
+			if (arrayDestructuring.restTarget() != null && !isBindingPattern(arrayDestructuring.restTarget())) return false;
+			for (final AssignmentPattern child : arrayDestructuring.children()) {
+				if (child != null && !isBindingPattern(child.assignmentTarget())) return false;
+			}
+
+			return true;
+		} else if (target instanceof final ObjectDestructuring objectDestructuring) {
+			for (final AssignmentPattern value : objectDestructuring.pairs().values()) {
+				if (!isBindingPattern(value.assignmentTarget())) return false;
+			}
+
+			return true;
+		}
+
+		return target instanceof IdentifierExpression;
+	}
+
 	private Expression parsePrimaryExpression() throws SyntaxError {
 		if (state.token().matchPrefixedUpdateExpression()) {
 			return parsePrefixedUpdateExpression();
@@ -984,20 +1078,59 @@ public final class Parser {
 		return parseArrowFunctionBody(startIndex, new FunctionParameters(identifier));
 	}
 
+	@SpecificationURL("https://tc39.es/ecma262/multipage#prod-CoverParenthesizedExpressionAndArrowParameterList")
 	private Expression parseParenthesizedOrArrowFunctionExpression() throws SyntaxError {
 		final int startIndex = startIndex();
 		state.require(LParen);
-
 		consumeAllLineTerminators();
-		if (state.token().matchIdentifier() || state.is(RParen, DotDotDot, LBrace, LBracket)) {
-			final ArrowFunctionExpression result = tryParseArrowFunctionExpression(startIndex);
-			if (result != null) return result;
+
+		// The contents are parsed once, as expressions, and reinterpreted as parameters if `=>` follows
+		final ArrayList<Expression> expressions = new ArrayList<>();
+		final ArrayList<Integer> startIndices = new ArrayList<>();
+		AssignmentTarget rest = null;
+		boolean trailingComma = false;
+		int endIndex = startIndex;
+		while (!state.is(RParen)) {
+			if (state.optional(DotDotDot)) {
+				// Note: Rest parameter may not have a default initializer
+				consumeAllLineTerminators();
+				rest = parseAssignmentTarget(false);
+				consumeAllLineTerminators();
+				if (state.optional(Comma)) throw new SyntaxError("Rest parameter must be last formal parameter", position());
+				break;
+			}
+
+			startIndices.add(startIndex());
+			expressions.add(parseExpression(1, Left, new HashSet<>(), true));
+			endIndex = state.lastEndIndex();
+			consumeAllLineTerminators();
+			trailingComma = state.optional(Comma);
+			if (!trailingComma) break;
+			consumeAllLineTerminators();
 		}
 
-		consumeAllLineTerminators();
-		final Expression expression = parseExpression();
-		consumeAllLineTerminators();
 		state.require(RParen);
+		if (state.is(Arrow)) {
+			final ArrayList<AssignmentPattern> formalParameters = new ArrayList<>(expressions.size());
+			for (final Expression expression : expressions) {
+				final AssignmentPattern parameter = toAssignmentPattern(expression, false);
+				if (parameter == null) throw state.unexpected();
+				formalParameters.add(parameter);
+			}
+
+			state.consume();
+			return parseArrowFunctionBody(startIndex, new FunctionParameters(formalParameters, rest));
+		}
+
+		// `()`, `(a, )` and `(...a)` are only valid as parameters
+		if (expressions.isEmpty() || trailingComma || rest != null) throw state.expected(Arrow);
+		for (final Expression expression : expressions) checkForInvalidProperty(expression);
+
+		Expression expression = expressions.get(expressions.size() - 1);
+		for (int i = expressions.size() - 2; i >= 0; i--) {
+			expression = new SequenceExpression(new SourceRange(sourceText, startIndices.get(i), endIndex), expressions.get(i), expression);
+		}
+
 		return new ParenthesizedExpression(expression, range(startIndex));
 	}
 
@@ -1043,7 +1176,7 @@ public final class Parser {
 		final StringValue nonComputedKey;
 		if (nonComputed) {
 			computedKey = null;
-			nonComputedKey = new StringValue(state.consume().value());
+			nonComputedKey = StringValue.atom(state.consume().value());
 		} else {
 			computedKey = parseComputedKeyExpression();
 			nonComputedKey = null;
@@ -1079,11 +1212,12 @@ public final class Parser {
 			return new SpreadNode(parseSpecAssignmentExpression());
 		} else if (state.optional(Star)) throw new ParserNotImplemented(position(), "generator object literal methods");
 
+		final SourceRange keyRange = state.token().range();
 		final ObjectExpressionKey key = parseObjectExpressionKey();
 		consumeAllLineTerminators();
 
 		if (!key.computed()) {
-			final String prefix = key.nonComputedKey().value;
+			final String prefix = key.nonComputedKey().value();
 			if (state.token().matchObjectExpressionKey()) {
 				if (prefix.equals("async")) {
 					throw new ParserNotImplemented(position(), "`async` object literal methods");
@@ -1097,14 +1231,16 @@ public final class Parser {
 		}
 
 		if (key.isIdentifier() && state.optional(Equals)) {
-			// Not a valid object literal, but a valid destructuring pattern
-			// Parse the expression and throw it away
-			parseSpecAssignmentExpression();
+			// Not a valid object literal, but a valid destructuring pattern.
+			// Parse it as `a: a = 1`, which is what it means once the object literal is reinterpreted as a pattern.
+			consumeAllLineTerminators();
+			final IdentifierExpression identifier = new IdentifierExpression(keyRange, key.nonComputedKey());
+			final Expression defaultExpression = parseSpecAssignmentExpression();
 			if (!state.invalidProperties.containsKey(result)) {
 				state.invalidProperties.put(result, key.start());
 			}
 
-			return null;
+			return new EntryNode(key.expression(), new AssignmentExpression(range(keyRange.startIndex), identifier, defaultExpression, AssignmentOp.Assign));
 		}
 
 		if (state.is(LParen)) {
@@ -1117,7 +1253,7 @@ public final class Parser {
 			return new EntryNode(key.expression(), value);
 		}
 
-		return new ShorthandNode(key.nonComputedKey());
+		return new ShorthandNode(new IdentifierExpression(keyRange, key.nonComputedKey()));
 	}
 
 	private ClassExpression parseClassBody(int startIndex, String className, Expression heritage) throws SyntaxError {
@@ -1236,27 +1372,6 @@ public final class Parser {
 		return new TemplateLiteral(range(startIndex), result);
 	}
 
-	private ArrowFunctionExpression tryParseArrowFunctionExpression(int startIndex) throws SyntaxError {
-		save();
-
-		final FunctionParameters parameters;
-		try {
-			parameters = parseFunctionParameters(false);
-		} catch (SyntaxError e) {
-			load();
-			return null;
-		}
-
-		if (!state.optional(Arrow)) {
-			load();
-			return null;
-		}
-
-		// At this point, we know it's an arrow function
-		pop();
-		return parseArrowFunctionBody(startIndex, parameters);
-	}
-
 	private ArrowFunctionExpression parseArrowFunctionBody(int startIndex, FunctionParameters parameters) throws SyntaxError {
 		consumeAllLineTerminators();
 		if (state.is(LBrace)) {
@@ -12,6 +12,9 @@ import static xyz.lebster.core.parser.TokenType.Identifier;
 
 public final class ParserState {
 	final Lexer lexer;
+	// The index of the current token in the lexer's tokens
+	private int position;
+	private Token token;
 	private Token previousToken;
 
 	final HashMap<ObjectExpression, SourcePosition> invalidProperties = new HashMap<>();
@@ -20,18 +23,21 @@ public final class ParserState {
 
 	ParserState(Lexer lexer) throws SyntaxError {
 		this.lexer = lexer;
-		lexer.next();
+		this.token = lexer.token(0);
 	}
 
-	private ParserState(Lexer lexer, Token previousToken, boolean inBreakContext, boolean inContinueContext) {
-		this.lexer = lexer;
-		this.previousToken = previousToken;
-		this.inBreakContext = inBreakContext;
-		this.inContinueContext = inContinueContext;
+	Token token() {
+		return token;
 	}
 
-	Token token() {
-		return lexer.latestToken;
+	void treatAsRegexpLiteral() throws SyntaxError {
+		lexer.treatAsRegexpLiteral(position);
+		token = lexer.token(position);
+	}
+
+	void treatAsIdentifier() throws SyntaxError {
+		lexer.treatAsIdentifier(position);
+		token = lexer.token(position);
 	}
 
 	int startIndex() {
@@ -40,7 +46,7 @@ public final class ParserState {
 
 	int lastEndIndex() {
 		if (previousToken == null) {
-			return token().range().startIndex;
+			return token.range().startIndex;
 		} else {
 			return previousToken.range().endIndex;
 		}
@@ -67,8 +73,8 @@ public final class ParserState {
 	}
 
 	Token consume() throws SyntaxError {
-		previousToken = token();
-		lexer.next();
+		previousToken = token;
+		token = lexer.token(++position);
 		return previousToken;
 	}
 
@@ -124,13 +130,4 @@ public final class ParserState {
 	boolean is(String value) {
 		return token().type() == Identifier && token().value().equals(value);
 	}
-
-	ParserState copy() {
-		return new ParserState(
-			lexer.copy(),
-			previousToken,
-			inBreakContext,
-			inContinueContext
-		);
-	}
 }
\ No newline at end of file
@@ -0,0 +1,304 @@
+package xyz.lebster.core.parser;
+
+import xyz.lebster.core.exception.ShouldNotHappen;
+import xyz.lebster.core.interpreter.environment.Scope;
+import xyz.lebster.core.node.Assignable;
+import xyz.lebster.core.node.FunctionParameters;
+import xyz.lebster.core.node.Program;
+import xyz.lebster.core.node.declaration.*;
+import xyz.lebster.core.node.expression.*;
+import xyz.lebster.core.node.expression.ClassExpression.ClassConstructorNode;
+import xyz.lebster.core.node.expression.ObjectExpression.*;
+import xyz.lebster.core.node.expression.literal.PrimitiveLiteral;
+import xyz.lebster.core.node.expression.literal.RegExpLiteral;
+import xyz.lebster.core.node.expression.literal.TemplateLiteral;
+import xyz.lebster.core.node.expression.literal.TemplateLiteral.TemplateLiteralExpressionNode;
+import xyz.lebster.core.node.expression.literal.TemplateLiteral.TemplateLiteralNode;
+import xyz.lebster.core.node.statement.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds each {@link IdentifierExpression} in a {@link Program} to a (hops, slot) coordinate.
+ * <p>
+ * The Resolver builds a {@link Scope} for every DeclarativeEnvironment which the interpreter will create when executing
+ * the program, so the scope chain here must mirror the environment chain at runtime exactly:
+ * <ul>
+ *     <li>Every BlockStatement which is executed as a statement has its own scope.</li>
+ *     <li>Function parameters and the top level of the function body share one scope.</li>
+ *     <li>A named function expression has an extra scope holding its own name, outside the function scope.</li>
+ *     <li>A for loop has one scope, for-in / for-of loops have one scope for the binding and the body.</li>
+ *     <li>A catch parameter and the top level of the catch body share one scope.</li>
+ * </ul>
+ * The top level of a Program is left unresolved, since a Program may be executed in any environment
+ * (the global environment, an eval() environment, a REPL which adds to the global environment over many inputs...).
+ * Names which are not declared in any enclosing scope are looked up by name, skipping the static environments.
+ */
+public final class Resolver {
+	private final ArrayList<Reference> references = new ArrayList<>();
+	private Scope scope = null;
+
+	private Resolver() {
+	}
+
+	public static void resolve(Program program) {
+		final Resolver resolver = new Resolver();
+		resolver.statements(program.children());
+		// All declarations must be known before references are bound, as closures can refer to later declarations
+		for (final Reference reference : resolver.references) reference.bind();
+	}
+
+	private void enterScope() {
+		scope = new Scope(scope);
+	}
+
+	private void exitScope() {
+		scope = scope.parent;
+	}
+
+	private void declare(IdentifierExpression identifier) {
+		if (scope == null) return;
+		identifier.resolve(0, scope, scope.declare(identifier.name()));
+	}
+
+	private void reference(IdentifierExpression identifier) {
+		references.add(new Reference(identifier, scope));
+	}
+
+	private void statements(List<Statement> statements) {
+		for (final Statement statement : statements) statement(statement);
+	}
+
+	private void statement(Statement node) {
+		if (node == null || node instanceof EmptyStatement || node instanceof BreakStatement || node instanceof ContinueStatement) {
+			return;
+		} else if (node instanceof final BlockStatement blockStatement) {
+			enterScope();
+			statements(blockStatement.children());
+			exitScope();
+		} else if (node instanceof final ExpressionStatement expressionStatement) {
+			expression(expressionStatement.expression());
+		} else if (node instanceof final VariableDeclaration variableDeclaration) {
+			for (final VariableDeclarator declarator : variableDeclaration.declarations()) {
+				target(declarator.target(), true);
+				expression(declarator.init());
+			}
+		} else if (node instanceof final FunctionDeclaration functionDeclaration) {
+			declare(functionDeclaration.name());
+			function(functionDeclaration.parameters(), functionDeclaration.body());
+		} else if (node instanceof final IfStatement ifStatement) {
+			expression(ifStatement.condition());
+			statement(ifStatement.consequence());
+			statement(ifStatement.elseStatement());
+		} else if (node instanceof final WhileStatement whileStatement) {
+			expression(whileStatement.condition());
+			statement(whileStatement.body());
+		} else if (node instanceof final DoWhileStatement doWhileStatement) {
+			statement(doWhileStatement.body());
+			expression(doWhileStatement.condition());
+		} else if (node instanceof final ForStatement forStatement) {
+			enterScope();
+			statement(forStatement.init());
+			expression(forStatement.test());
+			expression(forStatement.update());
+			statement(forStatement.body());
+			exitScope();
+		} else if (node instanceof final ForOfStatement forOfStatement) {
+			forInOrOf(forOfStatement.left(), forOfStatement.right(), forOfStatement.body());
+		} else if (node instanceof final ForInStatement forInStatement) {
+			forInOrOf(forInStatement.left(), forInStatement.right(), forInStatement.body());
+		} else if (node instanceof final ReturnStatement returnStatement) {
+			expression(returnStatement.value());
+		} else if (node instanceof final ThrowStatement throwStatement) {
+			expression(throwStatement.value());
+		} else if (node instanceof final TryStatement tryStatement) {
+			statement(tryStatement.body());
+			if (tryStatement.catchBody() != null) {
+				enterScope();
+				if (tryStatement.catchParameter() != null) declare(tryStatement.catchParameter());
+				statements(tryStatement.catchBody().children());
+				exitScope();
+			}
+
+			statement(tryStatement.finallyBody());
+		} else if (node instanceof final SwitchStatement switchStatement) {
+			expression(switchStatement.discriminant());
+			for (final SwitchCase switchCase : switchStatement.cases()) {
+				expression(switchCase.test());
+				for (final Statement statement : switchCase.statements()) statement(statement);
+			}
+		} else if (node instanceof final SuperCallStatement superCallStatement) {
+			expressions(superCallStatement.arguments());
+		} else {
+			throw new ShouldNotHappen("Resolver does not handle " + node.getClass().getSimpleName());
+		}
+	}
+
+	private void forInOrOf(Assignable left, Expression right, Statement body) {
+		expression(right);
+		enterScope();
+		if (left instanceof final ForBinding forBinding) {
+			target(forBinding.assignmentTarget(), true);
+		} else {
+			target((AssignmentTarget) left, false);
+		}
+
+		statement(body);
+		exitScope();
+	}
+
+	private void function(FunctionParameters parameters, BlockStatement body) {
+		enterScope();
+		parameters(parameters);
+		statements(body.children());
+		exitScope();
+	}
+
+	private void parameters(FunctionParameters parameters) {
+		for (final AssignmentPattern parameter : parameters) pattern(parameter, true);
+		if (parameters.rest() != null) target(parameters.rest(), true);
+	}
+
+	private void pattern(AssignmentPattern pattern, boolean declaration) {
+		if (pattern == null) return;
+		target(pattern.assignmentTarget(), declaration);
+		expression(pattern.defaultExpression());
+	}
+
+	private void target(AssignmentTarget target, boolean declaration) {
+		if (target instanceof final IdentifierExpression identifier) {
+			if (declaration) declare(identifier);
+			else reference(identifier);
+		} else if (target instanceof final ObjectDestructuring objectDestructuring) {
+			for (final var entry : objectDestructuring.pairs().entrySet()) {
+				expression(entry.getKey());
+				pattern(entry.getValue(), declaration);
+			}
+
+			if (objectDestructuring.restName() != null) target(objectDestructuring.restName(), declaration);
+		} else if (target instanceof final ArrayDestructuring arrayDestructuring) {
+			for (final AssignmentPattern child : arrayDestructuring.children()) pattern(child, declaration);
+			if (arrayDestructuring.restTarget() != null) target(arrayDestructuring.restTarget(), declaration);
+		} else if (target instanceof final Expression expression) {
+			expression(expression);
+		} else {
+			throw new ShouldNotHappen("Resolver does not handle " + target.getClass().getSimpleName());
+		}
+	}
+
+	private void expressions(ExpressionList expressionList) {
+		if (expressionList == null) return;
+		for (final Expression expression : expressionList.expressions()) expression(expression);
+	}
+
+	private void expression(Expression node) {
+		if (node == null || node instanceof PrimitiveLiteral<?> || node instanceof RegExpLiteral || node instanceof ThisKeyword) {
+			return;
+		} else if (node instanceof final IdentifierExpression identifier) {
+			reference(identifier);
+		} else if (node instanceof final BinaryExpression binaryExpression) {
+			expression(binaryExpression.left());
+			expression(binaryExpression.right());
+		} else if (node instanceof final EqualityExpression equalityExpression) {
+			expression(equalityExpression.left());
+			expression(equalityExpression.right());
+		} else if (node instanceof final LogicalExpression logicalExpression) {
+			expression(logicalExpression.left());
+			expression(logicalExpression.right());
+		} else if (node instanceof final RelationalExpression relationalExpression) {
+			expression(relationalExpression.left());
+			expression(relationalExpression.right());
+		} else if (node instanceof final SequenceExpression sequenceExpression) {
+			expression(sequenceExpression.left());
+			expression(sequenceExpression.right());
+		} else if (node instanceof final ConditionalExpression conditionalExpression) {
+			expression(conditionalExpression.test());
+			expression(conditionalExpression.left());
+			expression(conditionalExpression.right());
+		} else if (node instanceof final UnaryExpression unaryExpression) {
+			expression(unaryExpression.expression());
+		} else if (node instanceof final UpdateExpression updateExpression) {
+			expression(updateExpression.expression());
+		} else if (node instanceof final AssignmentExpression assignmentExpression) {
+			target(assignmentExpression.left(), false);
+			expression(assignmentExpression.right());
+		} else if (node instanceof final MemberExpression memberExpression) {
+			expression(memberExpression.base());
+			expression(memberExpression.property());
+		} else if (node instanceof final CallExpression callExpression) {
+			expression(callExpression.callee());
+			expressions(callExpression.arguments());
+		} else if (node instanceof final NewExpression newExpression) {
+			expression(newExpression.constructExpr());
+			expressions(newExpression.arguments());
+		} else if (node instanceof final ParenthesizedExpression parenthesizedExpression) {
+			expression(parenthesizedExpression.expression());
+		} else if (node instanceof final ArrayExpression arrayExpression) {
+			expressions(arrayExpression.expressionList());
+		} else if (node instanceof final TemplateLiteral templateLiteral) {
+			for (final TemplateLiteralNode child : templateLiteral.backingList()) {
+				if (child instanceof final TemplateLiteralExpressionNode expressionNode) expression(expressionNode.expression());
+			}
+		} else if (node instanceof final ObjectExpression objectExpression) {
+			for (final ObjectEntryNode entry : objectExpression.entries) objectEntry(entry);
+		} else if (node instanceof final FunctionExpression functionExpression) {
+			if (functionExpression.name() == null) {
+				function(functionExpression.parameters(), functionExpression.body());
+			} else {
+				enterScope();
+				declare(functionExpression.name());
+				function(functionExpression.parameters(), functionExpression.body());
+				exitScope();
+			}
+		} else if (node instanceof final ArrowFunctionExpression arrowFunction) {
+			enterScope();
+			parameters(arrowFunction.parameters());
+			if (arrowFunction.hasFullBody()) statements(arrowFunction.body().children());
+			else expression(arrowFunction.implicitReturn());
+			exitScope();
+		} else if (node instanceof final ClassExpression classExpression) {
+			expression(classExpression.heritage());
+			final ClassConstructorNode constructor = classExpression.constructor();
+			if (constructor != null) function(constructor.parameters(), constructor.body());
+			for (final MethodNode method : classExpression.methods()) objectEntry(method);
+		} else {
+			throw new ShouldNotHappen("Resolver does not handle " + node.getClass().getSimpleName());
+		}
+	}
+
+	private void objectEntry(ObjectEntryNode node) {
+		if (node instanceof final EntryNode entryNode) {
+			expression(entryNode.key());
+			expression(entryNode.value());
+		} else if (node instanceof final MethodNode methodNode) {
+			expression(methodNode.name());
+			function(methodNode.parameters(), methodNode.body());
+		} else if (node instanceof final GetterSetterNode getterSetterNode) {
+			objectEntry(getterSetterNode.value());
+		} else if (node instanceof final ShorthandNode shorthandNode) {
+			reference(shorthandNode.identifier());
+		} else if (node instanceof final SpreadNode spreadNode) {
+			expression(spreadNode.name());
+		} else {
+			throw new ShouldNotHappen("Resolver does not handle " + node.getClass().getSimpleName());
+		}
+	}
+
+	private record Reference(IdentifierExpression identifier, Scope scope) {
+		private void bind() {
+			int hops = 0;
+			for (Scope current = scope; current != null; current = current.parent) {
+				final int slot = current.indexOf(identifier.name());
+				if (slot != -1) {
+					identifier.resolve(hops, current, slot);
+					return;
+				}
+
+				hops++;
+			}
+
+			identifier.resolveFree(hops);
+		}
+	}
+}
\ No newline at end of file
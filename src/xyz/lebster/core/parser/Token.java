@@ -46,7 +46,8 @@ public record Token(SourceRange range, TokenType type, String value) {
 
 	PrimitiveLiteral<StringValue> asStringLiteral() {
 		if (type == EOF) throw new ShouldNotHappen("Attempting to convert EOF token to string literal");
-		return new PrimitiveLiteral<>(range, new StringValue(value));
+		// String literals are often used as computed keys, so they are atoms too
+		return new PrimitiveLiteral<>(range, StringValue.atom(value));
 	}
 
 	// TODO: Better testing for precedence
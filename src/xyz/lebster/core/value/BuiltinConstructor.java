@@ -15,7 +15,12 @@ public abstract class BuiltinConstructor<T extends ObjectValue, P extends Object
 
 	@Override
 	public final StringValue toStringMethod() {
-		return NativeFunction.toStringForName(this.name.value);
+		return NativeFunction.toStringForName(this.name.value());
+	}
+
+	@Override
+	protected final boolean isBuiltin() {
+		return true;
 	}
 
 	@Override
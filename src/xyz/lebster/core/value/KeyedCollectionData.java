@@ -0,0 +1,213 @@
+package xyz.lebster.core.value;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.function.Consumer;
+
+/**
+ * The [[MapData]] of a Map, or the [[SetData]] of a Set: an insertion-ordered hash table.
+ * <p>
+ * Keys are canonicalized with {@link Value#canonicalizeKeyedCollectionKey()}, after which {@link Value#equals(Object)}
+ * and {@link Value#hashCode()} agree with SameValueZero. Entries are stored in insertion order, and removing one leaves
+ * an empty slot behind, so that the position of each live {@link Cursor} stays valid. Once enough slots are empty they
+ * are compacted away, and the live cursors are moved to the equivalent positions.
+ */
+public final class KeyedCollectionData {
+	private static final int MIN_CAPACITY = 8;
+
+	private final HashMap<Value<?>, Integer> indices = new HashMap<>();
+	private final ArrayList<WeakReference<Cursor>> cursors = new ArrayList<>();
+	private int pruneCursorsAt = MIN_CAPACITY;
+
+	private Value<?>[] keys = new Value<?>[MIN_CAPACITY];
+	// Only allocated for Maps
+	private Value<?>[] values;
+	// The number of slots used, including empty ones
+	private int used = 0;
+	private int size = 0;
+
+	public int size() {
+		return size;
+	}
+
+	public boolean has(Value<?> key) {
+		return indices.containsKey(key.canonicalizeKeyedCollectionKey());
+	}
+
+	/**
+	 * @return The value associated with `key`, or null if there is none
+	 */
+	public Value<?> get(Value<?> key) {
+		final Integer index = indices.get(key.canonicalizeKeyedCollectionKey());
+		return index == null ? null : values[index];
+	}
+
+	/**
+	 * Associates `value` with `key`, appending a new entry if `key` is not already present
+	 */
+	public void set(Value<?> key, Value<?> value) {
+		if (values == null) values = new Value<?>[keys.length];
+		key = key.canonicalizeKeyedCollectionKey();
+		final Integer index = indices.get(key);
+		// append() may reallocate the arrays, so the index must be known before `values` is read
+		final int target = index != null ? index : append(key);
+		values[target] = value;
+	}
+
+	/**
+	 * Appends `key`, if it is not already present
+	 */
+	public void add(Value<?> key) {
+		key = key.canonicalizeKeyedCollectionKey();
+		if (!indices.containsKey(key)) append(key);
+	}
+
+	private int append(Value<?> key) {
+		if (used == keys.length) {
+			// Reclaim empty slots before growing
+			if (used - size >= used / 2) {
+				compact();
+			} else {
+				keys = Arrays.copyOf(keys, keys.length * 2);
+				if (values != null) values = Arrays.copyOf(values, keys.length);
+			}
+		}
+
+		final int index = used++;
+		keys[index] = key;
+		indices.put(key, index);
+		size += 1;
+		return index;
+	}
+
+	public boolean remove(Value<?> key) {
+		final Integer index = indices.remove(key.canonicalizeKeyedCollectionKey());
+		if (index == null) return false;
+		keys[index] = null;
+		if (values != null) values[index] = null;
+		size -= 1;
+
+		final int empty = used - size;
+		if (empty > MIN_CAPACITY && empty > size) compact();
+		return true;
+	}
+
+	public void clear() {
+		Arrays.fill(keys, 0, used, null);
+		if (values != null) Arrays.fill(values, 0, used, null);
+		indices.clear();
+		used = 0;
+		size = 0;
+
+		forEachCursor(cursor -> cursor.position = 0);
+	}
+
+	private void compact() {
+		// newPositions[i] is the number of live entries before slot i
+		final int[] newPositions = new int[used + 1];
+		int live = 0;
+		for (int i = 0; i < used; i++) {
+			newPositions[i] = live;
+			if (keys[i] == null) continue;
+			if (live != i) {
+				keys[live] = keys[i];
+				if (values != null) values[live] = values[i];
+				indices.put(keys[live], live);
+			}
+
+			live += 1;
+		}
+
+		newPositions[used] = live;
+		Arrays.fill(keys, live, used, null);
+		if (values != null) Arrays.fill(values, live, used, null);
+		used = live;
+
+		forEachCursor(cursor -> cursor.position = newPositions[cursor.position]);
+	}
+
+	private void forEachCursor(Consumer<Cursor> action) {
+		cursors.removeIf(reference -> {
+			final Cursor cursor = reference.get();
+			if (cursor == null) return true;
+			action.accept(cursor);
+			return false;
+		});
+	}
+
+	public KeyedCollectionData copy() {
+		final KeyedCollectionData result = new KeyedCollectionData();
+		for (final Cursor cursor = this.cursor(); cursor.advance(); ) {
+			if (values == null) {
+				result.add(cursor.key());
+			} else {
+				result.set(cursor.key(), cursor.value());
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return A cursor positioned before the first entry
+	 */
+	public Cursor cursor() {
+		if (cursors.size() >= pruneCursorsAt) {
+			cursors.removeIf(reference -> reference.get() == null);
+			pruneCursorsAt = Math.max(MIN_CAPACITY, cursors.size() * 2);
+		}
+
+		final Cursor cursor = new Cursor();
+		cursors.add(new WeakReference<>(cursor));
+		return cursor;
+	}
+
+	/**
+	 * A position in the entries, which behaves like an index into the [[MapData]] or [[SetData]] List of the
+	 * specification: entries added while iterating are visited, and entries removed before being reached are not.
+	 */
+	public final class Cursor {
+		private int position = 0;
+		private Value<?> key;
+		private Value<?> value;
+
+		private Cursor() {
+		}
+
+		/**
+		 * Moves to the next entry.
+		 *
+		 * @return false if there are no more entries
+		 */
+		public boolean advance() {
+			while (position < used) {
+				final int index = position++;
+				if (keys[index] != null) {
+					key = keys[index];
+					value = values == null ? null : values[index];
+					return true;
+				}
+			}
+
+			key = null;
+			value = null;
+			return false;
+		}
+
+		/**
+		 * @return The key of the entry most recently moved to, even if it has since been removed
+		 */
+		public Value<?> key() {
+			return key;
+		}
+
+		/**
+		 * @return The value of the entry most recently moved to, as it was at the time
+		 */
+		public Value<?> value() {
+			return value;
+		}
+	}
+}
\ No newline at end of file
@@ -3,283 +3,284 @@ package xyz.lebster.core.value;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
 public final class Names {
-	public static final StringValue Array = new StringValue("Array");
-	public static final StringValue BigInt = new StringValue("BigInt");
-	public static final StringValue Boolean = new StringValue("Boolean");
-	public static final StringValue DEG_TO_RAD = new StringValue("DEG_TO_RAD");
-	public static final StringValue E = new StringValue("E");
-	public static final StringValue EPSILON = new StringValue("EPSILON");
-	public static final StringValue Error = new StringValue("Error");
-	public static final StringValue Function = new StringValue("Function");
-	public static final StringValue Infinity = new StringValue("Infinity");
-	public static final StringValue Iterator = new StringValue("Iterator");
-	public static final StringValue JSON = new StringValue("JSON");
-	public static final StringValue LN10 = new StringValue("LN10");
-	public static final StringValue LN2 = new StringValue("LN2");
-	public static final StringValue LOG10E = new StringValue("LOG10E");
-	public static final StringValue LOG2E = new StringValue("LOG2E");
-	public static final StringValue MAX_SAFE_INTEGER = new StringValue("MAX_SAFE_INTEGER");
-	public static final StringValue MAX_VALUE = new StringValue("MAX_VALUE");
-	public static final StringValue MIN_SAFE_INTEGER = new StringValue("MIN_SAFE_INTEGER");
-	public static final StringValue MIN_VALUE = new StringValue("MIN_VALUE");
-	public static final StringValue Map = new StringValue("Map");
-	public static final StringValue Math = new StringValue("Math");
-	public static final StringValue NEGATIVE_INFINITY = new StringValue("NEGATIVE_INFINITY");
-	public static final StringValue NaN = new StringValue("NaN");
-	public static final StringValue Number = new StringValue("Number");
-	public static final StringValue Object = new StringValue("Object");
-	public static final StringValue PI = new StringValue("PI");
-	public static final StringValue POSITIVE_INFINITY = new StringValue("POSITIVE_INFINITY");
-	public static final StringValue RAD_TO_DEG = new StringValue("RAD_TO_DEG");
-	public static final StringValue RangeError = new StringValue("RangeError");
-	public static final StringValue ReferenceError = new StringValue("ReferenceError");
-	public static final StringValue RegExp = new StringValue("RegExp");
-	public static final StringValue SQRT1_2 = new StringValue("SQRT1_2");
-	public static final StringValue SQRT2 = new StringValue("SQRT2");
-	public static final StringValue Set = new StringValue("Set");
-	public static final StringValue ShadowRealm = new StringValue("ShadowRealm");
-	public static final StringValue String = new StringValue("String");
-	public static final StringValue Symbol = new StringValue("Symbol");
-	public static final StringValue SymbolDotAsyncIterator = new StringValue("Symbol.asyncIterator");
-	public static final StringValue SymbolDotHasInstance = new StringValue("Symbol.hasInstance");
-	public static final StringValue SymbolDotIsConcatSpreadable = new StringValue("Symbol.isConcatSpreadable");
-	public static final StringValue SymbolDotIterator = new StringValue("Symbol.iterator");
-	public static final StringValue SymbolDotMatch = new StringValue("Symbol.match");
-	public static final StringValue SymbolDotMatchAll = new StringValue("Symbol.matchAll");
-	public static final StringValue SymbolDotReplace = new StringValue("Symbol.replace");
-	public static final StringValue SymbolDotSearch = new StringValue("Symbol.search");
-	public static final StringValue SymbolDotSplit = new StringValue("Symbol.split");
-	public static final StringValue SymbolDotToPrimitive = new StringValue("Symbol.toPrimitive");
-	public static final StringValue SymbolDotToStringTag = new StringValue("Symbol.toStringTag");
-	public static final StringValue SyntaxError = new StringValue("SyntaxError");
-	public static final StringValue Test = new StringValue("Test");
-	public static final StringValue TypeError = new StringValue("TypeError");
-	public static final StringValue __TestResults__ = new StringValue("__TestResults__");
-	public static final StringValue abs = new StringValue("abs");
-	public static final StringValue acos = new StringValue("acos");
-	public static final StringValue acosh = new StringValue("acosh");
-	public static final StringValue add = new StringValue("add");
-	public static final StringValue apply = new StringValue("apply");
-	public static final StringValue asin = new StringValue("asin");
-	public static final StringValue asinh = new StringValue("asinh");
-	public static final StringValue assign = new StringValue("assign");
-	public static final StringValue asyncIterator = new StringValue("asyncIterator");
-	public static final StringValue at = new StringValue("at");
-	public static final StringValue atan = new StringValue("atan");
-	public static final StringValue atan2 = new StringValue("atan2");
-	public static final StringValue atanh = new StringValue("atanh");
-	public static final StringValue bind = new StringValue("bind");
-	public static final StringValue call = new StringValue("call");
-	public static final StringValue cbrt = new StringValue("cbrt");
-	public static final StringValue ceil = new StringValue("ceil");
-	public static final StringValue charAt = new StringValue("charAt");
-	public static final StringValue charCodeAt = new StringValue("charCodeAt");
-	public static final StringValue clamp = new StringValue("clamp");
-	public static final StringValue clear = new StringValue("clear");
-	public static final StringValue codePointAt = new StringValue("codePointAt");
-	public static final StringValue concat = new StringValue("concat");
-	public static final StringValue configurable = new StringValue("configurable");
-	public static final StringValue console = new StringValue("console");
-	public static final StringValue constructor = new StringValue("constructor");
-	public static final StringValue copyWithin = new StringValue("copyWithin");
-	public static final StringValue cos = new StringValue("cos");
-	public static final StringValue cosh = new StringValue("cosh");
-	public static final StringValue create = new StringValue("create");
-	public static final StringValue cwd = new StringValue("cwd");
-	public static final StringValue declare = new StringValue("declare");
-	public static final StringValue default_ = new StringValue("default");
-	public static final StringValue defineProperties = new StringValue("defineProperties");
-	public static final StringValue defineProperty = new StringValue("defineProperty");
-	public static final StringValue degrees = new StringValue("degrees");
-	public static final StringValue delete = new StringValue("delete");
-	public static final StringValue description = new StringValue("description");
-	public static final StringValue details = new StringValue("details");
-	public static final StringValue difference = new StringValue("difference");
-	public static final StringValue done = new StringValue("done");
-	public static final StringValue dotAll = new StringValue("dotAll");
-	public static final StringValue drop = new StringValue("drop");
-	public static final StringValue endsWith = new StringValue("endsWith");
-	public static final StringValue entries = new StringValue("entries");
-	public static final StringValue enumerable = new StringValue("enumerable");
-	public static final StringValue equals = new StringValue("equals");
-	public static final StringValue error = new StringValue("error");
-	public static final StringValue eval = new StringValue("eval");
-	public static final StringValue evaluate = new StringValue("evaluate");
-	public static final StringValue every = new StringValue("every");
-	public static final StringValue exec = new StringValue("exec");
-	public static final StringValue exp = new StringValue("exp");
-	public static final StringValue expect = new StringValue("expect");
-	public static final StringValue expectEqual = new StringValue("expectEqual");
-	public static final StringValue expectError = new StringValue("expectError");
-	public static final StringValue expm1 = new StringValue("expm1");
-	public static final StringValue fail = new StringValue("fail");
-	public static final StringValue false_ = new StringValue("false");
-	public static final StringValue fill = new StringValue("fill");
-	public static final StringValue filter = new StringValue("filter");
-	public static final StringValue find = new StringValue("find");
-	public static final StringValue findIndex = new StringValue("findIndex");
-	public static final StringValue findLast = new StringValue("findLast");
-	public static final StringValue findLastIndex = new StringValue("findLastIndex");
-	public static final StringValue flags = new StringValue("flags");
-	public static final StringValue flat = new StringValue("flat");
-	public static final StringValue flatMap = new StringValue("flatMap");
-	public static final StringValue floor = new StringValue("floor");
-	public static final StringValue forEach = new StringValue("forEach");
-	public static final StringValue freeze = new StringValue("freeze");
-	public static final StringValue from = new StringValue("from");
-	public static final StringValue fromCharCode = new StringValue("fromCharCode");
-	public static final StringValue fromCodePoint = new StringValue("fromCodePoint");
-	public static final StringValue fromEntries = new StringValue("fromEntries");
-	public static final StringValue fs = new StringValue("fs");
-	public static final StringValue get = new StringValue("get");
-	public static final StringValue getOwnPropertyDescriptor = new StringValue("getOwnPropertyDescriptor");
-	public static final StringValue getOwnPropertyDescriptors = new StringValue("getOwnPropertyDescriptors");
-	public static final StringValue getOwnPropertyNames = new StringValue("getOwnPropertyNames");
-	public static final StringValue getOwnPropertySymbols = new StringValue("getOwnPropertySymbols");
-	public static final StringValue getPrototypeOf = new StringValue("getPrototypeOf");
-	public static final StringValue global = new StringValue("global");
-	public static final StringValue globalThis = new StringValue("globalThis");
-	public static final StringValue groupBy = new StringValue("groupBy");
-	public static final StringValue groups = new StringValue("groups");
-	public static final StringValue has = new StringValue("has");
-	public static final StringValue hasIndices = new StringValue("hasIndices");
-	public static final StringValue hasInstance = new StringValue("hasInstance");
-	public static final StringValue hasOwn = new StringValue("hasOwn");
-	public static final StringValue hasOwnProperty = new StringValue("hasOwnProperty");
-	public static final StringValue hasProperty = new StringValue("hasProperty");
-	public static final StringValue hypot = new StringValue("hypot");
-	public static final StringValue ignoreCase = new StringValue("ignoreCase");
-	public static final StringValue includes = new StringValue("includes");
-	public static final StringValue index = new StringValue("index");
-	public static final StringValue indexOf = new StringValue("indexOf");
-	public static final StringValue info = new StringValue("info");
-	public static final StringValue input = new StringValue("input");
-	public static final StringValue intersection = new StringValue("intersection");
-	public static final StringValue is = new StringValue("is");
-	public static final StringValue isArray = new StringValue("isArray");
-	public static final StringValue isConcatSpreadable = new StringValue("isConcatSpreadable");
-	public static final StringValue isDisjointFrom = new StringValue("isDisjointFrom");
-	public static final StringValue isExtensible = new StringValue("isExtensible");
-	public static final StringValue isFinite = new StringValue("isFinite");
-	public static final StringValue isFrozen = new StringValue("isFrozen");
-	public static final StringValue isInteger = new StringValue("isInteger");
-	public static final StringValue isNaN = new StringValue("isNaN");
-	public static final StringValue isPrototypeOf = new StringValue("isPrototypeOf");
-	public static final StringValue isSafeInteger = new StringValue("isSafeInteger");
-	public static final StringValue isSealed = new StringValue("isSealed");
-	public static final StringValue isSubsetOf = new StringValue("isSubsetOf");
-	public static final StringValue isSupersetOf = new StringValue("isSupersetOf");
-	public static final StringValue iterator = new StringValue("iterator");
-	public static final StringValue join = new StringValue("join");
-	public static final StringValue keys = new StringValue("keys");
-	public static final StringValue lastIndexOf = new StringValue("lastIndexOf");
-	public static final StringValue length = new StringValue("length");
-	public static final StringValue localeCompare = new StringValue("localeCompare");
-	public static final StringValue log = new StringValue("log");
-	public static final StringValue log10 = new StringValue("log10");
-	public static final StringValue log1p = new StringValue("log1p");
-	public static final StringValue log2 = new StringValue("log2");
-	public static final StringValue map = new StringValue("map");
-	public static final StringValue match = new StringValue("match");
-	public static final StringValue matchAll = new StringValue("matchAll");
-	public static final StringValue max = new StringValue("max");
-	public static final StringValue message = new StringValue("message");
-	public static final StringValue min = new StringValue("min");
-	public static final StringValue multiline = new StringValue("multiline");
-	public static final StringValue name = new StringValue("name");
-	public static final StringValue next = new StringValue("next");
-	public static final StringValue normalize = new StringValue("normalize");
-	public static final StringValue null_ = new StringValue("null");
-	public static final StringValue number = new StringValue("number");
-	public static final StringValue of = new StringValue("of");
-	public static final StringValue padEnd = new StringValue("padEnd");
-	public static final StringValue padStart = new StringValue("padStart");
-	public static final StringValue parse = new StringValue("parse");
-	public static final StringValue parseFloat = new StringValue("parseFloat");
-	public static final StringValue parseInt = new StringValue("parseInt");
-	public static final StringValue pop = new StringValue("pop");
-	public static final StringValue pow = new StringValue("pow");
-	public static final StringValue preventExtensions = new StringValue("preventExtensions");
-	public static final StringValue propertyIsEnumerable = new StringValue("propertyIsEnumerable");
-	public static final StringValue prototype = new StringValue("prototype");
-	public static final StringValue push = new StringValue("push");
-	public static final StringValue radians = new StringValue("radians");
-	public static final StringValue random = new StringValue("random");
-	public static final StringValue range = new StringValue("range");
-	public static final StringValue raw = new StringValue("raw");
-	public static final StringValue readDir = new StringValue("readDir");
-	public static final StringValue readFile = new StringValue("readFile");
-	public static final StringValue reduce = new StringValue("reduce");
-	public static final StringValue reduceRight = new StringValue("reduceRight");
-	public static final StringValue repeat = new StringValue("repeat");
-	public static final StringValue replace = new StringValue("replace");
-	public static final StringValue replaceAll = new StringValue("replaceAll");
-	public static final StringValue result = new StringValue("result");
-	public static final StringValue reverse = new StringValue("reverse");
-	public static final StringValue round = new StringValue("round");
-	public static final StringValue scale = new StringValue("scale");
-	public static final StringValue seal = new StringValue("seal");
-	public static final StringValue search = new StringValue("search");
-	public static final StringValue set = new StringValue("set");
-	public static final StringValue setPrototypeOf = new StringValue("setPrototypeOf");
-	public static final StringValue shift = new StringValue("shift");
-	public static final StringValue sign = new StringValue("sign");
-	public static final StringValue signbit = new StringValue("signbit");
-	public static final StringValue sin = new StringValue("sin");
-	public static final StringValue sinh = new StringValue("sinh");
-	public static final StringValue size = new StringValue("size");
-	public static final StringValue slice = new StringValue("slice");
-	public static final StringValue some = new StringValue("some");
-	public static final StringValue sort = new StringValue("sort");
-	public static final StringValue source = new StringValue("source");
-	public static final StringValue splice = new StringValue("splice");
-	public static final StringValue split = new StringValue("split");
-	public static final StringValue sqrt = new StringValue("sqrt");
-	public static final StringValue stack = new StringValue("stack");
-	public static final StringValue startsWith = new StringValue("startsWith");
-	public static final StringValue sticky = new StringValue("sticky");
-	public static final StringValue string = new StringValue("string");
-	public static final StringValue stringify = new StringValue("stringify");
-	public static final StringValue substring = new StringValue("substring");
-	public static final StringValue symmetricDifference = new StringValue("symmetricDifference");
-	public static final StringValue take = new StringValue("take");
-	public static final StringValue tan = new StringValue("tan");
-	public static final StringValue tanh = new StringValue("tanh");
-	public static final StringValue test = new StringValue("test");
-	public static final StringValue toArray = new StringValue("toArray");
-	public static final StringValue toExactString = new StringValue("toExactString");
-	public static final StringValue toExponential = new StringValue("toExponential");
-	public static final StringValue toFixed = new StringValue("toFixed");
-	public static final StringValue toJSON = new StringValue("toJSON");
-	public static final StringValue toLocaleLowerCase = new StringValue("toLocaleLowerCase");
-	public static final StringValue toLocaleString = new StringValue("toLocaleString");
-	public static final StringValue toLocaleUpperCase = new StringValue("toLocaleUpperCase");
-	public static final StringValue toLowerCase = new StringValue("toLowerCase");
-	public static final StringValue toPrecision = new StringValue("toPrecision");
-	public static final StringValue toPrimitive = new StringValue("toPrimitive");
-	public static final StringValue toReversed = new StringValue("toReversed");
-	public static final StringValue toSorted = new StringValue("toSorted");
-	public static final StringValue toSpliced = new StringValue("toSpliced");
-	public static final StringValue toString = new StringValue("toString");
-	public static final StringValue toStringTag = new StringValue("toStringTag");
-	public static final StringValue toUpperCase = new StringValue("toUpperCase");
-	public static final StringValue trim = new StringValue("trim");
-	public static final StringValue trimEnd = new StringValue("trimEnd");
-	public static final StringValue trimStart = new StringValue("trimStart");
-	public static final StringValue true_ = new StringValue("true");
-	public static final StringValue trunc = new StringValue("trunc");
-	public static final StringValue undefined = new StringValue("undefined");
-	public static final StringValue unicode = new StringValue("unicode");
-	public static final StringValue unicodeSets = new StringValue("unicodeSets");
-	public static final StringValue union = new StringValue("union");
-	public static final StringValue unshift = new StringValue("unshift");
-	public static final StringValue value = new StringValue("value");
-	public static final StringValue valueOf = new StringValue("valueOf");
-	public static final StringValue values = new StringValue("values");
-	public static final StringValue warn = new StringValue("warn");
-	public static final StringValue with = new StringValue("with");
-	public static final StringValue writable = new StringValue("writable");
-	public static final StringValue write = new StringValue("write");
+	public static final StringValue Array = StringValue.atom("Array");
+	public static final StringValue BigInt = StringValue.atom("BigInt");
+	public static final StringValue Boolean = StringValue.atom("Boolean");
+	public static final StringValue DEG_TO_RAD = StringValue.atom("DEG_TO_RAD");
+	public static final StringValue E = StringValue.atom("E");
+	public static final StringValue EPSILON = StringValue.atom("EPSILON");
+	public static final StringValue Error = StringValue.atom("Error");
+	public static final StringValue Function = StringValue.atom("Function");
+	public static final StringValue Infinity = StringValue.atom("Infinity");
+	public static final StringValue Iterator = StringValue.atom("Iterator");
+	public static final StringValue JSON = StringValue.atom("JSON");
+	public static final StringValue LN10 = StringValue.atom("LN10");
+	public static final StringValue LN2 = StringValue.atom("LN2");
+	public static final StringValue LOG10E = StringValue.atom("LOG10E");
+	public static final StringValue LOG2E = StringValue.atom("LOG2E");
+	public static final StringValue MAX_SAFE_INTEGER = StringValue.atom("MAX_SAFE_INTEGER");
+	public static final StringValue MAX_VALUE = StringValue.atom("MAX_VALUE");
+	public static final StringValue MIN_SAFE_INTEGER = StringValue.atom("MIN_SAFE_INTEGER");
+	public static final StringValue MIN_VALUE = StringValue.atom("MIN_VALUE");
+	public static final StringValue Map = StringValue.atom("Map");
+	public static final StringValue Math = StringValue.atom("Math");
+	public static final StringValue NEGATIVE_INFINITY = StringValue.atom("NEGATIVE_INFINITY");
+	public static final StringValue NaN = StringValue.atom("NaN");
+	public static final StringValue Number = StringValue.atom("Number");
+	public static final StringValue Object = StringValue.atom("Object");
+	public static final StringValue PI = StringValue.atom("PI");
+	public static final StringValue POSITIVE_INFINITY = StringValue.atom("POSITIVE_INFINITY");
+	public static final StringValue RAD_TO_DEG = StringValue.atom("RAD_TO_DEG");
+	public static final StringValue RangeError = StringValue.atom("RangeError");
+	public static final StringValue ReferenceError = StringValue.atom("ReferenceError");
+	public static final StringValue RegExp = StringValue.atom("RegExp");
+	public static final StringValue SQRT1_2 = StringValue.atom("SQRT1_2");
+	public static final StringValue SQRT2 = StringValue.atom("SQRT2");
+	public static final StringValue Set = StringValue.atom("Set");
+	public static final StringValue ShadowRealm = StringValue.atom("ShadowRealm");
+	public static final StringValue String = StringValue.atom("String");
+	public static final StringValue Symbol = StringValue.atom("Symbol");
+	public static final StringValue SymbolDotAsyncIterator = StringValue.atom("Symbol.asyncIterator");
+	public static final StringValue SymbolDotHasInstance = StringValue.atom("Symbol.hasInstance");
+	public static final StringValue SymbolDotIsConcatSpreadable = StringValue.atom("Symbol.isConcatSpreadable");
+	public static final StringValue SymbolDotIterator = StringValue.atom("Symbol.iterator");
+	public static final StringValue SymbolDotMatch = StringValue.atom("Symbol.match");
+	public static final StringValue SymbolDotMatchAll = StringValue.atom("Symbol.matchAll");
+	public static final StringValue SymbolDotReplace = StringValue.atom("Symbol.replace");
+	public static final StringValue SymbolDotSearch = StringValue.atom("Symbol.search");
+	public static final StringValue SymbolDotSplit = StringValue.atom("Symbol.split");
+	public static final StringValue SymbolDotToPrimitive = StringValue.atom("Symbol.toPrimitive");
+	public static final StringValue SymbolDotToStringTag = StringValue.atom("Symbol.toStringTag");
+	public static final StringValue SyntaxError = StringValue.atom("SyntaxError");
+	public static final StringValue Test = StringValue.atom("Test");
+	public static final StringValue TypeError = StringValue.atom("TypeError");
+	public static final StringValue __TestResults__ = StringValue.atom("__TestResults__");
+	public static final StringValue abs = StringValue.atom("abs");
+	public static final StringValue acos = StringValue.atom("acos");
+	public static final StringValue acosh = StringValue.atom("acosh");
+	public static final StringValue add = StringValue.atom("add");
+	public static final StringValue apply = StringValue.atom("apply");
+	public static final StringValue asin = StringValue.atom("asin");
+	public static final StringValue asinh = StringValue.atom("asinh");
+	public static final StringValue assign = StringValue.atom("assign");
+	public static final StringValue asyncIterator = StringValue.atom("asyncIterator");
+	public static final StringValue at = StringValue.atom("at");
+	public static final StringValue atan = StringValue.atom("atan");
+	public static final StringValue atan2 = StringValue.atom("atan2");
+	public static final StringValue atanh = StringValue.atom("atanh");
+	public static final StringValue bind = StringValue.atom("bind");
+	public static final StringValue call = StringValue.atom("call");
+	public static final StringValue cbrt = StringValue.atom("cbrt");
+	public static final StringValue ceil = StringValue.atom("ceil");
+	public static final StringValue charAt = StringValue.atom("charAt");
+	public static final StringValue charCodeAt = StringValue.atom("charCodeAt");
+	public static final StringValue clamp = StringValue.atom("clamp");
+	public static final StringValue clear = StringValue.atom("clear");
+	public static final StringValue codePointAt = StringValue.atom("codePointAt");
+	public static final StringValue concat = StringValue.atom("concat");
+	public static final StringValue configurable = StringValue.atom("configurable");
+	public static final StringValue console = StringValue.atom("console");
+	public static final StringValue constructor = StringValue.atom("constructor");
+	public static final StringValue copyWithin = StringValue.atom("copyWithin");
+	public static final StringValue cos = StringValue.atom("cos");
+	public static final StringValue cosh = StringValue.atom("cosh");
+	public static final StringValue create = StringValue.atom("create");
+	public static final StringValue cwd = StringValue.atom("cwd");
+	public static final StringValue declare = StringValue.atom("declare");
+	public static final StringValue default_ = StringValue.atom("default");
+	public static final StringValue defineProperties = StringValue.atom("defineProperties");
+	public static final StringValue defineProperty = StringValue.atom("defineProperty");
+	public static final StringValue degrees = StringValue.atom("degrees");
+	public static final StringValue delete = StringValue.atom("delete");
+	public static final StringValue description = StringValue.atom("description");
+	public static final StringValue details = StringValue.atom("details");
+	public static final StringValue difference = StringValue.atom("difference");
+	public static final StringValue done = StringValue.atom("done");
+	public static final StringValue dotAll = StringValue.atom("dotAll");
+	public static final StringValue drop = StringValue.atom("drop");
+	public static final StringValue endsWith = StringValue.atom("endsWith");
+	public static final StringValue entries = StringValue.atom("entries");
+	public static final StringValue enumerable = StringValue.atom("enumerable");
+	public static final StringValue equals = StringValue.atom("equals");
+	public static final StringValue error = StringValue.atom("error");
+	public static final StringValue eval = StringValue.atom("eval");
+	public static final StringValue evaluate = StringValue.atom("evaluate");
+	public static final StringValue every = StringValue.atom("every");
+	public static final StringValue exec = StringValue.atom("exec");
+	public static final StringValue exp = StringValue.atom("exp");
+	public static final StringValue expect = StringValue.atom("expect");
+	public static final StringValue expectEqual = StringValue.atom("expectEqual");
+	public static final StringValue expectError = StringValue.atom("expectError");
+	public static final StringValue expm1 = StringValue.atom("expm1");
+	public static final StringValue fail = StringValue.atom("fail");
+	public static final StringValue false_ = StringValue.atom("false");
+	public static final StringValue fill = StringValue.atom("fill");
+	public static final StringValue filter = StringValue.atom("filter");
+	public static final StringValue find = StringValue.atom("find");
+	public static final StringValue findIndex = StringValue.atom("findIndex");
+	public static final StringValue findLast = StringValue.atom("findLast");
+	public static final StringValue findLastIndex = StringValue.atom("findLastIndex");
+	public static final StringValue flags = StringValue.atom("flags");
+	public static final StringValue flat = StringValue.atom("flat");
+	public static final StringValue flatMap = StringValue.atom("flatMap");
+	public static final StringValue floor = StringValue.atom("floor");
+	public static final StringValue forEach = StringValue.atom("forEach");
+	public static final StringValue freeze = StringValue.atom("freeze");
+	public static final StringValue from = StringValue.atom("from");
+	public static final StringValue fromCharCode = StringValue.atom("fromCharCode");
+	public static final StringValue fromCodePoint = StringValue.atom("fromCodePoint");
+	public static final StringValue fromEntries = StringValue.atom("fromEntries");
+	public static final StringValue fs = StringValue.atom("fs");
+	public static final StringValue get = StringValue.atom("get");
+	public static final StringValue getOwnPropertyDescriptor = StringValue.atom("getOwnPropertyDescriptor");
+	public static final StringValue getOwnPropertyDescriptors = StringValue.atom("getOwnPropertyDescriptors");
+	public static final StringValue getOwnPropertyNames = StringValue.atom("getOwnPropertyNames");
+	public static final StringValue getOwnPropertySymbols = StringValue.atom("getOwnPropertySymbols");
+	public static final StringValue getPrototypeOf = StringValue.atom("getPrototypeOf");
+	public static final StringValue global = StringValue.atom("global");
+	public static final StringValue globalThis = StringValue.atom("globalThis");
+	public static final StringValue groupBy = StringValue.atom("groupBy");
+	public static final StringValue groups = StringValue.atom("groups");
+	public static final StringValue has = StringValue.atom("has");
+	public static final StringValue hasIndices = StringValue.atom("hasIndices");
+	public static final StringValue hasInstance = StringValue.atom("hasInstance");
+	public static final StringValue hasOwn = StringValue.atom("hasOwn");
+	public static final StringValue hasOwnProperty = StringValue.atom("hasOwnProperty");
+	public static final StringValue hasProperty = StringValue.atom("hasProperty");
+	public static final StringValue hypot = StringValue.atom("hypot");
+	public static final StringValue ignoreCase = StringValue.atom("ignoreCase");
+	public static final StringValue includes = StringValue.atom("includes");
+	public static final StringValue index = StringValue.atom("index");
+	public static final StringValue indexOf = StringValue.atom("indexOf");
+	public static final StringValue info = StringValue.atom("info");
+	public static final StringValue input = StringValue.atom("input");
+	public static final StringValue intersection = StringValue.atom("intersection");
+	public static final StringValue is = StringValue.atom("is");
+	public static final StringValue isArray = StringValue.atom("isArray");
+	public static final StringValue isConcatSpreadable = StringValue.atom("isConcatSpreadable");
+	public static final StringValue isDisjointFrom = StringValue.atom("isDisjointFrom");
+	public static final StringValue isExtensible = StringValue.atom("isExtensible");
+	public static final StringValue isFinite = StringValue.atom("isFinite");
+	public static final StringValue isFrozen = StringValue.atom("isFrozen");
+	public static final StringValue isInteger = StringValue.atom("isInteger");
+	public static final StringValue isNaN = StringValue.atom("isNaN");
+	public static final StringValue isPrototypeOf = StringValue.atom("isPrototypeOf");
+	public static final StringValue isSafeInteger = StringValue.atom("isSafeInteger");
+	public static final StringValue isSealed = StringValue.atom("isSealed");
+	public static final StringValue isSubsetOf = StringValue.atom("isSubsetOf");
+	public static final StringValue isSupersetOf = StringValue.atom("isSupersetOf");
+	public static final StringValue iterator = StringValue.atom("iterator");
+	public static final StringValue join = StringValue.atom("join");
+	public static final StringValue keys = StringValue.atom("keys");
+	public static final StringValue lastIndexOf = StringValue.atom("lastIndexOf");
+	public static final StringValue length = StringValue.atom("length");
+	public static final StringValue localeCompare = StringValue.atom("localeCompare");
+	public static final StringValue log = StringValue.atom("log");
+	public static final StringValue log10 = StringValue.atom("log10");
+	public static final StringValue log1p = StringValue.atom("log1p");
+	public static final StringValue log2 = StringValue.atom("log2");
+	public static final StringValue map = StringValue.atom("map");
+	public static final StringValue match = StringValue.atom("match");
+	public static final StringValue matchAll = StringValue.atom("matchAll");
+	public static final StringValue max = StringValue.atom("max");
+	public static final StringValue message = StringValue.atom("message");
+	public static final StringValue min = StringValue.atom("min");
+	public static final StringValue multiline = StringValue.atom("multiline");
+	public static final StringValue name = StringValue.atom("name");
+	public static final StringValue next = StringValue.atom("next");
+	public static final StringValue normalize = StringValue.atom("normalize");
+	public static final StringValue null_ = StringValue.atom("null");
+	public static final StringValue number = StringValue.atom("number");
+	public static final StringValue of = StringValue.atom("of");
+	public static final StringValue padEnd = StringValue.atom("padEnd");
+	public static final StringValue padStart = StringValue.atom("padStart");
+	public static final StringValue parse = StringValue.atom("parse");
+	public static final StringValue parseFloat = StringValue.atom("parseFloat");
+	public static final StringValue parseInt = StringValue.atom("parseInt");
+	public static final StringValue pop = StringValue.atom("pop");
+	public static final StringValue pow = StringValue.atom("pow");
+	public static final StringValue preventExtensions = StringValue.atom("preventExtensions");
+	public static final StringValue propertyIsEnumerable = StringValue.atom("propertyIsEnumerable");
+	public static final StringValue prototype = StringValue.atom("prototype");
+	public static final StringValue push = StringValue.atom("push");
+	public static final StringValue radians = StringValue.atom("radians");
+	public static final StringValue random = StringValue.atom("random");
+	public static final StringValue range = StringValue.atom("range");
+	public static final StringValue raw = StringValue.atom("raw");
+	public static final StringValue readDir = StringValue.atom("readDir");
+	public static final StringValue readFile = StringValue.atom("readFile");
+	public static final StringValue reduce = StringValue.atom("reduce");
+	public static final StringValue reduceRight = StringValue.atom("reduceRight");
+	public static final StringValue repeat = StringValue.atom("repeat");
+	public static final StringValue replace = StringValue.atom("replace");
+	public static final StringValue replaceAll = StringValue.atom("replaceAll");
+	public static final StringValue result = StringValue.atom("result");
+	public static final StringValue reverse = StringValue.atom("reverse");
+	public static final StringValue round = StringValue.atom("round");
+	public static final StringValue scale = StringValue.atom("scale");
+	public static final StringValue seal = StringValue.atom("seal");
+	public static final StringValue search = StringValue.atom("search");
+	public static final StringValue set = StringValue.atom("set");
+	public static final StringValue setPrototypeOf = StringValue.atom("setPrototypeOf");
+	public static final StringValue shift = StringValue.atom("shift");
+	public static final StringValue sign = StringValue.atom("sign");
+	public static final StringValue signbit = StringValue.atom("signbit");
+	public static final StringValue sin = StringValue.atom("sin");
+	public static final StringValue sinh = StringValue.atom("sinh");
+	public static final StringValue size = StringValue.atom("size");
+	public static final StringValue slice = StringValue.atom("slice");
+	public static final StringValue some = StringValue.atom("some");
+	public static final StringValue sort = StringValue.atom("sort");
+	public static final StringValue source = StringValue.atom("source");
+	public static final StringValue splice = StringValue.atom("splice");
+	public static final StringValue split = StringValue.atom("split");
+	public static final StringValue sqrt = StringValue.atom("sqrt");
+	public static final StringValue stack = StringValue.atom("stack");
+	public static final StringValue startsWith = StringValue.atom("startsWith");
+	public static final StringValue sticky = StringValue.atom("sticky");
+	public static final StringValue string = StringValue.atom("string");
+	public static final StringValue stringify = StringValue.atom("stringify");
+	public static final StringValue stringifyTo = StringValue.atom("stringifyTo");
+	public static final StringValue substring = StringValue.atom("substring");
+	public static final StringValue symmetricDifference = StringValue.atom("symmetricDifference");
+	public static final StringValue take = StringValue.atom("take");
+	public static final StringValue tan = StringValue.atom("tan");
+	public static final StringValue tanh = StringValue.atom("tanh");
+	public static final StringValue test = StringValue.atom("test");
+	public static final StringValue toArray = StringValue.atom("toArray");
+	public static final StringValue toExactString = StringValue.atom("toExactString");
+	public static final StringValue toExponential = StringValue.atom("toExponential");
+	public static final StringValue toFixed = StringValue.atom("toFixed");
+	public static final StringValue toJSON = StringValue.atom("toJSON");
+	public static final StringValue toLocaleLowerCase = StringValue.atom("toLocaleLowerCase");
+	public static final StringValue toLocaleString = StringValue.atom("toLocaleString");
+	public static final StringValue toLocaleUpperCase = StringValue.atom("toLocaleUpperCase");
+	public static final StringValue toLowerCase = StringValue.atom("toLowerCase");
+	public static final StringValue toPrecision = StringValue.atom("toPrecision");
+	public static final StringValue toPrimitive = StringValue.atom("toPrimitive");
+	public static final StringValue toReversed = StringValue.atom("toReversed");
+	public static final StringValue toSorted = StringValue.atom("toSorted");
+	public static final StringValue toSpliced = StringValue.atom("toSpliced");
+	public static final StringValue toString = StringValue.atom("toString");
+	public static final StringValue toStringTag = StringValue.atom("toStringTag");
+	public static final StringValue toUpperCase = StringValue.atom("toUpperCase");
+	public static final StringValue trim = StringValue.atom("trim");
+	public static final StringValue trimEnd = StringValue.atom("trimEnd");
+	public static final StringValue trimStart = StringValue.atom("trimStart");
+	public static final StringValue true_ = StringValue.atom("true");
+	public static final StringValue trunc = StringValue.atom("trunc");
+	public static final StringValue undefined = StringValue.atom("undefined");
+	public static final StringValue unicode = StringValue.atom("unicode");
+	public static final StringValue unicodeSets = StringValue.atom("unicodeSets");
+	public static final StringValue union = StringValue.atom("union");
+	public static final StringValue unshift = StringValue.atom("unshift");
+	public static final StringValue value = StringValue.atom("value");
+	public static final StringValue valueOf = StringValue.atom("valueOf");
+	public static final StringValue values = StringValue.atom("values");
+	public static final StringValue warn = StringValue.atom("warn");
+	public static final StringValue with = StringValue.atom("with");
+	public static final StringValue writable = StringValue.atom("writable");
+	public static final StringValue write = StringValue.atom("write");
 
-	public static final StringValue EMPTY = new StringValue("");
+	public static final StringValue EMPTY = StringValue.atom("");
 }
@@ -55,15 +55,15 @@ public abstract class Value<JType> implements Displayable {
 		// 3. If px is a String and py is a String, then
 		if (px instanceof final StringValue string_px && py instanceof final StringValue string_py) {
 			// a. Let lx be the length of px.
-			final int lx = string_px.value.length();
+			final int lx = string_px.value().length();
 			// b. Let ly be the length of py.
-			final int ly = string_py.value.length();
+			final int ly = string_py.value().length();
 			// c. For each integer i such that 0 ≤ i < min(lx, ly), in ascending order, do
 			for (int i = 0; i < Math.min(lx, ly); i++) {
 				// i. Let cx be the numeric value of the code unit at index i within px.
-				final int cx = string_px.value.charAt(i);
+				final int cx = string_px.value().charAt(i);
 				// ii. Let cy be the numeric value of the code unit at index i within py.
-				final int cy = string_py.value.charAt(i);
+				final int cy = string_py.value().charAt(i);
 				// iii. If cx < cy, return true.
 				if (cx < cy) return BooleanValue.TRUE;
 				// iv. If cx > cy, return false.
@@ -78,7 +78,7 @@ public abstract class Value<JType> implements Displayable {
 			// a. If px is a BigInt and py is a String, then
 			if (px instanceof final BigIntValue bigint_px && py instanceof final StringValue string_py) {
 				// i. Let ny be StringToBigInt(py).
-				final BigIntValue ny = stringToBigInt(string_py.value);
+				final BigIntValue ny = stringToBigInt(string_py.value());
 				// ii. If ny is undefined, return undefined.
 				if (ny == null) return null;
 				// iii. Return BigInt::lessThan(px, ny).
@@ -87,7 +87,7 @@ public abstract class Value<JType> implements Displayable {
 			// b. If px is a String and py is a BigInt, then
 			if (px instanceof final StringValue string_px && py instanceof final BigIntValue bigint_py) {
 				// i. Let nx be StringToBigInt(px).
-				final BigIntValue nx = stringToBigInt(string_px.value);
+				final BigIntValue nx = stringToBigInt(string_px.value());
 				// ii. If nx is undefined, return undefined.
 				if (nx == null) return null;
 				// iii. Return BigInt::lessThan(nx, py).
@@ -267,7 +267,11 @@ public abstract class Value<JType> implements Displayable {
 			return s;
 
 		// 3. Return ! ToString(key).
-		return key.toStringValue(interpreter);
+		final StringValue string = key.toStringValue(interpreter);
+		// NOTE: Keys are hashed when used, which flattens ropes anyway.
+		// Doing it here means that Key#value can always be read directly.
+		// Interning the key means it can usually be compared with the keys of objects by identity.
+		return string.interned();
 	}
 
 	public final boolean isTruthy(Interpreter interpreter) throws AbruptCompletion {
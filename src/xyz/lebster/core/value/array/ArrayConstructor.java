@@ -96,7 +96,7 @@ public class ArrayConstructor extends BuiltinConstructor<ArrayObject, ArrayProto
 				// iv. If next is false, then
 				if (next == null) {
 					// 1. Perform ? Set(A, "length", 𝔽(k), true).
-					A.set(interpreter, Names.length, new NumberValue(k) /* FIXME: , true */);
+					A.set(interpreter, Names.length, NumberValue.of(k) /* FIXME: , true */);
 					// 2. Return A.
 					return A;
 				}
@@ -107,7 +107,7 @@ public class ArrayConstructor extends BuiltinConstructor<ArrayObject, ArrayProto
 				final Value<?> mappedValue = mapping ?
 					// FIXME: 1. Let mappedValue be Completion(Call(mapfn, thisArg, « nextValue, 𝔽(k) »)).
 					// FIXME: 2. IfAbruptCloseIterator(mappedValue, iteratorRecord).
-					mapFn.call(interpreter, thisArg, nextValue, new NumberValue(k)) :
+					mapFn.call(interpreter, thisArg, nextValue, NumberValue.of(k)) :
 					// vii. Else, let mappedValue be nextValue.
 					nextValue;
 
@@ -128,7 +128,7 @@ public class ArrayConstructor extends BuiltinConstructor<ArrayObject, ArrayProto
 		// 9. If IsConstructor(C) is true, then
 		final ObjectValue A = C instanceof final Constructor constructor ?
 			// a. Let A be ? Construct(C, « 𝔽(len) »).
-			constructor.construct(interpreter, new Value[] { new NumberValue(len) }, constructor) :
+			constructor.construct(interpreter, new Value[] { NumberValue.of(len) }, constructor) :
 			// 10. Else, a. Let A be ? ArrayCreate(len).
 			arrayCreate(interpreter, Math.toIntExact(len), interpreter.intrinsics.arrayPrototype);
 
@@ -143,7 +143,7 @@ public class ArrayConstructor extends BuiltinConstructor<ArrayObject, ArrayProto
 			// c. If mapping is true, then
 			final Value<?> mappedValue = mapping ?
 				// i. Let mappedValue be ? Call(mapfn, thisArg, « kValue, 𝔽(k) »).
-				mapFn.call(interpreter, thisArg, kValue, new NumberValue(k)) :
+				mapFn.call(interpreter, thisArg, kValue, NumberValue.of(k)) :
 				// d. Else, let mappedValue be kValue.
 				kValue;
 			// FIXME: e. Perform ? CreateDataPropertyOrThrow(A, Pk, mappedValue).
@@ -153,7 +153,7 @@ public class ArrayConstructor extends BuiltinConstructor<ArrayObject, ArrayProto
 		}
 
 		// 13. Perform ? Set(A, "length", 𝔽(len), true).
-		A.set(interpreter, Names.length, new NumberValue(len)/* FIXME: , true */);
+		A.set(interpreter, Names.length, NumberValue.of(len)/* FIXME: , true */);
 		// 14. Return A.
 		return A;
 	}
@@ -169,7 +169,7 @@ public class ArrayConstructor extends BuiltinConstructor<ArrayObject, ArrayProto
 		final Executable executable = Executable.getExecutable(interpreter, callbackFn);
 		final Value<?>[] result = new Value<?>[len];
 		for (int k = 0; k < len; k++)
-			result[k] = executable.call(interpreter, thisArg, new NumberValue(k));
+			result[k] = executable.call(interpreter, thisArg, NumberValue.of(k));
 		return new ArrayObject(interpreter, result);
 	}
 
@@ -3,6 +3,7 @@ package xyz.lebster.core.value.array;
 import xyz.lebster.core.NonCompliant;
 import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.exception.NotImplemented;
+import xyz.lebster.core.exception.ShouldNotHappen;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.value.Displayable;
@@ -19,30 +20,50 @@ import xyz.lebster.core.value.primitive.number.NumberValue;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
-import static xyz.lebster.core.value.function.NativeFunction.argument;
 
+/**
+ * Elements are stored without property descriptors, in one of three representations:
+ * <ul>
+ *     <li>Packed numbers: every element up to `length` is a Number, stored unboxed in `doubles`</li>
+ *     <li>Holey values: any element, stored in `values`, where null is a hole</li>
+ *     <li>Sparse: elements with their descriptors, used once an index has been given non-default attributes,
+ *     or when an array is made very much longer than the elements it has</li>
+ * </ul>
+ * Arrays only move down that list, never back up.
+ * <p>
+ * Packed and holey elements start at `offset` in their store, so that removing or adding elements at the front
+ * (e.g. `shift()` and `unshift()`) does not have to move the rest.
+ */
 public final class ArrayObject extends ObjectValue implements HasBuiltinTag, Iterable<PropertyDescriptor> {
-	private final ArrayList<PropertyDescriptor> arrayValues;
+	private static final double[] NO_DOUBLES = new double[0];
+	// Growing an array by more than this many holes at once makes it sparse
+	private static final int MAX_HOLEY_GROWTH = 1 << 20;
+
+	private double[] doubles;
+	private Value<?>[] values;
+	private TreeMap<Integer, PropertyDescriptor> sparse;
+	// The index in `doubles` or `values` of the first element. Always 0 for sparse arrays.
+	private int offset;
+	private int length;
 
 	public ArrayObject(Interpreter interpreter, Value<?>... initialValues) {
 		super(interpreter.intrinsics.arrayPrototype);
-		this.arrayValues = new ArrayList<>(initialValues.length);
-		for (final Value<?> value : initialValues) {
-			if (value == null) {
-				// null indicates missing value
-				this.arrayValues.add(null);
-			} else {
-				this.arrayValues.add(new DataDescriptor(value, true, true, true));
-			}
-		}
+		this.length = initialValues.length;
 
-		putAccessor(interpreter.intrinsics, Names.length, this::getLength, this::arraySetLength, false, false);
+		if (allNumbers(initialValues)) {
+			this.doubles = initialValues.length == 0 ? NO_DOUBLES : new double[initialValues.length];
+			for (int i = 0; i < initialValues.length; i++) doubles[i] = ((NumberValue) initialValues[i]).value;
+		} else {
+			// null indicates missing value
+			this.values = initialValues.clone();
+		}
 	}
 
 	public <T extends Value<?>> ArrayObject(Interpreter interpreter, List<T> arrayValues) {
@@ -53,62 +74,460 @@ public final class ArrayObject extends ObjectValue implements HasBuiltinTag, Ite
 		this(interpreter, new Value<?>[length]);
 	}
 
+	private ArrayObject(Interpreter interpreter, double[] doubles, Value<?>[] values, int length) {
+		super(interpreter.intrinsics.arrayPrototype);
+		this.doubles = doubles;
+		this.values = values;
+		this.length = length;
+	}
+
+	private static boolean allNumbers(Value<?>[] values) {
+		for (final Value<?> value : values) {
+			if (!(value instanceof NumberValue)) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return The array index `value` refers to, if it is a Number; otherwise -1
+	 */
+	public static int toElementIndex(Value<?> value) {
+		if (!(value instanceof final NumberValue number)) return -1;
+		final double d = number.value;
+		final int index = (int) d;
+		return index == d && index >= 0 && index != Integer.MAX_VALUE ? index : -1;
+	}
+
+	/**
+	 * Reads an element without going through a property key or descriptor.
+	 *
+	 * @return The value of the element, or null if there is no such element or it is an accessor
+	 */
+	public Value<?> getElement(int index) {
+		if (index >= length) return null;
+		if (doubles != null) return NumberValue.of(doubles[offset + index]);
+		if (values != null) return values[offset + index];
+		return sparse.get(index) instanceof final DataDescriptor descriptor ? descriptor.value() : null;
+	}
+
+	/**
+	 * Writes an element without going through a property key or descriptor.
+	 *
+	 * @return false if the element could not be written directly (it is an accessor or is read-only),
+	 * in which case the caller must fall back to {@link ObjectValue#set(Interpreter, Key, Value)}
+	 */
+	public boolean setElement(int index, Value<?> value) {
+		if (index >= length) {
+			if (index - length > MAX_HOLEY_GROWTH) convertToSparse();
+			growTo(index + 1);
+		}
+
+		if (doubles != null) {
+			if (value instanceof final NumberValue number) {
+				doubles[offset + index] = number.value;
+				return true;
+			}
+
+			convertToValues();
+		}
+
+		if (values != null) {
+			values[offset + index] = value;
+			return true;
+		}
+
+		final PropertyDescriptor existing = sparse.get(index);
+		if (existing == null) {
+			sparse.put(index, new DataDescriptor(value, true, true, true));
+			return true;
+		}
+
+		if (existing instanceof final DataDescriptor descriptor && descriptor.isWritable()) {
+			descriptor.set(null, this, value);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Increases the length of the array. When growing by one element, the caller must then set that element.
+	 */
+	private void growTo(int newLength) {
+		// Growing by more than one element leaves holes, which packed numbers cannot represent
+		if (doubles != null && newLength > length + 1) convertToValues();
+		if (sparse == null) ensureCapacity(newLength);
+		length = newLength;
+	}
+
+	/**
+	 * Makes room in the packed or holey store for `newLength` elements after `offset`. If less than half of the store
+	 * would be used, the elements are moved back to its start; otherwise the store is grown, keeping the space in front.
+	 */
+	private void ensureCapacity(int newLength) {
+		final int capacity = doubles != null ? doubles.length : values.length;
+		if (offset + newLength <= capacity) return;
+
+		if (newLength > capacity / 2) {
+			final int newCapacity = offset + Math.max(newLength, capacity + (capacity >> 1) + 4);
+			if (doubles != null) {
+				doubles = Arrays.copyOf(doubles, newCapacity);
+			} else {
+				values = Arrays.copyOf(values, newCapacity);
+			}
+		} else if (doubles != null) {
+			System.arraycopy(doubles, offset, doubles, 0, length);
+			offset = 0;
+		} else {
+			System.arraycopy(values, offset, values, 0, length);
+			// Clear the elements left behind, so that they can be collected
+			Arrays.fill(values, Math.max(length, offset), offset + length, null);
+			offset = 0;
+		}
+	}
+
+	private void truncateTo(int newLength) {
+		if (doubles != null) {
+			// Nothing to clear, as elements past the length are never read
+		} else if (values != null) {
+			Arrays.fill(values, offset + newLength, offset + length, null);
+		} else {
+			sparse.tailMap(newLength).clear();
+		}
+
+		length = newLength;
+	}
+
+	private void convertToValues() {
+		values = new Value<?>[Math.max(doubles.length, offset + length)];
+		for (int i = offset; i < offset + length; i++) values[i] = NumberValue.of(doubles[i]);
+		doubles = null;
+	}
+
+	private void convertToSparse() {
+		if (sparse != null) return;
+		if (doubles != null) convertToValues();
+		sparse = new TreeMap<>();
+		for (int i = 0; i < length; i++) {
+			if (values[offset + i] != null) sparse.put(i, new DataDescriptor(values[offset + i], true, true, true));
+		}
+
+		values = null;
+		offset = 0;
+	}
+
 	@NonCompliant
 	@SpecificationURL("https://tc39.es/ecma262/multipage/#sec-arraysetlength")
-	public Undefined arraySetLength(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
-		final Value<?> value = argument(0, arguments);
-
+	public void arraySetLength(Interpreter interpreter, Value<?> value) throws AbruptCompletion {
 		final long newLen = value.toNumberValue(interpreter).toUint32();
 		final NumberValue numberLen = value.toNumberValue(interpreter);
 		if (newLen != numberLen.value)
 			throw error(new RangeError(interpreter, "Invalid array length"));
+		if (newLen > Integer.MAX_VALUE - 1) throw new NotImplemented("Arrays longer than 2^31-2");
+
+		final int intLen = (int) newLen;
+		if (intLen > length) {
+			if (intLen - length > MAX_HOLEY_GROWTH) convertToSparse();
+			// The new elements are holes, which packed numbers cannot represent
+			if (doubles != null) convertToValues();
+			growTo(intLen);
+		} else if (intLen < length) {
+			truncateTo(intLen);
+		}
+	}
+
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public boolean hasIndexedProperties() {
+		return length != 0 || super.hasIndexedProperties();
+	}
+
+	/**
+	 * Whether Array.prototype methods may work on the elements directly, rather than through property keys:
+	 * every element has default attributes, and no object on the prototype chain has indexed properties,
+	 * which holes would otherwise expose and writes would otherwise have to go through.
+	 */
+	public boolean hasFastElements() {
+		if (sparse != null) return false;
+		for (ObjectValue object = getPrototype(); object != null; object = object.getPrototype()) {
+			if (object.hasIndexedProperties()) return false;
+		}
+
+		return true;
+	}
+
+	// The following methods may only be used on arrays with fast elements
+
+	/**
+	 * Removes the first element, in O(1) time.
+	 *
+	 * @return The removed element, or null if it was a hole
+	 */
+	public Value<?> shiftElement() {
+		final Value<?> first = getElement(0);
+		if (values != null) values[offset] = null;
+		offset += 1;
+		length -= 1;
+		return first;
+	}
+
+	/**
+	 * Adds elements to the front, in amortised O(1) time per element.
+	 */
+	public void unshiftElements(Value<?>[] items) {
+		final int count = items.length;
+		if (doubles != null && !allNumbers(items)) convertToValues();
+		if (offset < count) {
+			// Leave a gap in front of the elements, so that unshifting repeatedly does not move them every time
+			final int gap = count + (length >> 1) + 4;
+			final int newCapacity = gap + length + (length >> 1);
+			if (doubles != null) {
+				final double[] newDoubles = new double[newCapacity];
+				System.arraycopy(doubles, offset, newDoubles, gap, length);
+				doubles = newDoubles;
+			} else {
+				final Value<?>[] newValues = new Value<?>[newCapacity];
+				System.arraycopy(values, offset, newValues, gap, length);
+				values = newValues;
+			}
+
+			offset = gap;
+		}
+
+		offset -= count;
+		length += count;
+		for (int i = 0; i < count; i++) setElement(i, items[i]);
+	}
+
+	/**
+	 * @return The removed element, or null if it was a hole
+	 */
+	public Value<?> popElement() {
+		final Value<?> last = getElement(length - 1);
+		truncateTo(length - 1);
+		return last;
+	}
+
+	public void pushElements(Value<?>[] items) {
+		for (final Value<?> item : items) setElement(length, item);
+	}
+
+	/**
+	 * Replaces `deleteCount` elements starting at `start` with `items`, moving the following elements once.
+	 *
+	 * @return The removed elements, as a new array
+	 */
+	public ArrayObject spliceElements(Interpreter interpreter, int start, int deleteCount, Value<?>[] items) {
+		final ArrayObject removed = copyOfRange(interpreter, start, start + deleteCount);
+		if (doubles != null && !allNumbers(items)) convertToValues();
+
+		final int newLength = length - deleteCount + items.length;
+		final int tail = length - start - deleteCount;
+		if (newLength > length) ensureCapacity(newLength);
+		if (doubles != null) {
+			System.arraycopy(doubles, offset + start + deleteCount, doubles, offset + start + items.length, tail);
+		} else {
+			System.arraycopy(values, offset + start + deleteCount, values, offset + start + items.length, tail);
+			if (newLength < length) Arrays.fill(values, offset + newLength, offset + length, null);
+		}
+
+		length = newLength;
+		for (int i = 0; i < items.length; i++) setElement(start + i, items[i]);
+		return removed;
+	}
+
+	/**
+	 * @return A new array with the elements from `start` (inclusive) to `end` (exclusive), keeping holes
+	 */
+	public ArrayObject copyOfRange(Interpreter interpreter, int start, int end) {
+		if (doubles != null) return new ArrayObject(interpreter, Arrays.copyOfRange(doubles, offset + start, offset + end), null, end - start);
+		return new ArrayObject(interpreter, null, Arrays.copyOfRange(values, offset + start, offset + end), end - start);
+	}
+
+	/**
+	 * Adds the elements of `source` to the end, keeping holes
+	 */
+	public void appendElements(ArrayObject source) {
+		if (source.length == 0) return;
+		final int start = length;
+		if (doubles != null && source.doubles == null) convertToValues();
+		ensureCapacity(start + source.length);
+		if (doubles != null) {
+			System.arraycopy(source.doubles, source.offset, doubles, offset + start, source.length);
+		} else {
+			for (int i = 0; i < source.length; i++) values[offset + start + i] = source.getElement(i);
+		}
+
+		length += source.length;
+	}
+
+	/**
+	 * @return The index of the first element from `fromIndex` which is strictly equal to `searchElement`, or -1
+	 */
+	public int indexOfElement(Value<?> searchElement, int fromIndex) {
+		if (doubles != null) {
+			// Every element is a Number, and IsStrictlyEqual on Numbers is ==
+			if (!(searchElement instanceof final NumberValue number)) return -1;
+			final double d = number.value;
+			for (int i = fromIndex; i < length; i++) {
+				if (doubles[offset + i] == d) return i;
+			}
+
+			return -1;
+		}
+
+		for (int i = fromIndex; i < length; i++) {
+			final Value<?> element = values[offset + i];
+			if (element != null && searchElement.isStrictlyEqual(element)) return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * @return The index of the last element up to `fromIndex` which is strictly equal to `searchElement`, or -1
+	 */
+	public int lastIndexOfElement(Value<?> searchElement, int fromIndex) {
+		for (int i = fromIndex; i >= 0; i--) {
+			final Value<?> element = getElement(i);
+			if (element != null && searchElement.isStrictlyEqual(element)) return i;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * @return Whether any element from `fromIndex` is SameValueZero to `searchElement`, treating holes as undefined
+	 */
+	public boolean includesElement(Value<?> searchElement, int fromIndex) {
+		for (int i = fromIndex; i < length; i++) {
+			final Value<?> element = getElement(i);
+			if (searchElement.sameValueZero(element == null ? Undefined.instance : element)) return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * @return The elements in order, with holes either left out or read as undefined
+	 */
+	public Value<?>[] elementValues(boolean skipHoles) {
+		final Value<?>[] result = new Value<?>[length];
+		if (doubles != null) {
+			for (int i = 0; i < length; i++) result[i] = NumberValue.of(doubles[offset + i]);
+			return result;
+		}
 
-		if (newLen > arrayValues.size()) {
-			final long delta = newLen - arrayValues.size();
-			for (int i = 0; i < delta; i++)
-				arrayValues.add(null);
-		} else if (newLen < arrayValues.size()) {
-			arrayValues.subList(Math.toIntExact(newLen), arrayValues.size()).clear();
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			final Value<?> element = values[offset + i];
+			if (element != null) result[count++] = element;
+			else if (!skipHoles) result[count++] = Undefined.instance;
 		}
 
-		return Undefined.instance;
+		return count == length ? result : Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Replaces the first elements with `items`, and makes the rest holes. The length is not changed.
+	 */
+	public void replaceElements(Value<?>[] items) {
+		if (doubles != null && (items.length != length || !allNumbers(items))) convertToValues();
+		if (doubles != null) {
+			for (int i = 0; i < length; i++) doubles[offset + i] = ((NumberValue) items[i]).value;
+		} else {
+			System.arraycopy(items, 0, values, offset, items.length);
+			Arrays.fill(values, offset + items.length, offset + length, null);
+		}
 	}
 
-	private NumberValue getLength(Interpreter interpreter1, Value<?>[] arguments) {
-		return new NumberValue(arrayValues.size());
+	/**
+	 * Sorts packed numbers in ascending or descending order, without boxing them.
+	 *
+	 * @return false, leaving the elements untouched, if they are not packed numbers, or any is NaN or -0
+	 * (which numeric comparators do not order the same way)
+	 */
+	public boolean sortNumbers(boolean descending) {
+		if (doubles == null) return false;
+		for (int i = offset; i < offset + length; i++) {
+			final double d = doubles[i];
+			if (Double.isNaN(d) || (d == 0 && 1 / d < 0)) return false;
+		}
+
+		Arrays.sort(doubles, offset, offset + length);
+		if (descending) {
+			for (int i = offset, j = offset + length - 1; i < j; i++, j--) {
+				final double d = doubles[i];
+				doubles[i] = doubles[j];
+				doubles[j] = d;
+			}
+		}
+
+		return true;
 	}
 
 	@Override
 	protected void internalDeleteProperty(Key<?> P) {
 		super.internalDeleteProperty(P);
 		final int index = P.toIndex();
-		if (index != -1 && index < arrayValues.size())
-			arrayValues.set(index, null);
+		if (index == -1 || index >= length) return;
+		if (doubles != null) convertToValues();
+		if (values != null) {
+			values[offset + index] = null;
+		} else {
+			sparse.remove(index);
+		}
+	}
+
+	@Override
+	protected boolean hasExoticOwnProperties() {
+		return true;
 	}
 
 	@Override
 	public PropertyDescriptor getOwnProperty(Key<?> key) {
-		final PropertyDescriptor fromMap = this.value.get(key);
-		if (fromMap != null) return fromMap;
 		final int index = key.toIndex();
-		return index != -1 && index < arrayValues.size() ? arrayValues.get(index) : null;
+		if (index != -1) {
+			if (index >= length) return null;
+			if (sparse != null) return sparse.get(index);
+			return doubles == null && values[offset + index] == null ? null : new ElementDescriptor(index);
+		}
+
+		if (key.equalsKey(Names.length)) return new LengthDescriptor();
+		return this.properties().get(key);
 	}
 
 	@Override
 	// TODO: Follow specified order
 	public Iterable<Key<?>> ownPropertyKeys() {
 		final ArrayList<Key<?>> result = new ArrayList<>();
-		for (int i = 0; i < arrayValues.size(); i++)
-			result.add(new StringValue(i));
-		result.addAll(value.keySet());
+		if (sparse != null) {
+			for (final int index : sparse.keySet()) result.add(new StringValue(index));
+		} else {
+			for (int i = 0; i < length; i++) {
+				if (doubles != null || values[offset + i] != null) result.add(new StringValue(i));
+			}
+		}
+
+		result.add(Names.length);
+		result.addAll(properties().keySet());
 		return result;
 	}
 
 	@Override
 	public boolean hasOwnProperty(Key<?> key) {
-		if (super.hasOwnProperty(key)) return true;
 		final int index = key.toIndex();
-		return index != -1 && index < arrayValues.size() && arrayValues.get(index) != null;
+		if (index != -1) {
+			if (index >= length) return false;
+			if (sparse != null) return sparse.containsKey(index);
+			return doubles != null || values[offset + index] != null;
+		}
+
+		return key.equalsKey(Names.length) || super.hasOwnProperty(key);
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-array-exotic-objects-defineownproperty-p-desc")
@@ -118,12 +537,29 @@ public final class ArrayObject extends ObjectValue implements HasBuiltinTag, Ite
 		final int arrayIndex = P.toIndex();
 		if (arrayIndex != -1) {
 			final long indexLong = P.toNumberValue(interpreter).toUint32();
-			if (indexLong > Integer.MAX_VALUE) throw new NotImplemented("Arrays longer than 2^31-1");
+			if (indexLong > Integer.MAX_VALUE - 1) throw new NotImplemented("Arrays longer than 2^31-2");
 			final int index = (int) indexLong;
-			final int delta = (index + 1) - arrayValues.size();
-			for (int i = 0; i < delta; i++)
-				arrayValues.add(null);
-			arrayValues.set(index, Desc);
+
+			// Only elements with non-default attributes need their descriptor to be kept
+			if (Desc instanceof final DataDescriptor data && data.isWritable() && data.isEnumerable() && data.isConfigurable()) {
+				if (sparse != null) {
+					if (index >= length) growTo(index + 1);
+					sparse.put(index, Desc);
+				} else {
+					setElement(index, data.value());
+				}
+
+				return true;
+			}
+
+			convertToSparse();
+			if (index >= length) growTo(index + 1);
+			sparse.put(index, Desc);
+			return true;
+		}
+
+		if (P.equalsKey(Names.length) && Desc instanceof final DataDescriptor data) {
+			arraySetLength(interpreter, data.value());
 			return true;
 		}
 
@@ -137,32 +573,165 @@ public final class ArrayObject extends ObjectValue implements HasBuiltinTag, Ite
 
 	@Override
 	public Iterator<PropertyDescriptor> iterator() {
-		return arrayValues.iterator();
+		final ArrayList<PropertyDescriptor> descriptors = new ArrayList<>(length);
+		for (int i = 0; i < length; i++) descriptors.add(getOwnProperty(new StringValue(i)));
+		return descriptors.iterator();
 	}
 
 	@Override
 	public Iterable<Displayable> displayableValues() {
-		return Collections.unmodifiableList(arrayValues);
+		final ArrayList<Displayable> result = new ArrayList<>(length);
+		for (int i = 0; i < length; i++) {
+			if (sparse != null) {
+				result.add(sparse.get(i));
+			} else {
+				result.add(getElement(i));
+			}
+		}
+
+		return result;
 	}
 
 	@Override
 	public Iterable<Entry<Key<?>, PropertyDescriptor>> displayableProperties() {
-		final ArrayList<Entry<Key<?>, PropertyDescriptor>> nonLengthProperties = new ArrayList<>();
-		for (final var entry : value.entrySet()) {
-			if (entry.getKey().equalsKey(Names.length)) continue;
-			nonLengthProperties.add(entry);
-		}
-
-		return nonLengthProperties;
+		return properties().entrySet();
 	}
 
 	public Value<?>[] values(Interpreter interpreter) throws AbruptCompletion {
-		final Value<?>[] result = new Value[arrayValues.size()];
-		for (int i = 0; i < arrayValues.size(); i++) {
-			final PropertyDescriptor desc = arrayValues.get(i);
-			if (desc != null) result[i] = desc.get(interpreter, this);
+		final Value<?>[] result = new Value[length];
+		if (sparse == null) {
+			for (int i = 0; i < length; i++) result[i] = getElement(i);
+		} else {
+			for (final var entry : sparse.entrySet()) result[entry.getKey()] = entry.getValue().get(interpreter, this);
 		}
 
 		return result;
 	}
+
+	/**
+	 * The descriptor of an element in a packed or holey array, which reads and writes through to the element.
+	 * These are created on demand, and are replaced by real descriptors if their attributes are ever changed.
+	 */
+	private final class ElementDescriptor implements PropertyDescriptor {
+		private final int index;
+
+		private ElementDescriptor(int index) {
+			this.index = index;
+		}
+
+		private PropertyDescriptor materialize() {
+			convertToSparse();
+			final PropertyDescriptor descriptor = sparse.get(index);
+			if (descriptor == null) throw new ShouldNotHappen("Element was removed while its descriptor was in use");
+			return descriptor;
+		}
+
+		@Override
+		public boolean isWritable() {
+			return sparse == null || materialize().isWritable();
+		}
+
+		@Override
+		public void setWritable(boolean b) {
+			materialize().setWritable(b);
+		}
+
+		@Override
+		public boolean isEnumerable() {
+			return sparse == null || materialize().isEnumerable();
+		}
+
+		@Override
+		public void setEnumerable(boolean b) {
+			materialize().setEnumerable(b);
+		}
+
+		@Override
+		public boolean isConfigurable() {
+			return sparse == null || materialize().isConfigurable();
+		}
+
+		@Override
+		public void setConfigurable(boolean b) {
+			materialize().setConfigurable(b);
+		}
+
+		@Override
+		public Value<?> get(Interpreter interpreter, ObjectValue thisValue) throws AbruptCompletion {
+			if (sparse != null) return materialize().get(interpreter, thisValue);
+			final Value<?> element = getElement(index);
+			return element == null ? Undefined.instance : element;
+		}
+
+		@Override
+		public void set(Interpreter interpreter, ObjectValue thisValue, Value<?> newValue) throws AbruptCompletion {
+			if (!setElement(index, newValue)) materialize().set(interpreter, thisValue, newValue);
+		}
+
+		@Override
+		public ObjectValue fromPropertyDescriptor(Interpreter interpreter) throws AbruptCompletion {
+			if (sparse != null) return materialize().fromPropertyDescriptor(interpreter);
+			return new DataDescriptor(get(interpreter, ArrayObject.this), true, true, true).fromPropertyDescriptor(interpreter);
+		}
+
+		@Override
+		public void display(StringBuilder builder) {
+			throw new ShouldNotHappen("ElementDescriptor#display is handled by JSONDisplayer");
+		}
+	}
+
+	/**
+	 * The `length` property, a writable, non-enumerable, non-configurable data property backed by the array itself.
+	 */
+	private final class LengthDescriptor implements PropertyDescriptor {
+		@Override
+		public boolean isWritable() {
+			return true;
+		}
+
+		@Override
+		public void setWritable(boolean b) {
+			if (!b) throw new NotImplemented("Non-writable array length");
+		}
+
+		@Override
+		public boolean isEnumerable() {
+			return false;
+		}
+
+		@Override
+		public void setEnumerable(boolean b) {
+			if (b) throw new ShouldNotHappen("Array length cannot be made enumerable");
+		}
+
+		@Override
+		public boolean isConfigurable() {
+			return false;
+		}
+
+		@Override
+		public void setConfigurable(boolean b) {
+			if (b) throw new ShouldNotHappen("Array length cannot be made configurable");
+		}
+
+		@Override
+		public Value<?> get(Interpreter interpreter, ObjectValue thisValue) {
+			return NumberValue.of(length);
+		}
+
+		@Override
+		public void set(Interpreter interpreter, ObjectValue thisValue, Value<?> newValue) throws AbruptCompletion {
+			arraySetLength(interpreter, newValue);
+		}
+
+		@Override
+		public ObjectValue fromPropertyDescriptor(Interpreter interpreter) throws AbruptCompletion {
+			return new DataDescriptor(NumberValue.of(length), true, false, false).fromPropertyDescriptor(interpreter);
+		}
+
+		@Override
+		public void display(StringBuilder builder) {
+			throw new ShouldNotHappen("LengthDescriptor#display is handled by JSONDisplayer");
+		}
+	}
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import xyz.lebster.core.value.primitive.symbol.SymbolValue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
@@ -31,6 +32,7 @@ import static xyz.lebster.core.value.primitive.number.NumberPrototype.toIntegerO
 
 public final class ArrayPrototype extends ObjectValue {
 	public static final long MAX_LENGTH = 9007199254740991L; // 2^53 - 1
+	public NativeFunction valuesMethod;
 
 	public ArrayPrototype(Intrinsics intrinsics) {
 		super(intrinsics);
@@ -71,8 +73,13 @@ public final class ArrayPrototype extends ObjectValue {
 		putMethod(intrinsics, Names.toString, 0, ArrayPrototype::toStringMethod);
 		putMethod(intrinsics, Names.unshift, 1, ArrayPrototype::unshift);
 		putMethod(intrinsics, Names.with, 2, ArrayPrototype::with);
-		final NativeFunction values = putMethod(intrinsics, Names.values, 0, ArrayPrototype::values);
-		put(SymbolValue.iterator, values);
+		valuesMethod = putMethod(intrinsics, Names.values, 0, ArrayPrototype::values);
+		put(SymbolValue.iterator, valuesMethod);
+	}
+
+	@Override
+	protected void copyReferences(IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		valuesMethod = ObjectValue.copy(valuesMethod, copies);
 	}
 
 	@NonCompliant
@@ -119,23 +126,14 @@ public final class ArrayPrototype extends ObjectValue {
 		// 3. Let len be ? LengthOfArrayLike(O).
 		final int len = lengthOfArrayLike(interpreter, O);
 		// TODO: 4. Let A be ? ArrayCreate(len).
-		final ArrayObject A = new ArrayObject(interpreter, len);
 		// 5. Let SortCompare be a new Abstract Closure with parameters (x, y) that captures comparefn
 		// and performs the following steps when called:
 		// a. Return ? CompareArrayElements(x, y, comparefn).
-		final ValueComparator SortCompare = (x, y) -> compareArrayElements(interpreter, x, y, comparefn);
+		final SortCompare SortCompare = new SortCompare(interpreter, comparefn);
 		// 6. Let sortedList be ? SortIndexedProperties(O, len, SortCompare, read-through-holes).
-		final List<Value<?>> sortedList = O.sortIndexedProperties(interpreter, len, SortCompare, false);
-		// 7. Let j be 0.
-		int j = 0;
-		// 8. Repeat, while j < len,
-		while (j < len) {
-			// FIXME: a. Perform ! CreateDataPropertyOrThrow(A, ! ToString(𝔽(j)), sortedList[j]).
-			A.set(interpreter, new StringValue(j), sortedList.get(j));
-			// b. Set j to j + 1.
-			j += 1;
-		}
-
+		final Value<?>[] sortedList = O.sortIndexedProperties(interpreter, len, SortCompare, false);
+		// 7 - 8. For each j < len, perform ! CreateDataPropertyOrThrow(A, ! ToString(𝔽(j)), sortedList[j]).
+		final ArrayObject A = new ArrayObject(interpreter, sortedList);
 		// 9. Return A.
 		return A;
 	}
@@ -425,6 +423,10 @@ public final class ArrayPrototype extends ObjectValue {
 		// 6. If n ≥ 0, then a. Let k be min(n, len - 1).
 		// 7. Else, a. Let k be len + n.
 		int k = n >= 0 ? Math.min(n, len - 1) : len + n;
+		if (O instanceof final ArrayObject array && array.hasFastElements() && array.length() == len) {
+			return NumberValue.of(array.lastIndexOfElement(searchElement, k));
+		}
+
 		// 8. Repeat, while k ≥ 0,
 		while (k >= 0) {
 			// a. Let kPresent be ? HasProperty(O, ! ToString(𝔽(k))).
@@ -435,7 +437,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// i. Let elementK be ? Get(O, ! ToString(𝔽(k))).
 				final Value<?> elementK = O.get(interpreter, Pk);
 				// ii. If IsStrictlyEqual(searchElement, elementK) is true, return 𝔽(k).
-				if (searchElement.isStrictlyEqual(elementK)) return new NumberValue(k);
+				if (searchElement.isStrictlyEqual(elementK)) return NumberValue.of(k);
 			}
 
 			// c. Set k to k - 1.
@@ -506,7 +508,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// i. Let kValue be ? Get(O, Pk).
 				final Value<?> kValue = O.get(interpreter, Pk);
 				// ii. Set accumulator to ? Call(callbackfn, undefined, « accumulator, kValue, 𝔽(k), O »).
-				accumulator = callbackfn.call(interpreter, Undefined.instance, accumulator, kValue, new NumberValue(k), O);
+				accumulator = callbackfn.call(interpreter, Undefined.instance, accumulator, kValue, NumberValue.of(k), O);
 			}
 
 			// d. Set k to k - 1.
@@ -543,6 +545,13 @@ public final class ArrayPrototype extends ObjectValue {
 			// a. Let spreadable be ? IsConcatSpreadable(E).
 			// b. If spreadable is true, then
 			if (E instanceof final ObjectValue object && isConcatSpreadable(interpreter, object)) {
+				// Holes at the end of A are not written, so it is only appended to directly if it has no trailing holes
+				if (object instanceof final ArrayObject array && array.hasFastElements() && A.hasFastElements() && A.length() == n) {
+					A.appendElements(array);
+					n += array.length();
+					continue;
+				}
+
 				// i. Let len be ? LengthOfArrayLike(E).
 				final int len = lengthOfArrayLike(interpreter, object);
 				// TODO: ii. If n + len > 2^53 - 1, throw a TypeError exception.
@@ -580,7 +589,7 @@ public final class ArrayPrototype extends ObjectValue {
 		}
 
 		// 6. Perform ? Set(A, "length", 𝔽(n), true).
-		A.set(interpreter, Names.length, new NumberValue(n)/* FIXME: , true */);
+		A.set(interpreter, Names.length, NumberValue.of(n)/* FIXME: , true */);
 		// 7. Return A.
 		return A;
 	}
@@ -664,7 +673,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// i. Let kValue be ? Get(O, Pk).
 				final var kValue = O.get(interpreter, Pk);
 				// ii. Let testResult be ToBoolean(? Call(callbackfn, thisArg, « kValue, 𝔽(k), O »)).
-				final boolean testResult = callbackfn.call(interpreter, thisArg, kValue, new NumberValue(k), O).isTruthy(interpreter);
+				final boolean testResult = callbackfn.call(interpreter, thisArg, kValue, NumberValue.of(k), O).isTruthy(interpreter);
 				// iii. If testResult is false, return false.
 				if (!testResult) return BooleanValue.FALSE;
 			}
@@ -694,7 +703,7 @@ public final class ArrayPrototype extends ObjectValue {
 			// b. Let kValue be ? Get(O, Pk).
 			final Value<?> kValue = O.get(interpreter, Pk);
 			// c. Let testResult be ToBoolean(? Call(predicate, thisArg, « kValue, 𝔽(k), O »)).
-			final boolean testResult = predicate.call(interpreter, thisArg, kValue, new NumberValue(k), O).isTruthy(interpreter);
+			final boolean testResult = predicate.call(interpreter, thisArg, kValue, NumberValue.of(k), O).isTruthy(interpreter);
 			// d. If testResult is true, return kValue.
 			if (testResult) return kValue;
 			// e. Set k to k + 1.
@@ -724,7 +733,7 @@ public final class ArrayPrototype extends ObjectValue {
 			// b. Let kValue be ? Get(O, Pk).
 			final Value<?> kValue = O.get(interpreter, Pk);
 			// c. Let testResult be ToBoolean(? Call(predicate, thisArg, « kValue, 𝔽(k), O »)).
-			final NumberValue index = new NumberValue(k);
+			final NumberValue index = NumberValue.of(k);
 			final boolean testResult = predicate.call(interpreter, thisArg, kValue, index, O).isTruthy(interpreter);
 			// d. If testResult is true, return 𝔽(k).
 			if (testResult) return index;
@@ -755,7 +764,7 @@ public final class ArrayPrototype extends ObjectValue {
 			// b. Let kValue be ? Get(O, Pk).
 			final Value<?> kValue = O.get(interpreter, Pk);
 			// c. Let testResult be ToBoolean(? Call(predicate, thisArg, « kValue, 𝔽(k), O »)).
-			final boolean testResult = predicate.call(interpreter, thisArg, kValue, new NumberValue(k), O).isTruthy(interpreter);
+			final boolean testResult = predicate.call(interpreter, thisArg, kValue, NumberValue.of(k), O).isTruthy(interpreter);
 			// d. If testResult is true, return kValue.
 			if (testResult) return kValue;
 			// e. Set k to k - 1.
@@ -785,7 +794,7 @@ public final class ArrayPrototype extends ObjectValue {
 			// b. Let kValue be ? Get(O, Pk).
 			final Value<?> kValue = O.get(interpreter, Pk);
 			// c. Let testResult be ToBoolean(? Call(predicate, thisArg, « kValue, 𝔽(k), O »)).
-			final NumberValue kNum = new NumberValue(k);
+			final NumberValue kNum = NumberValue.of(k);
 			final boolean testResult = predicate.call(interpreter, thisArg, kValue, kNum, O).isTruthy(interpreter);
 			// d. If testResult is true, return 𝔽(k).
 			if (testResult) return kNum;
@@ -852,7 +861,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// ii. If mapperFunction is present, then
 				if (mapperFunction != null) {
 					// 1. Set element to ? Call(mapperFunction, thisArg, « element, sourceIndex, source »).
-					element = mapperFunction.call(interpreter, thisArg, element, new NumberValue(sourceIndex), source);
+					element = mapperFunction.call(interpreter, thisArg, element, NumberValue.of(sourceIndex), source);
 				}
 
 				// iii. Let shouldFlatten be false.
@@ -946,6 +955,10 @@ public final class ArrayPrototype extends ObjectValue {
 			if (k < 0) k = 0;
 		}
 
+		if (O instanceof final ArrayObject array && array.hasFastElements() && array.length() == len) {
+			return NumberValue.of(array.indexOfElement(searchElement, k));
+		}
+
 		// 10. Repeat, while k < len,
 		while (k < len) {
 			final StringValue Pk = new StringValue(k);
@@ -956,7 +969,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// i. Let elementK be ? Get(O, ! ToString(𝔽(k))).
 				final Value<?> elementK = O.get(interpreter, Pk);
 				// ii. If IsStrictlyEqual(searchElement, elementK) is true, return 𝔽(k).
-				if (searchElement.isStrictlyEqual(elementK)) return new NumberValue(k);
+				if (searchElement.isStrictlyEqual(elementK)) return NumberValue.of(k);
 			}
 
 			// c. Set k to k + 1.
@@ -994,6 +1007,12 @@ public final class ArrayPrototype extends ObjectValue {
 			return Undefined.instance;
 		}
 
+		// The elements of most arrays can be moved without going through property keys
+		if (O instanceof final ArrayObject array && array.hasFastElements()) {
+			final Value<?> first = array.shiftElement();
+			return first == null ? Undefined.instance : first;
+		}
+
 		// 4. Let first be ? Get(O, "0").
 		final Value<?> first = O.get(interpreter, new StringValue("0"));
 		// 5. Let k be 1.
@@ -1027,7 +1046,7 @@ public final class ArrayPrototype extends ObjectValue {
 		// 7. Perform ? DeletePropertyOrThrow(O, ! ToString(𝔽(len - 1))).
 		O.deletePropertyOrThrow(interpreter, new StringValue(len - 1));
 		// 8. Perform ? Set(O, "length", 𝔽(len - 1), true).
-		O.set(interpreter, Names.length, new NumberValue(len - 1)/* FIXME: , true */);
+		O.set(interpreter, Names.length, NumberValue.of(len - 1)/* FIXME: , true */);
 		// 9. Return first.
 		return first;
 	}
@@ -1056,7 +1075,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// i. Let kValue be ? Get(O, Pk).
 				final Value<?> kValue = O.get(interpreter, Pk);
 				// ii. Let testResult be ToBoolean(? Call(callbackfn, thisArg, « kValue, 𝔽(k), O »)).
-				final boolean testResult = callbackFn.call(interpreter, thisArg, kValue, new NumberValue(k), O).isTruthy(interpreter);
+				final boolean testResult = callbackFn.call(interpreter, thisArg, kValue, NumberValue.of(k), O).isTruthy(interpreter);
 				// iii. If testResult is true, return true.
 				if (testResult) return BooleanValue.TRUE;
 			}
@@ -1081,17 +1100,25 @@ public final class ArrayPrototype extends ObjectValue {
 		final int len = lengthOfArrayLike(interpreter, obj);
 		// 4. Let SortCompare be a new Abstract Closure with parameters (x, y) that captures comparefn and performs the following steps when called:
 		// a. Return ? CompareArrayElements(x, y, comparefn).
-		final ValueComparator SortCompare = (x, y) -> compareArrayElements(interpreter, x, y, comparefn);
+		final SortCompare SortCompare = new SortCompare(interpreter, comparefn);
+		// Packed numbers with a comparefn like `(a, b) => a - b` are sorted where they are
+		if (obj instanceof final ArrayObject array && array.length() == len && SortCompare.sortInPlace(array)) return obj;
 		// 5. Let sortedList be ? SortIndexedProperties(obj, len, SortCompare, skip-holes).
-		final List<Value<?>> sortedList = obj.sortIndexedProperties(interpreter, len, SortCompare, true);
+		final Value<?>[] sortedList = obj.sortIndexedProperties(interpreter, len, SortCompare, true);
 		// 6. Let itemCount be the number of elements in sortedList.
-		final int itemCount = sortedList.size();
+		final int itemCount = sortedList.length;
+		// Unless comparefn has made the array slow, the sorted elements are written straight back
+		if (obj instanceof final ArrayObject array && array.hasFastElements() && array.length() == len) {
+			array.replaceElements(sortedList);
+			return obj;
+		}
+
 		// 7. Let j be 0.
 		int j = 0;
 		// 8. Repeat, while j < itemCount,
 		while (j < itemCount) {
 			// a. Perform ? Set(obj, ! ToString(𝔽(j)), sortedList[j], true).
-			obj.set(interpreter, new StringValue(j), sortedList.get(j)/* FIXME: , true */);
+			obj.set(interpreter, new StringValue(j), sortedList[j]/* FIXME: , true */);
 			// b. Set j to j + 1.
 			j += 1;
 		}
@@ -1112,42 +1139,6 @@ public final class ArrayPrototype extends ObjectValue {
 		return obj;
 	}
 
-	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-comparearrayelements")
-	private static int compareArrayElements(Interpreter interpreter, Value<?> x, Value<?> y, Executable comparefn) throws AbruptCompletion {
-		// 23.1.3.30.2 CompareArrayElements ( x, y, comparefn )
-
-		// 1. If x and y are both undefined, return +0𝔽.
-		if (x == Undefined.instance && y == Undefined.instance) return 0;
-		// 2. If x is undefined, return 1𝔽.
-		if (x == Undefined.instance) return 1;
-		// 3. If y is undefined, return -1𝔽.
-		if (y == Undefined.instance) return -1;
-		// 4. If comparefn is not undefined, then
-		if (comparefn != null) {
-			// a. Let v be ? ToNumber(? Call(comparefn, undefined, « x, y »)).
-			final NumberValue v = comparefn.call(interpreter, Undefined.instance, x, y).toNumberValue(interpreter);
-			// b. If v is NaN, return +0𝔽.
-			if (v.value.isNaN()) return 0;
-			// c. Return v.
-			return v.value.intValue();
-		}
-
-		// 5. Let xString be ? ToString(x).
-		final StringValue xString = x.toStringValue(interpreter);
-		// 6. Let yString be ? ToString(y).
-		final StringValue yString = y.toStringValue(interpreter);
-		// 7. Let xSmaller be ! IsLessThan(xString, yString, true).
-		final boolean xSmaller = isLessThan(interpreter, xString, yString, true).isTruthy(interpreter);
-		// 8. If xSmaller is true, return -1𝔽.
-		if (xSmaller) return -1;
-		// 9. Let ySmaller be ! IsLessThan(yString, xString, true).
-		final boolean ySmaller = isLessThan(interpreter, yString, xString, true).isTruthy(interpreter);
-		// 10. If ySmaller is true, return 1𝔽.
-		if (ySmaller) return 1;
-		// 11. Return +0𝔽.
-		return 0;
-	}
-
 	@NonCompliant
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-array.prototype.splice")
 	private static ArrayObject splice(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
@@ -1191,6 +1182,11 @@ public final class ArrayPrototype extends ObjectValue {
 		}
 
 		// TODO: 11. If len + itemCount - actualDeleteCount > 2^53 - 1, throw a TypeError exception.
+		// Converting the arguments may have changed the length, which the fast path relies on
+		if (O instanceof final ArrayObject array && array.hasFastElements() && array.length() == len) {
+			return array.spliceElements(interpreter, actualStart, actualDeleteCount, items);
+		}
+
 		// 12. Let A be ? ArraySpeciesCreate(O, actualDeleteCount).
 		final Value<?>[] A = new Value<?>[actualDeleteCount];
 		// 13. Let k be 0.
@@ -1288,7 +1284,7 @@ public final class ArrayPrototype extends ObjectValue {
 		}
 
 		// 20. Perform ? Set(O, "length", 𝔽(len - actualDeleteCount + itemCount), true).
-		O.set(interpreter, Names.length, new NumberValue(len - actualDeleteCount + itemCount)/* FIXME: , true */);
+		O.set(interpreter, Names.length, NumberValue.of(len - actualDeleteCount + itemCount)/* FIXME: , true */);
 		// 21. Return A.
 		return new ArrayObject(interpreter, A);
 	}
@@ -1307,6 +1303,11 @@ public final class ArrayPrototype extends ObjectValue {
 		// 4. If argCount > 0, then
 		if (argCount > 0) {
 			// TODO: a. If len + argCount > 2^53 - 1, throw a TypeError exception.
+			if (O instanceof final ArrayObject array && array.hasFastElements()) {
+				array.unshiftElements(items);
+				return NumberValue.of(len + argCount);
+			}
+
 			// b. Let k be len.
 			long k = len;
 			// c. Repeat, while k > 0,
@@ -1347,9 +1348,9 @@ public final class ArrayPrototype extends ObjectValue {
 		}
 
 		// 5. Perform ? Set(O, "length", 𝔽(len + argCount), true).
-		O.set(interpreter, Names.length, new NumberValue(len + argCount)/* FIXME: , true */);
+		O.set(interpreter, Names.length, NumberValue.of(len + argCount)/* FIXME: , true */);
 		// 6. Return 𝔽(len + argCount).
-		return new NumberValue(len + argCount);
+		return NumberValue.of(len + argCount);
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-array.prototype.values")
@@ -1362,6 +1363,13 @@ public final class ArrayPrototype extends ObjectValue {
 		return new ArrayIterator(interpreter, O, false, true);
 	}
 
+	/**
+	 * Equivalent to calling the built-in `Array.prototype.values` on `O`
+	 */
+	public static IteratorObject createArrayIterator(Interpreter interpreter, ObjectValue O) {
+		return new ArrayIterator(interpreter, O, false, true);
+	}
+
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-array.prototype.slice")
 	private static ArrayObject slice(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
 		// 23.1.3.26 Array.prototype.slice ( start, end )
@@ -1392,6 +1400,11 @@ public final class ArrayPrototype extends ObjectValue {
 		else final_ = Math.min(relativeEnd, len);
 		// 11. Let count be max(final - k, 0).
 		final long count = Math.max(final_ - k, 0);
+		// Converting the arguments may have changed the length, which the fast path relies on
+		if (O instanceof final ArrayObject array && array.hasFastElements() && array.length() == len) {
+			return array.copyOfRange(interpreter, (int) k, (int) (k + count));
+		}
+
 		// 12. Let A be ? ArraySpeciesCreate(O, count).
 		final Value<?>[] A = new Value<?>[(int) count];
 		// 13. Let n be 0.
@@ -1453,6 +1466,11 @@ public final class ArrayPrototype extends ObjectValue {
 			// b. If k < 0, set k to 0.
 			if (k < 0) k = 0;
 		}
+
+		if (O instanceof final ArrayObject array && array.hasFastElements() && array.length() == len) {
+			return BooleanValue.of(array.includesElement(searchElement, (int) k));
+		}
+
 		// 10. Repeat, while k < len,
 		while (k < len) {
 			// a. Let elementK be ? Get(O, ! ToString(𝔽(k))).
@@ -1482,7 +1500,10 @@ public final class ArrayPrototype extends ObjectValue {
 			return Undefined.instance;
 		}
 		// 4. Else,
-		else {
+		else if (O instanceof final ArrayObject array && array.hasFastElements()) {
+			final Value<?> element = array.popElement();
+			return element == null ? Undefined.instance : element;
+		} else {
 			// a. Assert: len > 0.
 			// b. Let newLen be 𝔽(len - 1).
 			final long newLen = len - 1;
@@ -1493,7 +1514,7 @@ public final class ArrayPrototype extends ObjectValue {
 			// e. Perform ? DeletePropertyOrThrow(O, index).
 			O.deletePropertyOrThrow(interpreter, index);
 			// f. Perform ? Set(O, "length", newLen, true).
-			O.set(interpreter, Names.length, new NumberValue(newLen));
+			O.set(interpreter, Names.length, NumberValue.of(newLen));
 			// g. Return element.
 			return element;
 		}
@@ -1528,7 +1549,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// i. Let kValue be ? Get(O, Pk).
 				final Value<?> kValue = O.get(interpreter, Pk);
 				// ii. Let selected be ! ToBoolean(? Call(callbackfn, thisArg, « kValue, 𝔽(k), O »)).
-				final boolean selected = executable.call(interpreter, thisArg, kValue, new NumberValue(k), O).isTruthy(interpreter);
+				final boolean selected = executable.call(interpreter, thisArg, kValue, NumberValue.of(k), O).isTruthy(interpreter);
 				// iii. If selected is true, then
 				if (selected) {
 					// 1. Perform ? CreateDataPropertyOrThrow(A, ! ToString(𝔽(to)), kValue).
@@ -1571,7 +1592,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// i. Let kValue be ? Get(O, Pk).
 				final Value<?> kValue = O.get(interpreter, Pk);
 				// ii. Perform ? Call(callbackfn, thisArg, « kValue, 𝔽(k), O »).
-				executable.call(interpreter, thisArg, kValue, new NumberValue(k), O);
+				executable.call(interpreter, thisArg, kValue, NumberValue.of(k), O);
 			}
 			// d. Set k to k + 1.
 			k = k + 1;
@@ -1607,7 +1628,7 @@ public final class ArrayPrototype extends ObjectValue {
 		for (int k = 0; k < len; k++) {
 			if (k > 0) result.append(sep);
 			final Value<?> element = O.get(interpreter, new StringValue(k));
-			result.append(element.isNullish() ? "" : element.toStringValue(interpreter).value);
+			result.append(element.isNullish() ? "" : element.toStringValue(interpreter).value());
 		}
 
 		return new StringValue(result.toString());
@@ -1644,6 +1665,11 @@ public final class ArrayPrototype extends ObjectValue {
 			throw error(new TypeError(interpreter, message.formatted(argCount, len)));
 		}
 
+		if (O instanceof final ArrayObject array && array.hasFastElements()) {
+			array.pushElements(items);
+			return NumberValue.of(array.length());
+		}
+
 		// 5. For each element E of items, do
 		for (final Value<?> E : items) {
 			// a. Perform ? Set(O, ! ToString(𝔽(len)), E, true).
@@ -1653,7 +1679,7 @@ public final class ArrayPrototype extends ObjectValue {
 		}
 
 		// 6. Perform ? Set(O, "length", 𝔽(len), true).
-		final var newLen = new NumberValue(len);
+		final var newLen = NumberValue.of(len);
 		O.set(interpreter, Names.length, newLen);
 		// 7. Return 𝔽(len).
 		return newLen;
@@ -1673,7 +1699,7 @@ public final class ArrayPrototype extends ObjectValue {
 		for (int k = 0; k < len; k++) {
 			final var Pk = new StringValue(k);
 			if (O.hasOwnProperty(Pk)) {
-				values[k] = executable.call(interpreter, thisArg, O.get(interpreter, Pk), new NumberValue(k), O);
+				values[k] = executable.call(interpreter, thisArg, O.get(interpreter, Pk), NumberValue.of(k), O);
 			}
 		}
 
@@ -1738,7 +1764,7 @@ public final class ArrayPrototype extends ObjectValue {
 				// i. Let kValue be ? Get(O, Pk).
 				final var kValue = O.get(interpreter, Pk);
 				// ii. Set accumulator to ? Call(callbackfn, undefined, « accumulator, kValue, 𝔽(k), O »).
-				accumulator = callback.call(interpreter, Undefined.instance, accumulator, kValue, new NumberValue(k), O);
+				accumulator = callback.call(interpreter, Undefined.instance, accumulator, kValue, NumberValue.of(k), O);
 			}
 
 			// d. Set k to k + 1.
@@ -1855,6 +1881,14 @@ public final class ArrayPrototype extends ObjectValue {
 	@FunctionalInterface
 	public interface ValueComparator {
 		int compare(Value<?> x, Value<?> y) throws AbruptCompletion;
+
+		/**
+		 * @return `items`, sorted stably. `items` itself may be sorted in place.
+		 */
+		default Value<?>[] sort(Value<?>[] items) throws AbruptCompletion {
+			MergeSort.sort(items, this);
+			return items;
+		}
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-createarrayiterator")
@@ -1875,15 +1909,17 @@ public final class ArrayPrototype extends ObjectValue {
 
 		@Override
 		public Value<?> next(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
-			final int len = lengthOfArrayLike(interpreter, array);
+			// Arrays are read directly, falling back to Get() for holes and accessors
+			final ArrayObject arrayObject = array instanceof final ArrayObject a ? a : null;
+			final int len = arrayObject != null ? arrayObject.length() : lengthOfArrayLike(interpreter, array);
 			if (index >= len) return setCompleted();
 
 			Value<?> result = null;
 
-			final StringValue Pk = new StringValue(index);
-			if (keys) result = new NumberValue(index);
+			if (keys) result = NumberValue.of(index);
 			if (values) {
-				final Value<?> value = array.get(interpreter, Pk);
+				Value<?> value = arrayObject != null ? arrayObject.getElement(index) : null;
+				if (value == null) value = array.get(interpreter, new StringValue(index));
 				result = keys ? new ArrayObject(interpreter, result, value) : value;
 			}
 
@@ -0,0 +1,63 @@
+package xyz.lebster.core.value.array;
+
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.value.Value;
+
+/**
+ * A stable merge sort which lets the comparator throw an {@link AbruptCompletion}. As soon as it does,
+ * the sort stops without calling the comparator again, and the completion is passed on.
+ */
+final class MergeSort {
+	// Ranges this short are insertion sorted
+	private static final int INSERTION_SORT_THRESHOLD = 8;
+
+	private MergeSort() {
+	}
+
+	static void sort(Value<?>[] items, ArrayPrototype.ValueComparator comparator) throws AbruptCompletion {
+		if (items.length < 2) return;
+		sort(items.clone(), items, 0, items.length, comparator);
+	}
+
+	/**
+	 * Sorts the range [from, to) into `dest`. On entry, the range holds the same elements in `src` and `dest`.
+	 * `src` is used as scratch space.
+	 */
+	private static void sort(Value<?>[] src, Value<?>[] dest, int from, int to, ArrayPrototype.ValueComparator comparator) throws AbruptCompletion {
+		if (to - from <= INSERTION_SORT_THRESHOLD) {
+			for (int i = from + 1; i < to; i++) {
+				final Value<?> item = dest[i];
+				int j = i;
+				while (j > from && comparator.compare(dest[j - 1], item) > 0) {
+					dest[j] = dest[j - 1];
+					j--;
+				}
+
+				dest[j] = item;
+			}
+
+			return;
+		}
+
+		// Sort each half into `src`, then merge them back into `dest`
+		final int mid = (from + to) >>> 1;
+		sort(dest, src, from, mid, comparator);
+		sort(dest, src, mid, to, comparator);
+
+		// The halves are already in order
+		if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+			System.arraycopy(src, from, dest, from, to - from);
+			return;
+		}
+
+		int i = from;
+		int j = mid;
+		for (int k = from; k < to; k++) {
+			if (j >= to || (i < mid && comparator.compare(src[i], src[j]) <= 0)) {
+				dest[k] = src[i++];
+			} else {
+				dest[k] = src[j++];
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package xyz.lebster.core.value.array;
+
+import xyz.lebster.core.SpecificationURL;
+import xyz.lebster.core.interpreter.AbruptCompletion;
+import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.node.FunctionNode;
+import xyz.lebster.core.node.FunctionParameters;
+import xyz.lebster.core.node.declaration.AssignmentPattern;
+import xyz.lebster.core.node.declaration.IdentifierExpression;
+import xyz.lebster.core.node.expression.ArrowFunctionExpression;
+import xyz.lebster.core.node.expression.BinaryExpression;
+import xyz.lebster.core.node.expression.Expression;
+import xyz.lebster.core.node.statement.ReturnStatement;
+import xyz.lebster.core.node.statement.Statement;
+import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.function.ArrowFunction;
+import xyz.lebster.core.value.function.ConstructorFunction;
+import xyz.lebster.core.value.function.Executable;
+import xyz.lebster.core.value.function.OrdinaryFunction;
+import xyz.lebster.core.value.globals.Undefined;
+import xyz.lebster.core.value.primitive.number.NumberValue;
+import xyz.lebster.core.value.primitive.string.StringValue;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The SortCompare closure used by `Array.prototype.sort()` and `Array.prototype.toSorted()`.
+ * <p>
+ * Rather than calling {@link #compare(Value, Value)} O(n log n) times, {@link #sort(Value[])} avoids it where the
+ * result cannot be told apart:
+ * <ul>
+ *     <li>Without a comparefn, each element is converted to a string once, and the elements are sorted by those keys</li>
+ *     <li>With a comparefn of the form `(a, b) => a - b` or `(a, b) => b - a`, Numbers are sorted directly</li>
+ * </ul>
+ */
+final class SortCompare implements ArrayPrototype.ValueComparator {
+	private final Interpreter interpreter;
+	private final Executable comparefn;
+	// 1 for a comparefn which returns `a - b`, -1 for one which returns `b - a`, otherwise 0
+	private final int numericDirection;
+
+	SortCompare(Interpreter interpreter, Executable comparefn) {
+		this.interpreter = interpreter;
+		this.comparefn = comparefn;
+		this.numericDirection = comparefn == null ? 0 : numericDirection(comparefn);
+	}
+
+	private record Keyed(String key, Value<?> value) {
+	}
+
+	@Override
+	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-comparearrayelements")
+	public int compare(Value<?> x, Value<?> y) throws AbruptCompletion {
+		// 23.1.3.30.2 CompareArrayElements ( x, y, comparefn )
+
+		// 1. If x and y are both undefined, return +0𝔽.
+		if (x == Undefined.instance && y == Undefined.instance) return 0;
+		// 2. If x is undefined, return 1𝔽.
+		if (x == Undefined.instance) return 1;
+		// 3. If y is undefined, return -1𝔽.
+		if (y == Undefined.instance) return -1;
+		// 4. If comparefn is not undefined, then
+		if (comparefn != null) {
+			// a. Let v be ? ToNumber(? Call(comparefn, undefined, « x, y »)).
+			final NumberValue v = comparefn.call(interpreter, Undefined.instance, x, y).toNumberValue(interpreter);
+			// b. If v is NaN, return +0𝔽.
+			if (v.value.isNaN()) return 0;
+			// c. Return v.
+			return v.value < 0 ? -1 : v.value > 0 ? 1 : 0;
+		}
+
+		// 5. Let xString be ? ToString(x).
+		final StringValue xString = x.toStringValue(interpreter);
+		// 6. Let yString be ? ToString(y).
+		final StringValue yString = y.toStringValue(interpreter);
+		// 7 - 11. IsLessThan on two Strings compares their code units, as String#compareTo does.
+		return Integer.signum(xString.value().compareTo(yString.value()));
+	}
+
+	@Override
+	public Value<?>[] sort(Value<?>[] items) throws AbruptCompletion {
+		// CompareArrayElements always puts undefined last, so those are set aside first
+		final Value<?>[] defined = new Value<?>[items.length];
+		int count = 0;
+		for (final Value<?> item : items) {
+			if (item != Undefined.instance) defined[count++] = item;
+		}
+
+		final Value<?>[] sorted;
+		if (count < 2) {
+			// Nothing to compare, so the element is neither converted to a string nor passed to comparefn
+			sorted = Arrays.copyOf(defined, count);
+		} else if (comparefn == null) {
+			sorted = sortByStringKeys(defined, count);
+		} else if (numericDirection != 0 && allOrderedNumbers(defined, count)) {
+			sorted = sortNumbers(defined, count, numericDirection < 0);
+		} else {
+			sorted = Arrays.copyOf(defined, count);
+			MergeSort.sort(sorted, this);
+		}
+
+		final Value<?>[] result = Arrays.copyOf(sorted, items.length);
+		Arrays.fill(result, count, items.length, Undefined.instance);
+		return result;
+	}
+
+	/**
+	 * Sorts the elements of `array` in place, if they are all Numbers stored unboxed and comparefn is numeric.
+	 *
+	 * @return false if the array was left untouched and has to be sorted by {@link #sort(Value[])} instead
+	 */
+	boolean sortInPlace(ArrayObject array) {
+		return numericDirection != 0 && array.hasFastElements() && array.sortNumbers(numericDirection < 0);
+	}
+
+	private Value<?>[] sortByStringKeys(Value<?>[] defined, int count) throws AbruptCompletion {
+		final Keyed[] keyed = new Keyed[count];
+		for (int i = 0; i < count; i++) {
+			keyed[i] = new Keyed(defined[i].toStringValue(interpreter).value(), defined[i]);
+		}
+
+		// Arrays.sort is stable for objects
+		Arrays.sort(keyed, (x, y) -> x.key.compareTo(y.key));
+		final Value<?>[] result = new Value<?>[count];
+		for (int i = 0; i < count; i++) result[i] = keyed[i].value;
+		return result;
+	}
+
+	/**
+	 * Whether every value is a Number which `a - b` orders consistently, and which no other Number it compares equal
+	 * to can be told apart from. This leaves out NaN, and -0 (which `a - b` puts level with +0).
+	 */
+	private static boolean allOrderedNumbers(Value<?>[] values, int count) {
+		for (int i = 0; i < count; i++) {
+			if (!(values[i] instanceof final NumberValue number)) return false;
+			final double d = number.value;
+			if (Double.isNaN(d) || (d == 0 && 1 / d < 0)) return false;
+		}
+
+		return true;
+	}
+
+	private static Value<?>[] sortNumbers(Value<?>[] numbers, int count, boolean descending) {
+		final double[] doubles = new double[count];
+		for (int i = 0; i < count; i++) doubles[i] = ((NumberValue) numbers[i]).value;
+		Arrays.sort(doubles);
+
+		final Value<?>[] result = new Value<?>[count];
+		for (int i = 0; i < count; i++) result[i] = NumberValue.of(doubles[descending ? count - 1 - i : i]);
+		return result;
+	}
+
+	private static int numericDirection(Executable comparefn) {
+		final FunctionParameters parameters;
+		final Expression returned;
+		switch (comparefn) {
+			case final ArrowFunction arrow -> {
+				final ArrowFunctionExpression expression = arrow.expression();
+				parameters = expression.parameters();
+				returned = expression.hasFullBody() ? onlyReturnedExpression(expression.body().children()) : expression.implicitReturn();
+			}
+
+			case final OrdinaryFunction function -> {
+				final FunctionNode code = function.code();
+				parameters = code.parameters();
+				returned = onlyReturnedExpression(code.body().children());
+			}
+
+			case final ConstructorFunction function -> {
+				final FunctionNode code = function.code();
+				parameters = code.parameters();
+				returned = onlyReturnedExpression(code.body().children());
+			}
+
+			default -> {
+				return 0;
+			}
+		}
+
+		if (parameters.rest() != null || parameters.formalParameters().size() != 2) return 0;
+		final String a = simpleParameterName(parameters.formalParameters().get(0));
+		final String b = simpleParameterName(parameters.formalParameters().get(1));
+		if (a == null || b == null || a.equals(b)) return 0;
+
+		if (!(returned instanceof final BinaryExpression binary) || binary.op() != BinaryExpression.BinaryOp.Subtract) return 0;
+		if (!(binary.left() instanceof final IdentifierExpression left) || !(binary.right() instanceof final IdentifierExpression right)) return 0;
+		final String leftName = left.name().value();
+		final String rightName = right.name().value();
+		if (leftName.equals(a) && rightName.equals(b)) return 1;
+		if (leftName.equals(b) && rightName.equals(a)) return -1;
+		return 0;
+	}
+
+	private static Expression onlyReturnedExpression(List<Statement> statements) {
+		if (statements.size() != 1 || !(statements.get(0) instanceof final ReturnStatement returnStatement)) return null;
+		return returnStatement.value();
+	}
+
+	private static String simpleParameterName(AssignmentPattern parameter) {
+		if (parameter.defaultExpression() != null) return null;
+		return parameter.assignmentTarget() instanceof final IdentifierExpression identifier ? identifier.name().value() : null;
+	}
+}
\ No newline at end of file
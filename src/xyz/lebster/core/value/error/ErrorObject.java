@@ -2,6 +2,7 @@ package xyz.lebster.core.value.error;
 
 import xyz.lebster.core.ANSI;
 import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.interpreter.StackTrace;
 import xyz.lebster.core.value.HasBuiltinTag;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.object.ObjectValue;
@@ -9,16 +10,16 @@ import xyz.lebster.core.value.primitive.string.StringValue;
 
 public class ErrorObject extends ObjectValue implements HasBuiltinTag {
 	public final String message;
-	public final String stack; // TODO: Array of objects
+	public final StackTrace stackTrace;
 
 	public ErrorObject(Interpreter interpreter, ObjectValue prototype, String message) {
 		super(prototype);
 		message = ANSI.stripFormatting(message);
 		this.message = message;
-		this.stack = interpreter.stackTrace();
+		this.stackTrace = interpreter.stackTrace();
 		put(Names.message, new StringValue(message));
 		put(Names.name, new StringValue(getName()));
-		put(Names.stack, new StringValue(stack));
+		this.properties().put(Names.stack, new StackDescriptor(stackTrace));
 	}
 
 	@Override
@@ -32,7 +33,7 @@ public class ErrorObject extends ObjectValue implements HasBuiltinTag {
 		builder.append(ANSI.RESET);
 	}
 
-	protected String getName() {
+	public String getName() {
 		return getClass() == ErrorObject.class ? "Error" : getClass().getSimpleName();
 	}
 
@@ -46,6 +47,7 @@ public class ErrorObject extends ObjectValue implements HasBuiltinTag {
 		builder.append(getName());
 		builder.append(": ");
 		builder.append(message);
+		final String stack = stackTrace.toString();
 		if (!stack.isBlank()) {
 			builder.append("\n");
 			builder.append(stack);
@@ -37,11 +37,11 @@ public class ErrorPrototype extends ObjectValue {
 		// 6. If msg is undefined, set msg to the empty String; otherwise set msg to ? ToString(msg).
 		final StringValue msg = msgProperty == Undefined.instance ? StringValue.EMPTY : msgProperty.toStringValue(interpreter);
 		// 7. If name is the empty String, return msg.
-		if (name.value.isEmpty()) return msg;
+		if (name.value().isEmpty()) return msg;
 		// 8. If msg is the empty String, return name.
-		if (msg.value.isEmpty()) return name;
+		if (msg.value().isEmpty()) return name;
 		// 9. Return the string-concatenation of name, the code unit 0x003A (COLON), the code unit 0x0020 (SPACE), and msg.
-		return new StringValue(name.value + ": " + msg.value);
+		return new StringValue(name.value() + ": " + msg.value());
 
 	}
 }
@@ -0,0 +1,38 @@
+package xyz.lebster.core.value.error;
+
+import xyz.lebster.core.interpreter.Interpreter;
+import xyz.lebster.core.interpreter.StackTrace;
+import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.object.DataDescriptor;
+import xyz.lebster.core.value.object.ObjectValue;
+import xyz.lebster.core.value.primitive.string.StringValue;
+
+/**
+ * The `stack` property of an {@link ErrorObject}. Most errors are caught without it ever being read,
+ * so the string is only created on first access.
+ */
+final class StackDescriptor extends DataDescriptor {
+	// The trace still to be formatted, or null once the value has been created or replaced
+	private StackTrace stackTrace;
+
+	StackDescriptor(StackTrace stackTrace) {
+		super(null, true, false, true);
+		this.stackTrace = stackTrace;
+	}
+
+	@Override
+	public Value<?> value() {
+		if (stackTrace != null) {
+			super.set(null, null, new StringValue(stackTrace.toString()));
+			stackTrace = null;
+		}
+
+		return super.value();
+	}
+
+	@Override
+	public void set(Interpreter interpreter, ObjectValue thisValue, Value<?> newValue) {
+		stackTrace = null;
+		super.set(interpreter, thisValue, newValue);
+	}
+}
\ No newline at end of file
@@ -9,7 +9,7 @@ public final class SyntaxErrorObject extends ErrorObject {
 	}
 
 	@Override
-	protected String getName() {
+	public String getName() {
 		return "SyntaxError";
 	}
 }
\ No newline at end of file
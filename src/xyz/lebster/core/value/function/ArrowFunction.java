@@ -7,7 +7,6 @@ import xyz.lebster.core.interpreter.environment.ExecutionContext;
 import xyz.lebster.core.node.expression.ArrowFunctionExpression;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
-import xyz.lebster.core.value.globals.Undefined;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
 public final class ArrowFunction extends Executable {
@@ -20,6 +19,10 @@ public final class ArrowFunction extends Executable {
 		this.context = context;
 	}
 
+	public ArrowFunctionExpression expression() {
+		return expression;
+	}
+
 	@Override
 	public StringValue toStringMethod() {
 		return new StringValue(expression.range().getText());
@@ -29,11 +32,11 @@ public final class ArrowFunction extends Executable {
 		final ExecutionContext context = interpreter.pushContextWithNewEnvironment();
 
 		try {
+			if (interpreter.bytecode != null) return interpreter.bytecode.executeArrowFunction(interpreter, expression, passedArguments);
 			expression.parameters().declareArguments(interpreter, passedArguments);
 
 			if (expression.hasFullBody()) {
-				expression.body().executeWithoutNewContext(interpreter);
-				return Undefined.instance;
+				return expression.body().executeFunctionBody(interpreter);
 			} else {
 				return expression.implicitReturn().execute(interpreter);
 			}
@@ -27,6 +27,10 @@ public class ConstructorFunction extends Constructor {
 		this.code = code;
 	}
 
+	public FunctionNode code() {
+		return code;
+	}
+
 	@Override
 	public StringValue toStringMethod() {
 		return new StringValue(code.range().getText());
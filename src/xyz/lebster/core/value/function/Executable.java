@@ -118,7 +118,7 @@ public abstract class Executable extends ObjectValue implements HasBuiltinTag {
 		builder.append(ANSI.MAGENTA);
 		builder.append("[Function: ");
 		builder.append(ANSI.BRIGHT_MAGENTA);
-		builder.append(this.name.value.isEmpty() ? "(anonymous)" : this.name.value);
+		builder.append(this.name.value().isEmpty() ? "(anonymous)" : this.name.value());
 		builder.append(ANSI.MAGENTA);
 		builder.append(']');
 		builder.append(ANSI.RESET);
@@ -138,10 +138,29 @@ public abstract class Executable extends ObjectValue implements HasBuiltinTag {
 		return interpreter.environment();
 	}
 
+	/**
+	 * Whether this function is implemented in Java. Built-in functions have no bindings of their own,
+	 * so calls to them push a frame which only records the function and its `this` value (see {@link ExecutionContext}).
+	 */
+	protected boolean isBuiltin() {
+		return false;
+	}
+
+	/**
+	 * Whether this function is built-in and never uses its `this` value or the active function,
+	 * in which case it is called without pushing a frame at all.
+	 */
+	protected boolean ignoresThis() {
+		return false;
+	}
+
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-built-in-function-objects-call-thisargument-argumentslist")
 	public final Value<?> call(Interpreter interpreter, Value<?> thisValue, Value<?>... arguments) throws AbruptCompletion {
-		final var env = new FunctionEnvironment(savedEnvironment(interpreter), thisValue, this, this);
-		final ExecutionContext context = interpreter.pushContextWithEnvironment(env);
+		if (ignoresThis()) return internalCall(interpreter, arguments);
+
+		final ExecutionContext context = isBuiltin() ?
+			interpreter.pushBuiltinFrame(this, thisValue) :
+			interpreter.pushContextWithEnvironment(new FunctionEnvironment(savedEnvironment(interpreter), thisValue, this, this));
 		try {
 			return internalCall(interpreter, arguments);
 		} finally {
@@ -14,6 +14,7 @@ import java.util.Arrays;
 @SpecificationURL("https://tc39.es/ecma262/multipage#sec-ecmascript-standard-built-in-objects")
 public final class NativeFunction extends Executable {
 	private final NativeCode code;
+	private boolean ignoresThis = false;
 
 	public NativeFunction(Intrinsics intrinsics, StringValue name, NativeCode code, int expectedArgumentCount) {
 		super(intrinsics, name, expectedArgumentCount);
@@ -41,7 +42,7 @@ public final class NativeFunction extends Executable {
 
 	public static String argumentString(int index, String defaultValue, Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
 		if (arguments.length <= index || arguments[index] == Undefined.instance) return defaultValue;
-		return arguments[index].toStringValue(interpreter).value;
+		return arguments[index].toStringValue(interpreter).value();
 	}
 
 	public static double argumentDouble(int index, Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
@@ -56,7 +57,25 @@ public final class NativeFunction extends Executable {
 
 	@Override
 	public StringValue toStringMethod() {
-		return NativeFunction.toStringForName(this.name.value);
+		return NativeFunction.toStringForName(this.name.value());
+	}
+
+	@Override
+	protected boolean isBuiltin() {
+		return true;
+	}
+
+	@Override
+	protected boolean ignoresThis() {
+		return ignoresThis;
+	}
+
+	/**
+	 * Marks this function as never using its `this` value, so that it is called without a frame.
+	 * Errors it throws will then not list it in their stack trace.
+	 */
+	public void setIgnoresThis() {
+		this.ignoresThis = true;
 	}
 
 	@Override
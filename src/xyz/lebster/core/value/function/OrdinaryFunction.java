@@ -22,6 +22,10 @@ public final class OrdinaryFunction extends Executable {
 		this.code = code;
 	}
 
+	public FunctionNode code() {
+		return code;
+	}
+
 	@Override
 	public StringValue toStringMethod() {
 		return new StringValue(code.range().getText());
@@ -23,10 +23,10 @@ public final class ConsoleObject extends ObjectValue {
 	public ConsoleObject(Intrinsics intrinsics) {
 		super(Null.instance);
 		putMethod(intrinsics, Names.write, 0, ConsoleObject::write);
-		putMethod(intrinsics, Names.log, 0, (interpreter, data) -> logger(LogLevel.Log, data));
-		putMethod(intrinsics, Names.warn, 0, (interpreter, data) -> logger(LogLevel.Warn, data));
-		putMethod(intrinsics, Names.error, 0, (interpreter, data) -> logger(LogLevel.Error, data));
-		putMethod(intrinsics, Names.info, 0, (interpreter, data) -> logger(LogLevel.Info, data));
+		putMethod(intrinsics, Names.log, 0, (interpreter, data) -> logger(interpreter, LogLevel.Log, data));
+		putMethod(intrinsics, Names.warn, 0, (interpreter, data) -> logger(interpreter, LogLevel.Warn, data));
+		putMethod(intrinsics, Names.error, 0, (interpreter, data) -> logger(interpreter, LogLevel.Error, data));
+		putMethod(intrinsics, Names.info, 0, (interpreter, data) -> logger(interpreter, LogLevel.Info, data));
 		putMethod(intrinsics, Names.input, 1, ConsoleObject::input);
 	}
 
@@ -39,7 +39,7 @@ public final class ConsoleObject extends ObjectValue {
 		for (final Value<?> arg : data)
 			arg.displayForConsoleLog(builder);
 		builder.append(ANSI.RESET);
-		System.out.print(builder);
+		interpreter.out.print(builder);
 		return Undefined.instance;
 	}
 
@@ -47,7 +47,7 @@ public final class ConsoleObject extends ObjectValue {
 	@NonStandard
 	private static Value<?> input(Interpreter interpreter, Value<?>[] args) throws AbruptCompletion {
 		// console.input(prompt: string, type?: string): string | number | boolean
-		System.out.print(argumentString(0, "", interpreter, args));
+		interpreter.out.print(argumentString(0, "", interpreter, args));
 		final String inputType = argumentString(1, "", interpreter, args);
 		final String input = scanner.nextLine();
 
@@ -59,7 +59,7 @@ public final class ConsoleObject extends ObjectValue {
 	}
 
 	@NonStandard
-	private Undefined logger(LogLevel logLevel, Value<?>[] args) {
+	private static Undefined logger(Interpreter interpreter, LogLevel logLevel, Value<?>[] args) {
 		if (args.length == 0) return Undefined.instance;
 		final StringBuilder builder = new StringBuilder();
 
@@ -76,7 +76,7 @@ public final class ConsoleObject extends ObjectValue {
 		}
 
 		builder.append(ANSI.RESET);
-		System.out.println(builder);
+		interpreter.out.println(builder);
 		return Undefined.instance;
 	}
 
@@ -45,15 +45,15 @@ public final class FileSystemObject extends ObjectValue {
 
 		Charset charset;
 		try {
-			charset = Charset.forName(charsetString.value);
+			charset = Charset.forName(charsetString.value());
 		} catch (IllegalCharsetNameException e) {
-			throw error(new TypeError(interpreter, "Illegal charset name: %s".formatted(StringEscapeUtils.quote(charsetString.value, false))));
+			throw error(new TypeError(interpreter, "Illegal charset name: %s".formatted(StringEscapeUtils.quote(charsetString.value(), false))));
 		} catch (UnsupportedCharsetException e) {
 			throw error(new TypeError(interpreter, "Unsupported charset: %s".formatted(e.getCharsetName())));
 		}
 
 		try {
-			final String s = Files.readString(Path.of(path.value), charset);
+			final String s = Files.readString(Path.of(path.value()), charset);
 			return new StringValue(s);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
@@ -66,14 +66,14 @@ public final class FileSystemObject extends ObjectValue {
 		final Value<?> pathArgument = argument(0, arguments);
 		if (!(pathArgument instanceof final StringValue path))
 			throw error(new TypeError(interpreter, "%s is not a string".formatted(pathArgument.toDisplayString(true))));
-		final File directory = new File(path.value);
+		final File directory = new File(path.value());
 		if (!directory.exists())
-			throw error(new TypeError(interpreter, "%s does not exist".formatted(StringEscapeUtils.quote(path.value, false))));
+			throw error(new TypeError(interpreter, "%s does not exist".formatted(StringEscapeUtils.quote(path.value(), false))));
 		if (!directory.isDirectory())
-			throw error(new TypeError(interpreter, "%s is not a directory".formatted(StringEscapeUtils.quote(path.value, false))));
+			throw error(new TypeError(interpreter, "%s is not a directory".formatted(StringEscapeUtils.quote(path.value(), false))));
 		final File[] files = directory.listFiles();
 		if (files == null)
-			throw error(new TypeError(interpreter, "An IO error occurred while trying to list " + StringEscapeUtils.quote(path.value, false)));
+			throw error(new TypeError(interpreter, "An IO error occurred while trying to list " + StringEscapeUtils.quote(path.value(), false)));
 
 		StringValue[] result = new StringValue[files.length];
 		for (int i = 0; i < files.length; i++)
@@ -5,14 +5,9 @@ import xyz.lebster.core.NonStandard;
 import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.StringEscapeUtils;
 import xyz.lebster.core.exception.ShouldNotHappen;
-import xyz.lebster.core.exception.SyntaxError;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.Intrinsics;
-import xyz.lebster.core.node.expression.ArrayExpression;
-import xyz.lebster.core.node.expression.Expression;
-import xyz.lebster.core.node.expression.ObjectExpression;
-import xyz.lebster.core.parser.Parser;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.array.ArrayObject;
@@ -30,9 +25,17 @@ import xyz.lebster.core.value.primitive.string.StringValue;
 import xyz.lebster.core.value.primitive.string.StringWrapper;
 import xyz.lebster.core.value.primitive.symbol.SymbolValue;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
@@ -47,6 +50,7 @@ public final class JSONObject extends ObjectValue {
 		super(intrinsics);
 		putMethod(intrinsics, Names.parse, 2, JSONObject::parse);
 		putMethod(intrinsics, Names.stringify, 3, JSONObject::stringify);
+		putMethod(intrinsics, Names.stringifyTo, 4, JSONObject::stringifyTo);
 		put(SymbolValue.toStringTag, Names.JSON, false, false, true);
 	}
 
@@ -62,43 +66,19 @@ public final class JSONObject extends ObjectValue {
 		final StringValue jsonString = text.toStringValue(interpreter);
 		// 2. Parse StringToCodePoints(jsonString) as a JSON text as specified in ECMA-404.
 		// Throw a SyntaxError exception if it is not a valid JSON text as defined in that specification.
-		try {
-			new JSONParser(jsonString.value).parse();
-		} catch (JSONParser.JSONParseError e) {
-			throw error(new SyntaxErrorObject(interpreter, e.getMessage()));
-		}
 		// 3. Let scriptString be the string-concatenation of "(", jsonString, and ");".
 		// 4. Let script be ParseText(StringToCodePoints(scriptString), Script).
 		// 6. Assert: script is a Parse Node.
 		// 7. Let completion be Completion(Evaluation of script).
 		// 9. Let unfiltered be completion.[[Value]].
-		// NOTE: This should be equivalent:
-		final Expression expression;
-		try {
-			final Parser parser = new Parser(jsonString.value.trim());
-			expression = parser.parseExpression();
-		} catch (SyntaxError e) {
-			throw new ShouldNotHappen("SyntaxError while parsing JSON");
-		}
-
-		final Value<?> unfiltered;
-		try {
-			unfiltered = expression.execute(interpreter);
-		} catch (AbruptCompletion e) {
-			throw new ShouldNotHappen("AbruptCompletion while evaluating JSON");
-		}
-
 		// 10. Assert: unfiltered is either a String, a Number, a Boolean,
 		// an Object that is defined by either an ArrayLiteral or an ObjectLiteral, or null.
-		if (!(
-			unfiltered instanceof StringValue
-			|| unfiltered instanceof NumberValue
-			|| unfiltered instanceof BooleanValue
-			|| unfiltered == Null.instance
-			|| (unfiltered instanceof ObjectValue && expression instanceof ObjectExpression)
-			|| (unfiltered instanceof ObjectValue && expression instanceof ArrayExpression)
-		)) {
-			throw new ShouldNotHappen("JSON evaluated to illegal value");
+		// NOTE: JSONParser builds the values while validating, which is equivalent to evaluating the script.
+		final Value<?> unfiltered;
+		try {
+			unfiltered = new JSONParser(interpreter, jsonString.value()).parse();
+		} catch (JSONParser.JSONParseError e) {
+			throw error(new SyntaxErrorObject(interpreter, e.getMessage()));
 		}
 
 		// 11. If IsCallable(reviver) is true, then
@@ -184,16 +164,67 @@ public final class JSONObject extends ObjectValue {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-json.stringify")
 	private static Value<?> stringify(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
 		// 25.5.2 JSON.stringify ( value [ , replacer [ , space ] ] )
-		final Value<?> value = argument(0, arguments);
-		final Value<?> replacer_ = argument(1, arguments);
-		Value<?> space = argument(2, arguments);
+		final StringBuilder out = new StringBuilder();
+		if (!stringify(interpreter, argument(0, arguments), argument(1, arguments), argument(2, arguments), out, null))
+			return Undefined.instance;
+		return new StringValue(out.toString());
+	}
+
+	@NonStandard
+	private static BooleanValue stringifyTo(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
+		// stringifyTo(value: any, path: string, replacer?: Function | string[], space?: number | string): boolean
+		final Value<?> pathArgument = argument(1, arguments);
+		if (!(pathArgument instanceof final StringValue path))
+			throw error(new TypeError(interpreter, "%s is not a string".formatted(pathArgument.toDisplayString(true))));
+
+		final Path target;
+		final Path temporary;
+		try {
+			target = Path.of(path.value()).toAbsolutePath();
+			// Write to a temporary file first, so that the target is left as it was if stringifying throws
+			temporary = Files.createTempFile(target.getParent(), "json", ".tmp");
+		} catch (IOException | InvalidPathException e) {
+			throw writeError(interpreter, path);
+		}
 
+		try {
+			final boolean written;
+			try (final Writer writer = Files.newBufferedWriter(temporary)) {
+				final StringBuilder out = new StringBuilder();
+				written = stringify(interpreter, argument(0, arguments), argument(2, arguments), argument(3, arguments), out, writer);
+				writer.append(out);
+			}
+
+			if (written) Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return BooleanValue.of(written);
+		} catch (IOException | UncheckedIOException e) {
+			throw writeError(interpreter, path);
+		} finally {
+			try {
+				Files.deleteIfExists(temporary);
+			} catch (IOException ignored) {
+				// Only left behind if the file system failed as well
+			}
+		}
+	}
+
+	private static AbruptCompletion writeError(Interpreter interpreter, StringValue path) {
+		return error(new TypeError(interpreter, "An IO error occurred while trying to write " + StringEscapeUtils.quote(path.value(), false)));
+	}
+
+	/**
+	 * Steps 1 to 13 of JSON.stringify, writing the result to `out` instead of returning it.
+	 *
+	 * @param sink Where to flush `out` whenever it fills up, or null to build the whole result in `out`
+	 * @return false if the result is undefined, in which case nothing was written
+	 */
+	private static boolean stringify(Interpreter interpreter, Value<?> value, Value<?> replacer_, Value<?> space, StringBuilder out, Writer sink) throws AbruptCompletion {
 		// 1. Let stack be a new empty List.
 		final ArrayDeque<ObjectValue> stack = new ArrayDeque<>();
 		// 2. Let indent be the empty String.
 		String indent = "";
 		// 3. Let PropertyList be undefined.
-		HashSet<StringValue> propertyList = null;
+		LinkedHashSet<StringValue> propertyList = null;
 		// 4. Let ReplacerFunction be undefined.
 		Executable replacerFunction = null;
 		// 5. If replacer is an Object, then
@@ -210,7 +241,7 @@ public final class JSONObject extends ObjectValue {
 				// ii. If isArray is true, then
 				if (isArray) {
 					// 1. Set PropertyList to a new empty List.
-					propertyList = new HashSet<>();
+					propertyList = new LinkedHashSet<>();
 					// 2. Let len be ? LengthOfArrayLike(replacer).
 					final int len = lengthOfArrayLike(interpreter, replacer);
 					// 3. Let k be 0.
@@ -277,9 +308,9 @@ public final class JSONObject extends ObjectValue {
 		// 8. Else if space is a String, then
 		else if (space instanceof final StringValue string) {
 			// a. If the length of space ≤ 10, let gap be space;
-			if (string.value.length() <= 10) gap = string.value;
+			if (string.value().length() <= 10) gap = string.value();
 				// otherwise let gap be the substring of space from 0 to 10.
-			else gap = string.value.substring(0, 10);
+			else gap = string.value().substring(0, 10);
 		}
 		// 9. Else,
 		else {
@@ -292,16 +323,27 @@ public final class JSONObject extends ObjectValue {
 		// TODO: 11. Perform ! CreateDataPropertyOrThrow(wrapper, the empty String, value).
 		wrapper.put(Names.EMPTY, value);
 		// 12. Let state be the JSON Serialization Record { [[ReplacerFunction]]: ReplacerFunction, [[Stack]]: stack, [[Indent]]: indent, [[Gap]]: gap, [[PropertyList]]: PropertyList }.
-		final var state = new JSONSerializationRecord(replacerFunction, stack, indent, gap, propertyList);
+		final var state = new JSONSerializationRecord(replacerFunction, stack, indent, gap, propertyList, out, sink);
 		// 13. Return ? SerializeJSONProperty(state, the empty String, wrapper).
-		final String result = serializeJSONProperty(interpreter, state, Names.EMPTY, wrapper);
-		return result == null ? Undefined.instance : new StringValue(result);
+		return serializeJSONProperty(interpreter, state, Names.EMPTY, wrapper);
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-serializejsonproperty")
-	private static String serializeJSONProperty(Interpreter interpreter, JSONSerializationRecord state, StringValue key, ObjectValue holder) throws AbruptCompletion {
+	private static boolean serializeJSONProperty(Interpreter interpreter, JSONSerializationRecord state, StringValue key, ObjectValue holder) throws AbruptCompletion {
 		// 1. Let value be ? Get(holder, key).
-		Value<?> value = holder.get(interpreter, key);
+		final Value<?> value = resolveJSONProperty(interpreter, state, key, holder, holder.get(interpreter, key));
+		if (value == null) return false;
+		serializeJSONValue(interpreter, state, value);
+		return true;
+	}
+
+	/**
+	 * Steps 2 to 4 and 12 of SerializeJSONProperty, which may run user code but do not write anything.
+	 * Separate from the remaining steps so that callers know whether a property will be written before writing its key.
+	 *
+	 * @return The value to pass to {@link JSONObject#serializeJSONValue}, or null if the property is serialized as undefined
+	 */
+	private static Value<?> resolveJSONProperty(Interpreter interpreter, JSONSerializationRecord state, StringValue key, ObjectValue holder, Value<?> value) throws AbruptCompletion {
 		// 2. If value is an Object or value is a BigInt, then
 		if (value instanceof ObjectValue || value instanceof BigIntValue) {
 			// a. Let toJSON be ? GetV(value, "toJSON").
@@ -343,78 +385,83 @@ public final class JSONObject extends ObjectValue {
 			}
 		}
 
+		// 12. Return undefined.
+		if (value == Null.instance || value instanceof BooleanValue || value instanceof StringValue || value instanceof NumberValue || value instanceof BigIntValue) return value;
+		if (value instanceof ObjectValue && !(value instanceof Executable)) return value;
+		return null;
+	}
+
+	/**
+	 * Steps 5 to 11 of SerializeJSONProperty.
+	 */
+	private static void serializeJSONValue(Interpreter interpreter, JSONSerializationRecord state, Value<?> value) throws AbruptCompletion {
 		// 5. If value is null, return "null".
-		if (value == Null.instance) return "null";
+		if (value == Null.instance) state.out.append("null");
 		// 6. If value is true, return "true".
-		if (value == BooleanValue.TRUE) return "true";
+		else if (value == BooleanValue.TRUE) state.out.append("true");
 		// 7. If value is false, return "false".
-		if (value == BooleanValue.FALSE) return "false";
+		else if (value == BooleanValue.FALSE) state.out.append("false");
 		// 8. If value is a String, return QuoteJSONString(value).
-		if (value instanceof final StringValue string) return quoteJSONString(string.value);
+		else if (value instanceof final StringValue string) quoteJSONString(state.out, string.value());
 		// 9. If value is a Number, then
-		if (value instanceof final NumberValue number) {
+		else if (value instanceof final NumberValue number) {
 			// a. If value is finite, return ! ToString(value).
-			if (Double.isFinite(number.value)) return value.toStringValue(interpreter).value;
+			if (Double.isFinite(number.value)) state.out.append(number.stringValueOf(10));
 			// b. Return "null".
-			return "null";
+			else state.out.append("null");
 		}
-
 		// 10. If value is a BigInt, throw a TypeError exception.
-		if (value instanceof BigIntValue)
+		else if (value instanceof BigIntValue)
 			throw error(new TypeError(interpreter, "Cannot serialize BigInt value to JSON"));
-
 		// 11. If value is an Object and IsCallable(value) is false, then
-		if (value instanceof final ObjectValue object && !(value instanceof Executable)) {
-			// TODO: a. Let isArray be ? IsArray(value).
-			// b. If isArray is true, return ? SerializeJSONArray(state, value).
-			if (value instanceof final ArrayObject array) return serializeJSONArray(interpreter, state, array);
-			// c. Return ? SerializeJSONObject(state, value).
-			return serializeJSONObject(interpreter, state, object);
-		}
-
-		// 12. Return undefined.
-		return null;
+		// TODO: a. Let isArray be ? IsArray(value).
+		// b. If isArray is true, return ? SerializeJSONArray(state, value).
+		else if (value instanceof final ArrayObject array) serializeJSONArray(interpreter, state, array);
+		// c. Return ? SerializeJSONObject(state, value).
+		else serializeJSONObject(interpreter, state, (ObjectValue) value);
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-quotejsonstring")
-	private static String quoteJSONString(String value) {
+	private static void quoteJSONString(StringBuilder product, String value) {
 		// 1. Let product be the String value consisting solely of the code unit 0x0022 (QUOTATION MARK).
-		final StringBuilder product = new StringBuilder("\"");
+		product.append('"');
 		// 2. For each code point C of StringToCodePoints(value), do
-		for (var it = value.codePoints().iterator(); it.hasNext(); ) {
-			final int C = it.next();
+		// NOTE: Code points which are not escaped are left in the current run, which is appended all at once.
+		int run = 0;
+		final int length = value.length();
+		for (int i = 0; i < length; i++) {
+			final char C = value.charAt(i);
+			// c. Else,
+			// i. Set product to the string-concatenation of product and UTF16EncodeCodePoint(C).
+			if (C >= 0x0020 && C != '"' && C != '\\' && !Character.isSurrogate(C)) continue;
+			if (Character.isHighSurrogate(C) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+				i++;
+				continue;
+			}
+
+			product.append(value, run, i);
+			run = i + 1;
 			// a. If C is listed in the “Code Point” column of Table 74, then
 			// i. Set product to the string-concatenation of product and the escape sequence for C as specified in the “Escape Sequence” column of the corresponding row.
-			product.append(switch (C) {
-				case '\b' -> "\\b";
-				case '\t' -> "\\t";
-				case '\n' -> "\\n";
-				case '\f' -> "\\f";
-				case '\r' -> "\\r";
-				case '"' -> "\\\"";
-				case '\\' -> "\\\\";
-				// b. Else
-				default -> {
-					// if C has a numeric value less than 0x0020 (SPACE)
-					// or C has the same numeric value as a leading surrogate or trailing surrogate, then
-					if (C < 0x020 || C >= 0xD800 && C <= 0xDFFF) {
-						// i. Let unit be the code unit whose numeric value is the numeric value of C.
-						// ii. Set product to the string-concatenation of product and UnicodeEscape(unit).
-						yield unicodeEscape(C);
-					}
-					// c. Else,
-					else {
-						// i. Set product to the string-concatenation of product and UTF16EncodeCodePoint(C).
-						yield UTF16EncodeCodePoint(C);
-					}
-				}
-			});
+			switch (C) {
+				case '\b' -> product.append("\\b");
+				case '\t' -> product.append("\\t");
+				case '\n' -> product.append("\\n");
+				case '\f' -> product.append("\\f");
+				case '\r' -> product.append("\\r");
+				case '"' -> product.append("\\\"");
+				case '\\' -> product.append("\\\\");
+				// b. Else if C has a numeric value less than 0x0020 (SPACE)
+				// or C has the same numeric value as a leading surrogate or trailing surrogate, then
+				// i. Let unit be the code unit whose numeric value is the numeric value of C.
+				// ii. Set product to the string-concatenation of product and UnicodeEscape(unit).
+				default -> product.append(unicodeEscape(C));
+			}
 		}
 
+		product.append(value, run, length);
 		// 3. Set product to the string-concatenation of product and the code unit 0x0022 (QUOTATION MARK).
 		product.append('"');
-		// 4. Return product.
-		return product.toString();
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-unicodeescape")
@@ -428,28 +475,8 @@ public final class JSONObject extends ObjectValue {
 		return "\\u" + stringPad(hex, 4, "0", true);
 	}
 
-	private static int toIntExact(double d) {
-		if ((d % 1) != 0) throw new ShouldNotHappen("%f is not an integer.".formatted(d));
-		if (d < Integer.MIN_VALUE || d > Integer.MAX_VALUE) throw new ShouldNotHappen("%f is not representable by int.".formatted(d));
-		return (int) d;
-	}
-
-	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-utf16encodecodepoint")
-	private static String UTF16EncodeCodePoint(int cp) {
-		// 1. Assert: 0 ≤ cp ≤ 0x10FFFF.
-		if (0 > cp || cp > 0x10FFFF) throw new ShouldNotHappen("Assertion failed.");
-		// 2. If cp ≤ 0xFFFF, return the String value consisting of the code unit whose numeric value is cp.
-		if (cp <= 0xFFFF) return new String(new int[] { cp }, 0, 1);
-		// 3. Let cu1 be the code unit whose numeric value is floor((cp - 0x10000) / 0x400) + 0xD800.
-		final int cu1 = toIntExact(Math.floor((double) (cp - 0x10000) / 0x400)) + 0xD800;
-		// 4. Let cu2 be the code unit whose numeric value is ((cp - 0x10000) modulo 0x400) + 0xDC00.
-		final int cu2 = ((cp - 0x10000) % 0x400) + 0xDC00;
-		// 5. Return the string-concatenation of cu1 and cu2.
-		return new String(new int[] { cu1, cu2 }, 0, 2);
-	}
-
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-serializejsonarray")
-	private static String serializeJSONArray(Interpreter interpreter, JSONSerializationRecord state, ArrayObject value) throws AbruptCompletion {
+	private static void serializeJSONArray(Interpreter interpreter, JSONSerializationRecord state, ArrayObject value) throws AbruptCompletion {
 		// 1. If state.[[Stack]] contains value, throw a TypeError exception because the structure is cyclical.
 		if (state.stack.contains(value))
 			throw error(new TypeError(interpreter, "Cannot stringify circular object"));
@@ -460,63 +487,47 @@ public final class JSONObject extends ObjectValue {
 		// 4. Set state.[[Indent]] to the string-concatenation of state.[[Indent]] and state.[[Gap]].
 		state.indent = state.indent + state.gap;
 		// 5. Let partial be a new empty List.
-		final ArrayList<String> partial = new ArrayList<>();
+		// NOTE: Rather than collecting partial, each element is written as soon as it is serialized,
+		// which is equivalent to steps 9 and 10.
+		state.out.append('[');
 		// 6. Let len be ? LengthOfArrayLike(value).
 		final int len = lengthOfArrayLike(interpreter, value);
 		// 7. Let index be 0.
 		// 8. Repeat, while index < len,
 		for (int index = 0; index < len; index++) {
+			if (index > 0) state.out.append(',');
+			if (!state.gap.isEmpty()) state.out.append('\n').append(state.indent);
 			// a. Let strP be ? SerializeJSONProperty(state, ! ToString(𝔽(index)), value).
-			final String strP = serializeJSONProperty(interpreter, state, new StringValue(index), value);
+			// NOTE: Elements of arrays without a replacer function are read directly,
+			// and their key is only created if they have a toJSON method.
+			final Value<?> element = state.replacerFunction == null ? value.getElement(index) : null;
+			final boolean written;
+			if (element != null && !(element instanceof ObjectValue || element instanceof BigIntValue)) {
+				written = element != Undefined.instance && !(element instanceof SymbolValue);
+				if (written) serializeJSONValue(interpreter, state, element);
+			} else {
+				written = serializeJSONProperty(interpreter, state, new StringValue(index), value);
+			}
+
 			// b. If strP is undefined, then
 			// i. Append "null" to partial.
 			// c. Else,
 			// i. Append strP to partial.
-			partial.add(strP == null ? "null" : strP);
+			if (!written) state.out.append("null");
+			state.flush();
 			// d. Set index to index + 1.
 		}
 
-		String final_;
-		// 9. If partial is empty, then
-		if (partial.isEmpty()) {
-			// a. Let final be "[]".
-			final_ = "[]";
-		}
-		// 10. Else,
-		else {
-			// a. If state.[[Gap]] is the empty String, then
-			if (state.gap.isEmpty()) {
-				// i. Let properties be the String value formed by concatenating all the element Strings of partial
-				// with each adjacent pair of Strings separated with the code unit 0x002C (COMMA).
-				// A comma is not inserted either before the first String or after the last String.
-				final String properties = String.join(",", partial);
-				// ii. Let final be the string-concatenation of "[", properties, and "]".
-				final_ = "[" + properties + "]";
-			}
-			// b. Else,
-			else {
-				// i. Let separator be the string-concatenation of the code unit 0x002C (COMMA), the code unit 0x000A (LINE FEED), and state.[[Indent]].
-				final String separator = ",\n" + state.indent;
-				// ii. Let properties be the String value formed by concatenating all the element Strings of partial
-				// with each adjacent pair of Strings separated with separator.
-				// The separator String is not inserted either before the first String or after the last String.
-				final String properties = String.join(separator, partial);
-				// iii. Let final be the string-concatenation of
-				// "[", the code unit 0x000A (LINE FEED), state.[[Indent]], properties, the code unit 0x000A (LINE FEED), stepback, and "]".
-				final_ = "[\n" + state.indent + properties + "\n" + stepback + "]";
-			}
-		}
-
+		if (len > 0 && !state.gap.isEmpty()) state.out.append('\n').append(stepback);
+		state.out.append(']');
 		// 11. Remove the last element of state.[[Stack]].
 		state.stack.removeLast();
 		// 12. Set state.[[Indent]] to stepback.
 		state.indent = stepback;
-		// 13. Return final.
-		return final_;
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-serializejsonobject")
-	private static String serializeJSONObject(Interpreter interpreter, JSONSerializationRecord state, ObjectValue value) throws AbruptCompletion {
+	private static void serializeJSONObject(Interpreter interpreter, JSONSerializationRecord state, ObjectValue value) throws AbruptCompletion {
 		// 1. If state.[[Stack]] contains value, throw a TypeError exception because the structure is cyclical.
 		if (state.stack.contains(value))
 			throw error(new TypeError(interpreter, "Cannot stringify circular object"));
@@ -527,7 +538,7 @@ public final class JSONObject extends ObjectValue {
 		// 4. Set state.[[Indent]] to the string-concatenation of state.[[Indent]] and state.[[Gap]].
 		state.indent += state.gap;
 		// 5. If state.[[PropertyList]] is not undefined, then
-		final List<StringValue> K;
+		final List<? extends Value<?>> K;
 		if (state.propertyList != null) {
 			// a. Let K be state.[[PropertyList]].
 			K = state.propertyList;
@@ -535,112 +546,108 @@ public final class JSONObject extends ObjectValue {
 		// 6. Else,
 		else {
 			// a. Let K be ? EnumerableOwnProperties(value, key).
-			K = new ArrayList<>();
-			// TODO: Remove need for this.
-			for (final Value<?> property : value.enumerableOwnProperties(interpreter, true, false)) {
-				if (property instanceof final StringValue P) {
-					K.add(P);
-				} else {
-					throw new ShouldNotHappen("Non-string key returned");
-				}
-			}
+			K = value.enumerableOwnProperties(interpreter, true, false);
 		}
 
 		// 7. Let partial be a new empty List.
-		final ArrayList<String> partial = new ArrayList<>();
+		// NOTE: Rather than collecting partial, each member is written as soon as it is serialized,
+		// which is equivalent to steps 9 and 10.
+		state.out.append('{');
+		boolean empty = true;
 		// 8. For each element P of K, do
-		for (final StringValue P : K) {
+		for (final Value<?> key : K) {
+			if (!(key instanceof final StringValue P)) throw new ShouldNotHappen("Non-string key returned");
 			// a. Let strP be ? SerializeJSONProperty(state, P, value).
-			final String strP = serializeJSONProperty(interpreter, state, P, value);
+			final Value<?> strP = resolveJSONProperty(interpreter, state, P, value, value.get(interpreter, P));
 			// b. If strP is not undefined, then
 			if (strP != null) {
+				if (!empty) state.out.append(',');
+				if (!state.gap.isEmpty()) state.out.append('\n').append(state.indent);
+				empty = false;
 				// i. Let member be QuoteJSONString(P).
-				String member = quoteJSONString(P.value);
+				quoteJSONString(state.out, P.value());
 				// ii. Set member to the string-concatenation of member and ":".
-				member += ":";
+				state.out.append(':');
 				// iii. If state.[[Gap]] is not the empty String, then
 				if (!state.gap.isEmpty()) {
 					// 1. Set member to the string-concatenation of member and the code unit 0x0020 (SPACE).
-					member += " ";
+					state.out.append(' ');
 				}
 
 				// iv. Set member to the string-concatenation of member and strP.
-				member += strP;
 				// v. Append member to partial.
-				partial.add(member);
-			}
-		}
-
-		// 9. If partial is empty, then
-		String final_;
-		if (partial.isEmpty()) {
-			// a. Let final be "{}".
-			final_ = "{}";
-		}
-		// 10. Else,
-		else {
-			// a. If state.[[Gap]] is the empty String, then
-			if (state.gap.isEmpty()) {
-				// i. Let properties be the String value formed by concatenating all the element Strings of partial
-				// with each adjacent pair of Strings separated with the code unit 0x002C (COMMA).
-				// A comma is not inserted either before the first String or after the last String.
-				final String properties = String.join(",", partial);
-				// ii. Let final be the string-concatenation of "{", properties, and "}".
-				final_ = "{" + properties + "}";
-			}
-			// b. Else,
-			else {
-				// i. Let separator be the string-concatenation of the code unit 0x002C (COMMA), the code unit 0x000A (LINE FEED), and state.[[Indent]].
-				final String separator = ",\n" + state.indent;
-				// ii. Let properties be the String value formed by concatenating all the element Strings of partial
-				// with each adjacent pair of Strings separated with separator.
-				// The separator String is not inserted either before the first String or after the last String.
-				final String properties = String.join(separator, partial);
-				// iii. Let final be the string-concatenation of
-				// "{", the code unit 0x000A (LINE FEED), state.[[Indent]], properties, the code unit 0x000A (LINE FEED), stepback, and "}".
-				final_ = "{\n" + state.indent + properties + "\n" + stepback + "}";
+				serializeJSONValue(interpreter, state, strP);
+				state.flush();
 			}
 		}
 
+		if (!empty && !state.gap.isEmpty()) state.out.append('\n').append(stepback);
+		state.out.append('}');
 		// 11. Remove the last element of state.[[Stack]].
 		state.stack.removeLast();
 		// 12. Set state.[[Indent]] to stepback.
 		state.indent = stepback;
-		// 13. Return final.
-		return final_;
 	}
 
 	private static final class JSONSerializationRecord {
+		// How much output to collect before writing it to the sink
+		private static final int FLUSH_THRESHOLD = 1 << 16;
+
 		public final Executable replacerFunction;
 		public final ArrayDeque<ObjectValue> stack;
 		public String indent;
 		public final String gap;
 		public final List<StringValue> propertyList;
+		public final StringBuilder out;
+		private final Writer sink;
 
-		public JSONSerializationRecord(Executable replacerFunction, ArrayDeque<ObjectValue> stack, String indent, String gap, HashSet<StringValue> propertyList) {
+		public JSONSerializationRecord(Executable replacerFunction, ArrayDeque<ObjectValue> stack, String indent, String gap, LinkedHashSet<StringValue> propertyList, StringBuilder out, Writer sink) {
 			this.replacerFunction = replacerFunction;
 			this.stack = stack;
 			this.indent = indent;
 			this.gap = gap;
 			this.propertyList = propertyList == null ? null : List.copyOf(propertyList);
+			this.out = out;
+			this.sink = sink;
+		}
+
+		public void flush() {
+			if (sink == null || out.length() < FLUSH_THRESHOLD) return;
+			try {
+				sink.append(out);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			out.setLength(0);
 		}
 	}
 
 	// TODO: More specific parsing errors
+	/**
+	 * Reads a JSON text in a single pass over its chars, building the resulting values directly.
+	 */
 	@SpecificationURL("https://www.ecma-international.org/wp-content/uploads/ECMA-404_2nd_edition_december_2017.pdf")
 	private static final class JSONParser {
-		private final int[] codepoints;
+		private final Interpreter interpreter;
+		private final String sourceText;
+		private final int length;
+		// Objects parsed from the same text tend to repeat their keys
+		private final HashMap<String, StringValue> keys = new HashMap<>();
 		private int index = 0;
 
-		public JSONParser(String sourceText) {
-			this.codepoints = sourceText.codePoints().toArray();
+		public JSONParser(Interpreter interpreter, String sourceText) {
+			this.interpreter = interpreter;
+			this.sourceText = sourceText;
+			this.length = sourceText.length();
 		}
 
-		public void parse() throws JSONParseError {
+		public Value<?> parse() throws JSONParseError {
 			whitespace();
-			parseValue();
-			if (index < codepoints.length)
+			final Value<?> result = parseValue();
+			if (index < length)
 				throw new JSONParseError("Unexpected non-whitespace character " + quoteCurrent() + " after JSON");
+			return result;
 		}
 
 		private JSONParseError unexpected() {
@@ -649,64 +656,167 @@ public final class JSONObject extends ObjectValue {
 		}
 
 		private boolean outOfBounds() {
-			return index >= codepoints.length;
+			return index >= length;
 		}
 
-		public void parseValue() throws JSONParseError {
-			if (is('{')) parseObject();
-			else if (is('[')) parseArray();
-			else if (is('-') || isDigit()) parseNumber();
-			else if (is('"')) parseString();
-			else if (optional("true") || optional("false") || optional("null")) whitespace();
-			else throw unexpected();
+		/**
+		 * Parses a value, keeping the arrays and objects it is nested in on a {@link Container} stack rather than on
+		 * the Java stack, so that deeply nested texts cannot overflow it.
+		 */
+		public Value<?> parseValue() throws JSONParseError {
+			final ArrayDeque<Container> open = new ArrayDeque<>();
+			while (true) {
+				if (outOfBounds()) throw unexpected();
+				final char c = sourceText.charAt(index);
+				Value<?> value;
+				if (c == '[') {
+					index++;
+					whitespace();
+					if (!optional(']')) {
+						open.push(new Container(new ArrayList<>(), null));
+						continue;
+					}
+
+					value = new ArrayObject(interpreter, new ArrayList<>());
+				} else if (c == '{') {
+					index++;
+					whitespace();
+					final ObjectValue object = new ObjectValue(interpreter.intrinsics);
+					if (!optional('}')) {
+						final Container container = new Container(null, object);
+						container.key = parseMemberKey();
+						open.push(container);
+						continue;
+					}
+
+					value = object;
+				} else {
+					value = parsePrimitive(c);
+				}
+
+				whitespace();
+				// Add the value to the innermost open container, and close every container which ends after it
+				while (true) {
+					final Container container = open.peek();
+					if (container == null) return value;
+
+					if (container.elements != null) {
+						container.elements.add(value);
+						if (!optional(']')) break;
+						value = new ArrayObject(interpreter, container.elements);
+					} else {
+						container.object.put(container.key, value, true, true, true);
+						if (!optional('}')) break;
+						value = container.object;
+					}
+
+					open.pop();
+					whitespace();
+				}
+
+				final Container container = open.peek();
+				require(',');
+				whitespace();
+				if (container.object != null) container.key = parseMemberKey();
+			}
+		}
+
+		private Value<?> parsePrimitive(char c) throws JSONParseError {
+			return switch (c) {
+				case '"' -> new StringValue(parseString());
+				case 't' -> parseKeyword("true", BooleanValue.TRUE);
+				case 'f' -> parseKeyword("false", BooleanValue.FALSE);
+				case 'n' -> parseKeyword("null", Null.instance);
+				case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> parseNumber();
+				default -> throw unexpected();
+			};
 		}
 
-		private void parseEscapeSequence() throws JSONParseError {
+		private Value<?> parseKeyword(String keyword, Value<?> value) throws JSONParseError {
+			for (int i = 0; i < keyword.length(); i++) {
+				if (!is(keyword.charAt(i))) throw unexpected();
+				index++;
+			}
+
+			return value;
+		}
+
+		private char parseEscapeSequence() throws JSONParseError {
 			if (outOfBounds()) throw new JSONParseError("Unexpected end of JSON input");
-			if (optional('u')) {
-				// Four hex digits
-				for (int i = 0; i < 4; i++) {
-					if (isHexDigit()) {
+			return switch (sourceText.charAt(index++)) {
+				case '"' -> '"';
+				case '\\' -> '\\';
+				case '/' -> '/';
+				case 'b' -> '\b';
+				case 'f' -> '\f';
+				case 'n' -> '\n';
+				case 'r' -> '\r';
+				case 't' -> '\t';
+				case 'u' -> {
+					// Four hex digits
+					int result = 0;
+					for (int i = 0; i < 4; i++) {
+						final int digit = outOfBounds() ? -1 : hexDigitValue(sourceText.charAt(index));
+						if (digit == -1) throw new JSONParseError("Bad Unicode escape in JSON");
+						result = (result << 4) | digit;
 						index++;
-					} else {
-						throw new JSONParseError("Bad Unicode escape in JSON");
 					}
+
+					yield (char) result;
 				}
-			} else if (!optional('"')
-					   && !optional('\\')
-					   && !optional('/')
-					   && !optional('b')
-					   && !optional('f')
-					   && !optional('n')
-					   && !optional('r')
-					   && !optional('t')
-			) {
-				throw new JSONParseError("Bad escaped character in JSON");
-			}
+
+				default -> throw new JSONParseError("Bad escaped character in JSON");
+			};
 		}
 
-		private void parseString() throws JSONParseError {
+		private String parseString() throws JSONParseError {
 			require('"');
+			final int start = index;
+			// Most strings contain no escapes, and can be taken straight from the source text
+			while (index < length) {
+				final char c = sourceText.charAt(index);
+				if (c == '"') {
+					return sourceText.substring(start, index++);
+				} else if (c == '\\' || c <= 0x001F) {
+					break;
+				}
+
+				index++;
+			}
+
+			final StringBuilder builder = new StringBuilder(index - start + 16);
+			builder.append(sourceText, start, index);
 			while (true) {
 				if (outOfBounds())
 					throw new JSONParseError("Unterminated string in JSON");
 
-				if (optional('"')) {
-					whitespace();
-					break;
-				}
-
-				if (codepoints[index] <= 0x001F) {
+				final char c = sourceText.charAt(index);
+				if (c == '"') {
+					index++;
+					return builder.toString();
+				} else if (c <= 0x001F) {
 					throw new JSONParseError("Bad control character " + quoteCurrent() + " in string literal in JSON");
-				} else if (optional('\\')) {
-					parseEscapeSequence();
+				} else if (c == '\\') {
+					index++;
+					builder.append(parseEscapeSequence());
 				} else {
+					builder.append(c);
 					index++;
 				}
 			}
 		}
 
-		private void parseNumber() throws JSONParseError {
+		private StringValue parseKey() throws JSONParseError {
+			final String key = parseString();
+			final StringValue existing = keys.get(key);
+			if (existing != null) return existing;
+			final StringValue result = new StringValue(key);
+			keys.put(key, result);
+			return result;
+		}
+
+		private NumberValue parseNumber() throws JSONParseError {
+			final int start = index;
 			optional('-');
 			if (!isDigit()) throw new JSONParseError("No number after minus sign in JSON");
 			// If the first digit is zero, there must only be one.
@@ -723,7 +833,7 @@ public final class JSONObject extends ObjectValue {
 				consumeDigits();
 			}
 
-			whitespace();
+			return new NumberValue(Double.parseDouble(sourceText.substring(start, index)));
 		}
 
 		private void consumeDigits() {
@@ -732,84 +842,63 @@ public final class JSONObject extends ObjectValue {
 			}
 		}
 
-		private void parseArray() throws JSONParseError {
-			require('[');
+		private StringValue parseMemberKey() throws JSONParseError {
+			if (!is('"')) throw unexpected();
+			final StringValue key = parseKey();
 			whitespace();
-
-			if (optional(']')) {
-				whitespace();
-				return;
-			}
-
-			while (true) {
-				parseValue();
-				if (optional(']')) {
-					whitespace();
-					return;
-				}
-
-				require(',');
-				whitespace();
-			}
+			require(':');
+			whitespace();
+			return key;
 		}
 
-		private void parseObject() throws JSONParseError {
-			require('{');
-			whitespace();
+		/**
+		 * An array or object which has been opened but not yet closed. Exactly one of `elements` and `object` is set.
+		 */
+		private static final class Container {
+			private final ArrayList<Value<?>> elements;
+			private final ObjectValue object;
+			// The key of the object member currently being parsed
+			private StringValue key;
 
-			if (optional('}')) {
-				whitespace();
-				return;
-			}
-
-			while (true) {
-				parseString();
-				require(':');
-				whitespace();
-				parseValue();
-				if (optional('}')) {
-					whitespace();
-					return;
-				}
-				require(',');
-				whitespace();
+			private Container(ArrayList<Value<?>> elements, ObjectValue object) {
+				this.elements = elements;
+				this.object = object;
 			}
 		}
 
 		private String quoteCurrent() {
-			return StringEscapeUtils.quote(Character.toString(codepoints[index]), false);
+			return StringEscapeUtils.quote(Character.toString(sourceText.codePointAt(index)), false);
 		}
 
 		private void whitespace() {
-			while (index < codepoints.length && isWhitespace()) {
+			while (index < length && isWhitespace(sourceText.charAt(index))) {
 				index++;
 			}
 		}
 
-		private boolean isWhitespace() {
-			return '\t' == codepoints[index] ||
-				   '\n' == codepoints[index] ||
-				   '\r' == codepoints[index] ||
-				   ' ' == codepoints[index];
+		private static boolean isWhitespace(char c) {
+			return c == '\t' || c == '\n' || c == '\r' || c == ' ';
 		}
 
-		private boolean is(int codepoint) {
+		private boolean is(char c) {
 			if (outOfBounds()) return false;
-			return codepoints[index] == codepoint;
+			return sourceText.charAt(index) == c;
 		}
 
 		private boolean isDigit() {
 			if (outOfBounds()) return false;
-			return codepoints[index] >= (int) '0' && codepoints[index] <= (int) '9';
+			return sourceText.charAt(index) >= '0' && sourceText.charAt(index) <= '9';
 		}
 
-		private boolean isHexDigit() {
-			if (outOfBounds()) return false;
-			return (codepoints[index] >= (int) '0' && codepoints[index] <= (int) '9') || (codepoints[index] >= 'A' && codepoints[index] <= 'F') || (codepoints[index] >= 'a' && codepoints[index] <= 'f');
+		private static int hexDigitValue(char c) {
+			if (c >= '0' && c <= '9') return c - '0';
+			if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+			if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+			return -1;
 		}
 
-		private boolean optional(int codepoint) {
-			if (is(codepoint)) {
+		private boolean optional(char c) {
+			if (is(c)) {
 				index++;
 				return true;
 			}
@@ -817,17 +906,8 @@ public final class JSONObject extends ObjectValue {
 			return false;
 		}
 
-		private boolean optional(String string) {
-			for (int I : string.codePoints().toArray()) {
-				if (!is(I)) return false;
-				index++;
-			}
-
-			return true;
-		}
-
-		private void require(int codepoint) throws JSONParseError {
-			if (!is(codepoint)) throw unexpected();
+		private void require(char c) throws JSONParseError {
+			if (!is(c)) throw unexpected();
 			index++;
 		}
 
@@ -8,6 +8,7 @@ import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.Intrinsics;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.function.NativeCode;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
 import xyz.lebster.core.value.primitive.number.NumberValue;
@@ -77,7 +78,7 @@ public final class MathObject extends ObjectValue {
 		addWrapper(intrinsics, Names.min, (DoubleRestArgs) MathObject::min);
 
 		// () -> double
-		putMethod(intrinsics, Names.random, 0, MathObject::random);
+		putFunction(intrinsics, Names.random, 0, MathObject::random);
 		addWrapper(intrinsics, Names.trunc, MathObject::trunc);
 		addWrapper(intrinsics, Names.asinh, MathObject::asinh);
 		addWrapper(intrinsics, Names.log2, MathObject::log2);
@@ -85,11 +86,11 @@ public final class MathObject extends ObjectValue {
 		addWrapper(intrinsics, Names.atanh, MathObject::atanh);
 
 		// Proposed methods
-		putMethod(intrinsics, Names.signbit, 1, MathObject::signbit);
-		putMethod(intrinsics, Names.clamp, 3, MathObject::clamp);
-		putMethod(intrinsics, Names.scale, 5, MathObject::scale);
-		putMethod(intrinsics, Names.radians, 1, MathObject::radians);
-		putMethod(intrinsics, Names.degrees, 1, MathObject::degrees);
+		putFunction(intrinsics, Names.signbit, 1, MathObject::signbit);
+		putFunction(intrinsics, Names.clamp, 3, MathObject::clamp);
+		putFunction(intrinsics, Names.scale, 5, MathObject::scale);
+		putFunction(intrinsics, Names.radians, 1, MathObject::radians);
+		putFunction(intrinsics, Names.degrees, 1, MathObject::degrees);
 
 		// Not implemented
 		notImplemented(intrinsics, "imul", 2);
@@ -269,18 +270,23 @@ public final class MathObject extends ObjectValue {
 	}
 
 	private void notImplemented(Intrinsics intrinsics, String methodName, int expectedArgumentCount) {
-		putMethod(intrinsics, new StringValue(methodName), expectedArgumentCount, (interpreter, args) -> {
+		putFunction(intrinsics, new StringValue(methodName), expectedArgumentCount, (interpreter, args) -> {
 			throw new NotImplemented(methodName);
 		});
 	}
 
+	// None of the Math functions use their `this` value, so they are called without a frame
+	private void putFunction(Intrinsics intrinsics, StringValue name, int length, NativeCode code) {
+		putMethod(intrinsics, name, length, code).setIgnoresThis();
+	}
+
 	private void addConstant(StringValue name, double value) {
 		put(name, new NumberValue(value), false, false, false);
 	}
 
 	// For https://tc39.es/ecma262/multipage#sec-math.hypot + sec-math.min + sec-math.max
 	private void addWrapper(Intrinsics intrinsics, StringValue methodName, DoubleRestArgs restArgs) {
-		putMethod(intrinsics, methodName, 0, (interpreter, args) -> {
+		putFunction(intrinsics, methodName, 0, (interpreter, args) -> {
 			final double[] coerced = new double[args.length];
 			for (int i = 0; i < args.length; i++) {
 				coerced[i] = args[i].toNumberValue(interpreter).value;
@@ -291,14 +297,14 @@ public final class MathObject extends ObjectValue {
 	}
 
 	private void addWrapper(Intrinsics intrinsics, StringValue methodName, DoubleUnaryOperator unaryOperator) {
-		putMethod(intrinsics, methodName, 1, (interpreter, args) -> {
+		putFunction(intrinsics, methodName, 1, (interpreter, args) -> {
 			final double number = argumentDouble(0, interpreter, args);
 			return new NumberValue(unaryOperator.applyAsDouble(number));
 		});
 	}
 
 	private void addWrapper(Intrinsics intrinsics, StringValue methodName, DoubleBinaryOperator binaryOperator) {
-		putMethod(intrinsics, methodName, 2, (interpreter, args) -> {
+		putFunction(intrinsics, methodName, 2, (interpreter, args) -> {
 			final double a = argumentDouble(0, interpreter, args);
 			final double b = argumentDouble(1, interpreter, args);
 			return new NumberValue(binaryOperator.applyAsDouble(a, b));
@@ -39,7 +39,7 @@ public final class TestObject extends ObjectValue {
 		if (!(arguments[0] instanceof final StringValue sourceTextSV))
 			throw new ShouldNotHappen("Test.parse not called with a string");
 
-		interpreter.runtimeParse(sourceTextSV.value);
+		interpreter.runtimeParse(sourceTextSV.value());
 		return Undefined.instance;
 	}
 
@@ -61,14 +61,14 @@ public final class TestObject extends ObjectValue {
 			final StringValue nameProperty = error.get(interpreter, Names.name).toStringValue(interpreter);
 			final StringValue messageProperty = error.get(interpreter, Names.message).toStringValue(interpreter);
 			TestObject.expect(interpreter, name, nameProperty);
-			if (!messageProperty.value.contains(messageStarter.value))
-				throw assertionFailed(messageStarter, messageProperty);
+			if (!messageProperty.value().contains(messageStarter.value()))
+				throw assertionFailed(interpreter, messageStarter, messageProperty);
 
 
 			return Undefined.instance;
 		}
 
-		throw new ShouldNotHappen("Callback did not throw. Expecting " + StringEscapeUtils.quote(name.value + ": " + messageStarter.value, true));
+		throw new ShouldNotHappen("Callback did not throw. Expecting " + StringEscapeUtils.quote(name.value() + ": " + messageStarter.value(), true));
 	}
 
 	private static Undefined expectEqual(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
@@ -79,7 +79,7 @@ public final class TestObject extends ObjectValue {
 		if (equals(interpreter, a, b)) {
 			return Undefined.instance;
 		} else {
-			throw assertionFailed(a, b);
+			throw assertionFailed(interpreter, a, b);
 		}
 	}
 
@@ -150,15 +150,15 @@ public final class TestObject extends ObjectValue {
 		final Value<?> received = arguments[1];
 
 		if (!expected.equals(received)) {
-			System.out.printf("%sExpected: %s\n%sReceived: %s%n", ANSI.BRIGHT_MAGENTA, displayExplicit(expected), ANSI.BRIGHT_MAGENTA, displayExplicit(received));
-			throw assertionFailed(expected, received);
+			interpreter.out.printf("%sExpected: %s\n%sReceived: %s%n", ANSI.BRIGHT_MAGENTA, displayExplicit(expected), ANSI.BRIGHT_MAGENTA, displayExplicit(received));
+			throw assertionFailed(interpreter, expected, received);
 		}
 
 		return Undefined.instance;
 	}
 
-	private static ShouldNotHappen assertionFailed(Value<?> expected, Value<?> received) {
-		System.out.printf("%sExpected: %s\n%sReceived: %s%n", ANSI.BRIGHT_MAGENTA, displayExplicit(expected), ANSI.BRIGHT_MAGENTA, displayExplicit(received));
+	private static ShouldNotHappen assertionFailed(Interpreter interpreter, Value<?> expected, Value<?> received) {
+		interpreter.out.printf("%sExpected: %s\n%sReceived: %s%n", ANSI.BRIGHT_MAGENTA, displayExplicit(expected), ANSI.BRIGHT_MAGENTA, displayExplicit(received));
 		return new ShouldNotHappen("Assertion failed.");
 	}
 
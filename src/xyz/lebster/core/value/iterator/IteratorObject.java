@@ -5,19 +5,42 @@ import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.Intrinsics;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.function.NativeFunction;
 import xyz.lebster.core.value.globals.Undefined;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
 import xyz.lebster.core.value.primitive.symbol.SymbolValue;
 
 public abstract class IteratorObject extends ObjectValue {
+	private static final Value<?>[] NO_ARGUMENTS = new Value<?>[0];
+
+	private final NativeFunction nextMethod;
 	private boolean completed = false;
 
 	public IteratorObject(Intrinsics intrinsics) {
 		super(intrinsics.iteratorPrototype);
 
 		putMethod(intrinsics, SymbolValue.iterator, 0, (interpreter, arguments) -> this);
-		putMethod(intrinsics, Names.next, 1, this::nextMethod);
+		nextMethod = putMethod(intrinsics, Names.next, 1, this::nextMethod);
+	}
+
+	/**
+	 * Whether `method` is this iterator's own built-in `next` method,
+	 * in which case calling it is unobservable and {@link #stepValue(Interpreter)} may be used instead.
+	 */
+	public final boolean isNextMethod(Value<?> method) {
+		return method == nextMethod;
+	}
+
+	/**
+	 * Equivalent to IteratorStepValue, without calling the `next` method or creating an iterator result object.
+	 *
+	 * @return The next value, or null if the iterator is done
+	 */
+	public final Value<?> stepValue(Interpreter interpreter) throws AbruptCompletion {
+		if (completed) return null;
+		final Value<?> value = next(interpreter, NO_ARGUMENTS);
+		return completed ? null : value;
 	}
 
 	private ObjectValue nextMethod(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
@@ -10,6 +10,7 @@ import xyz.lebster.core.node.expression.Expression;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.array.ArrayObject;
+import xyz.lebster.core.value.array.ArrayPrototype;
 import xyz.lebster.core.value.error.range.RangeError;
 import xyz.lebster.core.value.error.type.TypeError;
 import xyz.lebster.core.value.function.Executable;
@@ -62,42 +63,62 @@ public final class IteratorPrototype extends ObjectValue {
 
 	@NonCompliant
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-getiterator")
-	// FIXME: Performance
 	public static IteratorRecord getIterator(Interpreter interpreter, Expression expression) throws AbruptCompletion {
-		final ObjectValue objectValue = expression.execute(interpreter).toObjectValue(interpreter);
-		final String sourceText = expression.range().getText();
-		return getObjectIterator(interpreter, objectValue, sourceText);
+		return getIterator(interpreter, expression.execute(interpreter), expression);
+	}
+
+	/**
+	 * Equivalent to {@link #getIterator(Interpreter, Expression)}, given the result of executing the expression
+	 *
+	 * @param expression The expression `obj` came from, which error messages refer to, or null
+	 */
+	public static IteratorRecord getIterator(Interpreter interpreter, Value<?> obj, Expression expression) throws AbruptCompletion {
+		final ObjectValue objectValue = obj.toObjectValue(interpreter);
+		return getObjectIterator(interpreter, objectValue, expression);
 	}
 
 	@NonCompliant
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-getiterator")
-	// FIXME: Performance
 	public static IteratorRecord getIterator(Interpreter interpreter, Value<?> obj) throws AbruptCompletion {
 		final ObjectValue objectValue = obj.toObjectValue(interpreter);
-		return getObjectIterator(interpreter, objectValue, objectValue.toDisplayString(true));
+		return getObjectIterator(interpreter, objectValue, null);
 	}
 
-	private static IteratorRecord getObjectIterator(Interpreter interpreter, ObjectValue objectValue, String display) throws AbruptCompletion {
+	/**
+	 * @param expression The expression `objectValue` came from, which error messages refer to, or null
+	 */
+	private static IteratorRecord getObjectIterator(Interpreter interpreter, ObjectValue objectValue, Expression expression) throws AbruptCompletion {
 		final PropertyDescriptor iteratorProperty = objectValue.getProperty(SymbolValue.iterator);
 		if (iteratorProperty == null)
-			throw error(new TypeError(interpreter, display + " is not iterable (does not contain a `Symbol.iterator` property)"));
+			throw error(new TypeError(interpreter, display(objectValue, expression) + " is not iterable (does not contain a `Symbol.iterator` property)"));
 
 		if (!(iteratorProperty.get(interpreter, objectValue) instanceof final Executable iteratorMethod))
-			throw error(new TypeError(interpreter, display + "[Symbol.iterator] is not a function"));
-
-		if (!(iteratorMethod.call(interpreter, objectValue) instanceof final ObjectValue iterator))
-			throw error(new TypeError(interpreter, display + "[Symbol.iterator]() returned a non-object value"));
+			throw error(new TypeError(interpreter, display(objectValue, expression) + "[Symbol.iterator] is not a function"));
+
+		final ObjectValue iterator;
+		if (iteratorMethod == interpreter.intrinsics.arrayPrototype.valuesMethod) {
+			// Calling the built-in %Array.prototype.values% is unobservable, so its iterator is created directly
+			iterator = ArrayPrototype.createArrayIterator(interpreter, objectValue);
+		} else if (!(iteratorMethod.call(interpreter, objectValue) instanceof final ObjectValue result)) {
+			throw error(new TypeError(interpreter, display(objectValue, expression) + "[Symbol.iterator]() returned a non-object value"));
+		} else {
+			iterator = result;
+		}
 
 		final PropertyDescriptor nextProperty = iterator.getProperty(Names.next);
 		if (nextProperty == null)
-			throw error(new TypeError(interpreter, display + "[Symbol.iterator]() returned an object which does not contain a `next` property"));
+			throw error(new TypeError(interpreter, display(objectValue, expression) + "[Symbol.iterator]() returned an object which does not contain a `next` property"));
 
 		if (!(nextProperty.get(interpreter, iterator) instanceof final Executable executable))
-			throw error(new TypeError(interpreter, display + "[Symbol.iterator]().next is not a function"));
+			throw error(new TypeError(interpreter, display(objectValue, expression) + "[Symbol.iterator]().next is not a function"));
 
 		return new IteratorRecord(iterator, executable);
 	}
 
+	private static String display(ObjectValue objectValue, Expression expression) {
+		return expression == null ? objectValue.toDisplayString(true) : expression.range().getText();
+	}
+
 	@SpecificationURL("https://tc39.es/proposal-iterator-helpers#sec-getiteratordirect")
 	private static IteratorRecord getIteratorDirect(Interpreter interpreter, ObjectValue obj) throws AbruptCompletion {
 		// 2.2.1 GetIteratorDirect ( obj )
@@ -57,6 +57,10 @@ public record IteratorRecord(ObjectValue iteratorObject, Value<?> nextMethod) {
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-iteratorstepvalue")
 	public Value<?> stepValue(Interpreter interpreter) throws AbruptCompletion {
+		// Calling the built-in `next` method of a built-in iterator is unobservable, so the iterator is stepped directly
+		if (iteratorObject instanceof final IteratorObject builtin && builtin.isNextMethod(nextMethod))
+			return builtin.stepValue(interpreter);
+
 		// 1. Let result be ? IteratorStep(iteratorRecord).
 		final ObjectValue result = step(interpreter);
 		// 2. If result is DONE, then
@@ -72,10 +76,10 @@ public record IteratorRecord(ObjectValue iteratorObject, Value<?> nextMethod) {
 	}
 
 	public void collect(Interpreter interpreter, List<Value<?>> result) throws AbruptCompletion {
-		ObjectValue iterResult = this.next(interpreter, null);
-		while (!iteratorComplete(interpreter, iterResult)) {
-			result.add(iteratorValue(interpreter, iterResult));
-			iterResult = this.next(interpreter, null);
+		Value<?> value = this.stepValue(interpreter);
+		while (value != null) {
+			result.add(value);
+			value = this.stepValue(interpreter);
 		}
 	}
 }
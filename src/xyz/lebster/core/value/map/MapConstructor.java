@@ -6,18 +6,16 @@ import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.Intrinsics;
 import xyz.lebster.core.value.BuiltinConstructor;
+import xyz.lebster.core.value.KeyedCollectionData;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.array.ArrayObject;
 import xyz.lebster.core.value.error.type.TypeError;
 import xyz.lebster.core.value.function.Executable;
-import xyz.lebster.core.value.map.MapObject.MapEntry;
 import xyz.lebster.core.value.object.ObjectConstructor;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.string.StringValue;
 
-import java.util.ArrayList;
-
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 import static xyz.lebster.core.value.function.NativeFunction.argument;
 import static xyz.lebster.core.value.iterator.IteratorPrototype.getIterator;
@@ -39,16 +37,15 @@ public final class MapConstructor extends BuiltinConstructor<MapObject, MapProto
 		// 1. Let groups be ? GroupBy(items, callbackfn, COLLECTION).
 		final var groups = ObjectConstructor.groupBy(interpreter, items, callbackfn, false);
 		// 2. Let map be ! Construct(%Map%).
-		final ArrayList<MapEntry> mapData = new ArrayList<>();
+		final KeyedCollectionData mapData = new KeyedCollectionData();
 		final MapObject map = new MapObject(interpreter.intrinsics, mapData);
 		// 3. For each Record { [[Key]], [[Elements]] } g of groups, do
 		for (final var g : groups) {
 			// a. Let elements be CreateArrayFromList(g.[[Elements]]).
 			final ArrayObject elements = new ArrayObject(interpreter, g.elements());
 			// b. Let entry be the Record { [[Key]]: g.[[Key]], [[Value]]: elements }.
-			final var entry = new MapEntry(g.key(), elements);
 			// c. Append entry to map.[[MapData]].
-			mapData.add(entry);
+			mapData.set(g.key(), elements);
 		}
 
 		// 4. Return map.
@@ -64,8 +61,7 @@ public final class MapConstructor extends BuiltinConstructor<MapObject, MapProto
 		// 1. If NewTarget is undefined, throw a TypeError exception.
 		// 2. Let map be ? OrdinaryCreateFromConstructor(NewTarget, "%Map.prototype%", « [[MapData]] »).
 		// 3. Set map.[[MapData]] to a new empty List.
-		final ArrayList<MapEntry> mapData = new ArrayList<>();
-		final MapObject map = new MapObject(interpreter.intrinsics, mapData);
+		final MapObject map = new MapObject(interpreter.intrinsics, new KeyedCollectionData());
 		// 4. If iterable is either undefined or null, return map.
 		if (iterable.isNullish()) return map;
 		// 5. Let adder be ? Get(map, "set").
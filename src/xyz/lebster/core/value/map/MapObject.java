@@ -3,6 +3,7 @@ package xyz.lebster.core.value.map;
 import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.interpreter.Intrinsics;
 import xyz.lebster.core.value.Displayable;
+import xyz.lebster.core.value.KeyedCollectionData;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.number.NumberValue;
@@ -11,9 +12,9 @@ import java.util.ArrayList;
 
 @SpecificationURL("https://tc39.es/ecma262/multipage#sec-map-objects")
 public final class MapObject extends ObjectValue {
-	public final ArrayList<MapEntry> mapData;
+	public final KeyedCollectionData mapData;
 
-	public MapObject(Intrinsics intrinsics, ArrayList<MapEntry> mapData) {
+	public MapObject(Intrinsics intrinsics, KeyedCollectionData mapData) {
 		super(intrinsics.mapPrototype);
 		this.mapData = mapData;
 	}
@@ -21,24 +22,17 @@ public final class MapObject extends ObjectValue {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-get-map.prototype.size")
 	NumberValue getSize() {
 		// 3. Let count be 0.
-		int count = 0;
 		// 4. For each Record { [[Key]], [[Value]] } p of M.[[MapData]], do
-		for (final MapEntry p : mapData) {
-			// a. If p.[[Key]] is not empty, set count to count + 1.
-			if (p != null) count += 1;
-		}
-
+		// a. If p.[[Key]] is not empty, set count to count + 1.
 		// 5. Return 𝔽(count).
-		return new NumberValue(count);
+		return NumberValue.of(mapData.size());
 	}
 
 	@Override
 	public Iterable<Displayable> displayableValues() {
 		final ArrayList<Displayable> result = new ArrayList<>(mapData.size());
-		for (final MapEntry p : mapData) {
-			if (p != null) {
-				result.add(p);
-			}
+		for (final var cursor = mapData.cursor(); cursor.advance(); ) {
+			result.add(new MapEntry(cursor.key(), cursor.value()));
 		}
 
 		return result;
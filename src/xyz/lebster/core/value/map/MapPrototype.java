@@ -6,6 +6,7 @@ import xyz.lebster.core.exception.ShouldNotHappen;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.Intrinsics;
+import xyz.lebster.core.value.KeyedCollectionData;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.array.ArrayObject;
@@ -13,17 +14,12 @@ import xyz.lebster.core.value.function.Executable;
 import xyz.lebster.core.value.function.NativeFunction;
 import xyz.lebster.core.value.globals.Undefined;
 import xyz.lebster.core.value.iterator.IteratorObject;
-import xyz.lebster.core.value.map.MapObject.MapEntry;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
-import xyz.lebster.core.value.primitive.number.NumberValue;
 import xyz.lebster.core.value.primitive.symbol.SymbolValue;
 
-import java.util.ArrayList;
-
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 import static xyz.lebster.core.value.function.NativeFunction.argument;
-import static xyz.lebster.core.value.primitive.number.NumberValue.isNegativeZero;
 
 @NonStandard
 @SpecificationURL("https://tc39.es/ecma262/multipage#sec-properties-of-the-map-prototype-object")
@@ -75,20 +71,12 @@ public final class MapPrototype extends ObjectValue {
 		// 2. Perform ? RequireInternalSlot(M, [[MapData]]).
 		final MapObject M = requireMapData(interpreter);
 		// 3. For each Record { [[Key]], [[Value]] } p of M.[[MapData]], do
-		for (int i = 0; i < M.mapData.size(); i++) {
-			MapEntry p = M.mapData.get(i);
-			// a. If p.[[Key]] is not empty and SameValueZero(p.[[Key]], key) is true, then
-			if (p != null && p.key.sameValueZero(key)) {
-				// i. Set p.[[Key]] to empty.
-				// ii. Set p.[[Value]] to empty.
-				M.mapData.set(i, null);
-				// iii. Return true.
-				return BooleanValue.TRUE;
-			}
-		}
-
+		// a. If p.[[Key]] is not empty and SameValueZero(p.[[Key]], key) is true, then
+		// i. Set p.[[Key]] to empty.
+		// ii. Set p.[[Value]] to empty.
+		// iii. Return true.
 		// 4. Return false.
-		return BooleanValue.FALSE;
+		return BooleanValue.of(M.mapData.remove(key));
 	}
 
 
@@ -114,19 +102,15 @@ public final class MapPrototype extends ObjectValue {
 		// 3. If IsCallable(callbackfn) is false, throw a TypeError exception.
 		final Executable callbackfn = Executable.getExecutable(interpreter, callbackfn_);
 		// 4. Let entries be M.[[MapData]].
-		final ArrayList<MapEntry> entries = M.mapData;
 		// 5. Let numEntries be the number of elements in entries.
 		// 6. Let index be 0.
 		// 7. Repeat, while index < numEntries,
-		for (final MapEntry e : entries) {
-			// a. Let e be entries[index].
-			// b. Set index to index + 1.
-			// c. If e.[[Key]] is not empty, then
-			if (e != null) {
-				// i. Perform ? Call(callbackfn, thisArg, « e.[[Value]], e.[[Key]], M »).
-				callbackfn.call(interpreter, thisArg, e.value, e.key, M);
-			}
-
+		// a. Let e be entries[index].
+		// b. Set index to index + 1.
+		// c. If e.[[Key]] is not empty, then
+		for (final var e = M.mapData.cursor(); e.advance(); ) {
+			// i. Perform ? Call(callbackfn, thisArg, « e.[[Value]], e.[[Key]], M »).
+			callbackfn.call(interpreter, thisArg, e.value(), e.key(), M);
 			// ii. NOTE: The number of elements in entries may have increased during execution of callbackfn.
 			// iii. Set numEntries to the number of elements in entries.
 		}
@@ -144,13 +128,10 @@ public final class MapPrototype extends ObjectValue {
 		// 2. Perform ? RequireInternalSlot(M, [[MapData]]).
 		final MapObject M = requireMapData(interpreter);
 		// 3. For each Record { [[Key]], [[Value]] } p of M.[[MapData]], do
-		for (final MapEntry p : M.mapData) {
-			// a. If p.[[Key]] is not empty and SameValueZero(p.[[Key]], key) is true, return p.[[Value]].
-			if (p.key.sameValueZero(key)) return p.value;
-		}
-
+		// a. If p.[[Key]] is not empty and SameValueZero(p.[[Key]], key) is true, return p.[[Value]].
+		final Value<?> value = M.mapData.get(key);
 		// 4. Return undefined.
-		return Undefined.instance;
+		return value == null ? Undefined.instance : value;
 	}
 
 
@@ -163,13 +144,9 @@ public final class MapPrototype extends ObjectValue {
 		// 2. Perform ? RequireInternalSlot(M, [[MapData]]).
 		final MapObject M = requireMapData(interpreter);
 		// 3. For each Record { [[Key]], [[Value]] } p of M.[[MapData]], do
-		for (final MapEntry p : M.mapData) {
-			// a. If p.[[Key]] is not empty and SameValueZero(p.[[Key]], key) is true, return true.
-			if (p != null && p.key.sameValueZero(key)) return BooleanValue.TRUE;
-		}
-
+		// a. If p.[[Key]] is not empty and SameValueZero(p.[[Key]], key) is true, return true.
 		// 4. Return false.
-		return BooleanValue.FALSE;
+		return BooleanValue.of(M.mapData.has(key));
 	}
 
 
@@ -186,29 +163,20 @@ public final class MapPrototype extends ObjectValue {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-map.prototype.set")
 	private static MapObject setMethod(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
 		// 24.1.3.9 Map.prototype.set ( key, value )
-		Value<?> key = argument(0, arguments);
+		final Value<?> key = argument(0, arguments);
 		final Value<?> value = argument(1, arguments);
 
 		// 1. Let M be the `this` value.
 		// 2. Perform ? RequireInternalSlot(M, [[MapData]]).
 		final MapObject M = requireMapData(interpreter);
 		// 3. For each Record { [[Key]], [[Value]] } p of M.[[MapData]], do
-		for (final MapEntry p : M.mapData) {
-			// a. If p.[[Key]] is not empty and SameValueZero(p.[[Key]], key) is true, then
-			if (p != null && p.key.sameValueZero(key)) {
-				// i. Set p.[[Value]] to value.
-				p.value = value;
-				// ii. Return M.
-				return M;
-			}
-		}
-
+		// a. If p.[[Key]] is not empty and SameValueZero(p.[[Key]], key) is true, then
+		// i. Set p.[[Value]] to value.
+		// ii. Return M.
 		// 4. If key is -0𝔽, set key to +0𝔽.
-		if (isNegativeZero(key)) key = NumberValue.ZERO;
 		// 5. Let p be the Record { [[Key]]: key, [[Value]]: value }.
-		final MapEntry p = new MapEntry(key, value);
 		// 6. Append p to M.[[MapData]].
-		M.mapData.add(p);
+		M.mapData.set(key, value);
 		// 7. Return M.
 		return M;
 	}
@@ -225,14 +193,13 @@ public final class MapPrototype extends ObjectValue {
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-createmapiterator")
 	private static final class MapIterator extends IteratorObject {
-		private final ArrayList<MapEntry> mapData;
+		private final KeyedCollectionData.Cursor cursor;
 		private final boolean keys;
 		private final boolean values;
-		private int index = 0;
 
 		public MapIterator(Interpreter interpreter, MapObject map, boolean keys, boolean values) {
 			super(interpreter.intrinsics);
-			this.mapData = map.mapData;
+			this.cursor = map.mapData.cursor();
 			this.keys = keys;
 			this.values = values;
 			if (!keys && !values)
@@ -241,19 +208,13 @@ public final class MapPrototype extends ObjectValue {
 
 		@Override
 		public Value<?> next(Interpreter interpreter, Value<?>[] arguments) {
-			while (true) {
-				if (index >= mapData.size()) return setCompleted();
-
-				final MapEntry entry = mapData.get(index);
-				index += 1;
-				if (entry == null) continue;
+			if (!cursor.advance()) return setCompleted();
 
-				if (keys && values) return new ArrayObject(interpreter, entry.key, entry.value);
-				if (keys) return entry.key;
-				if (values) return entry.value;
+			if (keys && values) return new ArrayObject(interpreter, cursor.key(), cursor.value());
+			if (keys) return cursor.key();
+			if (values) return cursor.value();
 
-				throw new ShouldNotHappen("Map iterator of neither keys nor values");
-			}
+			throw new ShouldNotHappen("Map iterator of neither keys nor values");
 		}
 	}
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import xyz.lebster.core.value.function.Executable;
 import xyz.lebster.core.value.globals.Undefined;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
 
+import java.util.IdentityHashMap;
+
 public final class AccessorDescriptor implements PropertyDescriptor, Displayable {
 	private Executable getter;
 	private Executable setter;
@@ -23,6 +25,10 @@ public final class AccessorDescriptor implements PropertyDescriptor, Displayable
 		this.configurable = configurable;
 	}
 
+	AccessorDescriptor copy(IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		return new AccessorDescriptor(ObjectValue.copy(getter, copies), ObjectValue.copy(setter, copies), enumerable, configurable);
+	}
+
 	@Override
 	public boolean isWritable() {
 		return true;
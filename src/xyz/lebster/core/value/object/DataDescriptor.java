@@ -7,7 +7,9 @@ import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
 
-public final class DataDescriptor implements PropertyDescriptor {
+import java.util.IdentityHashMap;
+
+public class DataDescriptor implements PropertyDescriptor {
 	private Value<?> value;
 	private boolean writable;
 	private boolean enumerable;
@@ -20,6 +22,12 @@ public final class DataDescriptor implements PropertyDescriptor {
 		this.configurable = configurable;
 	}
 
+	protected DataDescriptor copy(IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		final Value<?> value = value();
+		final Value<?> copiedValue = value instanceof final ObjectValue object ? ObjectValue.copy(object, copies) : value;
+		return new DataDescriptor(copiedValue, writable, enumerable, configurable);
+	}
+
 	@Override
 	public boolean isWritable() {
 		return writable;
@@ -52,7 +60,7 @@ public final class DataDescriptor implements PropertyDescriptor {
 
 	@Override
 	public Value<?> get(Interpreter interpreter, ObjectValue thisValue) {
-		return this.value;
+		return value();
 	}
 
 	public Value<?> value() {
@@ -65,7 +73,7 @@ public final class DataDescriptor implements PropertyDescriptor {
 	}
 
 	public DataDescriptor copy() {
-		return new DataDescriptor(value, writable, enumerable, configurable);
+		return new DataDescriptor(value(), writable, enumerable, configurable);
 	}
 
 	@Override
@@ -77,7 +85,7 @@ public final class DataDescriptor implements PropertyDescriptor {
 	public ObjectValue fromPropertyDescriptor(Interpreter interpreter) throws AbruptCompletion {
 		final var obj = new ObjectValue(interpreter.intrinsics);
 		// TODO: Make CreateDataPropertyOrThrow
-		obj.set(interpreter, Names.value, value);
+		obj.set(interpreter, Names.value, value());
 		obj.set(interpreter, Names.writable, BooleanValue.of(isWritable()));
 		obj.set(interpreter, Names.enumerable, BooleanValue.of(isEnumerable()));
 		obj.set(interpreter, Names.configurable, BooleanValue.of(isConfigurable()));
@@ -0,0 +1,106 @@
+package xyz.lebster.core.value.object;
+
+import java.util.Arrays;
+
+/**
+ * A polymorphic inline cache for a single property access site with a fixed (non-index) key, e.g. `obj.x`.
+ * Each entry remembers the shapes of the objects along the prototype chain, from the receiver to the object holding
+ * the property, along with the slot the property is stored in. Objects stored as dictionaries are never cached.
+ * <p>
+ * Once the cache is full, each new entry replaces the oldest one. One AST may be run in many realms (e.g. a script
+ * executed many times through the embedding API), and each realm has its own shapes, so entries for realms which are
+ * no longer in use have to make way.
+ * <p>
+ * The entries are replaced rather than modified, so one AST can be run by interpreters on several threads at once.
+ * Entries added by racing threads may be lost, which only costs another miss.
+ */
+public final class InlineCache {
+	private static final int MAX_ENTRIES = 4;
+	private static final Entry[] NO_ENTRIES = new Entry[0];
+	private volatile Entry[] entries = NO_ENTRIES;
+
+	/**
+	 * Equivalent to {@link ObjectValue#getProperty(Key)}
+	 */
+	public PropertyDescriptor getProperty(ObjectValue receiver, Key<?> key) {
+		for (final Entry entry : entries) {
+			final PropertyDescriptor cached = entry.lookup(receiver);
+			if (cached != null) return cached;
+		}
+
+		return this.miss(receiver, key);
+	}
+
+	/**
+	 * Equivalent to {@link ObjectValue#getOwnProperty(Key)}, but only for properties found through the cache
+	 *
+	 * @return null if the property was not found in the receiver, or was not cached
+	 */
+	public PropertyDescriptor getOwnProperty(ObjectValue receiver) {
+		final Shape shape = receiver.properties().shape();
+		for (final Entry entry : entries) {
+			if (entry.chain.length == 1 && entry.chain[0] == shape) return receiver.properties().slot(entry.slot);
+		}
+
+		return null;
+	}
+
+	private PropertyDescriptor miss(ObjectValue receiver, Key<?> key) {
+		int depth = 0;
+		boolean cacheable = true;
+		for (ObjectValue object = receiver; object != null; object = object.getPrototype(), depth++) {
+			final Shape shape = object.properties().shape();
+			if (shape == null) {
+				cacheable = false;
+			} else {
+				final int slot = shape.indexOf(key);
+				if (slot != -1) {
+					if (cacheable) this.add(receiver, depth, slot);
+					return object.properties().slot(slot);
+				}
+			}
+
+			// Exotic objects may have own properties outside their PropertyMap
+			final PropertyDescriptor exotic = object.getOwnProperty(key);
+			if (exotic != null) return exotic;
+		}
+
+		return null;
+	}
+
+	private void add(ObjectValue receiver, int depth, int slot) {
+		final Shape[] chain = new Shape[depth + 1];
+		ObjectValue object = receiver;
+		for (int i = 0; i <= depth; i++) {
+			chain[i] = object.properties().shape();
+			object = object.getPrototype();
+		}
+
+		final Entry[] entries = this.entries;
+		final Entry[] added;
+		if (entries.length < MAX_ENTRIES) {
+			added = Arrays.copyOf(entries, entries.length + 1);
+		} else {
+			added = new Entry[MAX_ENTRIES];
+			System.arraycopy(entries, 1, added, 0, MAX_ENTRIES - 1);
+		}
+
+		added[added.length - 1] = new Entry(chain, slot);
+		this.entries = added;
+	}
+
+	private record Entry(Shape[] chain, int slot) {
+		private PropertyDescriptor lookup(ObjectValue receiver) {
+			ObjectValue object = receiver;
+			final int holder = chain.length - 1;
+			for (int i = 0; i < holder; i++) {
+				if (object.properties().shape() != chain[i]) return null;
+				object = object.getPrototype();
+			}
+
+			// A Shape determines the prototype, so the chain cannot end early once the receiver's shape has matched
+			if (object.properties().shape() != chain[holder]) return null;
+			return object.properties().slot(slot);
+		}
+	}
+}
\ No newline at end of file
@@ -17,6 +17,8 @@ import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
 import xyz.lebster.core.value.primitive.string.StringValue;
 import xyz.lebster.core.value.primitive.symbol.SymbolValue;
 
+import java.util.IdentityHashMap;
+
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 import static xyz.lebster.core.value.function.NativeFunction.argument;
 
@@ -28,6 +30,11 @@ public final class ObjectPrototype extends ObjectValue {
 		super(Null.instance);
 	}
 
+	@Override
+	protected void copyReferences(IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		toStringMethod = ObjectValue.copy(toStringMethod, copies);
+	}
+
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-object.prototype.tolocalestring")
 	private static Value<?> toLocaleString(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
 		// 20.1.3.5 Object.prototype.toLocaleString ( [ reserved1 [ , reserved2 ] ] )
@@ -122,7 +129,7 @@ public final class ObjectPrototype extends ObjectValue {
 			// 16. If Type(tag) is not String, set tag to builtinTag.
 			// 17. Return the string-concatenation of "[object ", tag, and "]".
 			if (tag instanceof final StringValue stringValue) {
-				return new StringValue("[object " + stringValue.value + "]");
+				return new StringValue("[object " + stringValue.value() + "]");
 			} else {
 				return new StringValue("[object " + builtinTag + "]");
 			}
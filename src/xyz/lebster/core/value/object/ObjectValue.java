@@ -29,14 +29,21 @@ import java.util.Map.Entry;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 
-public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
+public class ObjectValue extends Value<Void> implements Cloneable {
 	private static int LAST_UNUSED_IDENTIFIER = 0;
-	private final int UNIQUE_ID = ObjectValue.LAST_UNUSED_IDENTIFIER++;
+	private int UNIQUE_ID = ObjectValue.LAST_UNUSED_IDENTIFIER++;
 	private ObjectValue prototype;
+	// The root of the shape tree for objects which have this object as their prototype
+	private Shape childRootShape;
+	// The same, for objects with own properties outside their PropertyMap
+	private Shape exoticChildRootShape;
+	// Not final, as each copy made by ObjectValue#copy gets its own properties
+	private PropertyMap properties;
 
 	public ObjectValue(ObjectValue prototype) {
-		super(new HashMap<>());
+		super(null);
 		this.prototype = prototype;
+		this.properties = new PropertyMap(this.rootShapeFor(prototype));
 	}
 
 	public ObjectValue(Null noPrototype) {
@@ -47,11 +54,78 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 		this(intrinsics.objectPrototype);
 	}
 
+	/**
+	 * Exotic objects never share a shape with ordinary objects, as an {@link InlineCache} entry
+	 * only checks shapes, and would miss their own properties which are not stored in the PropertyMap.
+	 */
+	private Shape rootShapeFor(ObjectValue prototype) {
+		if (prototype == null) return Shape.root();
+		if (this.hasExoticOwnProperties()) {
+			if (prototype.exoticChildRootShape == null) prototype.exoticChildRootShape = Shape.root();
+			return prototype.exoticChildRootShape;
+		}
+
+		if (prototype.childRootShape == null) prototype.childRootShape = Shape.root();
+		return prototype.childRootShape;
+	}
+
+	/**
+	 * Whether {@link #getOwnProperty(Key)} returns properties which are not stored in the PropertyMap.
+	 * Called from the constructor, so must not depend on the object's state.
+	 */
+	protected boolean hasExoticOwnProperties() {
+		return false;
+	}
+
+	/**
+	 * Copies `object`, along with every object reachable from it through its prototype and properties.
+	 * The copy shares no mutable state with the original; this is how each {@link Interpreter} gets its own realm
+	 * without building the intrinsics again. The original is only read, so may be copied from many threads at once.
+	 *
+	 * @param copies The copies made so far, keyed by their originals, so that an object is only copied once
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends ObjectValue> T copy(T object, IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		if (object == null) return null;
+		final ObjectValue existing = copies.get(object);
+		if (existing != null) return (T) existing;
+
+		final ObjectValue copy;
+		try {
+			copy = (ObjectValue) object.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new ShouldNotHappen("ObjectValue is Cloneable");
+		}
+
+		copies.put(object, copy);
+		copy.UNIQUE_ID = ObjectValue.LAST_UNUSED_IDENTIFIER++;
+		copy.childRootShape = null;
+		copy.exoticChildRootShape = null;
+		copy.prototype = copy(object.getPrototype(), copies);
+		copy.properties = object.properties().copy(copy.rootShapeFor(copy.prototype), copies);
+		copy.copyReferences(copies);
+		return (T) copy;
+	}
+
+	/**
+	 * Replaces the objects referenced by Java fields of a copy made by {@link ObjectValue#copy} with their copies.
+	 * Must be overridden by any object which is part of a realm and holds such references.
+	 */
+	protected void copyReferences(IdentityHashMap<ObjectValue, ObjectValue> copies) {
+	}
+
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-ordinaryownpropertykeys")
 	@NonCompliant
 	// TODO: Follow specified order
 	public static Iterable<Key<?>> ordinaryOwnPropertyKeys(ObjectValue objectValue) {
-		return objectValue.value.keySet();
+		return objectValue.properties.keys();
+	}
+
+	/**
+	 * @return The properties stored in this object's PropertyMap. Exotic objects may have own properties outside it.
+	 */
+	public final PropertyMap properties() {
+		return this.properties;
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-ordinarygetprototypeof")
@@ -63,6 +137,7 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	public final boolean setPrototype(Value<?> V_or_null) {
 		if (V_or_null == Null.instance) {
 			this.prototype = null;
+			this.properties.reshape(this.rootShapeFor(null));
 			return true;
 		}
 
@@ -103,6 +178,7 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 
 		// 8. Set O.[[Prototype]] to V.
 		this.prototype = V;
+		this.properties.reshape(this.rootShapeFor(V));
 		// 9. Return true.
 		return true;
 	}
@@ -196,7 +272,14 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	}
 
 	public boolean hasOwnProperty(Key<?> key) {
-		return this.value.containsKey(key);
+		return this.properties.containsKey(key);
+	}
+
+	/**
+	 * @return false if this object definitely has no own properties whose keys are array indices
+	 */
+	public boolean hasIndexedProperties() {
+		return this.properties.hasIndexKeys();
 	}
 
 	public final boolean hasOwnEnumerableProperty(Key<?> key) {
@@ -205,7 +288,7 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	}
 
 	public PropertyDescriptor getOwnProperty(Key<?> key) {
-		return this.value.get(key);
+		return this.properties.get(key);
 	}
 
 	public final boolean hasProperty(Key<?> name) {
@@ -229,9 +312,10 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 		ObjectValue object = this;
 
 		while (object != null) {
-			if (object.hasOwnProperty(key)) {
+			final PropertyDescriptor property = object.getOwnProperty(key);
+			if (property != null) {
 				// Property was found
-				return object.getOwnProperty(key);
+				return property;
 			} else {
 				// Property does not exist on current object. Move up prototype chain
 				object = object.getPrototype();
@@ -245,7 +329,7 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-ordinarydefineownproperty")
 	@NonCompliant
 	public boolean defineOwnProperty(Interpreter interpreter, Key<?> key, PropertyDescriptor descriptor) throws AbruptCompletion {
-		this.value.put(key, descriptor);
+		this.properties.put(key, descriptor);
 		return true;
 	}
 
@@ -316,7 +400,7 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	}
 
 	protected void internalDeleteProperty(Key<?> P) {
-		this.value.remove(P);
+		this.properties.remove(P);
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-ordinary-object-internal-methods-and-internal-slots-delete-p")
@@ -327,11 +411,11 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	}
 
 	public final void put(Key<?> key, Value<?> value, boolean writable, boolean enumerable, boolean configurable) {
-		this.value.put(key, new DataDescriptor(value, writable, enumerable, configurable));
+		this.properties.put(key, new DataDescriptor(value, writable, enumerable, configurable));
 	}
 
 	public final void put(Key<?> key, Value<?> value) {
-		this.value.put(key, new DataDescriptor(value, true, false, true));
+		this.properties.put(key, new DataDescriptor(value, true, false, true));
 	}
 
 	@NonCompliant
@@ -353,13 +437,13 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	// TODO: Setter can return void?
 	public final void putAccessor(Intrinsics intrinsics, Key<?> key, NativeCode getter, NativeCode setter, boolean enumerable, boolean configurable) {
 		final String name = getter == null && setter == null ? null :
-			key.toFunctionName().value;
+			key.toFunctionName().value();
 		final NativeFunction getterFn = getter == null ? null :
 			new NativeFunction(intrinsics, new StringValue("get " + name), getter, 0);
 		final NativeFunction setterFn = setter == null ? null :
 			new NativeFunction(intrinsics, new StringValue("set " + name), setter, 1);
 
-		value.put(key, new AccessorDescriptor(getterFn, setterFn, enumerable, configurable));
+		this.properties.put(key, new AccessorDescriptor(getterFn, setterFn, enumerable, configurable));
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-ordinary-object-internal-methods-and-internal-slots-ownpropertykeys")
@@ -403,7 +487,7 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	}
 
 	public Iterable<Entry<Key<?>, PropertyDescriptor>> displayableProperties() {
-		return value.entrySet();
+		return this.properties.entrySet();
 	}
 
 	public Iterable<Displayable> displayableValues() {
@@ -469,56 +553,46 @@ public class ObjectValue extends Value<Map<Key<?>, PropertyDescriptor>> {
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-sortindexedproperties")
-	public final List<Value<?>> sortIndexedProperties(Interpreter interpreter, int len, ArrayPrototype.ValueComparator SortCompare, boolean skipHoles) throws AbruptCompletion {
+	public final Value<?>[] sortIndexedProperties(Interpreter interpreter, int len, ArrayPrototype.ValueComparator SortCompare, boolean skipHoles) throws AbruptCompletion {
 		// 23.1.3.30.1 SortIndexedProperties ( obj, len, SortCompare, holes )
 
 		// 1. Let items be a new empty List.
-		final ArrayList<Value<?>> items = new ArrayList<>();
-		// 2. Let k be 0.
-		int k = 0;
-		// 3. Repeat, while k < len,
-		while (k < len) {
-			// a. Let Pk be ! ToString(𝔽(k)).
-			final StringValue Pk = new StringValue(k);
-			// b. If holes is skip-holes, then Let kRead be ? HasProperty(obj, Pk).
-			// c. Else, Let kRead be true.
-			final boolean kRead = !skipHoles || this.hasProperty(Pk);
-			// d. If kRead is true, then
-			if (kRead) {
-				// i. Let kValue be ? Get(obj, Pk).
-				final Value<?> kValue = this.get(interpreter, Pk);
-				// ii. Append kValue to items.
-				items.add(kValue);
+		final Value<?>[] items;
+		if (this instanceof final ArrayObject array && array.hasFastElements() && array.length() == len) {
+			// Holes read as undefined, since there are no indexed properties on the prototype chain
+			items = array.elementValues(skipHoles);
+		} else {
+			final ArrayList<Value<?>> list = new ArrayList<>();
+			// 2. Let k be 0.
+			int k = 0;
+			// 3. Repeat, while k < len,
+			while (k < len) {
+				// a. Let Pk be ! ToString(𝔽(k)).
+				final StringValue Pk = new StringValue(k);
+				// b. If holes is skip-holes, then Let kRead be ? HasProperty(obj, Pk).
+				// c. Else, Let kRead be true.
+				final boolean kRead = !skipHoles || this.hasProperty(Pk);
+				// d. If kRead is true, then
+				if (kRead) {
+					// i. Let kValue be ? Get(obj, Pk).
+					final Value<?> kValue = this.get(interpreter, Pk);
+					// ii. Append kValue to items.
+					list.add(kValue);
+				}
+
+				// e. Set k to k + 1.
+				k += 1;
 			}
 
-			// e. Set k to k + 1.
-			k += 1;
+			items = list.toArray(new Value<?>[0]);
 		}
 
 		// 4. Sort items using an implementation-defined sequence of calls to SortCompare.
-		try {
-			items.sort((x, y) -> {
-				try {
-					return SortCompare.compare(x, y);
-				} catch (AbruptCompletion e) {
-					if (e.type != AbruptCompletion.Type.Throw)
-						throw new ShouldNotHappen("SortCompare gave " + e);
-
-					// If any such call returns an abrupt completion,
-					// stop before performing any further calls to SortCompare
-					throw new RuntimeException(e);
-				}
-			});
-		} catch (RuntimeException e) {
-			if (e.getCause() instanceof final AbruptCompletion abruptCompletion) {
-				// and return that Completion Record.
-				throw abruptCompletion;
-			} else {
-				throw e;
-			}
-		}
+		// If any such call returns an abrupt completion, stop before performing any further calls to SortCompare
+		// and return that Completion Record.
+		final Value<?>[] sorted = SortCompare.sort(items);
 
 		// 5. Return items.
-		return items;
+		return sorted;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package xyz.lebster.core.value.object;
+
+import xyz.lebster.core.exception.ShouldNotHappen;
+
+import java.util.*;
+
+/**
+ * The own properties of an {@link ObjectValue}, in insertion order.
+ * <p>
+ * Properties are stored in a slot array laid out by a shared {@link Shape}. Objects which are used as dictionaries
+ * (those which have properties deleted, or which grow very large) switch to a private {@link LinkedHashMap} instead,
+ * and have no Shape.
+ */
+public final class PropertyMap extends AbstractMap<Key<?>, PropertyDescriptor> {
+	private static final int MAX_SHAPED_PROPERTIES = 64;
+	private static final PropertyDescriptor[] EMPTY = new PropertyDescriptor[0];
+
+	private Shape shape;
+	private PropertyDescriptor[] slots = EMPTY;
+	private LinkedHashMap<Key<?>, PropertyDescriptor> dictionary;
+	// Whether an array index has ever been used as a key. Never reset, as deleting indices is rare.
+	private boolean hasIndexKeys;
+
+	PropertyMap(Shape root) {
+		this.shape = root;
+	}
+
+	/**
+	 * @return The shape of these properties, or null if they are stored as a dictionary
+	 */
+	Shape shape() {
+		return shape;
+	}
+
+	boolean hasIndexKeys() {
+		return hasIndexKeys;
+	}
+
+	PropertyDescriptor slot(int slot) {
+		return slots[slot];
+	}
+
+	/**
+	 * Lays the properties out again starting from a new root shape, e.g. when the prototype changes
+	 */
+	void reshape(Shape root) {
+		if (shape == null) return;
+		final Key<?>[] keys = shape.keys();
+		Shape newShape = root;
+		for (final Key<?> key : keys) newShape = newShape.withProperty(key);
+		shape = newShape;
+	}
+
+	PropertyMap copy(Shape root, IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		final PropertyMap copy = new PropertyMap(root);
+		copy.hasIndexKeys = hasIndexKeys;
+		if (shape == null) {
+			copy.shape = null;
+			copy.dictionary = new LinkedHashMap<>();
+			dictionary.forEach((key, descriptor) -> copy.dictionary.put(key, copyDescriptor(descriptor, copies)));
+		} else if (shape.size != 0) {
+			copy.shape = shape.rebase(root);
+			copy.slots = new PropertyDescriptor[shape.size];
+			for (int i = 0; i < shape.size; i++) copy.slots[i] = copyDescriptor(slots[i], copies);
+		}
+
+		return copy;
+	}
+
+	private static PropertyDescriptor copyDescriptor(PropertyDescriptor descriptor, IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		if (descriptor instanceof final DataDescriptor data) return data.copy(copies);
+		if (descriptor instanceof final AccessorDescriptor accessor) return accessor.copy(copies);
+		throw new ShouldNotHappen("Cannot copy " + descriptor.getClass().getSimpleName());
+	}
+
+	private void convertToDictionary() {
+		final Key<?>[] keys = shape.keys();
+		dictionary = new LinkedHashMap<>();
+		for (int i = 0; i < keys.length; i++) dictionary.put(keys[i], slots[i]);
+		shape = null;
+		slots = EMPTY;
+	}
+
+	public PropertyDescriptor get(Key<?> key) {
+		if (shape == null) return dictionary.get(key);
+		final int slot = shape.indexOf(key);
+		return slot == -1 ? null : slots[slot];
+	}
+
+	@Override
+	public PropertyDescriptor get(Object key) {
+		return key instanceof final Key<?> k ? get(k) : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (shape == null) return dictionary.containsKey(key);
+		return key instanceof final Key<?> k && shape.indexOf(k) != -1;
+	}
+
+	@Override
+	public PropertyDescriptor put(Key<?> key, PropertyDescriptor descriptor) {
+		if (shape == null) {
+			if (!hasIndexKeys && key.toIndex() != -1) hasIndexKeys = true;
+			return dictionary.put(key, descriptor);
+		}
+
+		final int existing = shape.indexOf(key);
+		if (existing != -1) {
+			final PropertyDescriptor previous = slots[existing];
+			slots[existing] = descriptor;
+			return previous;
+		}
+
+		if (!hasIndexKeys && key.toIndex() != -1) hasIndexKeys = true;
+
+		if (shape.size == MAX_SHAPED_PROPERTIES) {
+			convertToDictionary();
+			return dictionary.put(key, descriptor);
+		}
+
+		final int slot = shape.size;
+		if (slot == slots.length) slots = Arrays.copyOf(slots, slot == 0 ? 2 : slot * 2);
+		shape = shape.withProperty(key);
+		slots[slot] = descriptor;
+		return null;
+	}
+
+	@Override
+	public PropertyDescriptor remove(Object key) {
+		if (shape != null) {
+			if (!containsKey(key)) return null;
+			convertToDictionary();
+		}
+
+		return dictionary.remove(key);
+	}
+
+	@Override
+	public int size() {
+		return shape == null ? dictionary.size() : shape.size;
+	}
+
+	public List<Key<?>> keys() {
+		if (shape == null) return new ArrayList<>(dictionary.keySet());
+		return Arrays.asList(shape.keys());
+	}
+
+	@Override
+	public Set<Entry<Key<?>, PropertyDescriptor>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<Key<?>, PropertyDescriptor>> iterator() {
+				// Iterate over a snapshot of the keys, so that properties may be added or removed while iterating
+				final Iterator<Key<?>> keys = keys().iterator();
+				return new Iterator<>() {
+					private Entry<Key<?>, PropertyDescriptor> next = advance();
+
+					private Entry<Key<?>, PropertyDescriptor> advance() {
+						while (keys.hasNext()) {
+							final Key<?> key = keys.next();
+							final PropertyDescriptor descriptor = PropertyMap.this.get(key);
+							if (descriptor != null) return new SimpleImmutableEntry<>(key, descriptor);
+						}
+
+						return null;
+					}
+
+					@Override
+					public boolean hasNext() {
+						return next != null;
+					}
+
+					@Override
+					public Entry<Key<?>, PropertyDescriptor> next() {
+						if (next == null) throw new NoSuchElementException();
+						final Entry<Key<?>, PropertyDescriptor> result = next;
+						next = advance();
+						return result;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return PropertyMap.this.size();
+			}
+		};
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package xyz.lebster.core.value.object;
+
+import java.util.HashMap;
+
+/**
+ * A hidden class: the shared layout of every object which has had the same properties added in the same order,
+ * starting from the same prototype. Each property is given a slot, which is its index in the object's {@link PropertyMap}.
+ * <p>
+ * Shapes form a transition tree, rooted at the (lazily created) root shape of each prototype,
+ * so two objects with the same Shape also have the same prototype.
+ */
+public final class Shape {
+	private static final int TABLE_THRESHOLD = 4;
+
+	private final Shape parent;
+	private final Key<?> key;
+	public final int size;
+
+	// Most shapes only ever transition to one other shape, so the first transition is stored without a map
+	private Key<?> transitionKey;
+	private Shape transition;
+	private HashMap<Key<?>, Shape> transitions;
+	// Built lazily, as most shapes in a transition chain are only passed through
+	private HashMap<Key<?>, Integer> table;
+	private Key<?>[] keys;
+	private int lookups;
+
+	private Shape(Shape parent, Key<?> key, int size) {
+		this.parent = parent;
+		this.key = key;
+		this.size = size;
+	}
+
+	public static Shape root() {
+		return new Shape(null, null, 0);
+	}
+
+	Shape withProperty(Key<?> key) {
+		if (transition != null && transitionKey.equals(key)) return transition;
+		if (transitions != null) {
+			final Shape existing = transitions.get(key);
+			if (existing != null) return existing;
+		}
+
+		final Shape next = new Shape(this, key, size + 1);
+		if (transition == null) {
+			transitionKey = key;
+			transition = next;
+		} else {
+			if (transitions == null) transitions = new HashMap<>();
+			transitions.put(key, next);
+		}
+
+		return next;
+	}
+
+	/**
+	 * @return The shape with the same keys as this one, starting from another root. Only reads this shape.
+	 */
+	Shape rebase(Shape root) {
+		return parent == null ? root : parent.rebase(root).withProperty(key);
+	}
+
+	int indexOf(Key<?> key) {
+		if (size == 0) return -1;
+		if (table == null) {
+			// Shapes which are only passed through while adding properties are searched without building a table
+			if (++lookups < TABLE_THRESHOLD) {
+				for (Shape shape = this; shape.parent != null; shape = shape.parent) {
+					if (shape.key.equals(key)) return shape.size - 1;
+				}
+
+				return -1;
+			}
+
+			final Key<?>[] keys = keys();
+			table = new HashMap<>(keys.length * 2);
+			for (int i = 0; i < keys.length; i++) table.put(keys[i], i);
+		}
+
+		final Integer slot = table.get(key);
+		return slot == null ? -1 : slot;
+	}
+
+	Key<?>[] keys() {
+		if (keys == null) {
+			keys = new Key<?>[size];
+			for (Shape shape = this; shape.parent != null; shape = shape.parent) {
+				keys[shape.size - 1] = shape.key;
+			}
+		}
+
+		return keys;
+	}
+}
\ No newline at end of file
@@ -14,6 +14,11 @@ public abstract class PrimitiveConstructor extends Executable {
 
 	@Override
 	public final StringValue toStringMethod() {
-		return NativeFunction.toStringForName(this.name.value);
+		return NativeFunction.toStringForName(this.name.value());
+	}
+
+	@Override
+	protected final boolean isBuiltin() {
+		return true;
 	}
 }
@@ -28,6 +28,15 @@ public final class NumberValue extends NumericValue<Double> {
 	public static final long TWO_TO_THE_32 = 4294967296L;
 	public static final long UINT32_LIMIT = TWO_TO_THE_32 - 1;
 
+	// Small integers (loop counters, array indices, lengths) are shared rather than allocated for every result
+	private static final int SMALL_INTEGER_MIN = -128;
+	private static final int SMALL_INTEGER_MAX = 1023;
+	private static final NumberValue[] SMALL_INTEGERS = new NumberValue[SMALL_INTEGER_MAX - SMALL_INTEGER_MIN + 1];
+
+	static {
+		for (int i = 0; i < SMALL_INTEGERS.length; i++) SMALL_INTEGERS[i] = new NumberValue(i + SMALL_INTEGER_MIN);
+	}
+
 	public static final long NEGATIVE_ZERO_BITS = 0x8000000000000000L;
 	public static final long POSITIVE_ZERO_BITS = 0;
 	public static final NumberValue EPSILON = new NumberValue(Math.ulp(1.0D));
@@ -59,6 +68,19 @@ public final class NumberValue extends NumericValue<Double> {
 		super(bigInteger.doubleValue());
 	}
 
+	public static NumberValue of(double d) {
+		final int i = (int) d;
+		// `i == d` holds for -0.0 as well, which must not be replaced by +0
+		if (i == d && i >= SMALL_INTEGER_MIN && i <= SMALL_INTEGER_MAX && (i != 0 || !isNegativeZero(d)))
+			return SMALL_INTEGERS[i - SMALL_INTEGER_MIN];
+		return new NumberValue(d);
+	}
+
+	public static NumberValue of(int i) {
+		if (i >= SMALL_INTEGER_MIN && i <= SMALL_INTEGER_MAX) return SMALL_INTEGERS[i - SMALL_INTEGER_MIN];
+		return new NumberValue(i);
+	}
+
 	public static boolean isNegativeZero(double d) {
 		return Double.doubleToRawLongBits(d) == NEGATIVE_ZERO_BITS;
 	}
@@ -192,6 +214,9 @@ public final class NumberValue extends NumericValue<Double> {
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-toint32")
 	public int toInt32() {
+		// Fast path: the number is already an int32
+		final int asInt = (int) value.doubleValue();
+		if (asInt == value) return asInt;
 		// 1. Let number be ? ToNumber(argument).
 		// 2. If number is not finite or number is either +0𝔽 or -0𝔽, return +0𝔽.
 		if (value.isInfinite() || value.isNaN() || value == 0.0) return 0;
@@ -0,0 +1,54 @@
+package xyz.lebster.core.value.primitive.string;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The canonical {@link StringValue} for each string used as a property key, shared by every interpreter.
+ * Atoms are only weakly held, so an atom disappears once nothing (such as an AST or an object's shape) uses it.
+ */
+final class AtomTable {
+	private static final ConcurrentHashMap<String, Atom> atoms = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<StringValue> collected = new ReferenceQueue<>();
+
+	private AtomTable() {
+	}
+
+	static StringValue get(String string) {
+		final Atom atom = atoms.get(string);
+		return atom == null ? null : atom.get();
+	}
+
+	static StringValue intern(String string) {
+		removeCollected();
+		while (true) {
+			final Atom existing = atoms.get(string);
+			final StringValue value = existing == null ? null : existing.get();
+			if (value != null) return value;
+
+			final StringValue result = new StringValue(string);
+			final Atom atom = new Atom(string, result);
+			if (existing == null ? atoms.putIfAbsent(string, atom) == null : atoms.replace(string, existing, atom)) {
+				result.markAtom();
+				return result;
+			}
+		}
+	}
+
+	private static void removeCollected() {
+		Atom atom;
+		while ((atom = (Atom) collected.poll()) != null) {
+			atoms.remove(atom.string, atom);
+		}
+	}
+
+	private static final class Atom extends WeakReference<StringValue> {
+		private final String string;
+
+		private Atom(String string, StringValue value) {
+			super(value, collected);
+			this.string = string;
+		}
+	}
+}
@@ -82,7 +82,7 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.at");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 		// 3. Let len be the length of S.
 		final int len = S.length();
 		// 4. Let relativeIndex be ? ToIntegerOrInfinity(index).
@@ -103,7 +103,7 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.charCodeAt");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 		// 3. Let position be ? ToIntegerOrInfinity(pos).
 		final int position = toIntegerOrInfinity(interpreter, pos);
 		// 4. Let size be the length of S.
@@ -122,7 +122,7 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.codePointAt");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 		// 3. Let position be ? ToIntegerOrInfinity(pos).
 		final int position = toIntegerOrInfinity(interpreter, pos);
 		// 4. Let size be the length of S.
@@ -141,18 +141,18 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.concat");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final StringValue S = O.toStringValue(interpreter);
 		// 3. Let R be S.
-		final StringBuilder R = new StringBuilder(S);
+		StringValue R = S;
 		// 4. For each element next of args, do
 		for (final Value<?> next : args) {
 			// a. Let nextString be ? ToString(next).
-			final String nextString = next.toStringValue(interpreter).value;
+			final StringValue nextString = next.toStringValue(interpreter);
 			// b. Set R to the string-concatenation of R and nextString.
-			R.append(nextString);
+			R = StringValue.concat(R, nextString);
 		}
 		// 5. Return R.
-		return new StringValue(R.toString());
+		return R;
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.endswith")
@@ -165,7 +165,7 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.endsWith");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 
 		// 3. Let isRegExp be ? IsRegExp(searchString).
 		final boolean isRegExp = isRegExp(interpreter, searchString);
@@ -174,7 +174,7 @@ public final class StringPrototype extends ObjectValue {
 			throw error(new TypeError(interpreter, "First argument to String.prototype.endsWith must not be a regular expression"));
 
 		// 5. Let searchStr be ? ToString(searchString).
-		final String searchStr = searchString.toStringValue(interpreter).value;
+		final String searchStr = searchString.toStringValue(interpreter).value();
 		// 6. Let len be the length of S.
 		final int len = S.length();
 		// 7. If endPosition is undefined, let pos be len; else let pos be ? ToIntegerOrInfinity(endPosition).
@@ -204,7 +204,7 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.includes");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 
 		// 3. Let isRegExp be ? IsRegExp(searchString).
 		final boolean isRegExp = isRegExp(interpreter, searchString);
@@ -213,7 +213,7 @@ public final class StringPrototype extends ObjectValue {
 			throw error(new TypeError(interpreter, "First argument to String.prototype.includes must not be a regular expression"));
 
 		// 5. Let searchStr be ? ToString(searchString).
-		final String searchStr = searchString.toStringValue(interpreter).value;
+		final String searchStr = searchString.toStringValue(interpreter).value();
 		// 6. Let pos be ? ToIntegerOrInfinity(position).
 		final int pos = toIntegerOrInfinity(interpreter, position);
 		// 7. Assert: If position is undefined, then pos is 0.
@@ -237,9 +237,9 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.indexOf");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 		// 3. Let searchStr be ? ToString(searchString).
-		final String searchStr = searchString.toStringValue(interpreter).value;
+		final String searchStr = searchString.toStringValue(interpreter).value();
 		// 4. Let pos be ? ToIntegerOrInfinity(position).
 		final int pos = toIntegerOrInfinity(interpreter, position);
 		// 5. Assert: If position is undefined, then pos is 0.
@@ -260,9 +260,9 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.lastIndexOf");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 		// 3. Let searchStr be ? ToString(searchString).
-		final String searchStr = searchString.toStringValue(interpreter).value;
+		final String searchStr = searchString.toStringValue(interpreter).value();
 		// 4. Let numPos be ? ToNumber(position).
 		final NumberValue numPos = position.toNumberValue(interpreter);
 		// 5. Assert: If position is undefined, then numPos is NaN.
@@ -307,7 +307,7 @@ public final class StringPrototype extends ObjectValue {
 		final StringValue S = O.toStringValue(interpreter);
 
 		// https://developer.mozilla.org/en-US/docs/Web/JavaScript/Reference/Global_Objects/String/match#return_value
-		final Matcher matcher = re.pattern.matcher(S.value);
+		final Matcher matcher = re.pattern.matcher(S.value());
 		if (!matcher.find()) return Null.instance;
 
 		if (re.isGlobal()) {
@@ -404,14 +404,14 @@ public final class StringPrototype extends ObjectValue {
 		// 2. Let intMaxLength be ℝ(? ToLength(maxLength)).
 		final int intMaxLength = toLength(interpreter, maxLength);
 		// 3. Let stringLength be the length of S.
-		final int stringLength = S.value.length();
+		final int stringLength = S.value().length();
 		// 4. If intMaxLength ≤ stringLength, return S.
 		if (intMaxLength <= stringLength) return S;
 		// 5. If fillString is undefined, set fillString to the String value consisting solely of the code unit 0x0020 (SPACE).
 		// 6. Else, set fillString to ? ToString(fillString).
-		final String fillString = fillString_ == Undefined.instance ? " " : fillString_.toStringValue(interpreter).value;
+		final String fillString = fillString_ == Undefined.instance ? " " : fillString_.toStringValue(interpreter).value();
 		// 7. Return StringPad(S, intMaxLength, fillString, placement).
-		return new StringValue(stringPad(S.value, intMaxLength, fillString, start));
+		return new StringValue(stringPad(S.value(), intMaxLength, fillString, start));
 	}
 
 	public static String stringPad(String S, int maxLength, String fillString, boolean start) {
@@ -448,7 +448,7 @@ public final class StringPrototype extends ObjectValue {
 		// 5. If n is 0, return the empty String.
 		if (n == 0) return StringValue.EMPTY;
 		// 6. Return the String value that is made from n copies of S appended together.
-		return new StringValue(S.value.repeat(n));
+		return new StringValue(S.value().repeat(n));
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.replace")
@@ -470,9 +470,9 @@ public final class StringPrototype extends ObjectValue {
 		final Value<?> replaceValue = argument(1, arguments);
 
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.replaceAll");
-		final String string = O.toStringValue(interpreter).value;
-		final String searchString = searchValue.toStringValue(interpreter).value;
-		final String replaceString = replaceValue.toStringValue(interpreter).value;
+		final String string = O.toStringValue(interpreter).value();
+		final String searchString = searchValue.toStringValue(interpreter).value();
+		final String replaceString = replaceValue.toStringValue(interpreter).value();
 
 		return new StringValue(string.replaceAll(Pattern.quote(searchString), replaceString));
 	}
@@ -521,11 +521,11 @@ public final class StringPrototype extends ObjectValue {
 			return new ArrayObject(interpreter, S);
 		}
 		// 8. Let separatorLength be the length of R.
-		final int separatorLength = R.value.length();
+		final int separatorLength = R.value().length();
 		// 9. If separatorLength is 0, then
 		if (separatorLength == 0) {
 			// a. Let head be the substring of S from 0 to lim.
-			final String head = S.value.substring(0, Math.toIntExact(Math.min(lim, S.value.length())));
+			final String head = S.value().substring(0, Math.toIntExact(Math.min(lim, S.value().length())));
 			// b. Let codeUnits be a List consisting of the sequence of code units that are the elements of head.
 			final ArrayList<StringValue> codeUnits = new ArrayList<>();
 			for (final char b : head.toCharArray()) {
@@ -537,18 +537,18 @@ public final class StringPrototype extends ObjectValue {
 		}
 
 		// 10. If S is the empty String, return CreateArrayFromList(« S »).
-		if (S.value.isEmpty()) return new ArrayObject(interpreter, S);
+		if (S.value().isEmpty()) return new ArrayObject(interpreter, S);
 
 		// 11. Let substrings be a new empty List.
 		final var substrings = new ArrayList<StringValue>();
 		// 12. Let i be 0.
 		int i = 0;
 		// 13. Let j be StringIndexOf(S, R, 0).
-		int j = S.value.indexOf(R.value);
+		int j = S.value().indexOf(R.value());
 		// 14. Repeat, while j is not -1,
 		while (j != -1) {
 			// a. Let T be the substring of S from i to j.
-			final String T = S.value.substring(i, j);
+			final String T = S.value().substring(i, j);
 			// b. Append T to substrings.
 			substrings.add(new StringValue(T));
 			// c. If the number of elements of substrings is lim, return CreateArrayFromList(substrings).
@@ -556,11 +556,11 @@ public final class StringPrototype extends ObjectValue {
 			// d. Set i to j + separatorLength.
 			i = j + separatorLength;
 			// e. Set j to StringIndexOf(S, R, i).
-			j = S.value.indexOf(R.value, i);
+			j = S.value().indexOf(R.value(), i);
 		}
 
 		// 15. Let T be the substring of S from `i`.
-		final String T = S.value.substring(i);
+		final String T = S.value().substring(i);
 		// 16. Append T to substrings.
 		substrings.add(new StringValue(T));
 		// 17. Return CreateArrayFromList(substrings).
@@ -577,7 +577,7 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.startsWith");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 
 		// 3. Let isRegExp be ? IsRegExp(searchString).
 		final boolean isRegExp = isRegExp(interpreter, searchString);
@@ -586,7 +586,7 @@ public final class StringPrototype extends ObjectValue {
 			throw error(new TypeError(interpreter, "First argument to String.prototype.startsWith must not be a regular expression"));
 
 		// 5. Let searchStr be ? ToString(searchString).
-		final String searchStr = searchString.toStringValue(interpreter).value;
+		final String searchStr = searchString.toStringValue(interpreter).value();
 		// 6. Let len be the length of S.
 		final int len = S.length();
 		// 7. If position is undefined, let pos be 0; else let pos be ? ToIntegerOrInfinity(position).
@@ -611,7 +611,7 @@ public final class StringPrototype extends ObjectValue {
 		// 1. Let O be ? RequireObjectCoercible(this value).
 		final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype.substring");
 		// 2. Let S be ? ToString(O).
-		final String S = O.toStringValue(interpreter).value;
+		final String S = O.toStringValue(interpreter).value();
 		// 3. Let len be the length of S.
 		final int len = S.length();
 		// 4. Let intStart be ? ToIntegerOrInfinity(start).
@@ -656,7 +656,7 @@ public final class StringPrototype extends ObjectValue {
 		// 4. Let lowerText be the result of toLowercase(sText), according to the Unicode Default Case Conversion algorithm.
 		// 5. Let L be ! CodePointsToString(lowerText).
 		// 6. Return L.
-		return new StringValue(S.value.toLowerCase());
+		return new StringValue(S.value().toLowerCase());
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.touppercase")
@@ -671,7 +671,7 @@ public final class StringPrototype extends ObjectValue {
 		// 4. Let lowerText be the result of toLowercase(sText), according to the Unicode Default Case Conversion algorithm.
 		// 5. Let L be ! CodePointsToString(lowerText).
 		// 6. Return L.
-		return new StringValue(S.value.toUpperCase());
+		return new StringValue(S.value().toUpperCase());
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.trimend")
@@ -684,7 +684,7 @@ public final class StringPrototype extends ObjectValue {
 		final StringValue S = str.toStringValue(interpreter);
 		// let T be the String value that is a copy of S with trailing white space removed.
 		// 6. Return T.
-		return new StringValue(S.value.stripTrailing());
+		return new StringValue(S.value().stripTrailing());
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.trimstart")
@@ -697,7 +697,7 @@ public final class StringPrototype extends ObjectValue {
 		final StringValue S = str.toStringValue(interpreter);
 		// let T be the String value that is a copy of S with leading white space removed.
 		// 6. Return T.
-		return new StringValue(S.value.stripLeading());
+		return new StringValue(S.value().stripLeading());
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.trim")
@@ -710,7 +710,7 @@ public final class StringPrototype extends ObjectValue {
 		final StringValue S = str.toStringValue(interpreter);
 		// b. Let T be the String value that is a copy of S with both leading and trailing white space removed.
 		// 6. Return T.
-		return new StringValue(S.value.strip());
+		return new StringValue(S.value().strip());
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.charat")
@@ -725,11 +725,11 @@ public final class StringPrototype extends ObjectValue {
 		// 3. Let position be ? ToIntegerOrInfinity(pos).
 		final int position = toIntegerOrInfinity(interpreter, pos);
 		// 4. Let size be the length of S.
-		final int size = S.value.length();
+		final int size = S.value().length();
 		// 5. If position < 0 or position ≥ size, return the empty String.
 		if (position < 0 || position >= size) return new StringValue("");
 		// 6. Return the substring of S from position to position + 1.
-		return new StringValue(S.value.substring(position, position + 1));
+		return new StringValue(S.value().substring(position, position + 1));
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.slice")
@@ -743,7 +743,7 @@ public final class StringPrototype extends ObjectValue {
 		// 2. Let S be ? ToString(O).
 		final StringValue S = O.toStringValue(interpreter);
 		// 3. Let len be the length of S.
-		final int len = S.value.length();
+		final int len = S.value().length();
 		// 4. Let intStart be ? ToIntegerOrInfinity(start).
 		final int intStart = toIntegerOrInfinity(interpreter, start);
 		// 5. If intStart is -∞, let from be 0.
@@ -777,7 +777,7 @@ public final class StringPrototype extends ObjectValue {
 		// 12. If `from` ≥ `to`, return the empty String.
 		if (from >= to) return new StringValue("");
 		// 13. Return the substring of S from `from` to `to`.
-		return new StringValue(S.value.substring(from, to));
+		return new StringValue(S.value().substring(from, to));
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-string.prototype.valueof")
@@ -817,7 +817,7 @@ public final class StringPrototype extends ObjectValue {
 			// 1. Let O be ? RequireObjectCoercible(this value).
 			final Value<?> O = requireObjectCoercible(interpreter, interpreter.thisValue(), "String.prototype[Symbol.iterator]");
 			// 2. Let S be ? ToString(O).
-			final String S = O.toStringValue(interpreter).value;
+			final String S = O.toStringValue(interpreter).value();
 			this.primitiveIterator = S.codePoints().iterator();
 			if (!primitiveIterator.hasNext()) setCompleted();
 		}
@@ -12,27 +12,144 @@ import xyz.lebster.core.value.primitive.bigint.BigIntValue;
 import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
 import xyz.lebster.core.value.primitive.number.NumberValue;
 
+import java.util.ArrayDeque;
 import java.util.PrimitiveIterator;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 
+/**
+ * Strings built by concatenation may be ropes, which keep both halves and only join them once the characters are needed.
+ * `value` is null for a rope, so it must be read through {@link StringValue#value()}.
+ * <p>
+ * Strings used as property keys are usually atoms: the single StringValue in the {@link AtomTable} for their contents.
+ * Two different atoms are never equal, so comparing keys which are both atoms only needs to compare their identity.
+ */
 public final class StringValue extends Key<String> {
-	public static final StringValue EMPTY = new StringValue("");
+	public static final StringValue EMPTY = atom("");
+	// Shorter strings are cheaper to copy than to keep as a rope
+	private static final int MIN_ROPE_LENGTH = 64;
+	// Ropes deeper than this are flattened before being concatenated further
+	private static final int MAX_ROPE_DEPTH = 1 << 12;
+
+	private final int length;
+	// The halves of a rope, until it is flattened
+	private StringValue left;
+	private StringValue right;
+	// The joined string of a rope, once it is flattened
+	private String flattened;
+	private int depth;
+	private boolean atom;
 
 	public StringValue(String value) {
 		super(value);
+		this.length = value.length();
 	}
 
 	public StringValue(char value) {
-		super(Character.toString(value));
+		this(Character.toString(value));
 	}
 
 	public StringValue(int value) {
-		super(Integer.toString(value));
+		this(Integer.toString(value));
 	}
 
 	public StringValue(long value) {
-		super(Long.toString(value));
+		this(Long.toString(value));
+	}
+
+	private StringValue(StringValue left, StringValue right) {
+		super(null);
+		this.length = left.length + right.length;
+		this.left = left;
+		this.right = right;
+		this.depth = Math.max(left.depth, right.depth) + 1;
+	}
+
+	/**
+	 * The string-concatenation of `left` and `right`, without copying either of them if the result is long.
+	 */
+	public static StringValue concat(StringValue left, StringValue right) {
+		if (left.length == 0) return right;
+		if (right.length == 0) return left;
+		if (left.length + right.length < MIN_ROPE_LENGTH || left.length + right.length < 0)
+			return new StringValue(left.value() + right.value());
+
+		if (left.depth >= MAX_ROPE_DEPTH) left.flatten();
+		if (right.depth >= MAX_ROPE_DEPTH) right.flatten();
+		return new StringValue(left, right);
+	}
+
+	/**
+	 * @return The atom for `string`, which is created if it does not exist yet
+	 */
+	public static StringValue atom(String string) {
+		return AtomTable.intern(string);
+	}
+
+	/**
+	 * Used for computed property keys. These are not made into atoms, as most strings which are only created at runtime
+	 * are not used as keys often enough for that to pay off, but they are replaced by an atom if one already exists.
+	 *
+	 * @return The atom equal to this string, or this string itself
+	 */
+	public StringValue interned() {
+		if (atom) return this;
+		final StringValue existing = AtomTable.get(value());
+		return existing == null ? this : existing;
+	}
+
+	public boolean isAtom() {
+		return atom;
+	}
+
+	void markAtom() {
+		this.atom = true;
+	}
+
+	public String value() {
+		if (value != null) return value;
+		if (left != null) flatten();
+		return flattened;
+	}
+
+	public int length() {
+		return length;
+	}
+
+	private void flatten() {
+		final char[] chars = new char[length];
+		// Copy the leaves from last to first, without recursing
+		final ArrayDeque<StringValue> pending = new ArrayDeque<>();
+		pending.push(this);
+		int end = length;
+		while (!pending.isEmpty()) {
+			final StringValue node = pending.pop();
+			if (node.left != null) {
+				pending.push(node.left);
+				pending.push(node.right);
+			} else {
+				end -= node.length;
+				node.value().getChars(0, node.length, chars, end);
+			}
+		}
+
+		this.flattened = new String(chars);
+		this.left = null;
+		this.right = null;
+		this.depth = 0;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof final StringValue other)) return false;
+		if (atom && other.atom) return false;
+		return other.length == length && other.value().equals(value());
+	}
+
+	@Override
+	public int hashCode() {
+		return value().hashCode();
 	}
 
 	@Override
@@ -47,6 +164,7 @@ public final class StringValue extends Key<String> {
 
 	@Override
 	public int toIndex() {
+		final String value = value();
 		if (value.equals("0")) return 0;
 		if (value.startsWith("0")) return -1;
 		if (value.isEmpty()) return -1;
@@ -67,7 +185,7 @@ public final class StringValue extends Key<String> {
 
 	@Override
 	public boolean equalsKey(Key<?> other) {
-		return other instanceof final StringValue stringValue && stringValue.value.equals(value);
+		return equals(other);
 	}
 
 	@Override
@@ -77,13 +195,13 @@ public final class StringValue extends Key<String> {
 
 	@Override
 	protected String rawDisplayString() {
-		return StringEscapeUtils.quote(value, false);
+		return StringEscapeUtils.quote(value(), false);
 	}
 
 	@Override
 	public void displayForObjectKey(StringBuilder builder) {
-		if (isValidIdentifier(value)) {
-			builder.append(value);
+		if (isValidIdentifier(value())) {
+			builder.append(value());
 		} else {
 			display(builder);
 		}
@@ -108,16 +226,16 @@ public final class StringValue extends Key<String> {
 
 	@Override
 	public void displayForConsoleLog(StringBuilder builder) {
-		builder.append(this.value);
+		builder.append(value());
 	}
 
 	@Override
 	@NonCompliant
 	public NumberValue toNumberValue(Interpreter interpreter) {
 		// FIXME: Follow spec
-		if (value.isBlank()) return NumberValue.ZERO;
+		if (value().isBlank()) return NumberValue.ZERO;
 
-		final String string = value.trim();
+		final String string = value().trim();
 		try {
 			if (string.toLowerCase().startsWith("0b")) return new NumberValue(Integer.parseInt(string.substring(2), 2));
 			if (string.toLowerCase().startsWith("0o")) return new NumberValue(Integer.parseInt(string.substring(2), 8));
@@ -130,7 +248,7 @@ public final class StringValue extends Key<String> {
 
 	@Override
 	public BooleanValue toBooleanValue(Interpreter interpreter) {
-		return BooleanValue.of(!value.isEmpty());
+		return BooleanValue.of(length != 0);
 	}
 
 	@Override
@@ -141,9 +259,9 @@ public final class StringValue extends Key<String> {
 	@Override
 	public BigIntValue toBigIntValue(Interpreter interpreter) throws AbruptCompletion {
 		// 1. Let n be StringToBigInt(prim).
-		final BigIntValue n = BigIntValue.stringToBigInt(value);
+		final BigIntValue n = BigIntValue.stringToBigInt(value());
 		// 2. If n is undefined, throw a SyntaxError exception.
-		if (n == null) throw error(new SyntaxErrorObject(interpreter, "Cannot convert %s to a BigInt".formatted(StringEscapeUtils.quote(value, false))));
+		if (n == null) throw error(new SyntaxErrorObject(interpreter, "Cannot convert %s to a BigInt".formatted(StringEscapeUtils.quote(value(), false))));
 		// 3. Return n.
 		return n;
 	}
@@ -18,25 +18,35 @@ import java.util.PrimitiveIterator;
 public final class StringWrapper extends PrimitiveWrapper<StringValue, StringPrototype> implements HasBuiltinTag {
 	public StringWrapper(Intrinsics intrinsics, StringValue data) {
 		super(intrinsics.stringPrototype, data);
-		this.put(Names.length, new NumberValue(data.value.length()), false, false, false);
+		this.put(Names.length, new NumberValue(data.value().length()), false, false, false);
+	}
+
+	@Override
+	protected boolean hasExoticOwnProperties() {
+		return true;
 	}
 
 	@Override
 	public PropertyDescriptor getOwnProperty(Key<?> key) {
-		final PropertyDescriptor fromMap = this.value.get(key);
+		final PropertyDescriptor fromMap = this.properties().get(key);
 		if (fromMap != null) return fromMap;
 
 		final int index = key.toIndex();
-		if (index == -1 || index >= this.data.value.length()) return null;
-		final var character = new StringValue(this.data.value.charAt(index));
+		if (index == -1 || index >= this.data.value().length()) return null;
+		final var character = new StringValue(this.data.value().charAt(index));
 		return new DataDescriptor(character, false, true, false);
 	}
 
+	@Override
+	public boolean hasIndexedProperties() {
+		return !this.data.value().isEmpty() || super.hasIndexedProperties();
+	}
+
 	@Override
 	public boolean hasOwnProperty(Key<?> key) {
-		if (this.value.containsKey(key)) return true;
+		if (this.properties().containsKey(key)) return true;
 		final int index = key.toIndex();
-		return index != -1 && index < this.data.value.length();
+		return index != -1 && index < this.data.value().length();
 	}
 
 	@Override
@@ -44,7 +54,7 @@ public final class StringWrapper extends PrimitiveWrapper<StringValue, StringPro
 	@NonCompliant
 	public Iterable<Key<?>> ownPropertyKeys() {
 		return () -> new Iterator<>() {
-			private final PrimitiveIterator.OfInt codePoints = data.value.codePoints().iterator();
+			private final PrimitiveIterator.OfInt codePoints = data.value().codePoints().iterator();
 			private final Iterator<Key<?>> properties = StringWrapper.super.ownPropertyKeys().iterator();
 			private int codePointIndex = 0;
 
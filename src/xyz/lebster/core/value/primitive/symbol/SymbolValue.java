@@ -87,7 +87,7 @@ public final class SymbolValue extends Key<Void> {
 
 	@Override
 	public StringValue toFunctionName() {
-		return new StringValue('[' + description.value + ']');
+		return new StringValue('[' + description.value() + ']');
 	}
 
 	@Override
@@ -141,7 +141,7 @@ public final class SymbolValue extends Key<Void> {
 	}
 
 	public String symbolDescriptiveString() {
-		return "Symbol(" + (description == null ? "" : description.value) + ")";
+		return "Symbol(" + (description == null ? "" : description.value()) + ")";
 	}
 
 	@Override
@@ -246,9 +246,9 @@ public class RegExpPrototype extends ObjectValue {
 		if (!(R instanceof final ObjectValue object))
 			throw error(interpreter.incompatibleReceiver("RegExp.prototype", "an object"));
 		// 3. Let pattern be ? ToString(? Get(R, "source")).
-		final String pattern = object.get(interpreter, Names.source).toStringValue(interpreter).value;
+		final String pattern = object.get(interpreter, Names.source).toStringValue(interpreter).value();
 		// 4. Let flags be ? ToString(? Get(R, "flags")).
-		final String flags = object.get(interpreter, Names.flags).toStringValue(interpreter).value;
+		final String flags = object.get(interpreter, Names.flags).toStringValue(interpreter).value();
 		// 5. Let result be the string-concatenation of "/", pattern, "/", and flags.
 		final String result = "/" + pattern + "/" + flags;
 		// 6. Return result.
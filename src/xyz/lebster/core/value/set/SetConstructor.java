@@ -5,14 +5,13 @@ import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.Intrinsics;
 import xyz.lebster.core.value.BuiltinConstructor;
+import xyz.lebster.core.value.KeyedCollectionData;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.error.type.TypeError;
 import xyz.lebster.core.value.function.Executable;
 import xyz.lebster.core.value.object.ObjectValue;
 
-import java.util.ArrayList;
-
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 import static xyz.lebster.core.value.function.NativeFunction.argument;
 import static xyz.lebster.core.value.iterator.IteratorPrototype.getIterator;
@@ -37,7 +36,7 @@ public class SetConstructor extends BuiltinConstructor<SetObject, SetPrototype>
 		final Value<?> iterable = argument(0, arguments);
 
 		// 3. Set set.[[SetData]] to a new empty List.
-		final var setData = new ArrayList<Value<?>>();
+		final var setData = new KeyedCollectionData();
 
 		// FIXME: 2. Let set be ? OrdinaryCreateFromConstructor(NewTarget, "%Set.prototype%", « [[SetData]] »).
 		final var set = new SetObject(interpreter.intrinsics, setData);
@@ -3,7 +3,7 @@ package xyz.lebster.core.value.set;
 import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.interpreter.Intrinsics;
 import xyz.lebster.core.value.Displayable;
-import xyz.lebster.core.value.Value;
+import xyz.lebster.core.value.KeyedCollectionData;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.number.NumberValue;
 
@@ -11,9 +11,9 @@ import java.util.ArrayList;
 
 @SpecificationURL("https://tc39.es/ecma262/multipage#sec-set-objects")
 public final class SetObject extends ObjectValue {
-	public final ArrayList<Value<?>> setData;
+	public final KeyedCollectionData setData;
 
-	public SetObject(Intrinsics intrinsics, ArrayList<Value<?>> setData) {
+	public SetObject(Intrinsics intrinsics, KeyedCollectionData setData) {
 		super(intrinsics.setPrototype);
 		this.setData = setData;
 	}
@@ -21,31 +21,24 @@ public final class SetObject extends ObjectValue {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-setdatasize")
 	public int size() {
 		// 1. Let count be 0.
-		int count = 0;
 		// 2. For each element e of setData, do
-		for (final Value<?> e : setData) {
-			// a. If e is not EMPTY, set count to count + 1.
-			if (e != null) count = count + 1;
-		}
-
+		// a. If e is not EMPTY, set count to count + 1.
 		// 3. Return count.
-		return count;
+		return setData.size();
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-get-set.prototype.size")
 	NumberValue getSize() {
 		// 3. Let size be SetDataSize(S.[[SetData]]).
 		// 4. Return 𝔽(size).
-		return new NumberValue(size());
+		return NumberValue.of(size());
 	}
 
 	@Override
 	public Iterable<Displayable> displayableValues() {
 		final ArrayList<Displayable> result = new ArrayList<>(setData.size());
-		for (final Value<?> e : setData) {
-			if (e != null) {
-				result.add(e);
-			}
+		for (final var cursor = setData.cursor(); cursor.advance(); ) {
+			result.add(cursor.key());
 		}
 
 		return result;
@@ -4,12 +4,14 @@ import xyz.lebster.core.SpecificationURL;
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
 import xyz.lebster.core.interpreter.Intrinsics;
+import xyz.lebster.core.value.KeyedCollectionData;
 import xyz.lebster.core.value.Names;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.array.ArrayObject;
 import xyz.lebster.core.value.error.range.RangeError;
 import xyz.lebster.core.value.error.type.TypeError;
 import xyz.lebster.core.value.function.Executable;
+import xyz.lebster.core.value.function.NativeFunction;
 import xyz.lebster.core.value.globals.Undefined;
 import xyz.lebster.core.value.iterator.IteratorObject;
 import xyz.lebster.core.value.iterator.IteratorRecord;
@@ -18,17 +20,17 @@ import xyz.lebster.core.value.primitive.boolean_.BooleanValue;
 import xyz.lebster.core.value.primitive.number.NumberValue;
 import xyz.lebster.core.value.primitive.symbol.SymbolValue;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.IdentityHashMap;
 
 import static xyz.lebster.core.interpreter.AbruptCompletion.error;
 import static xyz.lebster.core.value.function.NativeFunction.argument;
 import static xyz.lebster.core.value.iterator.IteratorPrototype.getIteratorFromMethod;
 import static xyz.lebster.core.value.primitive.number.NumberPrototype.toIntegerOrInfinity;
-import static xyz.lebster.core.value.primitive.number.NumberValue.isNegativeZero;
 
 @SpecificationURL("https://tc39.es/ecma262/multipage#sec-properties-of-the-set-prototype-object")
 public final class SetPrototype extends ObjectValue {
+	private NativeFunction hasMethod;
+
 	public SetPrototype(Intrinsics intrinsics) {
 		super(intrinsics);
 
@@ -38,7 +40,7 @@ public final class SetPrototype extends ObjectValue {
 		putMethod(intrinsics, Names.difference, 1, SetPrototype::difference);
 		putMethod(intrinsics, Names.entries, 0, SetPrototype::entries);
 		putMethod(intrinsics, Names.forEach, 1, SetPrototype::forEach);
-		putMethod(intrinsics, Names.has, 1, SetPrototype::has);
+		hasMethod = putMethod(intrinsics, Names.has, 1, SetPrototype::has);
 		putMethod(intrinsics, Names.intersection, 1, SetPrototype::intersection);
 		putMethod(intrinsics, Names.isDisjointFrom, 1, SetPrototype::isDisjointFrom);
 		putMethod(intrinsics, Names.isSubsetOf, 1, SetPrototype::isSubsetOf);
@@ -55,8 +57,22 @@ public final class SetPrototype extends ObjectValue {
 		putAccessor(intrinsics, Names.size, ($, __) -> requireSetData($).getSize(), null, false, true);
 	}
 
+	@Override
+	protected void copyReferences(IdentityHashMap<ObjectValue, ObjectValue> copies) {
+		hasMethod = ObjectValue.copy(hasMethod, copies);
+	}
+
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-set-records")
 	private record SetRecord(ObjectValue setObject, int size, Executable has, Executable keys) {
+		/**
+		 * Equivalent to ToBoolean(? Call(setRecord.[[Has]], setRecord.[[SetObject]], « value »))
+		 */
+		private boolean contains(Interpreter interpreter, Value<?> value) throws AbruptCompletion {
+			// Calling the built-in %Set.prototype.has% on a Set is unobservable, so the Set can be queried directly
+			if (setObject instanceof final SetObject set && has == interpreter.intrinsics.setPrototype.hasMethod)
+				return set.setData.has(value);
+			return has.call(interpreter, setObject, value).isTruthy(interpreter);
+		}
 	}
 
 	private static SetObject requireSetData(Interpreter interpreter) throws AbruptCompletion {
@@ -98,26 +114,19 @@ public final class SetPrototype extends ObjectValue {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-set.prototype.add")
 	private static Value<?> add(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
 		// 24.2.3.1 Set.prototype.add ( value )
-		Value<?> value = argument(0, arguments);
+		final Value<?> value = argument(0, arguments);
 
 		// 1. Let S be the `this` value.
 		// 2. Perform ? RequireInternalSlot(S, [[SetData]]).
 		final SetObject S = requireSetData(interpreter);
 
 		// 3. Let entries be the List that is S.[[SetData]].
-		final ArrayList<Value<?>> entries = S.setData;
 		// 4. For each element e of entries, do
-		for (final Value<?> e : entries) {
-			// a. If e is not empty and SameValueZero(e, value) is true, then
-			if (e != null && e.sameValueZero(value))
-				// i. Return S.
-				return S;
-		}
-
+		// a. If e is not empty and SameValueZero(e, value) is true, then
+		// i. Return S.
 		// 5. If value is -0𝔽, set value to +0𝔽.
-		if (isNegativeZero(value)) value = NumberValue.ZERO;
 		// 6. Append value to entries.
-		entries.add(value);
+		S.setData.add(value);
 		// 7. Return S.
 		return S;
 	}
@@ -130,9 +139,8 @@ public final class SetPrototype extends ObjectValue {
 		// 2. Perform ? RequireInternalSlot(S, [[SetData]]).
 		final SetObject S = requireSetData(interpreter);
 		// 3. Let entries be the List that is S.[[SetData]].
-		final ArrayList<Value<?>> entries = S.setData;
 		// 4. For each element e of entries, do: replace the element of entries whose value is e with an element whose value is empty.
-		Collections.fill(entries, null);
+		S.setData.clear();
 		// 5. Return undefined.
 		return Undefined.instance;
 	}
@@ -146,21 +154,12 @@ public final class SetPrototype extends ObjectValue {
 		// 2. Perform ? RequireInternalSlot(S, [[SetData]]).
 		final SetObject S = requireSetData(interpreter);
 		// 3. Let entries be the List that is S.[[SetData]].
-		final ArrayList<Value<?>> entries = S.setData;
 		// 4. For each element e of entries, do
-		for (int i = 0; i < entries.size(); i++) {
-			final Value<?> e = entries.get(i);
-			// a. If e is not empty and SameValueZero(e, value) is true, then
-			if (e != null && e.sameValueZero(value)) {
-				// i. Replace the element of entries whose value is e with an element whose value is empty.
-				entries.set(i, null);
-				// ii. Return true.
-				return BooleanValue.TRUE;
-			}
-		}
-
+		// a. If e is not empty and SameValueZero(e, value) is true, then
+		// i. Replace the element of entries whose value is e with an element whose value is empty.
+		// ii. Return true.
 		// 5. Return false.
-		return BooleanValue.FALSE;
+		return BooleanValue.of(S.setData.remove(value));
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-set.prototype.entries")
@@ -185,25 +184,18 @@ public final class SetPrototype extends ObjectValue {
 		// 3. If IsCallable(callbackfn) is false, throw a TypeError exception.
 		final Executable callbackfn = Executable.getExecutable(interpreter, callbackfn_);
 		// 4. Let entries be the List that is S.[[SetData]].
-		final ArrayList<Value<?>> entries = S.setData;
 		// 5. Let numEntries be the number of elements of entries.
-		int numEntries = entries.size();
 		// 6. Let index be 0.
-		int index = 0;
 		// 7. Repeat, while index < numEntries,
-		while (index < numEntries) {
-			// a. Let e be entries[index].
-			final Value<?> e = entries.get(index);
-			// b. Set index to index + 1.
-			index = index + 1;
-			// c. If e is not empty, then
-			if (e != null) {
-				// i. Perform ? Call(callbackfn, thisArg, « e, e, S »).
-				callbackfn.call(interpreter, thisArg, e, e, S);
-				// ii. NOTE: The number of elements in entries may have increased during execution of callbackfn.
-				// iii. Set numEntries to the number of elements of entries.
-				numEntries = entries.size();
-			}
+		// a. Let e be entries[index].
+		// b. Set index to index + 1.
+		// c. If e is not empty, then
+		for (final var cursor = S.setData.cursor(); cursor.advance(); ) {
+			final Value<?> e = cursor.key();
+			// i. Perform ? Call(callbackfn, thisArg, « e, e, S »).
+			callbackfn.call(interpreter, thisArg, e, e, S);
+			// ii. NOTE: The number of elements in entries may have increased during execution of callbackfn.
+			// iii. Set numEntries to the number of elements of entries.
 		}
 
 		// 8. Return undefined.
@@ -219,15 +211,10 @@ public final class SetPrototype extends ObjectValue {
 		// 2. Perform ? RequireInternalSlot(S, [[SetData]]).
 		final SetObject S = requireSetData(interpreter);
 		// 3. Let entries be the List that is S.[[SetData]].
-		final ArrayList<Value<?>> entries = S.setData;
 		// 4. For each element e of entries, do
-		for (final Value<?> e : entries) {
-			// a. If e is not empty and SameValueZero(e, value) is true, return true.
-			if (e != null && e.sameValueZero(value)) return BooleanValue.TRUE;
-		}
-
+		// a. If e is not empty and SameValueZero(e, value) is true, return true.
 		// 5. Return false.
-		return BooleanValue.FALSE;
+		return BooleanValue.of(S.setData.has(value));
 	}
 
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-set.prototype.values")
@@ -240,27 +227,6 @@ public final class SetPrototype extends ObjectValue {
 		return new SetIterator(interpreter, S, true);
 	}
 
-	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-setdataindex")
-	private static int setDataIndex(ArrayList<Value<?>> setData, Value<?> value) {
-		// 1. Set value to CanonicalizeKeyedCollectionKey(value).
-		// 2. Let size be the number of elements in setData.
-		// 3. Let index be 0.
-		// 4. Repeat, while index < size,
-		// a. Let e be setData[index].
-		// b. If e is not EMPTY and e is value, then
-		// i. Return index.
-		// c. Set index to index + 1.
-		// 5. Return NOT-FOUND.
-		return setData.indexOf(value.canonicalizeKeyedCollectionKey());
-	}
-
-	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-setdatahas")
-	private static boolean setDataHas(ArrayList<Value<?>> setData, Value<?> value) {
-		// 1. If SetDataIndex(setData, value) is NOT-FOUND, return false.
-		// 2. Return true.
-		return setData.contains(value.canonicalizeKeyedCollectionKey());
-	}
-
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-set.prototype.difference")
 	private static SetObject difference(Interpreter interpreter, Value<?>[] arguments) throws AbruptCompletion {
 		// 24.2.4.5 Set.prototype.difference ( other )
@@ -272,25 +238,22 @@ public final class SetPrototype extends ObjectValue {
 		// 3. Let otherRec be ? GetSetRecord(other).
 		final SetRecord otherRec = getSetRecord(interpreter, other, "difference");
 		// 4. Let resultSetData be a copy of O.[[SetData]].
-		final ArrayList<Value<?>> resultSetData = new ArrayList<>(O.setData);
+		final KeyedCollectionData resultSetData = O.setData.copy();
 		// 5. If SetDataSize(O.[[SetData]]) ≤ otherRec.[[Size]], then
 		if (O.size() <= otherRec.size()) {
 			// a. Let thisSize be the number of elements in O.[[SetData]].
-			final int thisSize = O.setData.size();
 			// b. Let index be 0.
 			// c. Repeat, while index < thisSize,
-			for (int index = 0; index < thisSize; index = index + 1) {
-				// i. Let e be resultSetData[index].
-				final Value<?> e = resultSetData.get(index);
-				// ii. If e is not EMPTY, then
-				if (e != null) {
-					// 1. Let inOther be ToBoolean(? Call(otherRec.[[Has]], otherRec.[[SetObject]], « e »)).
-					final boolean inOther = otherRec.has().call(interpreter, otherRec.setObject(), e).isTruthy(interpreter);
-					// 2. If inOther is true, then
-					if (inOther) {
-						// a. Set resultSetData[index] to EMPTY.
-						resultSetData.set(index, null);
-					}
+			// i. Let e be resultSetData[index].
+			// ii. If e is not EMPTY, then
+			for (final var cursor = resultSetData.cursor(); cursor.advance(); ) {
+				final Value<?> e = cursor.key();
+				// 1. Let inOther be ToBoolean(? Call(otherRec.[[Has]], otherRec.[[SetObject]], « e »)).
+				final boolean inOther = otherRec.contains(interpreter, e);
+				// 2. If inOther is true, then
+				if (inOther) {
+					// a. Set resultSetData[index] to EMPTY.
+					resultSetData.remove(e);
 				}
 				// iii. Set index to index + 1.
 			}
@@ -308,14 +271,10 @@ public final class SetPrototype extends ObjectValue {
 				// ii. If next is not DONE, then
 				if (next != null) {
 					// 1. Set next to CanonicalizeKeyedCollectionKey(next).
-					next = next.canonicalizeKeyedCollectionKey();
 					// 2. Let valueIndex be SetDataIndex(resultSetData, next).
-					final int valueIndex = setDataIndex(resultSetData, next);
 					// 3. If valueIndex is not NOT-FOUND, then
-					if (valueIndex != -1) {
-						// a. Set resultSetData[valueIndex] to EMPTY.
-						resultSetData.set(valueIndex, null);
-					}
+					// a. Set resultSetData[valueIndex] to EMPTY.
+					resultSetData.remove(next);
 				}
 
 			} while (next != null);
@@ -338,37 +297,29 @@ public final class SetPrototype extends ObjectValue {
 		// 3. Let otherRec be ? GetSetRecord(other).
 		final SetRecord otherRec = getSetRecord(interpreter, other, "intersection");
 		// 4. Let resultSetData be a new empty List.
-		final ArrayList<Value<?>> resultSetData = new ArrayList<>();
+		final KeyedCollectionData resultSetData = new KeyedCollectionData();
 		// 5. If SetDataSize(O.[[SetData]]) ≤ otherRec.[[Size]], then
 		if (O.size() <= otherRec.size()) {
 			// a. Let thisSize be the number of elements in O.[[SetData]].
-			int thisSize = O.setData.size();
 			// b. Let index be 0.
-			int index = 0;
 			// c. Repeat, while index < thisSize,
-			while (index < thisSize) {
-				// i. Let e be O.[[SetData]][index].
-				final Value<?> e = O.setData.get(index);
-				// ii. Set index to index + 1.
-				index++;
-				// iii. If e is not EMPTY, then
-				if (e != null) {
-					// 1. Let inOther be ToBoolean(? Call(otherRec.[[Has]], otherRec.[[SetObject]], « e »)).
-					final boolean inOther = otherRec.has().call(interpreter, otherRec.setObject(), e).isTruthy(interpreter);
-					// 2. If inOther is true, then
-					if (inOther) {
-						// a. NOTE: It is possible for earlier calls to otherRec.[[Has]] to remove and re-add an element of O.[[SetData]],
-						// which can cause the same element to be visited twice during this iteration.
-						// b. If SetDataHas(resultSetData, e) is false, then
-						if (!setDataHas(resultSetData, e)) {
-							// i. Append e to resultSetData.
-							resultSetData.add(e);
-						}
-					}
-					// 3. NOTE: The number of elements in O.[[SetData]] may have increased during execution of otherRec.[[Has]].
-					// 4. Set thisSize to the number of elements in O.[[SetData]].
-					thisSize = O.setData.size();
+			// i. Let e be O.[[SetData]][index].
+			// ii. Set index to index + 1.
+			// iii. If e is not EMPTY, then
+			for (final var cursor = O.setData.cursor(); cursor.advance(); ) {
+				final Value<?> e = cursor.key();
+				// 1. Let inOther be ToBoolean(? Call(otherRec.[[Has]], otherRec.[[SetObject]], « e »)).
+				final boolean inOther = otherRec.contains(interpreter, e);
+				// 2. If inOther is true, then
+				if (inOther) {
+					// a. NOTE: It is possible for earlier calls to otherRec.[[Has]] to remove and re-add an element of O.[[SetData]],
+					// which can cause the same element to be visited twice during this iteration.
+					// b. If SetDataHas(resultSetData, e) is false, then
+					// i. Append e to resultSetData.
+					resultSetData.add(e);
 				}
+				// 3. NOTE: The number of elements in O.[[SetData]] may have increased during execution of otherRec.[[Has]].
+				// 4. Set thisSize to the number of elements in O.[[SetData]].
 			}
 		}
 		// 6. Else,
@@ -386,16 +337,14 @@ public final class SetPrototype extends ObjectValue {
 					// 1. Set next to CanonicalizeKeyedCollectionKey(next).
 					next = next.canonicalizeKeyedCollectionKey();
 					// 2. Let inThis be SetDataHas(O.[[SetData]], next).
-					final boolean inThis = setDataHas(O.setData, next);
+					final boolean inThis = O.setData.has(next);
 					// 3. If inThis is true, then
 					if (inThis) {
 						// a. NOTE: Because other is an arbitrary object, it is possible for its
 						// "keys" iterator to produce the same value more than once.
 						// b. If SetDataHas(resultSetData, next) is false, then
-						if (!setDataHas(resultSetData, next)) {
-							// i. Append next to resultSetData.
-							resultSetData.add(next);
-						}
+						// i. Append next to resultSetData.
+						resultSetData.add(next);
 					}
 				}
 			} while (next != null);
@@ -420,25 +369,18 @@ public final class SetPrototype extends ObjectValue {
 		// 4. If SetDataSize(O.[[SetData]]) ≤ otherRec.[[Size]], then
 		if (O.size() <= otherRec.size()) {
 			// a. Let thisSize be the number of elements in O.[[SetData]].
-			int thisSize = O.setData.size();
 			// b. Let index be 0.
-			int index = 0;
 			// c. Repeat, while index < thisSize,
-			while (index < thisSize) {
-				// i. Let e be O.[[SetData]][index].
-				final Value<?> e = O.setData.get(index);
-				// ii. Set index to index + 1.
-				index++;
-				// iii. If e is not EMPTY, then
-				if (e != null) {
-					// 1. Let inOther be ToBoolean(? Call(otherRec.[[Has]], otherRec.[[SetObject]], « e »)).
-					final boolean inOther = otherRec.has().call(interpreter, otherRec.setObject(), e).isTruthy(interpreter);
-					// 2. If inOther is true, return false.
-					if (inOther) return BooleanValue.FALSE;
-					// 3. NOTE: The number of elements in O.[[SetData]] may have increased during execution of otherRec.[[Has]].
-					// 4. Set thisSize to the number of elements in O.[[SetData]].
-					thisSize = O.setData.size();
-				}
+			// i. Let e be O.[[SetData]][index].
+			// ii. Set index to index + 1.
+			// iii. If e is not EMPTY, then
+			for (final var cursor = O.setData.cursor(); cursor.advance(); ) {
+				// 1. Let inOther be ToBoolean(? Call(otherRec.[[Has]], otherRec.[[SetObject]], « e »)).
+				final boolean inOther = otherRec.contains(interpreter, cursor.key());
+				// 2. If inOther is true, return false.
+				if (inOther) return BooleanValue.FALSE;
+				// 3. NOTE: The number of elements in O.[[SetData]] may have increased during execution of otherRec.[[Has]].
+				// 4. Set thisSize to the number of elements in O.[[SetData]].
 			}
 
 		}
@@ -455,7 +397,7 @@ public final class SetPrototype extends ObjectValue {
 				// ii. If next is not DONE, then
 				if (next != null) {
 					// 1. If SetDataHas(O.[[SetData]], next) is true, then
-					if (setDataHas(O.setData, next)) {
+					if (O.setData.has(next)) {
 						// TODO: a. Perform ? IteratorClose(keysIter, NormalCompletion(UNUSED)).
 						// b. Return false.
 						return BooleanValue.FALSE;
@@ -481,25 +423,18 @@ public final class SetPrototype extends ObjectValue {
 		// 4. If SetDataSize(O.[[SetData]]) > otherRec.[[Size]], return false.
 		if (O.size() > otherRec.size()) return BooleanValue.FALSE;
 		// 5. Let thisSize be the number of elements in O.[[SetData]].
-		int thisSize = O.setData.size();
 		// 6. Let index be 0.
-		int index = 0;
 		// 7. Repeat, while index < thisSize,
-		while (index < thisSize) {
-			// a. Let e be O.[[SetData]][index].
-			final Value<?> e = O.setData.get(index);
-			// b. Set index to index + 1.
-			index++;
-			// c. If e is not EMPTY, then
-			if (e != null) {
-				// i. Let inOther be ToBoolean(? Call(otherRec.[[Has]], otherRec.[[SetObject]], « e »)).
-				final boolean inOther = otherRec.has().call(interpreter, otherRec.setObject(), e).isTruthy(interpreter);
-				// ii. If inOther is false, return false.
-				if (!inOther) return BooleanValue.FALSE;
-				// iii. NOTE: The number of elements in O.[[SetData]] may have increased during execution of otherRec.[[Has]].
-				// iv. Set thisSize to the number of elements in O.[[SetData]].
-				thisSize = O.setData.size();
-			}
+		// a. Let e be O.[[SetData]][index].
+		// b. Set index to index + 1.
+		// c. If e is not EMPTY, then
+		for (final var cursor = O.setData.cursor(); cursor.advance(); ) {
+			// i. Let inOther be ToBoolean(? Call(otherRec.[[Has]], otherRec.[[SetObject]], « e »)).
+			final boolean inOther = otherRec.contains(interpreter, cursor.key());
+			// ii. If inOther is false, return false.
+			if (!inOther) return BooleanValue.FALSE;
+			// iii. NOTE: The number of elements in O.[[SetData]] may have increased during execution of otherRec.[[Has]].
+			// iv. Set thisSize to the number of elements in O.[[SetData]].
 		}
 
 		// 8. Return true.
@@ -517,7 +452,7 @@ public final class SetPrototype extends ObjectValue {
 		// 3. Let otherRec be ? GetSetRecord(other).
 		final var otherRec = getSetRecord(interpreter, other, "isSupersetOf");
 		// 4. If SetDataSize(O.[[SetData]]) < otherRec.[[Size]], return false.
-		if (O.setData.size() < otherRec.size()) return BooleanValue.FALSE;
+		if (O.size() < otherRec.size()) return BooleanValue.FALSE;
 		// 5. Let keysIter be ? GetIteratorFromMethod(otherRec.[[SetObject]], otherRec.[[Keys]]).
 		final IteratorRecord keysIter = getIteratorFromMethod(interpreter, otherRec.setObject(), otherRec.keys());
 		// 6. Let next be NOT-STARTED.
@@ -529,7 +464,7 @@ public final class SetPrototype extends ObjectValue {
 			// b. If next is not DONE, then
 			if (next != null) {
 				// i. If SetDataHas(O.[[SetData]], next) is false, then
-				if (!setDataHas(O.setData, next)) {
+				if (!O.setData.has(next)) {
 					// TODO: 1. Perform ? IteratorClose(keysIter, NormalCompletion(UNUSED)).
 					// 2. Return false.
 					return BooleanValue.FALSE;
@@ -554,7 +489,7 @@ public final class SetPrototype extends ObjectValue {
 		// 4. Let keysIter be ? GetIteratorFromMethod(otherRec.[[SetObject]], otherRec.[[Keys]]).
 		final IteratorRecord keysIter = getIteratorFromMethod(interpreter, otherRec.setObject(), otherRec.keys());
 		// 5. Let resultSetData be a copy of O.[[SetData]].
-		final ArrayList<Value<?>> resultSetData = new ArrayList<>(O.setData);
+		final KeyedCollectionData resultSetData = O.setData.copy();
 		// 6. Let next be NOT-STARTED.
 		Value<?> next;
 		// 7. Repeat, while next is not DONE,
@@ -566,13 +501,12 @@ public final class SetPrototype extends ObjectValue {
 				// i. Set next to CanonicalizeKeyedCollectionKey(next).
 				next = next.canonicalizeKeyedCollectionKey();
 				// ii. Let resultIndex be SetDataIndex(resultSetData, next).
-				final int resultIndex = setDataIndex(resultSetData, next);
 				// iii. If resultIndex is NOT-FOUND, let alreadyInResult be false. Otherwise, let alreadyInResult be true.
-				final boolean alreadyInResult = resultIndex != -1;
+				final boolean alreadyInResult = resultSetData.has(next);
 				// iv. If SetDataHas(O.[[SetData]], next) is true, then
-				if (setDataHas(O.setData, next)) {
+				if (O.setData.has(next)) {
 					// 1. If alreadyInResult is true, set resultSetData[resultIndex] to EMPTY.
-					if (alreadyInResult) resultSetData.set(resultIndex, null);
+					if (alreadyInResult) resultSetData.remove(next);
 				}
 				// v. Else,
 				else {
@@ -601,7 +535,7 @@ public final class SetPrototype extends ObjectValue {
 		// 4. Let keysIter be ? GetIteratorFromMethod(otherRec.[[SetObject]], otherRec.[[Keys]]).
 		final var keysIter = getIteratorFromMethod(interpreter, otherRec.setObject(), otherRec.keys());
 		// 5. Let resultSetData be a copy of O.[[SetData]].
-		final var resultSetData = new ArrayList<>(O.setData);
+		final var resultSetData = O.setData.copy();
 		// 6. Let next be NOT-STARTED.
 		Value<?> next;
 		// 7. Repeat, while next is not DONE,
@@ -611,12 +545,9 @@ public final class SetPrototype extends ObjectValue {
 			// b. If next is not DONE, then
 			if (next != null) {
 				// i. Set next to CanonicalizeKeyedCollectionKey(next).
-				next = next.canonicalizeKeyedCollectionKey();
 				// ii. If SetDataHas(resultSetData, next) is false, then
-				if (!setDataHas(resultSetData, next)) {
-					// 1. Append next to resultSetData.
-					resultSetData.add(next);
-				}
+				// 1. Append next to resultSetData.
+				resultSetData.add(next);
 			}
 		} while (next != null);
 
@@ -629,26 +560,19 @@ public final class SetPrototype extends ObjectValue {
 	@SpecificationURL("https://tc39.es/ecma262/multipage#sec-createsetiterator")
 	private static class SetIterator extends IteratorObject {
 		private final boolean valuesOnly;
-		private final ArrayList<Value<?>> entries;
-		private int index;
+		private final KeyedCollectionData.Cursor cursor;
 
 		private SetIterator(Interpreter interpreter, SetObject set, boolean valuesOnly) {
 			super(interpreter.intrinsics);
-			this.index = 0;
-			this.entries = set.setData;
+			this.cursor = set.setData.cursor();
 			this.valuesOnly = valuesOnly;
 		}
 
 		@Override
 		public Value<?> next(Interpreter interpreter, Value<?>[] arguments) {
-			while (true) {
-				if (index >= entries.size()) return setCompleted();
-
-				final Value<?> value = entries.get(index);
-				index = index + 1;
-				if (value == null) continue;
-				return valuesOnly ? value : new ArrayObject(interpreter, value, value);
-			}
+			if (!cursor.advance()) return setCompleted();
+			final Value<?> value = cursor.key();
+			return valuesOnly ? value : new ArrayObject(interpreter, value, value);
 		}
 	}
 }
\ No newline at end of file
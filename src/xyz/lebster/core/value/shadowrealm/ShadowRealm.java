@@ -2,7 +2,6 @@ package xyz.lebster.core.value.shadowrealm;
 
 import xyz.lebster.core.interpreter.AbruptCompletion;
 import xyz.lebster.core.interpreter.Interpreter;
-import xyz.lebster.core.interpreter.Intrinsics;
 import xyz.lebster.core.value.Value;
 import xyz.lebster.core.value.object.ObjectValue;
 import xyz.lebster.core.value.primitive.string.StringValue;
@@ -10,17 +9,19 @@ import xyz.lebster.core.value.primitive.string.StringValue;
 import static xyz.lebster.core.node.declaration.Kind.Let;
 
 public final class ShadowRealm extends ObjectValue {
-	private final Interpreter interpreter = new Interpreter();
+	private final Interpreter interpreter;
 
-	public ShadowRealm(Intrinsics intrinsics) {
-		super(intrinsics.shadowRealmPrototype);
+	public ShadowRealm(Interpreter parent) {
+		super(parent.intrinsics.shadowRealmPrototype);
+		this.interpreter = new Interpreter(parent);
 	}
 
 	public Value<?> evaluate(String sourceText) throws AbruptCompletion {
+		// Parsed programs are cached by the ParseCache shared with the parent interpreter
 		return interpreter.runtimeParse(sourceText).execute(interpreter);
 	}
 
 	public void declare(StringValue name, Value<?> value) throws AbruptCompletion {
 		interpreter.declareVariable(Let, name, value);
 	}
-}
+}
\ No newline at end of file
@@ -18,7 +18,7 @@ public final class ShadowRealmConstructor extends BuiltinConstructor<ShadowRealm
 
 	@Override
 	public ShadowRealm construct(Interpreter interpreter, Value<?>[] arguments, ObjectValue newTarget) {
-		return new ShadowRealm(interpreter.intrinsics);
+		return new ShadowRealm(interpreter);
 	}
 
 	@Override
@@ -35,7 +35,7 @@ public final class ShadowRealmPrototype extends ObjectValue {
 
 		final Value<?>[] results = new Value[arguments.length];
 		for (int i = 0; i < arguments.length; i++) {
-			results[i] = shadowRealm.evaluate(arguments[i].toStringValue(interpreter).value);
+			results[i] = shadowRealm.evaluate(arguments[i].toStringValue(interpreter).value());
 		}
 
 		return results.length == 1 ? results[0] : new ArrayObject(interpreter, results);
@@ -0,0 +1,65 @@
+// Embedding.execute() runs a script through the embedding API (xyz.lebster.api.Engine), converting its bindings and its
+// result to Java objects and back.
+
+// that results are converted to Java and back
+{
+    Test.expectEqual(3, Embedding.execute("1 + 2"));
+    Test.expectEqual("ab", Embedding.execute("'a' + 'b'"));
+    Test.expectEqual(true, Embedding.execute("1 < 2"));
+    Test.expectEqual(10n, Embedding.execute("10n"));
+    Test.expectEqual(null, Embedding.execute("null"));
+    Test.expectEqual(null, Embedding.execute("undefined"));
+    Test.expectEqual([1, "two", [3]], Embedding.execute("[1, 'two', [3]]"));
+    Test.expectEqual([1, null, 3], Embedding.execute("[1, , 3]"));
+    Test.expectEqual({ a: 1, b: { c: [true] } }, Embedding.execute("({ a: 1, b: { c: [true] } })"));
+}
+
+// that symbol keys are left out
+{
+    Test.expectEqual({ a: 1 }, Embedding.execute("({ a: 1, [Symbol()]: 2 })"));
+}
+
+// that functions, symbols and objects which contain themselves are passed through
+{
+    Test.expectEqual("function", typeof Embedding.execute("(function f() {})"));
+    Test.expectEqual("symbol", typeof Embedding.execute("Symbol('s')"));
+
+    // The copy of `o` holds the original, which is left as it is when it is reached again
+    const result = Embedding.execute("const o = { name: 'o' }; o.self = o; o");
+    Test.expectEqual("o", result.name);
+    Test.expectEqual("o", result.self.name);
+    Test.expectEqual(true, result.self.self === result.self);
+}
+
+// that bindings are declared as globals
+{
+    Test.expectEqual(3, Embedding.execute("a + b.length", { a: 1, b: [1, 2] }));
+    Test.expectEqual("y", Embedding.execute("o.x", { o: { x: "y" } }));
+    Test.expectEqual(null, Embedding.execute("n", { n: null }));
+    Test.expectEqual(4, Embedding.execute("f(2)", { f: x => x * 2 }));
+}
+
+// that each script runs in a fresh realm
+{
+    Embedding.execute("globalThis.leaked = 1; Array.prototype.extra = 2; let declared = 3;");
+    for (let i = 0; i < 3; i++) {
+        Test.expectEqual("undefined", Embedding.execute("typeof leaked"));
+        Test.expectEqual("undefined", Embedding.execute("typeof [].extra"));
+        Test.expectEqual("undefined", Embedding.execute("typeof declared"));
+    }
+}
+
+// that syntax errors and thrown values are reported
+{
+    Test.expectError("Error", "SyntaxError", () => Embedding.execute("let = ;"));
+    Test.expectError("Error", "TypeError: Cannot read property 'x'", () => Embedding.execute("null.x"));
+    Test.expectError("Error", "RangeError: boom", () => Embedding.execute("throw new RangeError('boom')"));
+    Test.expectError("Error", "Uncaught 1", () => Embedding.execute("throw 1"));
+}
+
+// that a script's inline caches keep hitting when it is executed in more realms than a cache has entries
+{
+    const hits = Embedding.inlineCacheHits("const o = { x: 1 }; o.x; o", 8);
+    Test.expectEqual(8, hits.length);
+    for (const hit of hits) Test.expectEqual(true, hit);
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+// Embedding.parseCacheCounts() executes a script on an Engine whose interpreters keep the given number of programs
+// parsed by eval(), and returns the [hits, misses] of their parse cache while it ran.
+
+// that repeated source texts are only parsed once
+{
+    Test.expectEqual([2, 1], Embedding.parseCacheCounts("eval('1'); eval('1'); eval('1')", 2));
+    Test.expectEqual([0, 2], Embedding.parseCacheCounts("eval('1'); eval('2')", 2));
+}
+
+// that the least recently used program is evicted
+{
+    // '1' is used again after '2', so '2' is evicted to make room for '3'
+    Test.expectEqual([1, 4], Embedding.parseCacheCounts("eval('1'); eval('2'); eval('1'); eval('3'); eval('2')", 2));
+    // Evicting '2' made room for it again, by evicting '1'
+    Test.expectEqual([1, 5], Embedding.parseCacheCounts("eval('1'); eval('2'); eval('1'); eval('3'); eval('2'); eval('1')", 2));
+    Test.expectEqual([2, 4], Embedding.parseCacheCounts("eval('1'); eval('2'); eval('1'); eval('3'); eval('2'); eval('2')", 2));
+}
+
+// that source texts which fail to parse are not cached, and throw every time
+{
+    const script = "let thrown = 0; for (let i = 0; i < 3; i++) { try { eval('let = ;') } catch (e) { thrown++ } }; thrown";
+    Test.expectEqual([0, 3], Embedding.parseCacheCounts(script, 2));
+    Test.expectEqual(3, Embedding.execute(script));
+}
+
+// that a size of 0 disables the cache
+{
+    Test.expectEqual([0, 3], Embedding.parseCacheCounts("eval('1'); eval('1'); eval('1')", 0));
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+// Array.prototype methods work directly on the elements of most arrays.
+// These check that doing so behaves the same as the generic steps.
+
+// queue: push at the back, shift from the front
+{
+    const queue = [];
+    let total = 0;
+    for (let i = 0; i < 100; i++) {
+        queue.push(i, i + 1);
+        total += queue.shift();
+    }
+
+    Test.expect(100, queue.length);
+    Test.expect(2500, total);
+    Test.expect(50, queue[0]);
+    Test.expect(100, queue[99]);
+}
+
+// alternating unshift and push
+{
+    const a = [];
+    for (let i = 0; i < 50; i++) {
+        a.unshift(-i);
+        a.push(i);
+    }
+
+    Test.expect(100, a.length);
+    Test.expect(-49, a[0]);
+    Test.expect(49, a[99]);
+    Test.expect(0, a.indexOf(0) - 49);
+    Test.expect(50, a.lastIndexOf(0));
+}
+
+// unshifting a non-number into an array of numbers
+{
+    const a = [1, 2];
+    a.shift();
+    Test.expect(3, a.unshift("a", undefined));
+    Test.expectEqual(["a", undefined, 2], a);
+}
+
+// holes are kept
+{
+    const a = [1, , 3, , 5];
+    Test.expect(1, a.shift());
+    Test.expect(false, 0 in a);
+    Test.expect(undefined, a.shift());
+    Test.expect(5, a.unshift(0, 0));
+    Test.expect(false, 3 in a);
+    Test.expect(false, 0 in [1, , 2].slice(1));
+    Test.expect(false, 2 in [1].concat([2, , 3]));
+    Test.expect(-1, [, 1].indexOf(undefined));
+    Test.expect(true, [, 1].includes(undefined));
+}
+
+// holes expose indexed properties on the prototype
+{
+    Array.prototype[1] = "from prototype";
+    const a = [0, , 2];
+    Test.expect(0, a.shift());
+    Test.expect("from prototype", a[0]);
+    Test.expect(true, a.hasOwnProperty(0));
+    Test.expect(1, [0, ,].indexOf("from prototype"));
+    Test.expect(true, [0, ,].includes("from prototype"));
+    delete Array.prototype[1];
+    Test.expect(undefined, [0, ,][1]);
+}
+
+// splice
+{
+    const a = [1, 2, 3, 4, 5];
+    Test.expectEqual([2, 3], a.splice(1, 2, "a", "b", "c"));
+    Test.expectEqual([1, "a", "b", "c", 4, 5], a);
+    Test.expectEqual(["a", "b", "c", 4, 5], a.splice(1));
+    Test.expectEqual([1], a);
+    Test.expectEqual([], a.splice(0, 0, 0));
+    Test.expectEqual([0, 1], a);
+    Test.expectEqual([1], a.splice(-1, Infinity));
+    Test.expectEqual([0], a);
+}
+
+// slice with out of range arguments
+{
+    const a = [1, 2, 3];
+    Test.expectEqual([], a.slice(2, 1));
+    Test.expectEqual([3], a.slice(-1, 100));
+    Test.expectEqual([], a.slice(5));
+}
+
+// strict equality and SameValueZero on numbers
+{
+    Test.expect(-1, [NaN].indexOf(NaN));
+    Test.expect(true, [NaN].includes(NaN));
+    Test.expect(0, [-0].indexOf(0));
+    Test.expect(0, [0].lastIndexOf(-0));
+    Test.expect(-1, [1, 2].indexOf("1"));
+}
\ No newline at end of file
@@ -206,4 +206,98 @@
 //        }
 //    );
 //    Array.prototype.sort.call(obj);
-//}
\ No newline at end of file
+//}
+
+// that fractional results of the compare function are not truncated
+{
+    const arr = [3, 1, 2];
+    Test.expectEqual([1, 2, 3], arr.sort((a, b) => (a - b) / 10));
+    Test.expectEqual([3, 2, 1], arr.sort((a, b) => (b - a) / 10));
+}
+
+// that numeric compare functions keep the order of -0 and +0, and put NaN somewhere
+{
+    const arr = [0, -0, 1, -0, 0];
+    arr.sort((a, b) => a - b);
+    Test.expect(true, Object.is(arr[0], 0));
+    Test.expect(true, Object.is(arr[1], -0));
+    Test.expect(true, Object.is(arr[2], -0));
+    Test.expect(true, Object.is(arr[3], 0));
+    Test.expect(1, arr[4]);
+
+    const withNaN = [3, NaN, 1, 2].sort((a, b) => a - b);
+    Test.expect(4, withNaN.length);
+    Test.expect(1, withNaN.filter(Number.isNaN).length);
+
+    Test.expectEqual([1, 2, 3], [3, 1, 2].sort(function (x, y) { return x - y; }));
+    Test.expectEqual([3, 2, 1], [3, 1, 2].sort((x, y) => { return y - x; }));
+    Test.expectEqual(["1", 2, "3"], ["3", 2, "1"].sort((a, b) => a - b));
+    Test.expectEqual([1, 2, 3, undefined, , ,], [3, , undefined, 1, , 2].sort((a, b) => a - b));
+}
+
+// that it sorts by code units
+{
+    Test.expectEqual(["A", "B", "a", "b", "😀", "￿"], ["￿", "b", "😀", "a", "B", "A"].sort());
+    Test.expectEqual([10, 9, "a", true], [true, "a", 9, 10].sort());
+}
+
+// that it sorts large arrays
+{
+    const length = 100000;
+    const numbers = [];
+    for (let i = 0; i < length; i++) numbers.push((i * 7919) % length);
+
+    const ascending = numbers.slice().sort((a, b) => a - b);
+    let ordered = true;
+    for (let i = 0; i < length; i++) if (ascending[i] !== i) ordered = false;
+    Test.expect(true, ordered);
+
+    const strings = numbers.map(n => "k" + n).sort();
+    Test.expect("k0", strings[0]);
+    Test.expect("k99999", strings[length - 1]);
+
+    const objects = numbers.map(n => ({ n })).sort((a, b) => b.n - a.n);
+    Test.expect(length - 1, objects[0].n);
+    Test.expect(0, objects[length - 1].n);
+}
+
+// that it copes with the compare function changing the array
+{
+    const arr = [5, 4, 3, 2, 1];
+    arr.sort((a, b) => {
+        arr.length = 0;
+        return a - b + 0;
+    });
+    Test.expectEqual([1, 2, 3, 4, 5], arr);
+
+    const holey = [3, , 1];
+    holey.sort((a, b) => {
+        holey[5] = "x";
+        return a - b + 0;
+    });
+    Test.expectEqual([1, 3, , , , "x"], holey);
+}
+
+// that holes read through to the prototype chain
+{
+    Array.prototype[1] = "proto";
+    try {
+        const arr = [3, , 1];
+        Test.expectEqual([1, 3, "proto"], arr.toSorted());
+        Test.expectEqual([1, 3, "proto"], arr.sort());
+    } finally {
+        delete Array.prototype[1];
+    }
+}
+
+// that a single element is neither converted to a string nor compared
+{
+    const symbol = Symbol.iterator;
+    Test.expectEqual([symbol], [symbol].sort());
+    Test.expectEqual([symbol, undefined], [undefined, symbol].sort());
+    Test.expectEqual([symbol], [symbol].toSorted());
+
+    let calls = 0;
+    Test.expectEqual([1], [1].sort(() => calls++));
+    Test.expectEqual(0, calls);
+}
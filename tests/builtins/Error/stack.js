@@ -0,0 +1,33 @@
+function inner() {
+    return new Error("message");
+}
+
+function outer() {
+    return inner();
+}
+
+const error = outer();
+Test.expect("string", typeof error.stack);
+Test.expect(true, error.stack.includes("at inner"));
+Test.expect(true, error.stack.includes("at outer"));
+Test.expect(true, error.stack.indexOf("at inner") < error.stack.indexOf("at outer"));
+// the same string is returned on every read
+Test.expect(error.stack, error.stack);
+
+// stack is an own, non-enumerable, writable property
+Test.expect(true, error.hasOwnProperty("stack"));
+Test.expect(false, Object.keys(error).includes("stack"));
+const replaced = outer();
+replaced.stack = "replaced";
+Test.expect("replaced", replaced.stack);
+
+// errors thrown by built-ins have a stack too
+function throwsTypeError() {
+    null.property;
+}
+
+try {
+    throwsTypeError();
+} catch (e) {
+    Test.expect(true, e.stack.includes("at throwsTypeError"));
+}
\ No newline at end of file
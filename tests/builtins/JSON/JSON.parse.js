@@ -350,4 +350,81 @@ Test.expectError("SyntaxError", "Unexpected token ']' in JSON", () => JSON.parse
 Test.expectError("SyntaxError", "Unexpected token ']' in JSON", () => JSON.parse("[1,2,3, ]"));
 Test.expectError("SyntaxError", "Unexpected token '}' in JSON", () => JSON.parse('{ "foo": "bar",}'));
 Test.expectError("SyntaxError", "Unexpected token '}' in JSON", () => JSON.parse('{ "foo": "bar", }'));
-Test.expectError("SyntaxError", 'Unexpected end of JSON input', () => JSON.parse(""));
\ No newline at end of file
+Test.expectError("SyntaxError", 'Unexpected end of JSON input', () => JSON.parse(""));
+
+// deep nesting
+const nestedArrays = depth => "[".repeat(depth) + "]".repeat(depth);
+const nestedObjects = depth => '{"a":'.repeat(depth) + "0" + "}".repeat(depth);
+const depthOf = (value, key) => {
+	let depth = 0;
+	while (typeof value === "object" && value !== null && key in value) {
+		value = value[key];
+		depth++;
+	}
+
+	return depth;
+};
+
+Test.expect(1999, depthOf(JSON.parse(nestedArrays(2000)), 0));
+Test.expect(2000, depthOf(JSON.parse(nestedObjects(2000)), "a"));
+Test.expect(2000, depthOf(JSON.parse("[".repeat(1000) + nestedObjects(1000) + "]".repeat(1000)), 0) + depthOf(JSON.parse(nestedObjects(1000)), "a"));
+Test.expectError("SyntaxError", "Unexpected end of JSON input", () => JSON.parse("[".repeat(2000)));
+Test.expectError("SyntaxError", "Unexpected end of JSON input", () => JSON.parse('{"a":'.repeat(2000)));
+Test.expectError("SyntaxError", "Unexpected token '}' in JSON", () => JSON.parse("[".repeat(2000) + "]".repeat(1999) + "}"));
+Test.expectError("SyntaxError", "Unexpected non-whitespace character ']' after JSON", () => JSON.parse(nestedArrays(2000) + "]"));
+
+// reviver
+const calls = [];
+const revived = JSON.parse('{"a":[1,{"b":2}],"c":"d"}', function (key, value) {
+	calls.push([key, Array.isArray(this) ? "array" : typeof this, typeof value]);
+	return value;
+});
+
+Test.expectEqual({ a: [1, { b: 2 }], c: "d" }, revived);
+// Children are revived before their holder, and the root is revived last, under the empty string
+Test.expectEqual([
+	["0", "array", "number"],
+	["b", "object", "number"],
+	["1", "array", "object"],
+	["a", "object", "object"],
+	["c", "object", "string"],
+	["", "object", "object"],
+], calls);
+
+let root;
+JSON.parse("[1]", function (key, value) {
+	if (key === "") root = this;
+	return value;
+});
+Test.expectEqual({ "": [1] }, root);
+
+Test.expect(5, JSON.parse("1", (key, value) => key === "" ? value + 4 : value));
+Test.expect(undefined, JSON.parse('{"a":1}', () => undefined));
+// Array elements removed by the reviver become holes, and keep the array's length
+const holes = JSON.parse("[1,2,3]", (key, value) => value === 2 ? undefined : value);
+Test.expect(3, holes.length);
+Test.expect(false, 1 in holes);
+
+// Keys are shared between objects by the parser, so removing a key from one object must not affect the others
+const shared = JSON.parse('[{"key":1},{"key":2},{"key":3}]', (key, value) => value === 2 ? undefined : value);
+Test.expectEqual([{ key: 1 }, {}, { key: 3 }], shared);
+
+// The reviver sees what earlier calls did to the holder
+const seen = [];
+JSON.parse('{"a":1,"b":2}', function (key, value) {
+	if (key === "a") this.b = 3;
+	if (key === "b") seen.push(value);
+	return value;
+});
+Test.expectEqual([3], seen);
+
+Test.expect(1000, depthOf(JSON.parse(nestedObjects(1000), (key, value) => value), "a"));
+let revivedCount = 0;
+JSON.parse(nestedArrays(1000), (key, value) => {
+	revivedCount++;
+	return value;
+});
+Test.expect(1000, revivedCount);
+Test.expectError("Error", "reviver", () => JSON.parse(nestedArrays(100), () => {
+	throw new Error("reviver");
+}));
\ No newline at end of file
@@ -17,10 +17,8 @@ Test.expect("false", JSON.stringify(Object(false)));
 Test.expect('"test"', JSON.stringify(Object("test")));
 Test.expect(undefined, JSON.stringify(() => { }));
 Test.expect('[1,2,"foo"]', JSON.stringify([1, 2, "foo"]));
-// FIXME: Correct ordering: Test.expect('{"foo":1,"bar":"baz"}', JSON.stringify({ foo: 1, bar: "baz", qux() { } }));
-Test.expect('{"bar":"baz","foo":1}', JSON.stringify({ foo: 1, bar: "baz", qux() { } }));
-// FIXME: Correct ordering: Test.expect('{"var1":1,"var2":10}', JSON.stringify({
-Test.expect('{"var2":10,"var1":1}', JSON.stringify({
+Test.expect('{"foo":1,"bar":"baz"}', JSON.stringify({ foo: 1, bar: "baz", qux() { } }));
+Test.expect('{"var1":1,"var2":10}', JSON.stringify({
 	var1: 1,
 	var2: 2, toJSON(key) {
 		let o = this;
@@ -93,7 +91,6 @@ o = {
 	},
 };
 
-/* FIXME: Correct ordering:
 Test.expect(`{
     "foo": 1,
     "bar": "baz",
@@ -105,32 +102,20 @@ Test.expect(`{
             3
         ]
     }
-}`, JSON.stringify(o, null, 4)); */
-Test.expect(JSON.stringify(o, null, 4), `{
-    "bar": "baz",
-    "qux": {
-        "arr": [
-            1,
-            2,
-            3
-        ],
-        "x": 10
-    },
-    "foo": 1
-}`.replaceAll("\r\n", "\n"));
+}`.replaceAll("\r\n", "\n"), JSON.stringify(o, null, 4));
 
-Test.expect(JSON.stringify(o, null, "abcd"), `{
+Test.expect(`{
+abcd"foo": 1,
 abcd"bar": "baz",
 abcd"qux": {
+abcdabcd"x": 10,
 abcdabcd"arr": [
 abcdabcdabcd1,
 abcdabcdabcd2,
 abcdabcdabcd3
-abcdabcd],
-abcdabcd"x": 10
-abcd},
-abcd"foo": 1
-}`.replaceAll("\r\n", "\n"));
+abcdabcd]
+abcd}
+}`.replaceAll("\r\n", "\n"), JSON.stringify(o, null, "abcd"));
 
 o = {
 	var1: "foo",
@@ -159,14 +144,11 @@ const string = JSON.stringify(o, (key, value) => {
 	return value;
 });
 
-// FIXME: Correct ordering: Test.expect('{"var1":"foo","var2":42,"arr":[1,2,{"nested":{},"x":20}],"obj":{"subarr":[3,4,5]}}', string);
-Test.expect('{"arr":[1,2,{"x":20,"nested":{}}],"obj":{"subarr":[3,4,5]},"var2":42,"var1":"foo"}', string);
+Test.expect('{"var1":"foo","var2":42,"arr":[1,2,{"nested":{},"x":20}],"obj":{"subarr":[3,4,5]}}', string);
 
-// FIXME: Correct ordering: Test.expect('{"var1":"foo","var2":42,"obj":{}}', string);
-Test.expect('{"obj":{},"var2":42,"var1":"foo"}', JSON.stringify(o, ["var1", "var1", "var2", "obj"]));
+Test.expect('{"var1":"foo","var2":42,"obj":{}}', JSON.stringify(o, ["var1", "var1", "var2", "obj"]));
 
-// FIXME: Correct ordering: Test.expect('{"var1":"foo","var2":42,"obj":{"subarr":[3]}}', JSON.stringify(o, ["var1", "var1", "var2", "obj", "subarr"]));
-Test.expect('{"obj":{"subarr":[3]},"var2":42,"var1":"foo"}', JSON.stringify(o, ["var1", "var1", "var2", "obj", "subarr"]));
+Test.expect('{"var1":"foo","var2":42,"obj":{"subarr":[3]}}', JSON.stringify(o, ["var1", "var1", "var2", "obj", "subarr"]));
 
 /* TODO:
 let p = new Proxy([], {
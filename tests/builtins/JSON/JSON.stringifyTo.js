@@ -0,0 +1,28 @@
+const path = "/tmp/lebjs-JSON.stringifyTo.json";
+const leftovers = () => fs.readDir("/tmp").filter(name => name.startsWith("json") && name.endsWith(".tmp")).length;
+const before = leftovers();
+
+// writes the same text as JSON.stringify
+Test.expect(true, JSON.stringifyTo({ foo: [1, "bar"] }, path));
+Test.expect('{"foo":[1,"bar"]}', fs.readFile(path, "UTF-8"));
+Test.expect(true, JSON.stringifyTo({ foo: 1 }, path, null, 2));
+Test.expect(JSON.stringify({ foo: 1 }, null, 2), fs.readFile(path, "UTF-8"));
+
+// a throw part of the way through leaves the existing file as it was
+const throwing = { first: "x".repeat(10000), second: { toJSON() { throw new Error("toJSON") } } };
+Test.expectError("Error", "toJSON", () => JSON.stringifyTo(throwing, path));
+Test.expect(JSON.stringify({ foo: 1 }, null, 2), fs.readFile(path, "UTF-8"));
+Test.expectError("Error", "replacer", () => JSON.stringifyTo([1, 2, 3], path, (key, value) => {
+	if (value === 3) throw new Error("replacer");
+	return value;
+}));
+Test.expect(JSON.stringify({ foo: 1 }, null, 2), fs.readFile(path, "UTF-8"));
+
+// nothing is written when the result is undefined
+Test.expect(false, JSON.stringifyTo(undefined, path));
+Test.expect(JSON.stringify({ foo: 1 }, null, 2), fs.readFile(path, "UTF-8"));
+
+// no temporary files are left behind
+Test.expect(before, leftovers());
+
+Test.expectError("TypeError", "An IO error occurred", () => JSON.stringifyTo(1, "/tmp/lebjs-missing-directory/file.json"));
\ No newline at end of file
@@ -74,4 +74,106 @@ Test.expect(1, Map.prototype.delete.length);
 	Test.expect(true, map.delete(1));
 	Test.expectEqual({ done: true, value: undefined }, iterator.next());
 	Test.expectEqual({ done: true, value: undefined }, iterator.next());
+}
+
+// deleting enough entries to compact the map moves live iterators along with the entries
+{
+	const map = new Map();
+	for (let i = 0; i < 100; ++i)
+		map.set(i, i * 2);
+
+	const visited = [];
+	for (const [key, value] of map) {
+		visited.push(value);
+		for (let i = key; i < key + 10; ++i)
+			map.delete(i);
+	}
+
+	Test.expectEqual([0, 20, 40, 60, 80, 100, 120, 140, 160, 180], visited);
+	Test.expect(0, map.size);
+}
+
+// iterators at different positions each continue from their own entry after a compaction
+{
+	const map = new Map();
+	for (let i = 0; i < 50; ++i)
+		map.set(i, i);
+
+	const first = map.keys();
+	const second = map.keys();
+	for (let i = 0; i < 10; ++i)
+		first.next();
+	for (let i = 0; i < 30; ++i)
+		second.next();
+
+	for (let i = 0; i < 50; ++i) {
+		if (i % 5 !== 0) map.delete(i);
+	}
+
+	Test.expect(10, map.size);
+	Test.expectEqual({ done: false, value: 10 }, first.next());
+	Test.expectEqual({ done: false, value: 15 }, first.next());
+	Test.expectEqual({ done: false, value: 30 }, second.next());
+	Test.expectEqual([35, 40, 45], [...second]);
+	Test.expectEqual([20, 25, 30, 35, 40, 45], [...first]);
+}
+
+// deleting each entry as it is visited, and adding new ones, visits every entry once in insertion order
+{
+	const map = new Map();
+	for (let i = 0; i < 10; ++i)
+		map.set(i, String(i));
+
+	const visited = [];
+	for (const [key, value] of map) {
+		Test.expect(String(key), value);
+		visited.push(key);
+		Test.expect(true, map.delete(key));
+		if (key < 990) map.set(key + 10, String(key + 10));
+	}
+
+	Test.expect(1000, visited.length);
+	Test.expect(true, visited.every((key, index) => key === index));
+	Test.expect(0, map.size);
+}
+
+// entries deleted ahead of an iterator and then set again are visited in their new position
+{
+	const map = new Map([["a", 1], ["b", 2], ["c", 3], ["d", 4]]);
+	const visited = [];
+	map.forEach((value, key) => {
+		visited.push(key);
+		if (key === "a") {
+			map.delete("b");
+			map.delete("c");
+			map.set("c", 5);
+			map.set("b", 6);
+		}
+	});
+
+	Test.expectEqual(["a", "d", "c", "b"], visited);
+	Test.expectEqual([["a", 1], ["d", 4], ["c", 5], ["b", 6]], [...map]);
+}
+
+// clearing the map part of the way through only leaves entries added afterwards to visit
+{
+	const map = new Map([[1, 1], [2, 2], [3, 3]]);
+	const iterator = map.keys();
+	Test.expectEqual({ done: false, value: 1 }, iterator.next());
+	map.clear();
+	map.set(4, 4);
+	Test.expectEqual({ done: false, value: 4 }, iterator.next());
+	Test.expectEqual({ done: true, value: undefined }, iterator.next());
+}
+
+// -0, +0 and NaN are each a single key, whichever form is used to delete them
+{
+	const map = new Map([[0, "zero"], [NaN, "nan"], [1, "one"]]);
+	const iterator = map.values();
+	Test.expectEqual({ done: false, value: "zero" }, iterator.next());
+	Test.expect(true, map.delete(NaN));
+	Test.expect(true, map.delete(-0));
+	Test.expect(false, map.delete(0));
+	Test.expectEqual({ done: false, value: "one" }, iterator.next());
+	Test.expectEqual({ done: true, value: undefined }, iterator.next());
 }
\ No newline at end of file
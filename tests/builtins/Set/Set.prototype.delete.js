@@ -4,4 +4,82 @@ Test.expect(3, set.size);
 Test.expect(true, set.delete("b"));
 Test.expect(2, set.size);
 Test.expect(false, set.delete("b"));
-Test.expect(2, set.size);
\ No newline at end of file
+Test.expect(2, set.size);
+
+// modification with active iterators
+// deleting enough elements to compact the set moves live iterators along with the elements
+{
+	const set = new Set();
+	for (let i = 0; i < 100; ++i)
+		set.add(i);
+
+	const visited = [];
+	for (const value of set) {
+		visited.push(value);
+		for (let i = value; i < value + 10; ++i)
+			set.delete(i);
+	}
+
+	Test.expectEqual([0, 10, 20, 30, 40, 50, 60, 70, 80, 90], visited);
+	Test.expect(0, set.size);
+}
+
+// iterators at different positions each continue from their own element after a compaction
+{
+	const set = new Set();
+	for (let i = 0; i < 50; ++i)
+		set.add(i);
+
+	const first = set.values();
+	const second = set.entries();
+	for (let i = 0; i < 10; ++i)
+		first.next();
+	for (let i = 0; i < 30; ++i)
+		second.next();
+
+	for (let i = 0; i < 50; ++i) {
+		if (i % 5 !== 0) set.delete(i);
+	}
+
+	Test.expect(10, set.size);
+	Test.expectEqual({ done: false, value: 10 }, first.next());
+	Test.expectEqual({ done: false, value: [30, 30] }, second.next());
+	Test.expectEqual([15, 20, 25, 30, 35, 40, 45], [...first]);
+	Test.expectEqual([[35, 35], [40, 40], [45, 45]], [...second]);
+}
+
+// deleting each element as it is visited, and adding new ones, visits every element once in insertion order
+{
+	const set = new Set([0, 1, 2, 3, 4, 5, 6, 7, 8, 9]);
+	const visited = [];
+	set.forEach(value => {
+		visited.push(value);
+		Test.expect(true, set.delete(value));
+		if (value < 990) set.add(value + 10);
+	});
+
+	Test.expect(1000, visited.length);
+	Test.expect(true, visited.every((value, index) => value === index));
+	Test.expect(0, set.size);
+}
+
+// deleting the last element before the iterator visited it means you immediately get end
+{
+	const set = new Set(["only"]);
+	const iterator = set.values();
+	Test.expect(true, set.delete("only"));
+	Test.expectEqual({ done: true, value: undefined }, iterator.next());
+	set.add("again");
+	Test.expectEqual({ done: true, value: undefined }, iterator.next());
+}
+
+// -0, +0 and NaN are each a single element, whichever form is used to delete them
+{
+	const set = new Set([-0, NaN, "x"]);
+	const iterator = set.values();
+	Test.expect(true, set.delete(0));
+	Test.expect(true, set.delete(NaN));
+	Test.expect(false, set.delete(-0));
+	Test.expectEqual({ done: false, value: "x" }, iterator.next());
+	Test.expectEqual({ done: true, value: undefined }, iterator.next());
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+// Concatenations of 64 chars or more are kept as ropes, and only joined once their characters are needed
+const half = "x".repeat(40);
+const flat = half.repeat(2) + "!";
+const rope = () => half + half + "!";
+
+Test.expect(81, rope().length);
+Test.expect(flat, rope());
+Test.expect(true, rope() === flat);
+Test.expect(false, rope() !== flat);
+Test.expect(true, rope() == flat);
+Test.expect(false, rope() < flat);
+Test.expect(true, rope() < flat + "y");
+Test.expect("!", rope().charAt(80));
+Test.expect("!", rope()[80]);
+Test.expect(80, rope().indexOf("!"));
+Test.expect(true, rope().endsWith("x!"));
+Test.expectEqual([half + half, ""], rope().split("!"));
+
+// property keys
+const object = {};
+object[rope()] = 1;
+Test.expect(1, object[flat]);
+Test.expect(true, flat in object);
+Test.expect(true, rope() in object);
+Test.expect(true, object.hasOwnProperty(rope()));
+Test.expectEqual([flat], Object.keys(object));
+object[flat] = 2;
+Test.expect(2, object[rope()]);
+Test.expectEqual([flat], Object.keys(object));
+Test.expect(true, delete object[rope()]);
+Test.expect(false, flat in object);
+Test.expect(3, { [rope()]: 3 }[flat]);
+
+// Map and Set keys
+const map = new Map([[rope(), 1]]);
+Test.expect(1, map.get(flat));
+Test.expect(true, map.has(rope()));
+map.set(flat, 2);
+Test.expect(1, map.size);
+Test.expect(2, map.get(rope()));
+Test.expect(true, map.delete(rope()));
+Test.expect(0, map.size);
+const set = new Set([rope(), flat, rope()]);
+Test.expect(1, set.size);
+Test.expect(true, set.has(flat));
+
+// switch subjects and cases
+const classify = value => {
+	switch (value) {
+		case "short":
+			return "short";
+		case flat:
+			return "flat";
+		default:
+			return "none";
+	}
+};
+
+Test.expect("flat", classify(rope()));
+Test.expect("none", classify(rope() + "?"));
+switch (flat) {
+	case half:
+		Test.fail();
+		break;
+	case rope():
+		break;
+	default:
+		Test.fail();
+}
+
+// Ropes are flattened once they are 4096 levels deep, so deeper concatenations still give the right string
+let appended = "a".repeat(64);
+let prepended = "a".repeat(64);
+for (let i = 0; i < 10000; i++) {
+	appended += i % 10;
+	prepended = i % 10 + prepended;
+}
+
+Test.expect(10064, appended.length);
+Test.expect(10064, prepended.length);
+Test.expect("a".repeat(64) + "0123456789", appended.slice(0, 74));
+Test.expect("9876543210" + "a".repeat(64), prepended.slice(-74));
+Test.expect("9", appended[10063]);
+Test.expect("9", prepended[0]);
+const deepKeys = { [appended]: "appended" };
+Test.expect("appended", deepKeys[appended.slice(0)]);
+Test.expect(true, new Map([[prepended, 1]]).has(prepended.slice(0)));
\ No newline at end of file
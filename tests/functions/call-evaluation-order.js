@@ -0,0 +1,92 @@
+// The callee, its base and the arguments are evaluated left to right, before the call
+const log = [];
+const object = {
+    method(a, b) {
+        log.push("call");
+        return this === object && a + b;
+    }
+};
+
+function get(name, value) {
+    log.push(name);
+    return value;
+}
+
+Test.expect(3, get("base", object)[get("property", "method")](get("a", 1), get("b", 2)));
+Test.expect("base,property,a,b,call", log.join(","));
+
+// Arguments are evaluated before the callee is checked
+log.length = 0;
+Test.expectError("TypeError", "is not a function", () => object.missing(get("argument", 1)));
+Test.expect("argument", log.join(","));
+
+// Nullish bases throw before the arguments are evaluated
+log.length = 0;
+const nothing = null;
+Test.expectError("TypeError", "Cannot read property 'method'", () => nothing.method(get("argument", 1)));
+Test.expect("", log.join(","));
+
+// Missing arguments are undefined, and extra arguments are ignored
+function pair(a, b) {
+    return [a, b];
+}
+
+Test.expectEqual([1, undefined], pair(1));
+Test.expectEqual([1, 2], pair(1, 2, 3));
+
+// Calls nested in the arguments of other calls
+function add(a, b) {
+    return a + b;
+}
+
+Test.expect(10, add(add(1, 2), add(add(1, 1), add(2, 3))));
+
+// Methods of primitives are called with the primitive's wrapper
+Test.expect("ABC", "abc".toUpperCase());
+Test.expect("1.50", (1.5).toFixed(2));
+
+// A call in a loop, whose body breaks out of the loop
+let calls = 0;
+for (let i = 0; i < 10; i++) {
+    if (add(i, 1) > 3) break;
+    calls++;
+}
+
+Test.expect(3, calls);
+
+// Parameters with defaults, patterns and rest parameters
+function withDefault(a, b = 2) {
+    return [a, b];
+}
+
+Test.expectEqual([1, 2], withDefault(1));
+Test.expectEqual([1, 5], withDefault(1, 5));
+
+function withRest(a, ...rest) {
+    return [a, rest.length];
+}
+
+Test.expectEqual([1, 0], withRest(1));
+Test.expectEqual([1, 2], withRest(1, 7, 8));
+
+function withPattern({ c }, [d]) {
+    return c + d;
+}
+
+Test.expect(7, withPattern({ c: 3 }, [4]));
+
+// Arrow functions with and without a body
+const square = x => x * x;
+const cube = x => {
+    return x * square(x);
+};
+
+Test.expect(27, cube(3));
+Test.expect(undefined, (() => {})());
+
+// Parameters are bound in the function's own environment, so recursion does not clobber them
+function factorial(n) {
+    return n <= 1 ? 1 : n * factorial(n - 1);
+}
+
+Test.expect(3628800, factorial(10));
\ No newline at end of file
@@ -0,0 +1,16 @@
+// Columns of syntax errors count code points, so characters outside the BMP count as one column
+function positionOf(source) {
+	try {
+		Test.parse(source);
+	} catch (e) {
+		Test.expect("SyntaxError", e.name);
+		return e.message.slice(e.message.lastIndexOf("(") + 1, e.message.lastIndexOf(")"));
+	}
+
+	Test.fail("Expected a SyntaxError");
+}
+
+Test.expect("1:6", positionOf("'ab' @"));
+Test.expect("1:6", positionOf("'😀😀' @"));
+Test.expect("2:5", positionOf("x;\n'😀' @"));
+Test.expect("2:5", positionOf("'😀';\n'😀' @"));
\ No newline at end of file
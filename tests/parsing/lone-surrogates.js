@@ -0,0 +1,21 @@
+// Lone surrogates must survive being parsed, including when the parsed program is cached with --code-cache
+const high = "\ud800";
+Test.expect(1, high.length);
+Test.expect(0xD800, high.charCodeAt(0));
+
+const low = "\udc00";
+Test.expect(0xDC00, low.charCodeAt(0));
+
+const pair = "𐀀";
+Test.expect(2, pair.length);
+Test.expect(0x10000, pair.codePointAt(0));
+
+const reversed = "a\udc00\ud800b";
+Test.expect(4, reversed.length);
+Test.expect(0xDC00, reversed.charCodeAt(1));
+Test.expect(0xD800, reversed.charCodeAt(2));
+
+const object = { "\ud800": 1, "\udc00": 2 };
+Test.expect(1, object[high]);
+Test.expect(2, object[low]);
+Test.expect(2, Object.keys(object).length);
\ No newline at end of file
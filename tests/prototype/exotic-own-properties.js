@@ -0,0 +1,19 @@
+// A property access site which has seen an ordinary object must still find the own properties of exotic objects
+Array.prototype.length = "P";
+function len(x) {
+    return x.length;
+}
+
+Test.expect("P", len(Object.create(Array.prototype)));
+Test.expect(3, len([1, 2, 3]));
+Test.expect(2, len([1, 2]));
+Test.expect("P", len(Object.create(Array.prototype)));
+
+function first(x) {
+    return x.length;
+}
+
+Test.expect(3, first(Object("abc")));
+Test.expect(0, first([]));
+Test.expect("P", first(Object.create(Array.prototype)));
+Test.expect(5, first(Object("hello")));
\ No newline at end of file
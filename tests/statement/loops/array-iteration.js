@@ -0,0 +1,98 @@
+// Iterating arrays sees changes made during the iteration
+{
+    const array = [1, 2, 3];
+    const seen = [];
+    for (const value of array) {
+        seen.push(value);
+        if (value === 1) array.push(4);
+        if (value === 3) array.length = 3;
+    }
+    Test.expectEqual([1, 2, 3], seen);
+
+    const holey = [1, , 3];
+    const holeySeen = [];
+    for (const value of holey) holeySeen.push(value);
+    Test.expectEqual([1, undefined, 3], holeySeen);
+    Test.expectEqual([1, undefined, 3], [...holey]);
+}
+
+// Holes and accessors are read through Get()
+{
+    Array.prototype[1] = "proto";
+    try {
+        Test.expectEqual([1, "proto", 3], [...[1, , 3]]);
+        const [a, b, c] = [1, , 3];
+        Test.expect("proto", b);
+    } finally {
+        delete Array.prototype[1];
+    }
+
+    let reads = 0;
+    const proto = { get 1() { reads++; return "getter"; } };
+    Object.setPrototypeOf(proto, Array.prototype);
+    const array = [1, , 3];
+    Object.setPrototypeOf(array, proto);
+    Test.expectEqual([1, "getter", 3], [...array]);
+    Test.expect(1, reads);
+}
+
+// Patched iterators are used by for-of, spread and destructuring
+{
+    const original = Array.prototype[Symbol.iterator];
+    Array.prototype[Symbol.iterator] = function () {
+        let done = false;
+        return { next: () => done ? { done } : (done = true, { value: "patched", done: false }) };
+    };
+    try {
+        const seen = [];
+        for (const value of [1, 2]) seen.push(value);
+        Test.expectEqual(["patched"], seen);
+        Test.expectEqual(["patched"], [...[1, 2]]);
+        const [a, b] = [1, 2];
+        Test.expect("patched", a);
+        Test.expect(undefined, b);
+    } finally {
+        Array.prototype[Symbol.iterator] = original;
+    }
+
+    Test.expectEqual([1, 2], [...[1, 2]]);
+
+    const own = [1, 2];
+    own[Symbol.iterator] = function () {
+        let i = 0;
+        return { next: () => ({ value: "own" + i, done: i++ >= 3 }) };
+    };
+    Test.expectEqual(["own0", "own1", "own2"], [...own]);
+
+    const viaValues = [1, 2];
+    viaValues[Symbol.iterator] = function () {
+        const iterator = Array.prototype.values.call(this);
+        iterator.next = () => ({ value: "next", done: false });
+        return iterator;
+    };
+    const [x, y] = viaValues;
+    Test.expect("next", x);
+    Test.expect("next", y);
+}
+
+// Destructuring does not step an iterator once it is done
+{
+    let calls = 0;
+    const iterable = {
+        [Symbol.iterator]() {
+            return {
+                next() {
+                    calls++;
+                    return { value: calls, done: calls > 1 };
+                },
+            };
+        },
+    };
+
+    const [a, b, c, ...rest] = iterable;
+    Test.expect(1, a);
+    Test.expect(undefined, b);
+    Test.expect(undefined, c);
+    Test.expectEqual([], rest);
+    Test.expect(2, calls);
+}
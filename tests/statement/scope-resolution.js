@@ -0,0 +1,180 @@
+// Identifiers are resolved to slots when a script is parsed. These check the resolved bindings against the spec,
+// including the cases which fall back to looking bindings up by name.
+
+// that inner declarations shadow outer ones only within their block
+{
+    let x = "outer";
+    {
+        let x = "block";
+        Test.expect("block", x);
+        {
+            Test.expect("block", x);
+            const x = "nested";
+            Test.expect("nested", x);
+        }
+        Test.expect("block", x);
+    }
+    Test.expect("outer", x);
+}
+
+// that parameters and local declarations shadow outer bindings within their function
+{
+    let x = "outer";
+    function parameter(x) {
+        return x;
+    }
+
+    function local() {
+        let x = "local";
+        return x;
+    }
+
+    function free() {
+        return x;
+    }
+
+    Test.expect("argument", parameter("argument"));
+    Test.expect(undefined, parameter());
+    Test.expect("local", local());
+    Test.expect("outer", free());
+    Test.expect("outer", x);
+}
+
+// that a closure resolves a name to the nearest declaration, even one which comes after it
+{
+    let x = "outer";
+    function f() {
+        const read = () => x;
+        let x = "f";
+        return read();
+    }
+
+    Test.expect("f", f());
+
+    // There is no temporal dead zone: until its declaration runs, the name is looked up as if it did not exist
+    function early() {
+        const read = () => x;
+        const before = read();
+        let x = "early";
+        return [before, read()];
+    }
+
+    Test.expectEqual(["outer", "early"], early());
+}
+
+// that closures see assignments made through other closures and the enclosing function
+{
+    function counter() {
+        let count = 0;
+        const increment = () => ++count;
+        const read = () => count;
+        count += 10;
+        return [increment, read];
+    }
+
+    const [increment, read] = counter();
+    increment();
+    increment();
+    Test.expect(12, read());
+}
+
+// that each iteration of a loop gets its own bindings for closures to capture
+{
+    // The bindings in the head of a `for` statement are shared by its iterations, but its body is a new block each time
+    const forClosures = [];
+    const sharedClosures = [];
+    for (let i = 0; i < 3; i++) {
+        const copy = i;
+        forClosures.push(() => copy);
+        sharedClosures.push(() => i);
+    }
+    Test.expectEqual([0, 1, 2], forClosures.map(f => f()));
+    Test.expectEqual([3, 3, 3], sharedClosures.map(f => f()));
+
+    const forOfClosures = [];
+    for (const value of ["a", "b", "c"]) forOfClosures.push(() => value);
+    Test.expectEqual(["a", "b", "c"], forOfClosures.map(f => f()));
+
+    const forInClosures = [];
+    for (const key in { p: 1, q: 2 }) forInClosures.push(() => key);
+    Test.expectEqual(["p", "q"], forInClosures.map(f => f()));
+
+    const whileClosures = [];
+    let n = 0;
+    while (n < 3) {
+        const captured = n++;
+        whileClosures.push(() => captured);
+    }
+    Test.expectEqual([0, 1, 2], whileClosures.map(f => f()));
+}
+
+// that eval code resolves the bindings of the function it runs in by name
+{
+    function read() {
+        let local = "local";
+        return eval("local");
+    }
+
+    function write() {
+        let local = "before";
+        eval("local = 'after'");
+        return local;
+    }
+
+    function nested() {
+        let local = "nested";
+        function inner() {
+            return eval("local");
+        }
+
+        return inner();
+    }
+
+    Test.expect("local", read());
+    Test.expect("after", write());
+    Test.expect("nested", nested());
+}
+
+// that bindings declared by eval code are only visible to that code, and shadow the function's
+{
+    function shadow() {
+        let s = "outer";
+        return [eval("let s = 'inner'; s"), s];
+    }
+
+    function closure() {
+        const get = eval("let e = 'from eval'; () => e");
+        return get();
+    }
+
+    Test.expectEqual(["inner", "outer"], shadow());
+    Test.expect("from eval", closure());
+    Test.expectError("ReferenceError", "declaredByEval is not defined", () => {
+        eval("let declaredByEval = 1");
+        return declaredByEval;
+    });
+}
+
+// that declaring a name twice in the same scope throws
+{
+    Test.expectError("ReferenceError", "Identifier 'a' has already been declared", () => {
+        let a = 1;
+        let a = 2;
+    });
+
+    Test.expectError("ReferenceError", "Identifier 'b' has already been declared", () => {
+        {
+            let b = 1;
+            {
+                let b = 2;
+            }
+            const b = 3;
+        }
+    });
+
+    Test.expectError("ReferenceError", "Identifier 'p' has already been declared", function (p) {
+        let p = 1;
+    });
+
+    Test.expectError("ReferenceError", "Identifier 'e' has already been declared", () => eval("let e = 1; let e = 2;"));
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+// `finally` blocks run when break, continue and return leave them
+{
+	const log = [];
+	for (let i = 0; i < 3; i++) {
+		try {
+			if (i === 0) continue;
+			if (i === 2) break;
+			log.push("body " + i);
+		} finally {
+			log.push("finally " + i);
+		}
+	}
+	Test.expectEqual(["finally 0", "body 1", "finally 1", "finally 2"], log);
+}
+
+{
+	const log = [];
+	function f() {
+		try {
+			try {
+				return "inner";
+			} finally {
+				log.push("first");
+			}
+		} finally {
+			log.push("second");
+		}
+	}
+	Test.expect("inner", f());
+	Test.expectEqual(["first", "second"], log);
+}
+
+// A `finally` block which throws replaces the completion, and its own exceptions are not caught by itself
+{
+	function f() {
+		for (const x of [1]) {
+			try {
+				break;
+			} finally {
+				throw "from finally";
+			}
+		}
+	}
+	try {
+		f();
+		Test.fail();
+	} catch (e) {
+		Test.expect("from finally", e);
+	}
+}
+
+// Exceptions thrown in `catch` still run the `finally` block, and scopes are restored
+{
+	const log = [];
+	const x = "outer";
+	try {
+		try {
+			const x = "try";
+			throw 1;
+		} catch (e) {
+			const x = "catch";
+			throw e + 1;
+		} finally {
+			log.push(x);
+		}
+	} catch (e) {
+		log.push(e);
+	}
+	Test.expectEqual(["outer", 2], log);
+}
+
+// Destructuring with defaults, holes and rest elements
+{
+	const [a, , b = a + 1, ...rest] = [1, 2, undefined, 4, 5];
+	Test.expectEqual([1, 2, [4, 5]], [a, b, rest]);
+	const { p, q: { r = "default" } = {}, ...others } = { p: 1, s: 2, t: 3 };
+	Test.expectEqual([1, "default", { s: 2, t: 3 }], [p, r, others]);
+	const named = function () {}, { fn = () => {} } = {};
+	Test.expectEqual(["named", "fn"], [named.name, fn.name]);
+}
+
+// Switch statements fall through, and evaluate their tests lazily
+{
+	const log = [];
+	function test(value) {
+		log.push(value);
+		return value;
+	}
+	switch (2) {
+		case test(1): log.push("one");
+		case test(2): log.push("two");
+		default: log.push("default");
+		case test(3): log.push("three"); break;
+		case test(4): log.push("four");
+	}
+	Test.expectEqual([1, 2, "two", "default", "three"], log);
+}
\ No newline at end of file